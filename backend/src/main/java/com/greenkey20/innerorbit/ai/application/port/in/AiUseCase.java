@@ -1,8 +1,10 @@
 package com.greenkey20.innerorbit.ai.application.port.in;
 
 import com.greenkey20.innerorbit.log.infrastructure.adapter.out.ai.dto.AnalysisResult;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * AI 도메인 in port (use case)
@@ -14,6 +16,16 @@ public interface AiUseCase {
      */
     AnalysisResult analyzeCognitiveDistortions(String logContent, Integer gravity, Integer stability);
 
+    /**
+     * 여러 항목 일괄 인지왜곡 분석 — 결과는 항목 id별. 분석에 실패한 항목은 결과에서 빠짐
+     */
+    Map<Long, AnalysisResult> analyzeCognitiveDistortionsBatch(List<BatchAnalysisItem> items);
+
+    /**
+     * 분석 입력 지문 (현재 분석 프롬프트 리비전 포함) — 분석 캐시 키이자 저장된 분석의 재사용 판단 기준
+     */
+    String analysisFingerprint(String content, Integer gravity, Integer stability);
+
     /**
      * 동적 프롬프트 생성
      */
@@ -31,8 +43,24 @@ public interface AiUseCase {
      */
     String generateInsightFeedback(String trigger, String abstraction, String application, String recentLogsContext);
 
+    /**
+     * 로컬 어휘 매칭 인지왜곡 후보 — LLM 호출 없음 (입력 중 하이라이트용)
+     */
+    List<DistortionCandidate> detectDistortionCandidates(String text);
+
     /**
      * DB 저장 없는 Stateless 텍스트 분석 — 인지왜곡 분석 결과만 반환
      */
     AnalysisResult analyzeTextOnly(String text, Integer gravity, Integer stability);
+
+    /**
+     * analyzeTextOnly의 스트리밍 버전 — 생성되는 토큰을 순서대로 내보내고 마지막에 파싱된 결과 1건
+     * 캐시 적중 시 토큰 없이 결과만 즉시 반환
+     */
+    Flux<AnalysisStreamChunk> streamTextAnalysis(String text, Integer gravity, Integer stability);
+
+    /**
+     * generateInsightFeedback의 스트리밍 버전 — 피드백 텍스트를 토큰 단위로 반환
+     */
+    Flux<String> streamInsightFeedback(String trigger, String abstraction, String application, String recentLogsContext);
 }
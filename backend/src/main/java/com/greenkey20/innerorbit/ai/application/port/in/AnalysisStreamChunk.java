@@ -0,0 +1,31 @@
+package com.greenkey20.innerorbit.ai.application.port.in;
+
+import com.greenkey20.innerorbit.log.infrastructure.adapter.out.ai.dto.AnalysisResult;
+
+import java.util.List;
+
+/**
+ * 스트리밍 분석 단위 — 첫 1건의 로컬 탐지 후보, 생성 중인 토큰, 또는 마지막 1건의 파싱된 결과
+ */
+public record AnalysisStreamChunk(String token, AnalysisResult result, List<DistortionCandidate> candidates) {
+
+    public static AnalysisStreamChunk ofToken(String token) {
+        return new AnalysisStreamChunk(token, null, null);
+    }
+
+    public static AnalysisStreamChunk ofResult(AnalysisResult result) {
+        return new AnalysisStreamChunk(null, result, null);
+    }
+
+    public static AnalysisStreamChunk ofCandidates(List<DistortionCandidate> candidates) {
+        return new AnalysisStreamChunk(null, null, candidates);
+    }
+
+    public boolean isResult() {
+        return result != null;
+    }
+
+    public boolean isCandidates() {
+        return candidates != null;
+    }
+}
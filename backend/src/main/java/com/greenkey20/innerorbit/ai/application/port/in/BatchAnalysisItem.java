@@ -0,0 +1,7 @@
+package com.greenkey20.innerorbit.ai.application.port.in;
+
+/**
+ * 일괄 인지왜곡 분석 입력 1건 — id는 결과를 되돌려 줄 때의 키 (로그 id)
+ */
+public record BatchAnalysisItem(Long id, String content, Integer gravity, Integer stability) {
+}
@@ -0,0 +1,7 @@
+package com.greenkey20.innerorbit.ai.application.port.in;
+
+/**
+ * 로컬 어휘 매칭으로 찾은 인지왜곡 후보 — 원문 [start, end) 구간 하이라이트용 (LLM 확정 결과 아님)
+ */
+public record DistortionCandidate(String type, String quote, int start, int end) {
+}
@@ -0,0 +1,16 @@
+package com.greenkey20.innerorbit.ai.application.port.out;
+
+import java.util.List;
+
+/**
+ * 저장된 분석 결과 한 건 — 로컬 분류기 학습용 라벨
+ *
+ * @param distortionTypes analysis_result.distortions의 유형 이름 (왜곡 없음이면 빈 목록)
+ * @param reframed        analysis_result.reframed — LLM을 거치지 않은 로컬 응답을 학습에서 빼는 데 사용
+ */
+public record LabeledAnalysis(Long logId, String content, List<String> distortionTypes, String reframed) {
+
+    public boolean distorted() {
+        return !distortionTypes.isEmpty();
+    }
+}
@@ -0,0 +1,15 @@
+package com.greenkey20.innerorbit.ai.application.port.out;
+
+import java.util.function.Consumer;
+
+/**
+ * ai 도메인이 log 도메인에 저장된 분석 결과를 학습 데이터로 조회하는 out port
+ */
+public interface LabeledAnalysisQueryPort {
+
+    /**
+     * analysis_result가 있는 로그를 최신순으로 최대 limit건 스트리밍
+     * (consumer는 조회 트랜잭션 안에서 호출되므로 가벼운 작업만)
+     */
+    void streamLabeledAnalyses(int limit, Consumer<LabeledAnalysis> consumer);
+}
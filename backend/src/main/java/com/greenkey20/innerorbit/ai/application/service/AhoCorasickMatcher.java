@@ -0,0 +1,154 @@
+package com.greenkey20.innerorbit.ai.application.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Aho-Corasick 다중 패턴 매처 — 본문을 한 번 훑어 모든 키워드 위치를 찾음 (본문 길이 + 매치 수에 비례)
+ *
+ * 불변 객체라 여러 스레드에서 공유 가능. 대소문자 무시, 굽은 작은따옴표(’)는 '로 간주
+ * 정규화는 문자 1:1 치환만 하므로 매치 위치는 원문 인덱스 그대로
+ */
+public final class AhoCorasickMatcher<T> {
+
+    public record Match<T>(int start, int end, T payload) {
+    }
+
+    /** 노드별 전이: keys[node]는 정렬된 문자, targets[node]는 같은 위치의 다음 노드 */
+    private final char[][] keys;
+    private final int[][] targets;
+    private final int[] fail;
+    /** 노드에서 끝나는 패턴 (실패 링크로 이어지는 접미 패턴 포함) */
+    private final int[][] outputs;
+    private final int[] lengths;
+    private final List<T> payloads;
+
+    private AhoCorasickMatcher(char[][] keys, int[][] targets, int[] fail, int[][] outputs,
+                               int[] lengths, List<T> payloads) {
+        this.keys = keys;
+        this.targets = targets;
+        this.fail = fail;
+        this.outputs = outputs;
+        this.lengths = lengths;
+        this.payloads = payloads;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * 겹치는 매치까지 모두 — 끝 위치 순
+     */
+    public List<Match<T>> findAll(CharSequence text) {
+        List<Match<T>> matches = new ArrayList<>();
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = fold(text.charAt(i));
+            int next;
+            while ((next = transition(node, c)) < 0 && node != 0) {
+                node = fail[node];
+            }
+            node = Math.max(next, 0);
+            for (int pattern : outputs[node]) {
+                matches.add(new Match<>(i + 1 - lengths[pattern], i + 1, payloads.get(pattern)));
+            }
+        }
+        return matches;
+    }
+
+    private int transition(int node, char c) {
+        int index = Arrays.binarySearch(keys[node], c);
+        return index >= 0 ? targets[node][index] : -1;
+    }
+
+    static char fold(char c) {
+        if (c == '’' || c == '‘') {
+            return '\'';
+        }
+        return Character.toLowerCase(c);
+    }
+
+    public static final class Builder<T> {
+
+        private final List<String> keywords = new ArrayList<>();
+        private final List<T> payloads = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder<T> add(String keyword, T payload) {
+            if (keyword == null || keyword.isEmpty()) {
+                throw new IllegalArgumentException("Keyword must not be empty");
+            }
+            keywords.add(keyword);
+            payloads.add(payload);
+            return this;
+        }
+
+        public AhoCorasickMatcher<T> build() {
+            List<Map<Character, Integer>> children = new ArrayList<>();
+            List<List<Integer>> nodeOutputs = new ArrayList<>();
+            children.add(new HashMap<>());
+            nodeOutputs.add(new ArrayList<>());
+
+            int[] lengths = new int[keywords.size()];
+            for (int pattern = 0; pattern < keywords.size(); pattern++) {
+                String keyword = keywords.get(pattern);
+                lengths[pattern] = keyword.length();
+                int node = 0;
+                for (int i = 0; i < keyword.length(); i++) {
+                    char c = fold(keyword.charAt(i));
+                    Integer next = children.get(node).get(c);
+                    if (next == null) {
+                        next = children.size();
+                        children.add(new HashMap<>());
+                        nodeOutputs.add(new ArrayList<>());
+                        children.get(node).put(c, next);
+                    }
+                    node = next;
+                }
+                nodeOutputs.get(node).add(pattern);
+            }
+
+            // 실패 링크 — BFS 순서라 부모 링크가 먼저 확정됨
+            int[] fail = new int[children.size()];
+            Queue<Integer> queue = new ArrayDeque<>(children.getFirst().values());
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                for (Map.Entry<Character, Integer> edge : children.get(node).entrySet()) {
+                    int child = edge.getValue();
+                    int candidate = fail[node];
+                    while (candidate != 0 && !children.get(candidate).containsKey(edge.getKey())) {
+                        candidate = fail[candidate];
+                    }
+                    Integer target = children.get(candidate).get(edge.getKey());
+                    fail[child] = target != null ? target : 0;
+                    nodeOutputs.get(child).addAll(nodeOutputs.get(fail[child]));
+                    queue.add(child);
+                }
+            }
+
+            char[][] keys = new char[children.size()][];
+            int[][] targets = new int[children.size()][];
+            int[][] outputs = new int[children.size()][];
+            for (int node = 0; node < children.size(); node++) {
+                List<Map.Entry<Character, Integer>> edges = new ArrayList<>(children.get(node).entrySet());
+                edges.sort(Map.Entry.comparingByKey());
+                keys[node] = new char[edges.size()];
+                targets[node] = new int[edges.size()];
+                for (int i = 0; i < edges.size(); i++) {
+                    keys[node][i] = edges.get(i).getKey();
+                    targets[node][i] = edges.get(i).getValue();
+                }
+                outputs[node] = nodeOutputs.get(node).stream().mapToInt(Integer::intValue).toArray();
+            }
+            return new AhoCorasickMatcher<>(keys, targets, fail, outputs, lengths, List.copyOf(payloads));
+        }
+    }
+}
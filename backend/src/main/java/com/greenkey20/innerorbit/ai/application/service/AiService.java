@@ -1,22 +1,46 @@
 package com.greenkey20.innerorbit.ai.application.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.greenkey20.innerorbit.ai.application.port.in.AiUseCase;
+import com.greenkey20.innerorbit.ai.application.port.in.AnalysisStreamChunk;
+import com.greenkey20.innerorbit.ai.application.port.in.BatchAnalysisItem;
+import com.greenkey20.innerorbit.ai.application.port.in.DistortionCandidate;
+import com.greenkey20.innerorbit.ai.infrastructure.adapter.out.cache.AnalysisResultCache;
 import com.greenkey20.innerorbit.ai.infrastructure.adapter.out.redis.NavPromptHistoryRepository;
+import com.greenkey20.innerorbit.common.ai.AiAdmissionController;
+import com.greenkey20.innerorbit.common.ai.AiModelRouter;
+import com.greenkey20.innerorbit.common.ai.AiPriority;
+import com.greenkey20.innerorbit.common.ai.ChatClientPurpose;
+import com.greenkey20.innerorbit.common.ai.ChatClientRegistry;
+import com.greenkey20.innerorbit.common.ai.PromptTemplateRegistry;
+import com.greenkey20.innerorbit.common.exception.BusinessException;
+import com.greenkey20.innerorbit.common.exception.ErrorCode;
+import com.greenkey20.innerorbit.common.singleflight.SingleFlight;
 import com.greenkey20.innerorbit.log.infrastructure.adapter.out.ai.dto.AnalysisResult;
 import com.greenkey20.innerorbit.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
-import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.ai.converter.BeanOutputConverter;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * AiUseCase 구현체 — Spring AI ChatClient를 사용하여 OpenAI GPT 모델과 통신
+ * ChatClient는 ChatClientRegistry에서 용도별로 미리 만들어 둔 인스턴스 사용
  * LogRepository 의존 제거: recentLogsContext는 파라미터로 수신
  */
 @Service
@@ -24,72 +48,129 @@ import java.util.List;
 @Slf4j
 public class AiService implements AiUseCase {
 
-    private final ChatClient.Builder chatClientBuilder;
-    private final ObjectMapper objectMapper;
-    private final NavPromptHistoryRepository navPromptHistoryRepository;
-
-    @Override
-    public AnalysisResult analyzeCognitiveDistortions(String logContent, Integer gravity, Integer stability) {
-        log.info("Starting cognitive distortion analysis - Gravity: {}, Stability: {}", gravity, stability);
-
-        String systemPrompt = """
-                You are an empathetic CBT (Cognitive Behavioral Therapy) therapist for "Inner Orbit" - a journaling app for emotional navigation.
-
-                Your role is to analyze the user's journal entry for cognitive distortions and provide gentle reframing.
-
-                Common Cognitive Distortions to detect:
-                1. All-or-Nothing Thinking (흑백논리): "always", "never", "perfectly", "completely"
-                2. Mind Reading (독심술 오류): "they think I'm...", "everyone will think..."
-                3. Overgeneralization (과잉일반화): "again", "always happens", "every time"
-                4. Catastrophizing (파국화): "it's over", "ruined", "disaster"
-                5. Self-Blame (자기 비하): "I'm worthless", "I can't", "I'm incompetent"
-
-                User's Current State:
-                - Gravity (External Pressure): %d%%
-                - Stability (Inner Strength): %d%%
-
-                CRITICAL: You MUST return a valid JSON object with EXACTLY these three keys: "distortions", "reframed", "alternative"
-
-                Required JSON Structure:
+    private static final String INSIGHT_FEEDBACK_SYSTEM_PROMPT = """
+            You are a supportive mentor helping a developer build "Architecture of Insight" -
+            the skill of seeing Computer Science patterns in everyday life.
+
+            Your role:
+            - Review their insight mapping (Observation → CS Concept → Application)
+            - Provide encouraging, constructive feedback
+            - Validate creative connections
+            - Suggest additional related concepts or deeper insights
+            - Help them refine their thinking
+
+            Structure your feedback in Korean with 3 parts:
+            1. 격려 (Encouragement): What's good about this insight? (1-2 sentences)
+            2. 심화 (Deepening): How can this connection be explored further? (2-3 sentences)
+            3. 확장 (Extension): What other CS concepts could relate? (1-2 sentences, suggest 1-2 more concepts)
+
+            Keep it warm, constructive, and intellectually stimulating.
+            Total length: 4-6 sentences.
+            Write in Korean.
+            """;
+
+    /** 일괄 분석 한 요청당 최대 항목 수 / 본문 글자 수 — 응답 토큰 한도와 항목별 품질 유지 */
+    private static final int BATCH_MAX_ENTRIES = 10;
+    private static final int BATCH_MAX_CHARS = 12_000;
+
+    private static final String BATCH_ANALYSIS_SYSTEM_PROMPT = """
+            You are an empathetic CBT (Cognitive Behavioral Therapy) therapist for "Inner Orbit" - a journaling app for emotional navigation.
+
+            You will receive a JSON array of journal entries. Each entry has:
+            - "id": entry identifier
+            - "gravity": External Pressure (0-100%)
+            - "stability": Inner Strength (0-100%)
+            - "text": the journal entry
+
+            Analyze EACH entry independently for cognitive distortions and provide gentle reframing that fits that entry's state.
+
+            Common Cognitive Distortions to detect:
+            1. All-or-Nothing Thinking (흑백논리): "always", "never", "perfectly", "completely"
+            2. Mind Reading (독심술 오류): "they think I'm...", "everyone will think..."
+            3. Overgeneralization (과잉일반화): "again", "always happens", "every time"
+            4. Catastrophizing (파국화): "it's over", "ruined", "disaster"
+            5. Self-Blame (자기 비하): "I'm worthless", "I can't", "I'm incompetent"
+
+            CRITICAL: Return exactly ONE result per input entry, using the same "id".
+
+            Required JSON Structure:
+            {
+              "results": [
                 {
+                  "id": 12,
                   "distortions": [
-                    { "type": "Mind Reading", "quote": "exact quote from text" }
+                    { "type": "과잉일반화", "quote": "exact quote from THAT entry" }
                   ],
                   "reframed": "Compassionate reframing in Korean (2-3 sentences)",
                   "alternative": "Alternative perspective in Korean (1-2 sentences)"
                 }
+              ]
+            }
 
-                Examples:
+            Important Rules:
+            - Never mix quotes or context between entries
+            - "distortions" must be an array (empty [] if none found)
+            - "reframed" and "alternative" must NEVER be empty strings - always provide meaningful content in Korean
+            - Be compassionate, not patronizing
+            - Keep responses concise but meaningful
+            """;
 
-                Example 1 (distortions found):
-                {
-                  "distortions": [
-                    { "type": "흑백논리", "quote": "완벽하지 않으면 아무 의미가 없어" },
-                    { "type": "과잉일반화", "quote": "매번 이렇게 실패해" }
-                  ],
-                  "reframed": "완벽함보다는 진전에 집중해보세요. 작은 발전도 의미 있는 성장입니다. 과거의 경험이 미래를 결정하지 않습니다.",
-                  "alternative": "이번 경험을 통해 무엇을 배울 수 있을까요? 실패가 아닌 학습의 기회로 볼 수 있습니다."
-                }
+    /** 로컬 "왜곡 없음" 응답의 reframed — 분류기 학습 시 LLM 라벨이 아닌 결과를 구분하는 데도 사용 */
+    public static final String NO_DISTORTION_REFRAMED =
+            "특별히 걸리는 생각의 패턴은 보이지 않아요. 지금의 담담한 시선을 그대로 이어가 보세요.";
 
-                Example 2 (no distortions):
-                {
-                  "distortions": [],
-                  "reframed": "건강한 자기 인식이 잘 드러나는 로그입니다. 현실적이고 균형 잡힌 시각을 유지하고 계십니다.",
-                  "alternative": "이런 긍정적인 패턴을 더 자주 의식적으로 활용해보세요."
-                }
+    private static final TypeReference<List<String>> KEYWORD_LIST = new TypeReference<>() {};
+
+    /** AI 호출 불가(브레이커 open/벌크헤드 초과) 또는 요청 마감 초과 시 항법 질문 */
+    private static final String DEGRADED_NAV_PROMPT = "지금 이 순간, 마음에 가장 오래 머무는 생각은 무엇인가요?";
+
+    /** AI 호출 불가·마감 초과·응답 오류 시 CS 키워드 — 저장되지 않는 제안이라 대체 응답으로 충분 */
+    private static final List<String> DEGRADED_CS_KEYWORDS =
+            List.of("Algorithm (알고리즘)", "Data Structure (자료구조)", "Pattern (패턴)");
+
+    /** 여러 질문 생성 응답의 줄 앞 목록 기호/번호 ("- ", "1. ", "2) ") */
+    private static final Pattern LIST_MARKER = Pattern.compile("^\\s*(?:[-*•]|\\d+[.)])\\s*");
+
+    private final ChatClientRegistry chatClientRegistry;
+    private final PromptTemplateRegistry promptTemplateRegistry;
+    private final ObjectMapper objectMapper;
+    private final NavPromptHistoryRepository navPromptHistoryRepository;
+    private final NavPromptPoolService navPromptPoolService;
+    private final NavPromptDeduplicator navPromptDeduplicator;
+    private final AnalysisResultCache analysisResultCache;
+    private final DistortionPreDetector distortionPreDetector;
+    private final DistortionClassifierService distortionClassifierService;
+    private final SingleFlight singleFlight;
+
+    /**
+     * 같은 본문(정규화 기준) + gravity/stability + 분석 템플릿 리비전이면 캐시된 결과 반환
+     * 초안 미리보기(analyze-text)와 저장 후 분석이 같은 결과를 공유
+     * 캐시에 없는 같은 입력이 동시에 들어오면(더블 클릭, 여러 탭) LLM 호출 한 번의 결과를 함께 받음
+     * 짧고 트리거 어휘가 없는 글, 로컬 분류기가 확신하는 글은 LLM 호출 없이 "왜곡 없음"
+     */
+    @Override
+    public AnalysisResult analyzeCognitiveDistortions(String logContent, Integer gravity, Integer stability) {
+        if (isAnswerableLocally(logContent)) {
+            log.info("Entry judged clean locally, skipping LLM analysis");
+            return noDistortionResult();
+        }
+        String fingerprint = analysisFingerprint(logContent, gravity, stability);
+        return analysisResultCache.getOrCompute(fingerprint,
+                () -> singleFlight.execute("analysis", fingerprint, AnalysisResult.class,
+                        () -> requestCognitiveDistortionAnalysis(logContent, gravity, stability)));
+    }
+
+    private AnalysisResult requestCognitiveDistortionAnalysis(String logContent, Integer gravity, Integer stability) {
+        log.info("Starting cognitive distortion analysis - Gravity: {}, Stability: {}", gravity, stability);
 
-                Important Rules:
-                - ALWAYS include all three keys: distortions, reframed, alternative
-                - "distortions" must be an array (empty [] if none found)
-                - "reframed" and "alternative" must NEVER be empty strings - always provide meaningful content in Korean
-                - Be compassionate, not patronizing
-                - Keep responses concise but meaningful
-                """.formatted(gravity, stability);
+        String systemPrompt = buildAnalysisSystemPrompt(gravity, stability);
 
         try {
-            ChatClient chatClient = chatClientBuilder.build();
+            ChatClient chatClient = chatClientRegistry.get(ChatClientPurpose.ANALYSIS);
 
             AnalysisResult result = chatClient.prompt()
+                    .advisors(advisor -> advisor.param(AiModelRouter.HIGH_STAKES, isHighStakes(gravity, stability))
+                            .param(AiAdmissionController.PRIORITY, AiPriority.INTERACTIVE))
                     .system(systemPrompt)
                     .user(logContent)
                     .call()
@@ -100,12 +181,155 @@ public class AiService implements AiUseCase {
 
             return result;
 
+        } catch (BusinessException e) {
+            // 브레이커 open/벌크헤드 초과(503), 타임아웃(504) — 결과를 만들지 않고 그대로 전달해 나중에 다시 분석
+            log.warn("Cognitive distortion analysis rejected: {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("Failed to analyze cognitive distortions: {}", e.getMessage(), e);
             throw new RuntimeException("AI 분석 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * 여러 로그를 한 요청으로 분석 — 긴 시스템 프롬프트를 항목마다 반복하지 않음
+     * 캐시에 있는 항목은 제외하고 묶음당 BATCH_MAX_ENTRIES/BATCH_MAX_CHARS 이내로 나눠 요청.
+     * 묶음 응답에서 검증을 통과하지 못한(누락/중복/빈 필드) 항목만 개별 분석으로 대체
+     * 고위험 항목은 묶지 않고 개별 분석 — highStakes 경로(강한 모델)를 타고, 단건 분석과 같은 지문으로 캐시되므로
+     * 호출 자체가 거절되면(브레이커 open, 과부하, 마감 — BusinessException) 개별 분석으로 늘리지 않고 그대로 전달.
+     * 그 전에 분석한 항목은 캐시에 남아 재시도 시 재사용
+     */
+    @Override
+    public Map<Long, AnalysisResult> analyzeCognitiveDistortionsBatch(List<BatchAnalysisItem> items) {
+        Map<Long, AnalysisResult> results = new HashMap<>();
+        List<BatchAnalysisItem> uncached = new ArrayList<>();
+        List<BatchAnalysisItem> highStakes = new ArrayList<>();
+        for (BatchAnalysisItem item : items) {
+            if (isAnswerableLocally(item.content())) {
+                results.put(item.id(), noDistortionResult());
+                continue;
+            }
+            AnalysisResult cached = analysisResultCache.getIfPresent(fingerprintOf(item));
+            if (cached != null) {
+                results.put(item.id(), cached);
+            } else if (isHighStakes(item.gravity(), item.stability())) {
+                highStakes.add(item);
+            } else {
+                uncached.add(item);
+            }
+        }
+
+        for (BatchAnalysisItem item : highStakes) {
+            try {
+                results.put(item.id(), analyzeCognitiveDistortions(item.content(), item.gravity(), item.stability()));
+            } catch (BusinessException e) {
+                throw e;
+            } catch (Exception e) {
+                log.warn("High-stakes analysis failed for id {}: {}", item.id(), e.getMessage());
+            }
+        }
+
+        int fallbackCount = 0;
+        for (List<BatchAnalysisItem> batch : partition(uncached)) {
+            Map<Long, AnalysisResult> packed = batch.size() > 1 ? requestBatchAnalysis(batch) : Map.of();
+            for (BatchAnalysisItem item : batch) {
+                AnalysisResult result = packed.get(item.id());
+                if (result != null) {
+                    analysisResultCache.put(fingerprintOf(item), result);
+                    results.put(item.id(), result);
+                    continue;
+                }
+                fallbackCount++;
+                try {
+                    results.put(item.id(), analyzeCognitiveDistortions(item.content(), item.gravity(), item.stability()));
+                } catch (BusinessException e) {
+                    throw e;
+                } catch (Exception e) {
+                    log.warn("Per-entry fallback analysis failed for id {}: {}", item.id(), e.getMessage());
+                }
+            }
+        }
+
+        log.info("Batch cognitive distortion analysis completed - requested: {}, cached: {}, high-stakes: {}, fallback: {}, analyzed: {}",
+                items.size(), items.size() - uncached.size() - highStakes.size(), highStakes.size(), fallbackCount,
+                results.size());
+        return results;
+    }
+
+    private Map<Long, AnalysisResult> requestBatchAnalysis(List<BatchAnalysisItem> batch) {
+        Set<Long> requestedIds = batch.stream().map(BatchAnalysisItem::id).collect(Collectors.toSet());
+        try {
+            String entries = objectMapper.writeValueAsString(batch.stream()
+                    .map(item -> new BatchAnalysisInput(item.id(), item.gravity(), item.stability(), item.content()))
+                    .toList());
+
+            BatchAnalysisResponse response = chatClientRegistry.get(ChatClientPurpose.ANALYSIS).prompt()
+                    .advisors(advisor -> advisor.param(AiAdmissionController.PRIORITY, AiPriority.INTERACTIVE))
+                    .system(BATCH_ANALYSIS_SYSTEM_PROMPT)
+                    .user(entries)
+                    .call()
+                    .entity(BatchAnalysisResponse.class);
+
+            Map<Long, AnalysisResult> valid = response != null ? response.validResultsFor(requestedIds) : Map.of();
+            if (valid.size() < batch.size()) {
+                log.warn("Batch analysis returned {}/{} valid results, falling back per entry for the rest",
+                        valid.size(), batch.size());
+            }
+            return valid;
+
+        } catch (BusinessException e) {
+            // 호출 거절(429/503/504) — 항목마다 다시 호출해 봐야 같은 이유로 실패하고 대기/호출만 늘어남
+            log.warn("Batch analysis of {} entries rejected: {}", batch.size(), e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            // 응답 형식 오류 등 — 항목별 분석으로 대체
+            log.warn("Batch analysis of {} entries failed, falling back per entry: {}", batch.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private List<List<BatchAnalysisItem>> partition(List<BatchAnalysisItem> items) {
+        List<List<BatchAnalysisItem>> batches = new ArrayList<>();
+        List<BatchAnalysisItem> current = new ArrayList<>();
+        int chars = 0;
+        for (BatchAnalysisItem item : items) {
+            int length = item.content() != null ? item.content().length() : 0;
+            if (!current.isEmpty() && (current.size() >= BATCH_MAX_ENTRIES || chars + length > BATCH_MAX_CHARS)) {
+                batches.add(current);
+                current = new ArrayList<>();
+                chars = 0;
+            }
+            current.add(item);
+            chars += length;
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    private String fingerprintOf(BatchAnalysisItem item) {
+        return analysisFingerprint(item.content(), item.gravity(), item.stability());
+    }
+
+    /**
+     * 현재 분석 템플릿 리비전 기준 지문 — 템플릿이 바뀌면 캐시/저장된 지문과 달라져 다시 분석
+     */
+    @Override
+    public String analysisFingerprint(String content, Integer gravity, Integer stability) {
+        return AnalysisFingerprint.of(promptTemplateRegistry.get("analysis").revision(), content, gravity, stability);
+    }
+
+    private record BatchAnalysisInput(Long id, Integer gravity, Integer stability, String text) {
+    }
+
+    /**
+     * 분석 템플릿 — 역할/왜곡 목록/예시는 고정 접두부, gravity/stability만 끝부분에 (프롬프트 캐시 적중)
+     */
+    private String buildAnalysisSystemPrompt(Integer gravity, Integer stability) {
+        return promptTemplateRegistry.render("analysis", stateVariables(gravity, stability));
+    }
+
     private String determineSituation(Integer gravity, Integer stability) {
         if (gravity > 67 && stability < 34) return "CRISIS";
         if (gravity > 67 && stability >= 34 && stability <= 66) return "OVERWHELMED";
@@ -119,253 +343,33 @@ public class AiService implements AiUseCase {
         return "BALANCED";
     }
 
+    /**
+     * CRISIS 상태 분석은 지연보다 품질 우선 — 라우터가 ai-routing.purposes.analysis.high-stakes 경로 사용
+     */
+    private boolean isHighStakes(Integer gravity, Integer stability) {
+        return "CRISIS".equals(determineSituation(gravity, stability));
+    }
+
+    /**
+     * CRISIS 상황 사용자의 항법 질문은 LLM 입장 대기열에서 가장 먼저, 그 외 사용자 요청은 INTERACTIVE
+     */
+    private AiPriority navPromptPriority(String situation) {
+        return "CRISIS".equals(situation) ? AiPriority.CRISIS : AiPriority.INTERACTIVE;
+    }
+
+    /**
+     * 상황별 항법 질문 템플릿 (prompts/{version}/nav-{situation}.st)
+     */
     private String buildPromptForSituation(String situation, Integer gravity, Integer stability) {
-        return switch(situation) {
-            case "CRISIS" -> """
-                    You are 'Inner Orbit Mission Control'.
-
-                    User State: Gravity %d%%, Stability %d%% (HIGH PRESSURE + LOW STABILITY = CRISIS)
-
-                    Focus: Immediate coping strategies and finding small moments of relief or support.
-
-                    Example question styles (generate similar but DIFFERENT questions):
-                    - "버틸 수 있어요?" (ultra-short)
-                    - "도움 필요해?" (ultra-short, informal)
-                    - "숨 쉴 공간은?" (ultra-short, metaphorical)
-                    - "누가 도와줄 수 있어요?" (relational, direct)
-                    - "안전한 곳은 어디예요?" (somatic, place)
-                    - "5분만 쉴 수 있나요?" (time-specific, near-future)
-                    - "방금 전엔 괜찮았어요?" (past, checking)
-                    - "쉼 vs 도움?" (binary, ultra-short)
-
-                    CRITICAL:
-                    - NO "지금", "현재", "이 순간" - keep it ultra-short
-                    - URGENT tone, not reflective
-                    - Most questions should be 2-5 words
-                    - Vary: ultra-short / informal / binary / time-specific
-                    - Write in Korean
-                    - Return ONLY the question
-                    """.formatted(gravity, stability);
-
-            case "OVERWHELMED" -> """
-                    You are 'Inner Orbit Mission Control'.
-
-                    User State: Gravity %d%%, Stability %d%% (HIGH PRESSURE + MEDIUM STABILITY = OVERWHELMED)
-
-                    Focus: Boundary-setting, pressure management, and what's helping them maintain resilience.
-
-                    Example question styles (generate similar but DIFFERENT questions):
-                    - "아니오라고 할 수 있는 건?" (boundary, direct)
-                    - "내려놓을 수 있는 건?" (action, short)
-                    - "압박 vs 휴식?" (binary, ultra-short)
-                    - "어떤 경계가 필요해요?" (boundary, direct)
-                    - "오늘 무엇을 거절할 수 있어요?" (future, action)
-                    - "당신을 버티게 하는 건?" (strength, short)
-                    - "이번 주, 무엇을 줄일까요?" (near-future, specific)
-                    - "스스로를 지키려면?" (self-protection, action)
-
-                    CRITICAL:
-                    - AVOID "지금", "현재" - use "오늘", "이번 주" instead
-                    - Focus on ACTION and CONTROL
-                    - Keep questions SHORT (3-7 words)
-                    - Mix binary / action / boundary setting
-                    - Write in Korean
-                    - Return ONLY the question
-                    """.formatted(gravity, stability);
-
-            case "RESILIENT_UNDER_PRESSURE" -> """
-                    You are 'Inner Orbit Mission Control'.
-
-                    User State: Gravity %d%%, Stability %d%% (HIGH PRESSURE + HIGH STABILITY = RESILIENT)
-
-                    Focus: Strength sources, how they maintain balance, and successful coping patterns.
-
-                    Example question styles (generate similar but DIFFERENT questions):
-                    - "힘의 원천은?" (ultra-short, strength)
-                    - "어떻게 버텨왔어요?" (past, coping)
-                    - "균형의 비결은?" (short, pattern)
-                    - "내일도 버틸 수 있으려면?" (future, sustaining)
-                    - "이 강인함, 어디서 배웠어요?" (past, growth)
-                    - "나누고 싶은 지혜는?" (relational, short)
-                    - "중심을 잡게 하는 건?" (strength, direct)
-                    - "압박 속 평온, 비결은?" (paradox, short)
-
-                    CRITICAL:
-                    - CELEBRATE strength while acknowledging pressure
-                    - AVOID "지금" - use past ("어떻게~왔어요") or future ("~려면")
-                    - Mix SHORT questions and slightly longer reflective ones
-                    - Write in Korean
-                    - Return ONLY the question
-                    """.formatted(gravity, stability);
-
-            case "UNSTABLE" -> """
-                    You are 'Inner Orbit Mission Control'.
-
-                    User State: Gravity %d%%, Stability %d%% (MEDIUM PRESSURE + LOW STABILITY = UNSTABLE)
-
-                    Focus: Grounding techniques, emotional regulation, building inner security and self-compassion.
-
-                    Example question styles (generate similar but DIFFERENT questions):
-                    - "발바닥 느껴져요?" (somatic, ultra-short)
-                    - "숨은 어떻게 흐르나요?" (somatic, breathing)
-                    - "몸 어디가 편안해요?" (somatic, safe spot)
-                    - "안전했던 순간은?" (past, safe memory)
-                    - "자신에게 해줄 말은?" (self-compassion, short)
-                    - "감정의 파도, 어디쯤 왔어요?" (metaphorical, present)
-                    - "땅에 닿는 느낌은?" (grounding, somatic)
-                    - "안정 vs 흔들림?" (binary, sensation)
-
-                    CRITICAL:
-                    - AVOID "지금" - use somatic present ("느껴져요?", "흐르나요?")
-                    - Focus on BODY sensations, not "감정은 무엇"
-                    - Keep it GENTLE and SHORT
-                    - Mix somatic / past-safe / metaphorical
-                    - Write in Korean
-                    - Return ONLY the question
-                    """.formatted(gravity, stability);
-
-            case "BALANCED" -> """
-                    You are 'Inner Orbit Mission Control'.
-
-                    User State: Gravity %d%%, Stability %d%% (MEDIUM PRESSURE + MEDIUM STABILITY = BALANCED)
-
-                    Focus: Growth opportunities, meaningful reflection, values, goals, and personal development.
-
-                    Example question styles (generate similar but DIFFERENT questions):
-                    - "다음 도전은?" (ultra-short, future)
-                    - "무엇이 의미 있어요?" (value, short)
-                    - "성장하고 싶은 부분은?" (growth, future)
-                    - "당신다운 삶이란?" (identity, deep)
-                    - "최근 배운 건?" (past, wisdom, short)
-                    - "균형 속 발견은?" (present, reflective, short)
-                    - "어떤 가치가 빛나요?" (value, metaphorical)
-                    - "내일의 나는?" (future, identity, short)
-
-                    CRITICAL:
-                    - AVOID "지금" - use past/future balance
-                    - Mix GROWTH (future) and WISDOM (past)
-                    - Vary length: ultra-short to philosophical
-                    - Focus on VALUES and MEANING
-                    - Write in Korean
-                    - Return ONLY the question
-                    """.formatted(gravity, stability);
-
-            case "GROWING" -> """
-                    You are 'Inner Orbit Mission Control'.
-
-                    User State: Gravity %d%%, Stability %d%% (MEDIUM PRESSURE + HIGH STABILITY = GROWING)
-
-                    Focus: Leveraging stability for new challenges, exploring potential and aspirations.
-
-                    Example question styles (generate similar but DIFFERENT questions):
-                    - "다음 모험은?" (ultra-short, future)
-                    - "어떤 가능성이 보여요?" (potential, open)
-                    - "도전하고 싶은 건?" (action, future, short)
-                    - "안정감을 어디에 쓸까요?" (resource, future)
-                    - "잠재력의 방향은?" (potential, short)
-                    - "성장의 다음 단계는?" (future, development)
-                    - "뭘 시작해볼까요?" (action, ultra-short, future)
-                    - "꿈꾸던 도전은?" (past-desire, future-action)
-
-                    CRITICAL:
-                    - ENERGETIC and FORWARD-LOOKING
-                    - ALL questions should be FUTURE-oriented
-                    - Keep it SHORT and EXCITING
-                    - Focus on ACTION and POSSIBILITY
-                    - Write in Korean
-                    - Return ONLY the question
-                    """.formatted(gravity, stability);
-
-            case "SELF_DOUBT" -> """
-                    You are 'Inner Orbit Mission Control'.
-
-                    User State: Gravity %d%%, Stability %d%% (LOW PRESSURE + LOW STABILITY = SELF-DOUBT)
-
-                    Focus: Self-worth, internal narratives, reconnecting with strengths.
-
-                    Example question styles (generate similar but DIFFERENT questions):
-                    - "당신의 가치는?" (ultra-short, worth)
-                    - "강점을 기억하나요?" (strength, past, gentle)
-                    - "스스로에게 하는 말, 진실인가요?" (narrative, challenge)
-                    - "믿을 수 있었던 순간은?" (past, strength, memory)
-                    - "자신에 대해 다시 쓴다면?" (narrative, metaphorical)
-                    - "내면의 비판, 누구 목소리예요?" (relational, pattern)
-                    - "당신이 빛났던 때는?" (past, strength, metaphorical)
-                    - "자신을 어떻게 보고 싶어요?" (future, re-framing)
-
-                    CRITICAL:
-                    - GENTLE and COMPASSIONATE
-                    - Focus on PAST STRENGTHS and RE-FRAMING
-                    - AVOID "지금" - use past ("~했던", "~기억하나요")
-                    - Keep it SHORT and WARM
-                    - Write in Korean
-                    - Return ONLY the question
-                    """.formatted(gravity, stability);
-
-            case "REFLECTIVE" -> """
-                    You are 'Inner Orbit Mission Control'.
-
-                    User State: Gravity %d%%, Stability %d%% (LOW PRESSURE + MEDIUM STABILITY = REFLECTIVE)
-
-                    Focus: Life lessons, meaningful experiences, deep introspection, wisdom-gathering.
-
-                    Example question styles (generate similar but DIFFERENT questions):
-                    - "삶이 가르쳐준 건?" (past, wisdom, short)
-                    - "변화시킨 순간은?" (past, transformation)
-                    - "최근 발견한 의미는?" (past-present, meaning)
-                    - "여정에서 얻은 지혜는?" (past, metaphorical)
-                    - "과거의 나에게 전할 말은?" (past-reflective, compassion)
-                    - "어떤 진실이 보이나요?" (present, insight)
-                    - "깨달은 건?" (ultra-short, wisdom)
-                    - "경험이 남긴 건?" (past, legacy)
-
-                    CRITICAL:
-                    - CONTEMPLATIVE and DEEP
-                    - Focus on PAST lessons and PRESENT insights
-                    - AVOID "지금" - use "최근", "여정", past tense
-                    - Can be SHORT or POETIC
-                    - Write in Korean
-                    - Return ONLY the question
-                    """.formatted(gravity, stability);
-
-            case "THRIVING" -> """
-                    You are 'Inner Orbit Mission Control'.
-
-                    User State: Gravity %d%%, Stability %d%% (LOW PRESSURE + HIGH STABILITY = THRIVING)
-
-                    Focus: Joy, gratitude, life appreciation, sustaining and sharing this positive state.
-
-                    Example question styles (generate similar but DIFFERENT questions):
-                    - "빛나게 하는 건?" (ultra-short, joy)
-                    - "감사한 순간은?" (past, gratitude, short)
-                    - "기쁨을 나눌 사람은?" (relational, sharing)
-                    - "축복은?" (ultra-short, gratitude)
-                    - "내일도 웃으려면?" (future, sustaining)
-                    - "풍요로움은 어디서?" (appreciation, source)
-                    - "삶의 선물은?" (gratitude, metaphorical, short)
-                    - "이 기쁨, 어떻게 지킬까요?" (future, sustaining)
-
-                    CRITICAL:
-                    - WARM and CELEBRATORY
-                    - Focus on JOY and GRATITUDE
-                    - AVOID "지금 느끼는" - use "빛나게 하는", "감사한", "축복"
-                    - Keep it SHORT and WARM
-                    - Mix present celebration and future sustaining
-                    - Write in Korean
-                    - Return ONLY the question
-                    """.formatted(gravity, stability);
-
-            default -> """
-                    You are 'Inner Orbit Mission Control'.
-
-                    User State: Gravity %d%%, Stability %d%%
-
-                    Generate a thoughtful, diverse question in Korean that helps the user explore their current emotional state.
-                    Vary your style: use different time perspectives (past/present/future), lengths (short/long), and types (open/action/metaphorical).
-
-                    Return ONLY the question.
-                    """.formatted(gravity, stability);
-        };
+        String templateName = "nav-" + situation.toLowerCase().replace('_', '-');
+        return promptTemplateRegistry.render(templateName, stateVariables(gravity, stability));
+    }
+
+    private Map<String, Object> stateVariables(Integer gravity, Integer stability) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("gravity", gravity);
+        variables.put("stability", stability);
+        return variables;
     }
 
     @Override
@@ -375,35 +379,80 @@ public class AiService implements AiUseCase {
         log.info("Generating dynamic prompt - Gravity: {}, Stability: {} -> Situation: {}, UserId: {}",
                 gravity, stability, situation, userId);
 
+        Optional<String> pooled = navPromptPoolService.take(userId, situation,
+                count -> generateNavPrompts(userId, situation, gravity, stability, count));
+        if (pooled.isPresent()) {
+            navPromptHistoryRepository.savePrompt(userId, situation, pooled.get());
+            log.info("Dynamic prompt served from pool: {}", pooled.get());
+            return pooled.get();
+        }
+
         List<String> recentPrompts = navPromptHistoryRepository.getRecentPrompts(userId, situation);
-        String exclusionContext = buildExclusionContext(recentPrompts);
+        String exclusionContext = buildExclusionContext(navPromptDeduplicator.exclusionSample(recentPrompts));
 
         String systemPrompt = buildPromptForSituation(situation, gravity, stability) + exclusionContext;
         String userMessage = "Generate one question.";
 
         try {
-            ChatClient chatClient = chatClientBuilder
-                    .defaultOptions(OpenAiChatOptions.builder()
-                            .temperature(0.9)
-                            .build())
-                    .build();
+            ChatClient chatClient = chatClientRegistry.get(ChatClientPurpose.NAV_PROMPT);
 
-            String prompt = chatClient.prompt()
+            // 제외 목록은 일부만 보내므로 전체 이력과의 유사도는 로컬에서 검사 — 유사하면 재생성
+            String prompt = navPromptDeduplicator.pickDistinct(() -> chatClient.prompt()
+                    .advisors(advisor -> advisor.param(AiAdmissionController.PRIORITY, navPromptPriority(situation)))
                     .system(systemPrompt)
                     .user(userMessage)
                     .call()
-                    .content();
+                    .content(), recentPrompts);
 
             navPromptHistoryRepository.savePrompt(userId, situation, prompt);
             log.info("Dynamic prompt generated and saved to history: {}", prompt);
             return prompt;
 
+        } catch (BusinessException e) {
+            if (e.getErrorCode() != ErrorCode.AI_UNAVAILABLE && e.getErrorCode() != ErrorCode.AI_TIMEOUT) {
+                throw e;
+            }
+            // 브레이커 open 등으로 호출하지 못했거나 요청 마감 안에 응답이 없음 — 이력에 남기지 않는 일반 질문으로 대체
+            log.warn("AI unavailable or timed out, serving degraded nav prompt: {}", e.getMessage());
+            return DEGRADED_NAV_PROMPT;
         } catch (Exception e) {
             log.error("Failed to generate dynamic prompt: {}", e.getMessage(), e);
             throw new RuntimeException("동적 프롬프트 생성 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * 풀 보충용 — 한 번의 호출로 count개 생성. 풀에 남은 질문/최근 질문과 유사한 결과는 버림
+     */
+    private List<String> generateNavPrompts(Long userId, String situation, Integer gravity, Integer stability, int count) {
+        List<String> excluded = new ArrayList<>(navPromptPoolService.pooledPrompts(userId, situation));
+        excluded.addAll(navPromptHistoryRepository.getRecentPrompts(userId, situation));
+
+        String systemPrompt = buildPromptForSituation(situation, gravity, stability)
+                + buildExclusionContext(navPromptDeduplicator.exclusionSample(excluded));
+        String userMessage = "Generate " + count + " different questions. "
+                + "Return one question per line, without numbering or any other text.";
+
+        // 풀 보충은 백그라운드 작업 — 사용자가 기다리는 호출보다 뒤에 입장
+        String content = chatClientRegistry.get(ChatClientPurpose.NAV_PROMPT).prompt()
+                .advisors(advisor -> advisor.param(AiAdmissionController.PRIORITY, AiPriority.BATCH))
+                .system(systemPrompt)
+                .user(userMessage)
+                .call()
+                .content();
+        if (content == null) {
+            return List.of();
+        }
+
+        List<String> candidates = content.lines()
+                .map(line -> LIST_MARKER.matcher(line).replaceFirst("").strip())
+                .filter(line -> !line.isEmpty())
+                .toList();
+        return navPromptDeduplicator.filterDistinct(candidates, excluded).stream()
+                .limit(count)
+                .toList();
+    }
+
     private String buildExclusionContext(List<String> recentPrompts) {
         if (recentPrompts.isEmpty()) {
             return "";
@@ -444,21 +493,9 @@ public class AiService implements AiUseCase {
                 """;
 
         try {
-            ChatClient chatClient = chatClientBuilder
-                    .defaultOptions(OpenAiChatOptions.builder()
-                            .temperature(0.8)
-                            .build())
-                    .build();
-
-            String response = chatClient.prompt()
-                    .system(systemPrompt)
-                    .user("관찰: " + trigger)
-                    .call()
-                    .content();
-
-            log.debug("Raw AI response: {}", response);
-
-            List<String> keywords = objectMapper.readValue(response, new TypeReference<List<String>>() {});
+            // 같은 관찰 글의 동시 요청은 한 번만 호출 — 대체 키워드는 합치지 않고 요청마다 반환
+            List<String> keywords = singleFlight.execute("keywords", AnalysisFingerprint.contentHash(trigger),
+                    KEYWORD_LIST, () -> requestCsKeywords(systemPrompt, trigger));
 
             if (keywords.size() > 5) {
                 keywords = keywords.subList(0, 5);
@@ -467,12 +504,67 @@ public class AiService implements AiUseCase {
             log.info("CS keyword suggestion completed - {} keywords generated", keywords.size());
             return keywords;
 
+        } catch (BusinessException e) {
+            if (e.getErrorCode() != ErrorCode.AI_UNAVAILABLE && e.getErrorCode() != ErrorCode.AI_TIMEOUT) {
+                // 과부하(429) 등 — 대체 키워드 대신 상태 코드로 알려 클라이언트가 재시도
+                log.warn("CS keyword suggestion rejected: {}", e.getMessage());
+                throw e;
+            }
+            // 브레이커 open/벌크헤드 초과(503), 마감(504) — 키워드는 저장되지 않으므로 일반 키워드로 대체
+            log.warn("AI unavailable or timed out, serving degraded CS keywords: {}", e.getMessage());
+            return DEGRADED_CS_KEYWORDS;
         } catch (Exception e) {
             log.error("Failed to suggest CS keywords: {}", e.getMessage(), e);
-            return List.of("Algorithm (알고리즘)", "Data Structure (자료구조)", "Pattern (패턴)");
+            return DEGRADED_CS_KEYWORDS;
         }
     }
 
+    private List<String> requestCsKeywords(String systemPrompt, String trigger) {
+        ChatClient chatClient = chatClientRegistry.get(ChatClientPurpose.KEYWORDS);
+
+        String response = chatClient.prompt()
+                .advisors(advisor -> advisor.param(AiAdmissionController.PRIORITY, AiPriority.INTERACTIVE))
+                .system(systemPrompt)
+                .user("관찰: " + trigger)
+                .call()
+                .content();
+
+        log.debug("Raw AI response: {}", response);
+
+        try {
+            return objectMapper.readValue(response, KEYWORD_LIST);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid keyword response: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    @Override
+    public List<DistortionCandidate> detectDistortionCandidates(String text) {
+        return distortionPreDetector.detect(text);
+    }
+
+    /**
+     * LLM 없이 "왜곡 없음"으로 답해도 되는지
+     * 분류기는 트리거 어휘가 하나라도 있으면 확신하더라도 쓰지 않음 (어휘 탐지와 어긋나는 응답 방지)
+     */
+    private boolean isAnswerableLocally(String text) {
+        if (distortionPreDetector.isTriviallyClean(text)) {
+            return true;
+        }
+        return distortionClassifierService.isConfidentlyClean(text) && distortionPreDetector.detect(text).isEmpty();
+    }
+
+    /**
+     * LLM 생략 시 결과 — 프론트/저장 형식은 LLM 결과와 동일
+     */
+    private AnalysisResult noDistortionResult() {
+        return AnalysisResult.builder()
+                .distortions(List.of())
+                .reframed(NO_DISTORTION_REFRAMED)
+                .alternative("짧은 기록도 충분히 의미 있어요. 떠오르는 마음이 더 있다면 조금 더 적어 보세요.")
+                .build();
+    }
+
     @Override
     public AnalysisResult analyzeTextOnly(String text, Integer gravity, Integer stability) {
         log.info("Stateless text analysis requested (no DB save) - Gravity: {}, Stability: {}", gravity, stability);
@@ -483,51 +575,14 @@ public class AiService implements AiUseCase {
     public String generateInsightFeedback(String trigger, String abstraction, String application, String recentLogsContext) {
         log.info("Generating insight feedback - Abstraction: {}", abstraction);
 
-        String systemPrompt = """
-                You are a supportive mentor helping a developer build "Architecture of Insight" -
-                the skill of seeing Computer Science patterns in everyday life.
-
-                Your role:
-                - Review their insight mapping (Observation → CS Concept → Application)
-                - Provide encouraging, constructive feedback
-                - Validate creative connections
-                - Suggest additional related concepts or deeper insights
-                - Help them refine their thinking
-
-                Structure your feedback in Korean with 3 parts:
-                1. 격려 (Encouragement): What's good about this insight? (1-2 sentences)
-                2. 심화 (Deepening): How can this connection be explored further? (2-3 sentences)
-                3. 확장 (Extension): What other CS concepts could relate? (1-2 sentences, suggest 1-2 more concepts)
-
-                Keep it warm, constructive, and intellectually stimulating.
-                Total length: 4-6 sentences.
-                Write in Korean.
-                """;
-
-        String userMessage = String.format("""
-                사용자의 Insight Log:
-
-                [관찰 (Trigger)]
-                %s
-
-                [CS 개념 (Abstraction)]
-                %s
-
-                [적용점 (Application)]
-                %s
-
-                이 통찰에 대해 피드백해주세요.
-                """, trigger, abstraction, application);
+        String userMessage = buildInsightFeedbackMessage(trigger, abstraction, application);
 
         try {
-            ChatClient chatClient = chatClientBuilder
-                    .defaultOptions(OpenAiChatOptions.builder()
-                            .temperature(0.7)
-                            .build())
-                    .build();
+            ChatClient chatClient = chatClientRegistry.get(ChatClientPurpose.INSIGHT_FEEDBACK);
 
             String feedback = chatClient.prompt()
-                    .system(systemPrompt)
+                    .advisors(advisor -> advisor.param(AiAdmissionController.PRIORITY, AiPriority.INTERACTIVE))
+                    .system(INSIGHT_FEEDBACK_SYSTEM_PROMPT)
                     .user(userMessage)
                     .call()
                     .content();
@@ -535,9 +590,85 @@ public class AiService implements AiUseCase {
             log.info("Insight feedback generated successfully");
             return feedback;
 
+        } catch (BusinessException e) {
+            // 과부하(429), 브레이커 open/벌크헤드 초과(503), 마감(504) — 대체 문구가 피드백으로 영구 저장되지 않도록 그대로 전달
+            log.warn("Insight feedback generation rejected: {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("Failed to generate insight feedback: {}", e.getMessage(), e);
             return "통찰을 기록해주셔서 감사합니다. 일상에서 CS 개념을 발견하는 것은 개발자적 사고를 키우는 훌륭한 연습입니다.";
         }
     }
+
+    @Override
+    public Flux<AnalysisStreamChunk> streamTextAnalysis(String text, Integer gravity, Integer stability) {
+        if (isAnswerableLocally(text)) {
+            return Flux.just(AnalysisStreamChunk.ofResult(noDistortionResult()));
+        }
+        String fingerprint = analysisFingerprint(text, gravity, stability);
+        AnalysisResult cached = analysisResultCache.getIfPresent(fingerprint);
+        if (cached != null) {
+            return Flux.just(AnalysisStreamChunk.ofResult(cached));
+        }
+
+        log.info("Streaming text analysis requested (no DB save) - Gravity: {}, Stability: {}", gravity, stability);
+        // call().entity()와 같은 JSON 형식 지시를 붙이고, 완성된 응답을 같은 변환기로 파싱
+        BeanOutputConverter<AnalysisResult> converter = new BeanOutputConverter<>(AnalysisResult.class);
+        StringBuilder response = new StringBuilder();
+
+        Flux<AnalysisStreamChunk> tokens = chatClientRegistry.get(ChatClientPurpose.ANALYSIS).prompt()
+                .advisors(advisor -> advisor.param(AiModelRouter.HIGH_STAKES, isHighStakes(gravity, stability))
+                        .param(AiAdmissionController.PRIORITY, AiPriority.INTERACTIVE))
+                .system(buildAnalysisSystemPrompt(gravity, stability))
+                .user(text + System.lineSeparator() + converter.getFormat())
+                .stream()
+                .content()
+                .doOnNext(response::append)
+                .map(AnalysisStreamChunk::ofToken);
+
+        Mono<AnalysisStreamChunk> result = Mono.fromCallable(() -> {
+            AnalysisResult parsed = converter.convert(response.toString());
+            analysisResultCache.put(fingerprint, parsed);
+            log.info("Streaming text analysis completed - Distortions found: {}",
+                    parsed != null && parsed.getDistortions() != null ? parsed.getDistortions().size() : 0);
+            return AnalysisStreamChunk.ofResult(parsed);
+        });
+
+        // 로컬 탐지 후보를 먼저 보내 LLM 첫 토큰 전에도 잠정 하이라이트 표시
+        Flux<AnalysisStreamChunk> provisional = Flux.defer(() ->
+                Flux.just(AnalysisStreamChunk.ofCandidates(distortionPreDetector.detect(text))));
+
+        return provisional.concatWith(tokens).concatWith(result)
+                .doOnError(e -> log.error("Failed to stream text analysis: {}", e.getMessage(), e));
+    }
+
+    @Override
+    public Flux<String> streamInsightFeedback(String trigger, String abstraction, String application,
+                                              String recentLogsContext) {
+        log.info("Streaming insight feedback - Abstraction: {}", abstraction);
+        return chatClientRegistry.get(ChatClientPurpose.INSIGHT_FEEDBACK).prompt()
+                .advisors(advisor -> advisor.param(AiAdmissionController.PRIORITY, AiPriority.INTERACTIVE))
+                .system(INSIGHT_FEEDBACK_SYSTEM_PROMPT)
+                .user(buildInsightFeedbackMessage(trigger, abstraction, application))
+                .stream()
+                .content()
+                .doOnError(e -> log.error("Failed to stream insight feedback: {}", e.getMessage(), e));
+    }
+
+    private String buildInsightFeedbackMessage(String trigger, String abstraction, String application) {
+        return String.format("""
+                사용자의 Insight Log:
+
+                [관찰 (Trigger)]
+                %s
+
+                [CS 개념 (Abstraction)]
+                %s
+
+                [적용점 (Application)]
+                %s
+
+                이 통찰에 대해 피드백해주세요.
+                """, trigger, abstraction, application);
+    }
 }
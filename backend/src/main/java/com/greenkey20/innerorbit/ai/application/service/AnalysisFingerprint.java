@@ -0,0 +1,53 @@
+package com.greenkey20.innerorbit.ai.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * 인지왜곡 분석 입력 지문 — 분석 캐시 키이자 log_entries.analysis_content_hash 저장값
+ * 구성: 분석 프롬프트 리비전(템플릿 버전 + 원본 해시) + gravity/stability + 정규화한 본문의 SHA-256
+ * 템플릿을 고치거나 버전을 바꾸면 지문이 달라져 이전 캐시와 저장된 지문이 자연히 무효화
+ * 정규화: 유니코드 NFC, 앞뒤 공백 제거, 연속 공백/줄바꿈을 공백 하나로
+ */
+public final class AnalysisFingerprint {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private AnalysisFingerprint() {
+    }
+
+    /**
+     * @param promptRevision 분석 템플릿의 PromptTemplate.revision()
+     */
+    public static String of(String promptRevision, String content, Integer gravity, Integer stability) {
+        return "%s:g%d:s%d:%s".formatted(promptRevision, gravity, stability, contentHash(content));
+    }
+
+    /**
+     * 정규화한 본문의 SHA-256 — 분석 외 요청(키워드 추천 등)의 지문에도 사용
+     */
+    public static String contentHash(String content) {
+        return sha256(normalize(content));
+    }
+
+    static String normalize(String content) {
+        if (content == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(content, Normalizer.Form.NFC);
+        return WHITESPACE.matcher(composed.strip()).replaceAll(" ");
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
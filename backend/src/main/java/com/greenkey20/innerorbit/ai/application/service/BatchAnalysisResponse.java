@@ -0,0 +1,51 @@
+package com.greenkey20.innerorbit.ai.application.service;
+
+import com.greenkey20.innerorbit.log.infrastructure.adapter.out.ai.dto.AnalysisResult;
+import com.greenkey20.innerorbit.log.infrastructure.adapter.out.ai.dto.DistortionDto;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 일괄 분석 구조화 응답 — {"results": [{"id": .., "distortions": [..], "reframed": "..", "alternative": ".."}]}
+ */
+public record BatchAnalysisResponse(List<Entry> results) {
+
+    public record Entry(Long id, List<DistortionDto> distortions, String reframed, String alternative) {
+
+        boolean isValid() {
+            return id != null
+                    && distortions != null
+                    && reframed != null && !reframed.isBlank()
+                    && alternative != null && !alternative.isBlank();
+        }
+
+        AnalysisResult toAnalysisResult() {
+            return new AnalysisResult(distortions, reframed, alternative);
+        }
+    }
+
+    /**
+     * 요청한 id별로 검증을 통과한 결과만 — 누락, 중복, 요청하지 않은 id, 빈 필드는 제외 (호출자가 개별 재분석)
+     */
+    Map<Long, AnalysisResult> validResultsFor(Set<Long> requestedIds) {
+        Map<Long, AnalysisResult> valid = new HashMap<>();
+        if (results == null) {
+            return valid;
+        }
+        Set<Long> duplicated = new HashSet<>();
+        for (Entry entry : results) {
+            if (entry == null || !entry.isValid() || !requestedIds.contains(entry.id())) {
+                continue;
+            }
+            if (valid.put(entry.id(), entry.toAnalysisResult()) != null) {
+                duplicated.add(entry.id());
+            }
+        }
+        duplicated.forEach(valid::remove);
+        return valid;
+    }
+}
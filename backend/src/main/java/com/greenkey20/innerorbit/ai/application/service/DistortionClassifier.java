@@ -0,0 +1,194 @@
+package com.greenkey20.innerorbit.ai.application.service;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * 인지왜곡 유무 로지스틱 회귀 — 해시한 문자 1~3-gram 특징, CPU만 사용
+ *
+ * - 특징: 정규화한 본문의 문자 n-gram을 2^dimensionBits 공간에 해시 (사전 없이 한글/영문 공통)
+ * - 학습: SGD + L2 (등장한 가중치에만 적용), 시드 고정이라 같은 데이터면 같은 모델
+ * - 파일: 0이 아닌 가중치만 (index, weight) 쌍으로 저장
+ * 불변 객체 — 여러 스레드에서 동시에 예측해도 안전
+ */
+public final class DistortionClassifier {
+
+    private static final int MAGIC = 0x494F4443; // "IODC"
+    private static final int FORMAT_VERSION = 1;
+    private static final int MIN_GRAM = 1;
+    private static final int MAX_GRAM = 3;
+    private static final long SHUFFLE_SEED = 20L;
+
+    private final int dimensionBits;
+    private final float[] weights;
+    private final float bias;
+
+    private DistortionClassifier(int dimensionBits, float[] weights, float bias) {
+        this.dimensionBits = dimensionBits;
+        this.weights = weights;
+        this.bias = bias;
+    }
+
+    /**
+     * 인지왜곡이 있을 확률 (0~1)
+     */
+    public double distortionProbability(String text) {
+        return sigmoid(score(features(text, dimensionBits)));
+    }
+
+    double distortionProbability(Example example) {
+        return sigmoid(score(example.features()));
+    }
+
+    public int dimensionBits() {
+        return dimensionBits;
+    }
+
+    private double score(Features features) {
+        double z = bias;
+        for (int i = 0; i < features.indices().length; i++) {
+            z += weights[features.indices()[i]] * features.value();
+        }
+        return z;
+    }
+
+    public static DistortionClassifier train(List<Example> examples, TrainingParams params) {
+        float[] weights = new float[1 << params.dimensionBits()];
+        float bias = 0f;
+        List<Example> order = new ArrayList<>(examples);
+        Random random = new Random(SHUFFLE_SEED);
+
+        for (int epoch = 0; epoch < params.epochs(); epoch++) {
+            Collections.shuffle(order, random);
+            double learningRate = params.learningRate() / (1 + epoch);
+            for (Example example : order) {
+                Features features = example.features();
+                double z = bias;
+                for (int index : features.indices()) {
+                    z += weights[index] * features.value();
+                }
+                double gradient = sigmoid(z) - (example.distorted() ? 1 : 0);
+                for (int index : features.indices()) {
+                    weights[index] -= (float) (learningRate * (gradient * features.value() + params.l2() * weights[index]));
+                }
+                bias -= (float) (learningRate * gradient);
+            }
+        }
+        return new DistortionClassifier(params.dimensionBits(), weights, bias);
+    }
+
+    /**
+     * 본문 → 해시 특징 (중복 제거, 정렬). 값은 길이에 덜 민감하도록 1/sqrt(특징 수)
+     */
+    public static Features features(String text, int dimensionBits) {
+        String normalized = normalize(text);
+        int mask = (1 << dimensionBits) - 1;
+        int[] indices = new int[Math.max(0, normalized.length() * (MAX_GRAM - MIN_GRAM + 1))];
+        int count = 0;
+        for (int start = 0; start < normalized.length(); start++) {
+            int hash = 0x811C9DC5;
+            for (int n = 1; n <= MAX_GRAM && start + n <= normalized.length(); n++) {
+                hash = (hash ^ normalized.charAt(start + n - 1)) * 0x01000193;
+                if (n >= MIN_GRAM) {
+                    indices[count++] = mix(hash + n) & mask;
+                }
+            }
+        }
+        int[] unique = Arrays.stream(indices, 0, count).sorted().distinct().toArray();
+        return new Features(unique, unique.length == 0 ? 0f : (float) (1 / Math.sqrt(unique.length)));
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        data.writeInt(dimensionBits);
+        data.writeFloat(bias);
+        int nonZero = 0;
+        for (float weight : weights) {
+            if (weight != 0f) {
+                nonZero++;
+            }
+        }
+        data.writeInt(nonZero);
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] != 0f) {
+                data.writeInt(i);
+                data.writeFloat(weights[i]);
+            }
+        }
+        data.flush();
+    }
+
+    public static DistortionClassifier readFrom(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a distortion classifier model file");
+        }
+        int version = data.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported model format version: " + version);
+        }
+        int dimensionBits = data.readInt();
+        if (dimensionBits < 1 || dimensionBits > 24) {
+            throw new IOException("Invalid dimension bits: " + dimensionBits);
+        }
+        float bias = data.readFloat();
+        float[] weights = new float[1 << dimensionBits];
+        int nonZero = data.readInt();
+        for (int i = 0; i < nonZero; i++) {
+            int index = data.readInt();
+            if (index < 0 || index >= weights.length) {
+                throw new IOException("Weight index out of range: " + index);
+            }
+            weights[index] = data.readFloat();
+        }
+        return new DistortionClassifier(dimensionBits, weights, bias);
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String collapsed = Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", " ")
+                .strip();
+        // 앞뒤 공백을 붙여 단어 경계 n-gram도 특징이 되도록
+        return " " + collapsed + " ";
+    }
+
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return hash;
+    }
+
+    private static double sigmoid(double z) {
+        return 1 / (1 + Math.exp(-z));
+    }
+
+    /**
+     * @param indices 정렬된 해시 특징 index
+     * @param value   모든 특징에 공통인 값
+     */
+    public record Features(int[] indices, float value) {
+    }
+
+    public record Example(Features features, boolean distorted) {
+    }
+
+    public record TrainingParams(int dimensionBits, int epochs, double learningRate, double l2) {
+    }
+}
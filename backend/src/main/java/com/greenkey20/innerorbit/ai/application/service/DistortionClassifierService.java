@@ -0,0 +1,200 @@
+package com.greenkey20.innerorbit.ai.application.service;
+
+import com.greenkey20.innerorbit.ai.application.port.out.LabeledAnalysis;
+import com.greenkey20.innerorbit.ai.application.port.out.LabeledAnalysisQueryPort;
+import com.greenkey20.innerorbit.ai.application.service.DistortionClassifier.Example;
+import com.greenkey20.innerorbit.ai.application.service.DistortionClassifier.TrainingParams;
+import com.greenkey20.innerorbit.ai.infrastructure.config.DistortionClassifierProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 로컬 인지왜곡 분류기 — LLM이 라벨링한 analysis_result로 학습해 확신 높은 "왜곡 없음"만 로컬에서 응답
+ *
+ * - 학습: 저장된 분석 결과(최신순 maxTrainingSamples건)를 로그 id 기준 학습/held-out으로 나눠 학습 후 평가
+ * - 반영: held-out 로컬 응답 정밀도가 minLocalPrecision 이상일 때만 모델 파일 교체 (임시 파일 → 원자적 이동)
+ * - 응답: "왜곡 없음" 확률이 confidenceThreshold 이상이면 true, 나머지는 LLM으로 넘김
+ * 분류기는 왜곡 유형만 판단할 뿐 reframed/alternative 문장은 만들 수 없으므로 "왜곡 있음"은 항상 LLM 몫
+ *
+ * 지표: distortion_classifier.local, distortion_classifier.escalated
+ */
+@Slf4j
+@Component
+public class DistortionClassifierService {
+
+    private final DistortionClassifierProperties properties;
+    private final LabeledAnalysisQueryPort labeledAnalysisQueryPort;
+    private final Counter localAnswers;
+    private final Counter escalations;
+
+    private volatile LoadedModel current;
+
+    public DistortionClassifierService(DistortionClassifierProperties properties,
+                                       LabeledAnalysisQueryPort labeledAnalysisQueryPort,
+                                       MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.labeledAnalysisQueryPort = labeledAnalysisQueryPort;
+        this.localAnswers = Counter.builder("distortion_classifier.local")
+                .description("Analyses answered by the local classifier without an LLM call")
+                .register(meterRegistry);
+        this.escalations = Counter.builder("distortion_classifier.escalated")
+                .description("Analyses the local classifier was not confident about")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void loadModel() {
+        if (properties.isEnabled()) {
+            reloadIfChanged();
+        }
+    }
+
+    /**
+     * 모델이 "왜곡 없음"을 확신하는지 — 비활성/모델 없음이면 항상 false
+     */
+    public boolean isConfidentlyClean(String text) {
+        LoadedModel model = current;
+        if (!properties.isEnabled() || model == null || text == null || text.isBlank()) {
+            return false;
+        }
+        boolean confident = 1 - model.classifier().distortionProbability(text) >= properties.getConfidenceThreshold();
+        (confident ? localAnswers : escalations).increment();
+        return confident;
+    }
+
+    /**
+     * 저장된 분석 결과로 새 모델 학습 → held-out 평가 → 기준 통과 시 파일 저장 후 교체
+     * 로컬 응답 결과(LLM을 거치지 않은 "왜곡 없음")는 라벨에서 제외해 자기 강화 방지
+     */
+    public Optional<Evaluation> train() {
+        List<Example> training = new ArrayList<>();
+        List<Example> holdout = new ArrayList<>();
+        labeledAnalysisQueryPort.streamLabeledAnalyses(properties.getMaxTrainingSamples(), labeled -> {
+            if (AiService.NO_DISTORTION_REFRAMED.equals(labeled.reframed())) {
+                return;
+            }
+            Example example = new Example(
+                    DistortionClassifier.features(labeled.content(), properties.getDimensionBits()), labeled.distorted());
+            (isHoldout(labeled) ? holdout : training).add(example);
+        });
+
+        if (training.size() + holdout.size() < properties.getMinTrainingSamples() || holdout.isEmpty()) {
+            log.info("Not enough labelled analyses to train distortion classifier - training: {}, holdout: {}",
+                    training.size(), holdout.size());
+            return Optional.empty();
+        }
+
+        DistortionClassifier classifier = DistortionClassifier.train(training, new TrainingParams(
+                properties.getDimensionBits(), properties.getEpochs(), properties.getLearningRate(), properties.getL2()));
+        Evaluation evaluation = evaluate(classifier, holdout);
+        log.info("Distortion classifier trained - training: {}, {}", training.size(), evaluation);
+
+        if (evaluation.localAnswered() == 0 || evaluation.localPrecision() < properties.getMinLocalPrecision()) {
+            log.warn("Distortion classifier not promoted - local precision {} below {}",
+                    evaluation.localPrecision(), properties.getMinLocalPrecision());
+            return Optional.of(evaluation);
+        }
+        try {
+            save(classifier);
+        } catch (IOException e) {
+            log.error("Failed to save distortion classifier to {}: {}", properties.getModelPath(), e.getMessage(), e);
+        }
+        return Optional.of(evaluation);
+    }
+
+    /**
+     * 모델 파일이 바뀌었으면 다시 읽음 — 다른 인스턴스가 학습한 모델 반영
+     * 읽기 실패 시 기존 모델 유지
+     */
+    public void reloadIfChanged() {
+        Path path = Path.of(properties.getModelPath());
+        if (!Files.isRegularFile(path)) {
+            return;
+        }
+        try {
+            FileTime modified = Files.getLastModifiedTime(path);
+            LoadedModel model = current;
+            if (model != null && model.modified().equals(modified)) {
+                return;
+            }
+            try (InputStream in = Files.newInputStream(path)) {
+                current = new LoadedModel(DistortionClassifier.readFrom(in), modified);
+            }
+            log.info("Distortion classifier loaded from {}", path);
+        } catch (IOException e) {
+            log.error("Failed to load distortion classifier from {}: {}", path, e.getMessage(), e);
+        }
+    }
+
+    Evaluation evaluate(DistortionClassifier classifier, List<Example> holdout) {
+        double threshold = properties.getConfidenceThreshold();
+        int correct = 0;
+        int localAnswered = 0;
+        int localCorrect = 0;
+        for (Example example : holdout) {
+            double probability = classifier.distortionProbability(example);
+            if ((probability >= 0.5) == example.distorted()) {
+                correct++;
+            }
+            if (1 - probability >= threshold) {
+                localAnswered++;
+                if (!example.distorted()) {
+                    localCorrect++;
+                }
+            }
+        }
+        return new Evaluation(holdout.size(), (double) correct / holdout.size(), localAnswered,
+                localAnswered == 0 ? 0 : (double) localCorrect / localAnswered);
+    }
+
+    private boolean isHoldout(LabeledAnalysis labeled) {
+        return Math.floorMod(Long.hashCode(labeled.logId() * 0x9E3779B97F4A7C15L), 100) < properties.getHoldoutPercent();
+    }
+
+    private void save(DistortionClassifier classifier) throws IOException {
+        Path path = Path.of(properties.getModelPath()).toAbsolutePath();
+        Files.createDirectories(path.getParent());
+        Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                classifier.writeTo(out);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        current = new LoadedModel(classifier, Files.getLastModifiedTime(path));
+        log.info("Distortion classifier saved to {}", path);
+    }
+
+    /**
+     * held-out 평가 결과
+     *
+     * @param accuracy       0.5 기준 왜곡 유무 정확도
+     * @param localAnswered  confidenceThreshold 기준 로컬 응답 건수 (= LLM 호출 절감분)
+     * @param localPrecision 로컬 응답 중 LLM 라벨도 "왜곡 없음"인 비율
+     */
+    public record Evaluation(int holdoutSize, double accuracy, int localAnswered, double localPrecision) {
+
+        public double coverage() {
+            return holdoutSize == 0 ? 0 : (double) localAnswered / holdoutSize;
+        }
+    }
+
+    private record LoadedModel(DistortionClassifier classifier, FileTime modified) {
+    }
+}
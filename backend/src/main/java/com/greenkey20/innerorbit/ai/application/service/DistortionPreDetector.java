@@ -0,0 +1,117 @@
+package com.greenkey20.innerorbit.ai.application.service;
+
+import com.greenkey20.innerorbit.ai.application.port.in.DistortionCandidate;
+import com.greenkey20.innerorbit.ai.application.service.AhoCorasickMatcher.Match;
+import com.greenkey20.innerorbit.ai.infrastructure.config.DistortionDetectorProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로컬 인지왜곡 사전 탐지 — 트리거 어휘(lexicon/cognitive-distortions.tsv)를 Aho-Corasick으로 한 번에 매칭
+ *
+ * - 입력 중 실시간 하이라이트, 스트리밍 분석의 즉시 응답(잠정 후보)에 사용
+ * - 짧고 트리거가 하나도 없는 글은 LLM 호출 생략 판단에 사용 (isTriviallyClean)
+ * 어휘 기반이라 문맥은 보지 않음 — 최종 판정은 LLM 분석 결과
+ */
+@Slf4j
+@Component
+public class DistortionPreDetector {
+
+    private static final String LEXICON = "lexicon/cognitive-distortions.tsv";
+
+    private final DistortionDetectorProperties properties;
+    private final AhoCorasickMatcher<Trigger> matcher;
+
+    public DistortionPreDetector(DistortionDetectorProperties properties) {
+        this.properties = properties;
+        this.matcher = loadLexicon();
+    }
+
+    /**
+     * 원문 순서대로 후보 반환 — 같은 유형끼리 겹치면 긴 구절 하나만
+     */
+    public List<DistortionCandidate> detect(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        List<Match<Trigger>> matches = new ArrayList<>(matcher.findAll(text));
+        matches.sort(Comparator.<Match<Trigger>>comparingInt(Match::start)
+                .thenComparing(Match::end, Comparator.reverseOrder()));
+
+        List<DistortionCandidate> candidates = new ArrayList<>();
+        Map<String, Integer> coveredUntil = new HashMap<>();
+        for (Match<Trigger> match : matches) {
+            Trigger trigger = match.payload();
+            if (trigger.wordBounded() && !atWordBoundary(text, match.start(), match.end())) {
+                continue;
+            }
+            if (match.start() < coveredUntil.getOrDefault(trigger.type(), 0)) {
+                continue;
+            }
+            coveredUntil.put(trigger.type(), match.end());
+            candidates.add(new DistortionCandidate(
+                    trigger.type(), text.substring(match.start(), match.end()), match.start(), match.end()));
+        }
+        return candidates;
+    }
+
+    /**
+     * LLM 생략 가능 여부 — 설정 길이 이하이고 트리거 어휘가 없음
+     */
+    public boolean isTriviallyClean(String text) {
+        if (!properties.isSkipLlm() || text == null || text.isBlank()) {
+            return false;
+        }
+        String stripped = text.strip();
+        return stripped.length() <= properties.getSkipLlmMaxLength() && detect(stripped).isEmpty();
+    }
+
+    private static boolean atWordBoundary(String text, int start, int end) {
+        return (start == 0 || !isAsciiWordChar(text.charAt(start - 1)))
+                && (end == text.length() || !isAsciiWordChar(text.charAt(end)));
+    }
+
+    private static boolean isAsciiWordChar(char c) {
+        return c < 128 && Character.isLetterOrDigit(c);
+    }
+
+    private static AhoCorasickMatcher<Trigger> loadLexicon() {
+        try {
+            String content = new ClassPathResource(LEXICON).getContentAsString(StandardCharsets.UTF_8);
+            AhoCorasickMatcher.Builder<Trigger> builder = AhoCorasickMatcher.builder();
+            int count = 0;
+            for (String line : content.lines().toList()) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t", 2);
+                if (columns.length != 2 || columns[1].isBlank()) {
+                    throw new IllegalStateException("Invalid lexicon line: " + line);
+                }
+                String phrase = columns[1].strip();
+                builder.add(phrase, new Trigger(columns[0].strip(), phrase.chars().allMatch(c -> c < 128)));
+                count++;
+            }
+            log.info("Cognitive distortion lexicon loaded - {} phrases", count);
+            return builder.build();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load " + LEXICON, e);
+        }
+    }
+
+    /**
+     * @param wordBounded 영문 구절 — 앞뒤가 영문자/숫자가 아닐 때만 매치 ("never"가 "nevertheless"에 걸리지 않도록)
+     */
+    private record Trigger(String type, boolean wordBounded) {
+    }
+}
@@ -0,0 +1,169 @@
+package com.greenkey20.innerorbit.ai.application.service;
+
+import com.greenkey20.innerorbit.ai.infrastructure.config.NavPromptDedupProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 항법 질문 유사 중복 판정 — 최근 이력 100개를 프롬프트에 모두 넣는 대신 로컬에서 걸러냄
+ *
+ * - 유사도: 공백·문장부호를 뺀 문자 3-gram 집합의 Jaccard (한글은 음절 단위라 형태소 분석 없이도 어순/조사 변화에 강함)
+ * - 프롬프트에는 최근 질문 중 서로 다른 질문 몇 개만 (exclusionSample)
+ * - 생성 결과가 이력과 유사하면 재생성 (pickDistinct)
+ *
+ * 지표: nav_prompt.exclusion.tokens.saved (추정), nav_prompt.near_duplicates, nav_prompt.regenerations
+ */
+@Slf4j
+@Component
+public class NavPromptDeduplicator {
+
+    private static final int SHINGLE_SIZE = 3;
+    private static final Pattern NON_CONTENT = Pattern.compile("[\\s\\p{Punct}\\p{IsPunctuation}]+");
+    private static final String EXCLUSION_LINE_PREFIX = "- ";
+
+    private final NavPromptDedupProperties properties;
+    private final Counter tokensSaved;
+    private final Counter nearDuplicates;
+    private final Counter regenerations;
+
+    public NavPromptDeduplicator(NavPromptDedupProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.tokensSaved = Counter.builder("nav_prompt.exclusion.tokens.saved")
+                .description("Estimated input tokens not sent because of exclusion sampling")
+                .register(meterRegistry);
+        this.nearDuplicates = Counter.builder("nav_prompt.near_duplicates")
+                .description("Generated nav prompts rejected as near-duplicates of history")
+                .register(meterRegistry);
+        this.regenerations = Counter.builder("nav_prompt.regenerations")
+                .description("Extra LLM calls made because a generated nav prompt was a near-duplicate")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 프롬프트용 제외 목록 — 최신순으로 훑으며 이미 고른 질문과 유사하지 않은 것만 exclusionSampleSize개까지
+     * 잘라낸 이력만큼의 입력 토큰 추정치를 지표로 기록
+     *
+     * @param recentPrompts 최신순 이력
+     */
+    public List<String> exclusionSample(List<String> recentPrompts) {
+        List<String> sample = new ArrayList<>();
+        List<Set<String>> sampleShingles = new ArrayList<>();
+        for (String prompt : recentPrompts) {
+            if (sample.size() >= properties.getExclusionSampleSize()) {
+                break;
+            }
+            Set<String> shingles = shingles(prompt);
+            if (sampleShingles.stream().noneMatch(s -> jaccard(s, shingles) >= properties.getSimilarityThreshold())) {
+                sample.add(prompt);
+                sampleShingles.add(shingles);
+            }
+        }
+        tokensSaved.increment(estimateTokens(recentPrompts) - estimateTokens(sample));
+        return sample;
+    }
+
+    public boolean isNearDuplicate(String candidate, Collection<String> history) {
+        return maxSimilarity(candidate, history) >= properties.getSimilarityThreshold();
+    }
+
+    /**
+     * 이력과 유사하지 않은 질문이 나올 때까지 최대 maxAttempts회 생성 — 끝까지 유사하면 가장 덜 유사한 질문
+     */
+    public String pickDistinct(Supplier<String> generator, Collection<String> history) {
+        String best = null;
+        double bestSimilarity = Double.MAX_VALUE;
+        for (int attempt = 1; attempt <= properties.getMaxAttempts(); attempt++) {
+            if (attempt > 1) {
+                regenerations.increment();
+            }
+            String candidate = generator.get();
+            double similarity = maxSimilarity(candidate, history);
+            if (similarity < bestSimilarity) {
+                best = candidate;
+                bestSimilarity = similarity;
+            }
+            if (similarity < properties.getSimilarityThreshold()) {
+                return candidate;
+            }
+            nearDuplicates.increment();
+            log.info("Generated nav prompt is a near-duplicate (similarity: {}), attempt {}/{}",
+                    similarity, attempt, properties.getMaxAttempts());
+        }
+        return best;
+    }
+
+    /**
+     * 후보 중 이력과도, 앞서 채택한 후보와도 유사하지 않은 것만 (순서 유지)
+     */
+    public List<String> filterDistinct(List<String> candidates, Collection<String> history) {
+        List<String> accepted = new ArrayList<>();
+        for (String candidate : candidates) {
+            if (isNearDuplicate(candidate, history) || isNearDuplicate(candidate, accepted)) {
+                nearDuplicates.increment();
+                continue;
+            }
+            accepted.add(candidate);
+        }
+        return accepted;
+    }
+
+    private double maxSimilarity(String candidate, Collection<String> history) {
+        Set<String> candidateShingles = shingles(candidate);
+        double max = 0;
+        for (String prompt : history) {
+            max = Math.max(max, jaccard(candidateShingles, shingles(prompt)));
+        }
+        return max;
+    }
+
+    static Set<String> shingles(String text) {
+        String normalized = NON_CONTENT.matcher(
+                Normalizer.normalize(text == null ? "" : text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT))
+                .replaceAll("");
+        Set<String> shingles = new HashSet<>();
+        if (normalized.length() <= SHINGLE_SIZE) {
+            if (!normalized.isEmpty()) {
+                shingles.add(normalized);
+            }
+            return shingles;
+        }
+        for (int i = 0; i + SHINGLE_SIZE <= normalized.length(); i++) {
+            shingles.add(normalized.substring(i, i + SHINGLE_SIZE));
+        }
+        return shingles;
+    }
+
+    static double jaccard(Set<String> a, Set<String> b) {
+        if (a.isEmpty() && b.isEmpty()) {
+            return 1.0;
+        }
+        int intersection = 0;
+        for (String shingle : a) {
+            if (b.contains(shingle)) {
+                intersection++;
+            }
+        }
+        return (double) intersection / (a.size() + b.size() - intersection);
+    }
+
+    /**
+     * 제외 목록 한 줄당 입력 토큰 대략치 — 한글 위주 문장은 문자 수의 절반 정도로 추정
+     */
+    private static double estimateTokens(List<String> prompts) {
+        return prompts.stream()
+                .mapToInt(prompt -> EXCLUSION_LINE_PREFIX.length() + prompt.length() + 1)
+                .sum() / 2.0;
+    }
+}
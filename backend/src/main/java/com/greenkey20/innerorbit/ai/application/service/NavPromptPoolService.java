@@ -0,0 +1,105 @@
+package com.greenkey20.innerorbit.ai.application.service;
+
+import com.greenkey20.innerorbit.ai.infrastructure.adapter.out.redis.NavPromptPoolRepository;
+import com.greenkey20.innerorbit.ai.infrastructure.config.NavPromptPoolProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+
+/**
+ * 항법 질문 풀 관리 — 요청 경로는 Redis LPOP 1회, LLM 생성은 항상 백그라운드(가상 스레드)
+ *
+ * - 풀이 비었으면 empty 반환 → 호출자가 실시간 생성, 동시에 보충 예약
+ * - 남은 수가 lowWatermark 미만이면 보충, stale이면 꺼낸 질문은 그대로 제공하고 새 질문으로 교체 (stale-while-revalidate)
+ * - 보충은 사용자·상황당 동시에 하나만 (Redis SET NX)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NavPromptPoolService {
+
+    private final NavPromptPoolRepository navPromptPoolRepository;
+    private final NavPromptPoolProperties properties;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * 풀에서 질문 하나 꺼내기
+     *
+     * @param producer 보충 시 호출 — 요청한 개수만큼 새 질문 생성 (LLM)
+     */
+    public Optional<String> take(Long userId, String situation, IntFunction<List<String>> producer) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        try {
+            Optional<String> prompt = navPromptPoolRepository.pop(userId, situation);
+            if (prompt.isEmpty()
+                    || !navPromptPoolRepository.isFresh(userId, situation)
+                    || navPromptPoolRepository.size(userId, situation) < properties.getLowWatermark()) {
+                refillAsync(userId, situation, producer);
+            }
+            return prompt;
+        } catch (Exception e) {
+            log.warn("Nav prompt pool unavailable, falling back to live generation - userId: {}, situation: {}: {}",
+                    userId, situation, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 보충 대기 중인 질문 — 새 질문 생성 시 중복 제외용
+     */
+    public List<String> pooledPrompts(Long userId, String situation) {
+        return navPromptPoolRepository.peekAll(userId, situation);
+    }
+
+    private void refillAsync(Long userId, String situation, IntFunction<List<String>> producer) {
+        if (!navPromptPoolRepository.tryStartRefill(userId, situation, properties.getRefillLockTtl())) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                refill(userId, situation, producer);
+            } catch (Exception e) {
+                log.warn("Nav prompt pool refill failed - userId: {}, situation: {}: {}",
+                        userId, situation, e.getMessage());
+            } finally {
+                navPromptPoolRepository.finishRefill(userId, situation);
+            }
+        });
+    }
+
+    private void refill(Long userId, String situation, IntFunction<List<String>> producer) {
+        boolean fresh = navPromptPoolRepository.isFresh(userId, situation);
+        long remaining = fresh ? navPromptPoolRepository.size(userId, situation) : 0;
+        int needed = (int) Math.max(0, properties.getSize() - remaining);
+        if (needed == 0) {
+            return;
+        }
+
+        List<String> prompts = producer.apply(needed);
+        if (prompts.isEmpty()) {
+            return;
+        }
+        if (!fresh) {
+            navPromptPoolRepository.clear(userId, situation);
+        }
+        navPromptPoolRepository.append(userId, situation, prompts, properties.getSize(), properties.getMaxAge());
+        navPromptPoolRepository.markFresh(userId, situation, properties.getFreshFor());
+        log.info("Nav prompt pool refilled - userId: {}, situation: {}, added: {}, stale replaced: {}",
+                userId, situation, prompts.size(), !fresh);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,63 @@
+package com.greenkey20.innerorbit.ai.infrastructure.adapter.in.scheduler;
+
+import com.greenkey20.innerorbit.ai.application.service.DistortionClassifierService;
+import com.greenkey20.innerorbit.ai.infrastructure.config.DistortionClassifierProperties;
+import com.greenkey20.innerorbit.common.lock.DistributedLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 로컬 인지왜곡 분류기 스케줄러
+ * - 학습: 기본 매일 04:00 — 분산 락을 잡은 한 노드만 학습해 모델 파일 갱신
+ * - 반영: reload-interval마다 모델 파일 변경 확인 (다른 노드가 학습한 모델)
+ * distortion-classifier.enabled=false면 아무것도 하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DistortionClassifierScheduler {
+
+    private static final String LOCK_KEY = "distortion-classifier:train:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(2);
+
+    private final DistortionClassifierService distortionClassifierService;
+    private final DistortionClassifierProperties properties;
+    private final DistributedLock distributedLock;
+
+    @Scheduled(cron = "${distortion-classifier.train-cron:0 0 4 * * *}")
+    public void train() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Optional<DistributedLock.LockHandle> lock;
+        try {
+            lock = distributedLock.tryLock(LOCK_KEY, LOCK_TTL);
+        } catch (Exception e) {
+            log.error("Failed to acquire distortion classifier training lock: {}", e.getMessage(), e);
+            return;
+        }
+        if (lock.isEmpty()) {
+            log.info("Distortion classifier training is running on another node, skipping");
+            return;
+        }
+
+        try (DistributedLock.LockHandle ignored = lock.get()) {
+            distortionClassifierService.train();
+        } catch (Exception e) {
+            log.error("Distortion classifier training failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${distortion-classifier.reload-interval:PT5M}")
+    public void reload() {
+        if (properties.isEnabled()) {
+            distortionClassifierService.reloadIfChanged();
+        }
+    }
+}
@@ -1,15 +1,24 @@
 package com.greenkey20.innerorbit.ai.infrastructure.adapter.in.web;
 
 import com.greenkey20.innerorbit.ai.application.port.in.AiUseCase;
+import com.greenkey20.innerorbit.ai.application.port.in.AnalysisStreamChunk;
+import com.greenkey20.innerorbit.ai.application.port.in.DistortionCandidate;
 import com.greenkey20.innerorbit.ai.infrastructure.adapter.in.web.dto.AnalyzeTextRequest;
+import com.greenkey20.innerorbit.ai.infrastructure.adapter.in.web.dto.DetectDistortionsRequest;
 import com.greenkey20.innerorbit.ai.infrastructure.adapter.in.web.dto.KeywordSuggestionRequest;
 import com.greenkey20.innerorbit.ai.infrastructure.adapter.in.web.dto.KeywordSuggestionResponse;
+import com.greenkey20.innerorbit.common.exception.BusinessException;
+import com.greenkey20.innerorbit.common.ratelimit.AiRateLimited;
 import com.greenkey20.innerorbit.log.infrastructure.adapter.out.ai.dto.AnalysisResult;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
@@ -29,6 +38,7 @@ public class AiController {
     /**
      * GET /api/ai/prompt?gravity=50&stability=50
      */
+    @AiRateLimited
     @GetMapping("/prompt")
     public ResponseEntity<Map<String, String>> generateDynamicPrompt(
             @RequestParam(defaultValue = "50") Integer gravity,
@@ -38,6 +48,9 @@ public class AiController {
         try {
             String prompt = aiUseCase.generateDynamicPrompt(gravity, stability);
             return ResponseEntity.ok(Map.of("prompt", prompt));
+        } catch (BusinessException e) {
+            // 과부하(429) 등 — GlobalExceptionHandler가 에러 코드대로 응답
+            throw e;
         } catch (Exception e) {
             log.error("Failed to generate dynamic prompt: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError()
@@ -49,6 +62,7 @@ public class AiController {
      * POST /api/ai/analyze-text
      * DB 저장 없이 텍스트만 분석 — Draft Preview, 외부 텍스트 분석, 개발 테스트용
      */
+    @AiRateLimited
     @PostMapping("/analyze-text")
     public ResponseEntity<?> analyzeText(@Valid @RequestBody AnalyzeTextRequest request) {
         log.info("Stateless text analysis requested - length: {}", request.getText().length());
@@ -59,6 +73,9 @@ public class AiController {
                     request.getStability()
             );
             return ResponseEntity.ok(result);
+        } catch (BusinessException e) {
+            // AI 호출 불가(503)/요청 마감 초과(504) — GlobalExceptionHandler가 에러 코드대로 응답
+            throw e;
         } catch (Exception e) {
             log.error("Failed to analyze text: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError()
@@ -66,9 +83,51 @@ public class AiController {
         }
     }
 
+    /**
+     * POST /api/ai/analyze-text/stream (SSE)
+     * event: candidates [로컬 탐지 후보] 1회 → event: token {"content": "..."} 반복 → event: result (AnalysisResult)
+     * 실패 시 event: error / 캐시 적중·LLM 생략 시 result만
+     * 요청 마감 초과 시 그때까지 보낸 token 뒤에 event: error (AI 응답 지연 메시지)
+     */
+    @AiRateLimited
+    @PostMapping(value = "/analyze-text/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamAnalyzeText(@Valid @RequestBody AnalyzeTextRequest request) {
+        log.info("Streaming text analysis requested - length: {}", request.getText().length());
+        return aiUseCase.streamTextAnalysis(request.getText(), request.getGravity(), request.getStability())
+                .map(this::toSseEvent)
+                .onErrorResume(e -> {
+                    log.error("Failed to stream text analysis: {}", e.getMessage(), e);
+                    String message = e instanceof BusinessException ? e.getMessage() : "텍스트 분석에 실패했습니다.";
+                    return Mono.just(ServerSentEvent.<Object>builder(Map.of("error", message))
+                            .event("error")
+                            .build());
+                });
+    }
+
+    private ServerSentEvent<Object> toSseEvent(AnalysisStreamChunk chunk) {
+        if (chunk.isCandidates()) {
+            return ServerSentEvent.<Object>builder(chunk.candidates()).event("candidates").build();
+        }
+        if (chunk.isResult()) {
+            return ServerSentEvent.<Object>builder(chunk.result()).event("result").build();
+        }
+        return ServerSentEvent.<Object>builder(Map.of("content", chunk.token())).event("token").build();
+    }
+
+    /**
+     * POST /api/ai/detect-distortions
+     * 로컬 어휘 매칭 인지왜곡 후보 — LLM 호출 없이 즉시 응답 (입력 중 하이라이트)
+     */
+    @PostMapping("/detect-distortions")
+    public ResponseEntity<Map<String, List<DistortionCandidate>>> detectDistortions(
+            @Valid @RequestBody DetectDistortionsRequest request) {
+        return ResponseEntity.ok(Map.of("candidates", aiUseCase.detectDistortionCandidates(request.getText())));
+    }
+
     /**
      * POST /api/ai/insights/suggest-keywords
      */
+    @AiRateLimited
     @PostMapping("/insights/suggest-keywords")
     public ResponseEntity<?> suggestKeywords(@Valid @RequestBody KeywordSuggestionRequest request) {
         log.info("Suggesting CS keywords for trigger: {}", request.getTrigger().substring(0, Math.min(50, request.getTrigger().length())));
@@ -79,6 +138,8 @@ public class AiController {
                     .keywords(keywords)
                     .build();
             return ResponseEntity.ok(response);
+        } catch (BusinessException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Failed to suggest keywords: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError()
@@ -0,0 +1,19 @@
+package com.greenkey20.innerorbit.ai.infrastructure.adapter.in.web.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+/**
+ * 로컬 인지왜곡 후보 탐지 요청 DTO — 입력 중 하이라이트용
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DetectDistortionsRequest {
+
+    @NotNull(message = "텍스트는 필수입니다")
+    @Size(max = 10000, message = "텍스트는 10000자를 초과할 수 없습니다")
+    private String text;
+}
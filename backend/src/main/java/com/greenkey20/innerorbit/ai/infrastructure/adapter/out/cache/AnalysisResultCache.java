@@ -0,0 +1,106 @@
+package com.greenkey20.innerorbit.ai.infrastructure.adapter.out.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.greenkey20.innerorbit.ai.infrastructure.config.AnalysisCacheProperties;
+import com.greenkey20.innerorbit.log.infrastructure.adapter.out.ai.dto.AnalysisResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 인지왜곡 분석 결과 2단 캐시 — 같은 입력(AnalysisFingerprint)이면 LLM 재호출 없이 반환
+ *
+ * L1: 인스턴스 로컬 Caffeine (크기 제한 + TTL)
+ * L2: Redis String (JSON) — Key 구조: ai:analysis:{fingerprint}
+ * Redis 장애 시 캐시만 건너뛰고 분석은 그대로 진행
+ * 반환 객체는 여러 요청이 공유하므로 호출자는 수정하지 않고 변환만 해야 함
+ */
+@Component
+@Slf4j
+public class AnalysisResultCache {
+
+    private static final String KEY_PREFIX = "ai:analysis:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final AnalysisCacheProperties properties;
+    private final Cache<String, AnalysisResult> localCache;
+
+    public AnalysisResultCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                               AnalysisCacheProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaxSize())
+                .expireAfterWrite(properties.getLocalTtl())
+                .build();
+    }
+
+    public AnalysisResult getOrCompute(String fingerprint, Supplier<AnalysisResult> loader) {
+        AnalysisResult cached = getIfPresent(fingerprint);
+        if (cached != null) {
+            return cached;
+        }
+
+        AnalysisResult computed = loader.get();
+        put(fingerprint, computed);
+        return computed;
+    }
+
+    /**
+     * L1 → L2 순서로 조회, L2 적중 시 L1에도 적재. 없거나 캐시 비활성이면 null
+     */
+    public AnalysisResult getIfPresent(String fingerprint) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+
+        AnalysisResult local = localCache.getIfPresent(fingerprint);
+        if (local != null) {
+            log.debug("Analysis cache hit (local) - {}", fingerprint);
+            return local;
+        }
+
+        AnalysisResult shared = readShared(fingerprint);
+        if (shared != null) {
+            log.debug("Analysis cache hit (redis) - {}", fingerprint);
+            localCache.put(fingerprint, shared);
+        }
+        return shared;
+    }
+
+    /**
+     * 스트리밍 분석처럼 loader 밖에서 완성된 결과를 적재할 때 사용
+     */
+    public void put(String fingerprint, AnalysisResult result) {
+        if (!properties.isEnabled() || result == null) {
+            return;
+        }
+        localCache.put(fingerprint, result);
+        writeShared(fingerprint, result);
+    }
+
+    private AnalysisResult readShared(String fingerprint) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + fingerprint);
+            return json != null ? objectMapper.readValue(json, AnalysisResult.class) : null;
+        } catch (Exception e) {
+            log.warn("Failed to read analysis cache from Redis: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeShared(String fingerprint, AnalysisResult result) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + fingerprint,
+                    objectMapper.writeValueAsString(result), properties.getRedisTtl());
+        } catch (Exception e) {
+            log.warn("Failed to write analysis cache to Redis: {}", e.getMessage());
+        }
+    }
+}
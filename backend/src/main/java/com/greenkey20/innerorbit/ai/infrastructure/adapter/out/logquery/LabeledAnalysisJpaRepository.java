@@ -0,0 +1,35 @@
+package com.greenkey20.innerorbit.ai.infrastructure.adapter.out.logquery;
+
+import com.greenkey20.innerorbit.log.infrastructure.adapter.out.persistence.entity.LogEntryJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 분류기 학습 전용 log_entries 조회 — 본문과 분석 결과만 projection으로 조회
+ */
+@Repository
+public interface LabeledAnalysisJpaRepository extends JpaRepository<LogEntryJpaEntity, Long> {
+
+    /**
+     * 최신순 스트리밍 — 호출 측에서 필요한 만큼만 읽고 닫음 (읽기 트랜잭션 안에서만 사용)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT l.id AS id, l.content AS content, l.analysisResult AS analysisResult " +
+           "FROM LogEntryJpaEntity l " +
+           "WHERE l.analysisResult IS NOT NULL " +
+           "ORDER BY l.id DESC")
+    Stream<AnalyzedLogRow> streamAnalyzed();
+
+    interface AnalyzedLogRow {
+        Long getId();
+        String getContent();
+        Map<String, Object> getAnalysisResult();
+    }
+}
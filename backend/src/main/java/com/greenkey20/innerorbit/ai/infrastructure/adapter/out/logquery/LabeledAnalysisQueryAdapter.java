@@ -0,0 +1,53 @@
+package com.greenkey20.innerorbit.ai.infrastructure.adapter.out.logquery;
+
+import com.greenkey20.innerorbit.ai.application.port.out.LabeledAnalysis;
+import com.greenkey20.innerorbit.ai.application.port.out.LabeledAnalysisQueryPort;
+import com.greenkey20.innerorbit.ai.infrastructure.adapter.out.logquery.LabeledAnalysisJpaRepository.AnalyzedLogRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * LabeledAnalysisQueryPort 구현체 — analysis_result JSONB를 유형 이름 목록으로 변환
+ * 형식이 맞지 않는 결과(distortions 누락 등)는 라벨로 쓰지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class LabeledAnalysisQueryAdapter implements LabeledAnalysisQueryPort {
+
+    private final LabeledAnalysisJpaRepository labeledAnalysisJpaRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamLabeledAnalyses(int limit, Consumer<LabeledAnalysis> consumer) {
+        try (Stream<AnalyzedLogRow> rows = labeledAnalysisJpaRepository.streamAnalyzed()) {
+            rows.map(this::toLabeledAnalysis)
+                    .filter(Objects::nonNull)
+                    .limit(limit)
+                    .forEach(consumer);
+        }
+    }
+
+    private LabeledAnalysis toLabeledAnalysis(AnalyzedLogRow row) {
+        Map<String, Object> result = row.getAnalysisResult();
+        if (row.getContent() == null || row.getContent().isBlank()
+                || !(result.get("distortions") instanceof List<?> distortions)) {
+            return null;
+        }
+        List<String> types = new ArrayList<>();
+        for (Object distortion : distortions) {
+            if (distortion instanceof Map<?, ?> map && map.get("type") instanceof String type && !type.isBlank()) {
+                types.add(type);
+            }
+        }
+        Object reframed = result.get("reframed");
+        return new LabeledAnalysis(row.getId(), row.getContent(), types, reframed instanceof String s ? s : null);
+    }
+}
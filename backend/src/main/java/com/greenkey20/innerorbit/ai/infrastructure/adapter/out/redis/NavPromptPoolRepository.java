@@ -0,0 +1,81 @@
+package com.greenkey20.innerorbit.ai.infrastructure.adapter.out.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 미리 생성해 둔 항법 질문 풀 — 요청 경로에서는 LPOP만 수행
+ *
+ * Key 구조:
+ * - nav:pool:{userId}:{situation} — 아직 보여주지 않은 질문 (Redis List, 앞에서부터 소비)
+ * - nav:pool:fresh:{userId}:{situation} — 신선도 표식. 만료되면 풀은 stale (제공은 하되 백그라운드 재생성)
+ * - nav:pool:refill:{userId}:{situation} — 재생성 중 표식 (SET NX) — 인스턴스 간 중복 생성 방지
+ */
+@Repository
+@RequiredArgsConstructor
+public class NavPromptPoolRepository {
+
+    private static final String POOL_PREFIX = "nav:pool:";
+    private static final String FRESH_PREFIX = "nav:pool:fresh:";
+    private static final String REFILL_PREFIX = "nav:pool:refill:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public Optional<String> pop(Long userId, String situation) {
+        return Optional.ofNullable(redisTemplate.opsForList().leftPop(poolKey(userId, situation)));
+    }
+
+    public long size(Long userId, String situation) {
+        Long size = redisTemplate.opsForList().size(poolKey(userId, situation));
+        return size != null ? size : 0;
+    }
+
+    public List<String> peekAll(Long userId, String situation) {
+        List<String> prompts = redisTemplate.opsForList().range(poolKey(userId, situation), 0, -1);
+        return prompts != null ? prompts : Collections.emptyList();
+    }
+
+    /**
+     * 풀 뒤에 추가 후 maxSize로 자름 — 풀 전체 수명은 maxAge (오래 접속하지 않은 사용자의 풀 정리)
+     */
+    public void append(Long userId, String situation, List<String> prompts, int maxSize, Duration maxAge) {
+        String key = poolKey(userId, situation);
+        redisTemplate.opsForList().rightPushAll(key, prompts);
+        redisTemplate.opsForList().trim(key, 0, maxSize - 1);
+        redisTemplate.expire(key, maxAge);
+    }
+
+    public void clear(Long userId, String situation) {
+        redisTemplate.delete(poolKey(userId, situation));
+    }
+
+    public boolean isFresh(Long userId, String situation) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(FRESH_PREFIX + userId + ":" + situation));
+    }
+
+    public void markFresh(Long userId, String situation, Duration freshFor) {
+        redisTemplate.opsForValue().set(FRESH_PREFIX + userId + ":" + situation, "1", freshFor);
+    }
+
+    /**
+     * 재생성 시작 표식 획득 — 실패 시 다른 요청/인스턴스가 이미 재생성 중. TTL은 작업이 중간에 죽었을 때의 안전장치
+     */
+    public boolean tryStartRefill(Long userId, String situation, Duration ttl) {
+        return Boolean.TRUE.equals(
+                redisTemplate.opsForValue().setIfAbsent(REFILL_PREFIX + userId + ":" + situation, "1", ttl));
+    }
+
+    public void finishRefill(Long userId, String situation) {
+        redisTemplate.delete(REFILL_PREFIX + userId + ":" + situation);
+    }
+
+    private String poolKey(Long userId, String situation) {
+        return POOL_PREFIX + userId + ":" + situation;
+    }
+}
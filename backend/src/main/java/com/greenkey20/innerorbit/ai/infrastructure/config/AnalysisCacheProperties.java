@@ -0,0 +1,30 @@
+package com.greenkey20.innerorbit.ai.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 인지왜곡 분석 결과 캐시 설정 (analysis-cache.*)
+ */
+@Component
+@ConfigurationProperties(prefix = "analysis-cache")
+@Getter
+@Setter
+public class AnalysisCacheProperties {
+
+    /** false면 매번 LLM 호출 */
+    private boolean enabled = true;
+
+    /** 인스턴스 로컬 캐시 최대 항목 수 — 초과 시 사용 빈도 낮은 항목부터 제거 */
+    private long localMaxSize = 1_000;
+
+    /** 로컬 캐시 항목 유지 시간 */
+    private Duration localTtl = Duration.ofHours(1);
+
+    /** Redis 공유 캐시 항목 유지 시간 — 인스턴스 간/재시작 후에도 재사용 */
+    private Duration redisTtl = Duration.ofDays(7);
+}
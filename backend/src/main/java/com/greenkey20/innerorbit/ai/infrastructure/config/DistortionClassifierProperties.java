@@ -0,0 +1,47 @@
+package com.greenkey20.innerorbit.ai.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 로컬 인지왜곡 분류기 설정 (distortion-classifier.*)
+ */
+@Component
+@ConfigurationProperties(prefix = "distortion-classifier")
+@Getter
+@Setter
+public class DistortionClassifierProperties {
+
+    /** false면 학습/로컬 응답 모두 하지 않고 항상 LLM 분석 */
+    private boolean enabled = false;
+
+    /** 모델 파일 경로 — 여러 인스턴스가 같은 모델을 쓰려면 공유 볼륨 경로 */
+    private String modelPath = "data/models/distortion-classifier.bin";
+
+    /** "왜곡 없음" 확률이 이 값 이상일 때만 LLM 없이 응답 */
+    private double confidenceThreshold = 0.95;
+
+    /** held-out 평가에서 로컬 응답 정밀도가 이 값 미만이면 새 모델을 반영하지 않음 */
+    private double minLocalPrecision = 0.97;
+
+    /** held-out 비율 (%) — 로그 id 기준으로 고정 분할 */
+    private int holdoutPercent = 20;
+
+    /** 학습 최소/최대 건수 (최신순) */
+    private int minTrainingSamples = 500;
+    private int maxTrainingSamples = 50_000;
+
+    /** 특징 해시 공간 크기 (2^bits) */
+    private int dimensionBits = 18;
+
+    private int epochs = 10;
+    private double learningRate = 0.5;
+    private double l2 = 1e-6;
+
+    /** 다른 인스턴스가 갱신한 모델 파일 확인 주기 */
+    private Duration reloadInterval = Duration.ofMinutes(5);
+}
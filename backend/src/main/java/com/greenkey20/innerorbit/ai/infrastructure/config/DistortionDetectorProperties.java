@@ -0,0 +1,22 @@
+package com.greenkey20.innerorbit.ai.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 인지왜곡 사전 탐지 설정 (distortion-detector.*)
+ */
+@Component
+@ConfigurationProperties(prefix = "distortion-detector")
+@Getter
+@Setter
+public class DistortionDetectorProperties {
+
+    /** true면 짧고 트리거 어휘가 없는 글은 LLM 호출 없이 "왜곡 없음"으로 응답 */
+    private boolean skipLlm = true;
+
+    /** LLM 생략 대상 최대 길이 (문자 수, 앞뒤 공백 제외) */
+    private int skipLlmMaxLength = 80;
+}
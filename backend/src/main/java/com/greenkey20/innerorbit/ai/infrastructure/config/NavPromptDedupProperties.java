@@ -0,0 +1,25 @@
+package com.greenkey20.innerorbit.ai.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 항법 질문 유사 중복 판정 설정 (nav-prompt-dedup.*)
+ */
+@Component
+@ConfigurationProperties(prefix = "nav-prompt-dedup")
+@Getter
+@Setter
+public class NavPromptDedupProperties {
+
+    /** 문자 3-gram Jaccard 유사도가 이 값 이상이면 같은 질문으로 간주 */
+    private double similarityThreshold = 0.6;
+
+    /** 프롬프트에 넣는 제외 질문 수 — 나머지 이력은 로컬 유사도 검사로만 걸러냄 */
+    private int exclusionSampleSize = 10;
+
+    /** 실시간 생성 시 최대 시도 횟수 — 모두 유사하면 그중 가장 덜 유사한 질문 사용 */
+    private int maxAttempts = 3;
+}
@@ -0,0 +1,36 @@
+package com.greenkey20.innerorbit.ai.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 항법 질문 사전 생성 풀 설정 (nav-prompt-pool.*)
+ */
+@Component
+@ConfigurationProperties(prefix = "nav-prompt-pool")
+@Getter
+@Setter
+public class NavPromptPoolProperties {
+
+    /** false면 매 요청 LLM 실시간 생성 */
+    private boolean enabled = true;
+
+    /** 사용자·상황별로 채워 두는 질문 수 */
+    private int size = 5;
+
+    /** 꺼낸 뒤 남은 질문이 이 수보다 적으면 백그라운드 보충 */
+    private int lowWatermark = 2;
+
+    /** 생성 후 이 시간이 지나면 stale — 제공은 계속하되 백그라운드에서 새 질문으로 교체 */
+    private Duration freshFor = Duration.ofHours(12);
+
+    /** 풀 자체 보관 기간 — 이 기간 동안 조회가 없으면 풀 삭제 */
+    private Duration maxAge = Duration.ofDays(3);
+
+    /** 재생성 중 표식 유지 시간 — 재생성 작업이 비정상 종료됐을 때 다음 보충까지의 최대 지연 */
+    private Duration refillLockTtl = Duration.ofMinutes(2);
+}
@@ -15,4 +15,10 @@ public interface UserRepository {
     User save(User user);
 
     List<User> findAll();
+
+    /**
+     * keyset 페이지 조회 — lastId보다 큰 사용자 id를 오름차순으로 최대 limit개 (id만 조회)
+     * id % shardCount == shardIndex 인 사용자만 (shardCount=1이면 전체)
+     */
+    List<Long> findIdsAfter(Long lastId, int limit, int shardIndex, int shardCount);
 }
@@ -1,9 +1,13 @@
 package com.greenkey20.innerorbit.auth.infrastructure.adapter.out.persistence;
 
 import com.greenkey20.innerorbit.auth.infrastructure.adapter.out.persistence.entity.UserJpaEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -13,4 +17,11 @@ import java.util.Optional;
 public interface UserJpaRepository extends JpaRepository<UserJpaEntity, Long> {
 
     Optional<UserJpaEntity> findByUsername(String username);
+
+    @Query("SELECT u.id FROM UserJpaEntity u " +
+           "WHERE u.id > :lastId AND MOD(u.id, :shardCount) = :shardIndex ORDER BY u.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId,
+                            @Param("shardIndex") int shardIndex,
+                            @Param("shardCount") int shardCount,
+                            Limit limit);
 }
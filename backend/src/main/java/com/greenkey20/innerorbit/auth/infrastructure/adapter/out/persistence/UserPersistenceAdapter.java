@@ -4,6 +4,7 @@ import com.greenkey20.innerorbit.auth.application.port.out.UserRepository;
 import com.greenkey20.innerorbit.auth.domain.model.User;
 import com.greenkey20.innerorbit.auth.infrastructure.adapter.out.persistence.entity.UserJpaEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -40,6 +41,11 @@ public class UserPersistenceAdapter implements UserRepository {
                 .toList();
     }
 
+    @Override
+    public List<Long> findIdsAfter(Long lastId, int limit, int shardIndex, int shardCount) {
+        return userJpaRepository.findIdsAfter(lastId, shardIndex, shardCount, Limit.of(limit));
+    }
+
     private User toDomainModel(UserJpaEntity entity) {
         return User.builder()
                 .id(entity.getId())
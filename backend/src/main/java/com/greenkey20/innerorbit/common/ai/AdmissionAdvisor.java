@@ -0,0 +1,109 @@
+package com.greenkey20.innerorbit.common.ai;
+
+import com.greenkey20.innerorbit.common.deadline.RequestDeadline;
+import com.greenkey20.innerorbit.common.exception.BusinessException;
+import com.greenkey20.innerorbit.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
+import org.springframework.core.Ordered;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 모든 LLM 호출을 AiAdmissionController에 입장시킨 뒤 진행하는 advisor
+ *
+ * 우선순위: 호출부가 advisor 파라미터 AiAdmissionController.PRIORITY로 명시
+ * (사용자 요청/분석 작업 큐는 INTERACTIVE, 스케줄러 배치와 풀 보충은 BATCH) — 빠뜨린 호출은 INTERACTIVE로 입장
+ * 대기 시간은 우선순위별 maxWait과 요청 마감 중 짧은 쪽
+ */
+@Slf4j
+public class AdmissionAdvisor implements CallAdvisor, StreamAdvisor {
+
+    private final ChatClientPurpose purpose;
+    private final AiAdmissionController controller;
+
+    public AdmissionAdvisor(ChatClientPurpose purpose, AiAdmissionController controller) {
+        this.purpose = purpose;
+        this.controller = controller;
+    }
+
+    @Override
+    public ChatClientResponse adviseCall(ChatClientRequest request, CallAdvisorChain chain) {
+        try (AiAdmissionController.Permit ignored = acquire(priorityOf(request))) {
+            return chain.nextCall(request);
+        }
+    }
+
+    private AiAdmissionController.Permit acquire(AiPriority priority) {
+        CompletableFuture<AiAdmissionController.Permit> admission = controller.admit(priority);
+        try {
+            return admission.get(maxWait(priority).toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            controller.abandon(priority, admission);
+            throw controller.overloaded();
+        } catch (InterruptedException e) {
+            controller.release(priority, admission);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.AI_TIMEOUT, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public Flux<ChatClientResponse> adviseStream(ChatClientRequest request, StreamAdvisorChain chain) {
+        AiPriority priority = priorityOf(request);
+        Duration maxWait = maxWait(priority);
+        return Flux.defer(() -> {
+            CompletableFuture<AiAdmissionController.Permit> admission = controller.admit(priority);
+            return Mono.fromFuture(admission, true)
+                    .timeout(maxWait)
+                    .onErrorMap(TimeoutException.class, e -> {
+                        controller.abandon(priority, admission);
+                        return controller.overloaded();
+                    })
+                    .doOnCancel(() -> controller.release(priority, admission))
+                    .flatMapMany(permit -> chain.nextStream(request).doFinally(signal -> permit.close()));
+        });
+    }
+
+    private AiPriority priorityOf(ChatClientRequest request) {
+        if (request.context().get(AiAdmissionController.PRIORITY) instanceof AiPriority priority) {
+            return priority;
+        }
+        log.debug("AI call without admission priority, admitting as INTERACTIVE - purpose={}", purpose);
+        return AiPriority.INTERACTIVE;
+    }
+
+    private Duration maxWait(AiPriority priority) {
+        Duration maxWait = controller.maxWait(priority);
+        Optional<Duration> remaining = RequestDeadline.current().map(RequestDeadline::remaining);
+        return remaining.isPresent() && remaining.get().compareTo(maxWait) < 0 ? remaining.get() : maxWait;
+    }
+
+    @Override
+    public String getName() {
+        return "admissionAdvisor";
+    }
+
+    @Override
+    public int getOrder() {
+        // 지표/토큰 예산 advisor 안쪽, 마감 advisor 바깥 — 호출 스레드에서 요청 마감을 읽고 대기열 대기도 지연 지표에 포함
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+}
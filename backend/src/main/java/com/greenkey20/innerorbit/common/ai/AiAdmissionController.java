@@ -0,0 +1,213 @@
+package com.greenkey20.innerorbit.common.ai;
+
+import com.greenkey20.innerorbit.common.config.AiAdmissionProperties;
+import com.greenkey20.innerorbit.common.exception.ErrorCode;
+import com.greenkey20.innerorbit.common.ratelimit.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * LLM 호출 입장 제어 — 인스턴스 전체 동시 호출을 maxInFlight로 제한하고, 자리가 없으면 우선순위별 대기열에서 대기
+ *
+ * 자리가 나면 CRISIS → INTERACTIVE → BATCH 순으로, 같은 우선순위 안에서는 먼저 온 순서대로 넘겨줌
+ * 대기열이 가득 찼거나 maxWait(또는 요청 마감) 안에 자리가 나지 않으면 AI_OVERLOADED (429 + Retry-After)
+ * — 과부하 시 요청이 끝없이 쌓이지 않고 빨리 실패
+ * 용도별 벌크헤드(ResilienceAdvisor)는 그 안쪽에서 그대로 적용
+ *
+ * 지표: ai.admission.in_flight, ai.admission.queue.depth{priority}, ai.admission.wait{priority},
+ *       ai.admission.rejected{priority, reason=queue_full|timeout}
+ */
+@Component
+@Slf4j
+public class AiAdmissionController {
+
+    /** advisor 파라미터 — 호출부마다 AiPriority 값을 명시 (없으면 INTERACTIVE) */
+    public static final String PRIORITY = "aiPriority";
+
+    private final AiAdmissionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<AiPriority, ArrayDeque<Waiter>> queues = new EnumMap<>(AiPriority.class);
+    private final Map<AiPriority, Timer> waitTimers = new EnumMap<>(AiPriority.class);
+    private int inFlight;
+
+    public AiAdmissionController(AiAdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        for (AiPriority priority : AiPriority.values()) {
+            ArrayDeque<Waiter> queue = new ArrayDeque<>();
+            queues.put(priority, queue);
+            String tag = priority.name().toLowerCase();
+            Gauge.builder("ai.admission.queue.depth", this, controller -> controller.queueDepth(priority))
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+            waitTimers.put(priority, Timer.builder("ai.admission.wait")
+                    .tag("priority", tag)
+                    .publishPercentiles(0.5, 0.95)
+                    .register(meterRegistry));
+        }
+        Gauge.builder("ai.admission.in_flight", this, AiAdmissionController::inFlight)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 입장 요청 — 바로 입장하면 완료된 future, 아니면 자리가 날 때 완료되는 future
+     * 대기열이 가득 찼으면 AI_OVERLOADED로 실패한 future
+     * 대기를 포기할 때는 abandon()/release(), 입장한 호출이 끝나면 Permit.close()
+     */
+    public CompletableFuture<Permit> admit(AiPriority priority) {
+        if (!properties.isEnabled()) {
+            return CompletableFuture.completedFuture(Permit.NOOP);
+        }
+        lock.lock();
+        try {
+            if (inFlight < properties.getMaxInFlight() && !hasWaitersAtOrAbove(priority)) {
+                inFlight++;
+                waitTimers.get(priority).record(0, TimeUnit.NANOSECONDS);
+                return CompletableFuture.completedFuture(new Permit(this));
+            }
+            ArrayDeque<Waiter> queue = queues.get(priority);
+            if (queue.size() >= properties.queue(priority).getMaxQueued()) {
+                rejected(priority, "queue_full");
+                return CompletableFuture.failedFuture(overloaded());
+            }
+            Waiter waiter = new Waiter(System.nanoTime(), new CompletableFuture<>());
+            queue.addLast(waiter);
+            return waiter.future();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 대기 시간 초과 — 대기열에서 빼고, 그 사이에 입장했다면 자리를 바로 돌려줌
+     */
+    public void abandon(AiPriority priority, CompletableFuture<Permit> admission) {
+        release(priority, admission);
+        rejected(priority, "timeout");
+    }
+
+    /**
+     * 호출 측 취소(인터럽트, 스트림 구독 취소) — 아직 대기 중이면 대기열에서 빼고, 입장했다면 자리 반환
+     * Permit.close()는 한 번만 반영되므로 호출이 진행 중이어도 안전
+     */
+    public void release(AiPriority priority, CompletableFuture<Permit> admission) {
+        lock.lock();
+        try {
+            queues.get(priority).removeIf(waiter -> waiter.future() == admission);
+        } finally {
+            lock.unlock();
+        }
+        if (!admission.cancel(false) && !admission.isCompletedExceptionally()) {
+            admission.join().close();
+        }
+    }
+
+    public Duration maxWait(AiPriority priority) {
+        return properties.queue(priority).getMaxWait();
+    }
+
+    public RateLimitExceededException overloaded() {
+        return new RateLimitExceededException(ErrorCode.AI_OVERLOADED, properties.getRetryAfter());
+    }
+
+    /**
+     * 자리 반환 — 대기 중인 호출이 있으면 우선순위 순으로 바로 넘겨줌 (inFlight 유지)
+     */
+    private void handOff() {
+        lock.lock();
+        try {
+            for (AiPriority priority : AiPriority.values()) {
+                ArrayDeque<Waiter> queue = queues.get(priority);
+                Waiter waiter;
+                while ((waiter = queue.pollFirst()) != null) {
+                    if (waiter.future().complete(new Permit(this))) {
+                        waitTimers.get(priority).record(System.nanoTime() - waiter.enqueuedAt(), TimeUnit.NANOSECONDS);
+                        return;
+                    }
+                }
+            }
+            inFlight--;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean hasWaitersAtOrAbove(AiPriority priority) {
+        for (AiPriority p : AiPriority.values()) {
+            if (!queues.get(p).isEmpty()) {
+                return true;
+            }
+            if (p == priority) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private double queueDepth(AiPriority priority) {
+        lock.lock();
+        try {
+            return queues.get(priority).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void rejected(AiPriority priority, String reason) {
+        log.warn("LLM call rejected by admission control - priority={}, reason={}", priority, reason);
+        Counter.builder("ai.admission.rejected")
+                .tag("priority", priority.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record Waiter(long enqueuedAt, CompletableFuture<Permit> future) {
+    }
+
+    /**
+     * 입장권 — 호출이 끝나면 한 번만 close
+     */
+    public static final class Permit implements AutoCloseable {
+
+        static final Permit NOOP = new Permit(null);
+
+        private final AiAdmissionController controller;
+        private boolean released;
+
+        private Permit(AiAdmissionController controller) {
+            this.controller = controller;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (released || controller == null) {
+                return;
+            }
+            released = true;
+            controller.handOff();
+        }
+    }
+}
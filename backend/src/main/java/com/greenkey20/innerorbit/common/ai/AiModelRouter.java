@@ -0,0 +1,101 @@
+package com.greenkey20.innerorbit.common.ai;
+
+import com.greenkey20.innerorbit.common.config.AiModelRoutingProperties;
+import com.greenkey20.innerorbit.common.config.AiModelRoutingProperties.PurposeRoutes;
+import com.greenkey20.innerorbit.common.config.AiModelRoutingProperties.Route;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 용도/입력 크기/위험도별 모델 선택 — 관측한 (용도, 모델)별 p95 지연으로 대체 모델 전환
+ *
+ * - 용도별 tiers 중 입력 길이에 맞는 첫 경로, 고위험 요청은 highStakes 경로
+ * - 경로에 latencyBudget이 있고 모델의 최근 p95가 이를 넘으면 fallbackModel 사용
+ *   (대체 중에는 원래 모델 측정값이 쌓이지 않으므로 latencyWindow가 지나면 자연스럽게 원래 모델로 복귀)
+ * - 지연은 용도별로 따로 기록 — 출력이 긴 주간 리포트의 gpt-4o 지연이 고위험 분석의 gpt-4o 예산 판단에 섞이지 않도록
+ * 타임아웃으로 끝난 호출은 타임아웃 값으로 기록 — 응답하지 않는 모델도 p95에 반영
+ *
+ * 지표: ai.routing.degraded{purpose}
+ */
+@Slf4j
+@Component
+public class AiModelRouter {
+
+    /** advisor 파라미터 — true면 highStakes 경로 */
+    public static final String HIGH_STAKES = "ai-routing.high-stakes";
+
+    private final AiModelRoutingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<LatencyKey, LatencyTracker> latencies = new ConcurrentHashMap<>();
+
+    public AiModelRouter(AiModelRoutingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 설정이 없거나 라우팅이 꺼져 있으면 empty — 호출 측은 기본 옵션 그대로 사용
+     */
+    public Optional<ModelRoute> route(ChatClientPurpose purpose, int inputChars, boolean highStakes) {
+        PurposeRoutes routes = properties.getPurposes().get(purpose);
+        if (!properties.isEnabled() || routes == null) {
+            return Optional.empty();
+        }
+        Route route = highStakes && routes.getHighStakes() != null
+                ? routes.getHighStakes()
+                : selectTier(routes, inputChars);
+        if (route == null || route.getModel() == null) {
+            return Optional.empty();
+        }
+
+        if (route.getLatencyBudget() != null && route.getFallbackModel() != null) {
+            Duration p95 = percentile95(purpose, route.getModel());
+            if (p95 != null && p95.compareTo(route.getLatencyBudget()) > 0) {
+                log.debug("Model {} p95 {}ms over budget {}ms for {}, routing to {}", route.getModel(),
+                        p95.toMillis(), route.getLatencyBudget().toMillis(), purpose, route.getFallbackModel());
+                Counter.builder("ai.routing.degraded")
+                        .tag("purpose", purpose.name().toLowerCase())
+                        .register(meterRegistry)
+                        .increment();
+                return Optional.of(new ModelRoute(
+                        route.getFallbackModel(), route.getMaxTokens(), route.getTimeout(), true));
+            }
+        }
+        return Optional.of(new ModelRoute(route.getModel(), route.getMaxTokens(), route.getTimeout(), false));
+    }
+
+    public void recordLatency(ChatClientPurpose purpose, String model, Duration latency) {
+        latencies.computeIfAbsent(new LatencyKey(purpose, model),
+                        key -> new LatencyTracker(properties.getLatencySamples(), properties.getLatencyWindow()))
+                .record(latency);
+    }
+
+    /**
+     * 용도별 모델의 최근 p95 — 측정값이 minSamples 미만이면 null
+     */
+    public Duration percentile95(ChatClientPurpose purpose, String model) {
+        LatencyTracker tracker = latencies.get(new LatencyKey(purpose, model));
+        return tracker != null ? tracker.percentile95(properties.getMinSamples()) : null;
+    }
+
+    private Route selectTier(PurposeRoutes routes, int inputChars) {
+        Route selected = null;
+        for (Route tier : routes.getTiers()) {
+            selected = tier;
+            if (tier.getMaxInputChars() == null || inputChars <= tier.getMaxInputChars()) {
+                break;
+            }
+        }
+        return selected;
+    }
+
+    private record LatencyKey(ChatClientPurpose purpose, String model) {
+    }
+}
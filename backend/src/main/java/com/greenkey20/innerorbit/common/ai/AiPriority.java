@@ -0,0 +1,16 @@
+package com.greenkey20.innerorbit.common.ai;
+
+/**
+ * LLM 호출 우선순위 — 선언 순서가 곧 우선순위 (앞일수록 먼저 입장)
+ */
+public enum AiPriority {
+
+    /** 위기(CRISIS) 상황 사용자의 항법 질문 */
+    CRISIS,
+
+    /** 사용자가 응답을 기다리는 요청 — HTTP 요청, 스트리밍, 분석 작업 큐, 주간 리포트 수동 생성 */
+    INTERACTIVE,
+
+    /** 주간 리포트/일별 요약 스케줄러, 항법 질문 풀 보충 등 백그라운드 작업 */
+    BATCH
+}
@@ -0,0 +1,108 @@
+package com.greenkey20.innerorbit.common.ai;
+
+import com.greenkey20.innerorbit.common.config.AiModelRoutingProperties;
+import com.greenkey20.innerorbit.common.config.AiResilienceProperties;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 용도별 서킷 브레이커/벌크헤드/지연 측정 보관 — ResilienceAdvisor가 사용
+ *
+ * - 브레이커: 용도마다 따로 (주간 리포트처럼 원래 느린 용도가 짧은 호출 용도의 브레이커를 열지 않도록)
+ * - 벌크헤드: 세마포어 방식, 호출 스레드에서 바로 실행
+ * - 지연: 성공한 호출만 기록, 헤지 지연(p95) 계산에 사용 — 구간/표본 수는 모델 라우팅(ai-routing.latency-*, min-samples)과
+ *   같은 값을 써서 헤지 지연과 라우팅의 p95 판단이 어긋나지 않음
+ *
+ * 지표: resilience4j.circuitbreaker.*{name=ai-<purpose>}, resilience4j.bulkhead.*{name=ai-<purpose>}
+ */
+@Slf4j
+@Component
+public class AiResilienceRegistry {
+
+    private final AiResilienceProperties properties;
+    private final AiModelRoutingProperties routingProperties;
+    private final Map<ChatClientPurpose, CircuitBreaker> circuitBreakers = new EnumMap<>(ChatClientPurpose.class);
+    private final Map<ChatClientPurpose, Bulkhead> bulkheads = new EnumMap<>(ChatClientPurpose.class);
+    private final Map<ChatClientPurpose, LatencyTracker> latencies = new EnumMap<>(ChatClientPurpose.class);
+
+    public AiResilienceRegistry(AiResilienceProperties properties, AiModelRoutingProperties routingProperties,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.routingProperties = routingProperties;
+        AiResilienceProperties.CircuitBreaker breaker = properties.getCircuitBreaker();
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+
+        for (ChatClientPurpose purpose : ChatClientPurpose.values()) {
+            AiResilienceProperties.Purpose config = properties.purpose(purpose);
+            String name = "ai-" + purpose.name().toLowerCase().replace('_', '-');
+
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name, CircuitBreakerConfig.custom()
+                    .failureRateThreshold(breaker.getFailureRateThreshold())
+                    .slowCallRateThreshold(breaker.getSlowCallRateThreshold())
+                    .slowCallDurationThreshold(config.getSlowCallDuration())
+                    .slidingWindowSize(breaker.getSlidingWindowSize())
+                    .minimumNumberOfCalls(breaker.getMinimumNumberOfCalls())
+                    .waitDurationInOpenState(breaker.getWaitDurationInOpenState())
+                    .permittedNumberOfCallsInHalfOpenState(breaker.getPermittedCallsInHalfOpenState())
+                    .build());
+            circuitBreaker.getEventPublisher().onStateTransition(event ->
+                    log.warn("AI circuit breaker {} state changed: {}", name, event.getStateTransition()));
+            circuitBreakers.put(purpose, circuitBreaker);
+
+            bulkheads.put(purpose, bulkheadRegistry.bulkhead(name, BulkheadConfig.custom()
+                    .maxConcurrentCalls(config.getMaxConcurrentCalls())
+                    .maxWaitDuration(config.getMaxWait())
+                    .build()));
+
+            latencies.put(purpose, new LatencyTracker(routingProperties.getLatencySamples(), routingProperties.getLatencyWindow()));
+        }
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public CircuitBreaker circuitBreaker(ChatClientPurpose purpose) {
+        return circuitBreakers.get(purpose);
+    }
+
+    public Bulkhead bulkhead(ChatClientPurpose purpose) {
+        return bulkheads.get(purpose);
+    }
+
+    public void recordLatency(ChatClientPurpose purpose, Duration latency) {
+        latencies.get(purpose).record(latency);
+    }
+
+    /**
+     * 헤지 지연 — 헤지 대상이 아니면 null. 최근 p95를 하한/상한으로 자르고, 측정값이 부족하면 상한
+     */
+    public Duration hedgeDelay(ChatClientPurpose purpose) {
+        AiResilienceProperties.Purpose config = properties.purpose(purpose);
+        if (!config.isHedge()) {
+            return null;
+        }
+        Duration p95 = latencies.get(purpose).percentile95(routingProperties.getMinSamples());
+        if (p95 == null || p95.compareTo(config.getHedgeMaxDelay()) > 0) {
+            return config.getHedgeMaxDelay();
+        }
+        return p95.compareTo(config.getHedgeMinDelay()) < 0 ? config.getHedgeMinDelay() : p95;
+    }
+}
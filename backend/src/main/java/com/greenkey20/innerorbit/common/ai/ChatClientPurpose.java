@@ -0,0 +1,33 @@
+package com.greenkey20.innerorbit.common.ai;
+
+/**
+ * ChatClient 용도 — 용도별 기본 옵션(temperature)
+ * temperature가 null이면 spring.ai.openai.chat.options 기본값 사용
+ */
+public enum ChatClientPurpose {
+
+    /** 인지왜곡 분석 (JSON 응답) */
+    ANALYSIS(null),
+
+    /** 항법 질문 생성 — 다양성을 위해 높게 */
+    NAV_PROMPT(0.9),
+
+    /** Insight Log CS 키워드 추천 */
+    KEYWORDS(0.8),
+
+    /** Insight Log 피드백 */
+    INSIGHT_FEEDBACK(0.7),
+
+    /** 주간 리포트 / 일별 요약 (JSON·요약 응답) */
+    WEEKLY_REPORT(null);
+
+    private final Double temperature;
+
+    ChatClientPurpose(Double temperature) {
+        this.temperature = temperature;
+    }
+
+    public Double temperature() {
+        return temperature;
+    }
+}
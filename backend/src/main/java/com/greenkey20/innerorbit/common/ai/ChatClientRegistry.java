@@ -0,0 +1,54 @@
+package com.greenkey20.innerorbit.common.ai;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 용도별 ChatClient 레지스트리 — 기동 시 한 번 생성해 모든 요청이 공유
+ *
+ * 요청마다 chatClientBuilder.build() 하던 비용(빌더 상태 복사, advisor/옵션 객체 생성)을 없애고,
+ * 공유 빌더에 defaultOptions(...)를 호출해 동시 요청 간 temperature가 섞이던 문제를 막기 위해
+ * 용도마다 빌더를 clone()한 뒤 옵션을 지정해 만든 불변 ChatClient를 보관
+ * HTTP 전송은 AiHttpClientConfig의 공유 커넥션 풀을 사용
+ * 모든 클라이언트에 용도 태그가 붙은 지연/캐시 적중 지표 advisor(ChatUsageMetricsAdvisor),
+ * 전체 동시 호출 상한/우선순위 대기열 advisor(AdmissionAdvisor),
+ * 요청 마감 초과/연결 끊김 시 호출 취소 advisor(RequestDeadlineAdvisor),
+ * 서킷 브레이커/벌크헤드/헤지 advisor(ResilienceAdvisor),
+ * 용도/입력 크기별 모델·최대 토큰·타임아웃 advisor(ModelRoutingAdvisor) 등록
+ */
+@Component
+@Slf4j
+public class ChatClientRegistry {
+
+    private final Map<ChatClientPurpose, ChatClient> clients = new EnumMap<>(ChatClientPurpose.class);
+
+    public ChatClientRegistry(ChatClient.Builder chatClientBuilder, MeterRegistry meterRegistry,
+                              AiModelRouter aiModelRouter, AiResilienceRegistry aiResilienceRegistry,
+                              AiAdmissionController aiAdmissionController) {
+        for (ChatClientPurpose purpose : ChatClientPurpose.values()) {
+            ChatClient.Builder builder = chatClientBuilder.clone()
+                    .defaultAdvisors(new ChatUsageMetricsAdvisor(purpose, meterRegistry),
+                            new AdmissionAdvisor(purpose, aiAdmissionController),
+                            new RequestDeadlineAdvisor(purpose, meterRegistry),
+                            new ResilienceAdvisor(purpose, aiResilienceRegistry, meterRegistry),
+                            new ModelRoutingAdvisor(purpose, aiModelRouter));
+            if (purpose.temperature() != null) {
+                builder.defaultOptions(OpenAiChatOptions.builder()
+                        .temperature(purpose.temperature())
+                        .build());
+            }
+            clients.put(purpose, builder.build());
+        }
+        log.info("ChatClient registry initialized - purposes: {}", clients.keySet());
+    }
+
+    public ChatClient get(ChatClientPurpose purpose) {
+        return clients.get(purpose);
+    }
+}
@@ -0,0 +1,99 @@
+package com.greenkey20.innerorbit.common.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.core.Ordered;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 용도별 LLM 호출 지연/프롬프트 캐시 적중 지표
+ *
+ * - ai.chat.latency{purpose} — 호출 전체 시간 (스트리밍은 마지막 토큰까지)
+ * - ai.chat.prompt.tokens{purpose} / ai.chat.prompt.cached.tokens{purpose}
+ *   → 캐시 적중률 = cached / prompt (제공자가 접두부 일치로 재사용한 입력 토큰 비율)
+ */
+public class ChatUsageMetricsAdvisor implements CallAdvisor, StreamAdvisor {
+
+    private final Timer latency;
+    private final Counter promptTokens;
+    private final Counter cachedPromptTokens;
+
+    public ChatUsageMetricsAdvisor(ChatClientPurpose purpose, MeterRegistry meterRegistry) {
+        String tag = purpose.name().toLowerCase();
+        this.latency = Timer.builder("ai.chat.latency")
+                .tag("purpose", tag)
+                .publishPercentiles(0.5, 0.95)
+                .register(meterRegistry);
+        this.promptTokens = Counter.builder("ai.chat.prompt.tokens")
+                .tag("purpose", tag)
+                .register(meterRegistry);
+        this.cachedPromptTokens = Counter.builder("ai.chat.prompt.cached.tokens")
+                .tag("purpose", tag)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ChatClientResponse adviseCall(ChatClientRequest request, CallAdvisorChain chain) {
+        long start = System.nanoTime();
+        try {
+            ChatClientResponse response = chain.nextCall(request);
+            recordUsage(response.chatResponse());
+            return response;
+        } finally {
+            latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public Flux<ChatClientResponse> adviseStream(ChatClientRequest request, StreamAdvisorChain chain) {
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            return chain.nextStream(request)
+                    .doOnNext(response -> recordUsage(response.chatResponse()))
+                    .doFinally(signal -> latency.record(
+                            System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    /**
+     * 스트리밍은 사용량이 마지막 청크에만 실려 오므로 0이 아닌 값만 누적
+     */
+    private void recordUsage(ChatResponse chatResponse) {
+        if (chatResponse == null || chatResponse.getMetadata() == null) {
+            return;
+        }
+        Usage usage = chatResponse.getMetadata().getUsage();
+        if (usage == null || usage.getPromptTokens() == null || usage.getPromptTokens() == 0) {
+            return;
+        }
+        promptTokens.increment(usage.getPromptTokens());
+        if (usage.getNativeUsage() instanceof OpenAiApi.Usage nativeUsage
+                && nativeUsage.promptTokensDetails() != null
+                && nativeUsage.promptTokensDetails().cachedTokens() != null) {
+            cachedPromptTokens.increment(nativeUsage.promptTokensDetails().cachedTokens());
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "chatUsageMetricsAdvisor";
+    }
+
+    @Override
+    public int getOrder() {
+        // 가장 바깥에서 감싸 다른 advisor 처리 시간까지 포함
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,50 @@
+package com.greenkey20.innerorbit.common.ai;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 최근 호출 지연 시간 링 버퍼 — 일정 구간 내 측정값으로 p95 계산
+ * 호출 한 번당 기록 한 번, 조회는 라우팅 시마다 — 수백 개 정렬이라 잠금 범위 안에서 계산해도 충분히 가벼움
+ */
+public class LatencyTracker {
+
+    private final long[] latencies;
+    private final long[] recordedAt;
+    private final long windowNanos;
+    private int next;
+    private int size;
+
+    public LatencyTracker(int capacity, Duration window) {
+        this.latencies = new long[capacity];
+        this.recordedAt = new long[capacity];
+        this.windowNanos = window.toNanos();
+    }
+
+    public synchronized void record(Duration latency) {
+        latencies[next] = latency.toNanos();
+        recordedAt[next] = System.nanoTime();
+        next = (next + 1) % latencies.length;
+        size = Math.min(size + 1, latencies.length);
+    }
+
+    /**
+     * 구간 내 측정값이 minSamples 미만이면 null
+     */
+    public synchronized Duration percentile95(int minSamples) {
+        long now = System.nanoTime();
+        long[] recent = new long[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (now - recordedAt[i] <= windowNanos) {
+                recent[count++] = latencies[i];
+            }
+        }
+        if (count == 0 || count < minSamples) {
+            return null;
+        }
+        Arrays.sort(recent, 0, count);
+        int index = (int) Math.ceil(count * 0.95) - 1;
+        return Duration.ofNanos(recent[index]);
+    }
+}
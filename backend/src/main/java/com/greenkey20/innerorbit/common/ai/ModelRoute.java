@@ -0,0 +1,13 @@
+package com.greenkey20.innerorbit.common.ai;
+
+import java.time.Duration;
+
+/**
+ * 라우팅 결과 — 한 번의 LLM 호출에 적용할 모델/최대 토큰/타임아웃
+ *
+ * @param maxTokens null이면 모델 기본값
+ * @param timeout   null이면 HTTP read-timeout만 적용
+ * @param degraded  지연 예산 초과로 대체 모델을 고른 경우
+ */
+public record ModelRoute(String model, Integer maxTokens, Duration timeout, boolean degraded) {
+}
@@ -0,0 +1,146 @@
+package com.greenkey20.innerorbit.common.ai;
+
+import com.greenkey20.innerorbit.common.exception.BusinessException;
+import com.greenkey20.innerorbit.common.exception.ErrorCode;
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.core.Ordered;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * AiModelRouter가 고른 모델/최대 토큰을 요청 옵션에 적용하고 타임아웃을 거는 advisor
+ * 호출 측(AiService, WeeklyReportAiAdapter)은 용도별 ChatClient만 쓰면 되고 모델 선택을 알 필요 없음
+ *
+ * - 입력 크기: 사용자 메시지 길이 합 (시스템 프롬프트는 용도별로 거의 고정이라 제외)
+ * - 고위험 여부: advisor 파라미터 AiModelRouter.HIGH_STAKES
+ * - 타임아웃: 동기 호출은 가상 스레드에서 실행 후 시간 초과 시 인터럽트, 스트리밍은 첫 토큰까지
+ * 지연 기록(p95)은 동기 호출만 — 스트리밍 전체 시간은 응답 길이에 좌우되어 모델 속도 지표로 쓰지 않음
+ */
+public class ModelRoutingAdvisor implements CallAdvisor, StreamAdvisor {
+
+    private static final ExecutorService CALL_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final ChatClientPurpose purpose;
+    private final AiModelRouter router;
+
+    public ModelRoutingAdvisor(ChatClientPurpose purpose, AiModelRouter router) {
+        this.purpose = purpose;
+        this.router = router;
+    }
+
+    @Override
+    public ChatClientResponse adviseCall(ChatClientRequest request, CallAdvisorChain chain) {
+        Optional<ModelRoute> route = routeFor(request);
+        if (route.isEmpty()) {
+            return chain.nextCall(request);
+        }
+        ModelRoute selected = route.get();
+        ChatClientRequest routed = withOptions(request, selected);
+
+        long start = System.nanoTime();
+        if (selected.timeout() == null) {
+            try {
+                return chain.nextCall(routed);
+            } finally {
+                router.recordLatency(purpose, selected.model(), Duration.ofNanos(System.nanoTime() - start));
+            }
+        }
+
+        Future<ChatClientResponse> future = CALL_EXECUTOR.submit(() -> chain.nextCall(routed));
+        try {
+            ChatClientResponse response = future.get(selected.timeout().toNanos(), TimeUnit.NANOSECONDS);
+            router.recordLatency(purpose, selected.model(), Duration.ofNanos(System.nanoTime() - start));
+            return response;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            router.recordLatency(purpose, selected.model(), selected.timeout());
+            throw new BusinessException(ErrorCode.AI_TIMEOUT,
+                    purpose + " call to " + selected.model() + " timed out after " + selected.timeout().toMillis() + "ms");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.AI_TIMEOUT, e);
+        } catch (ExecutionException e) {
+            router.recordLatency(purpose, selected.model(), Duration.ofNanos(System.nanoTime() - start));
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public Flux<ChatClientResponse> adviseStream(ChatClientRequest request, StreamAdvisorChain chain) {
+        Optional<ModelRoute> route = routeFor(request);
+        if (route.isEmpty()) {
+            return chain.nextStream(request);
+        }
+        ModelRoute selected = route.get();
+        Flux<ChatClientResponse> stream = chain.nextStream(withOptions(request, selected));
+        if (selected.timeout() == null) {
+            return stream;
+        }
+        return stream.timeout(Mono.delay(selected.timeout()), response -> Mono.never())
+                .onErrorMap(TimeoutException.class, e -> new BusinessException(ErrorCode.AI_TIMEOUT,
+                        purpose + " stream from " + selected.model() + " produced no token within "
+                                + selected.timeout().toMillis() + "ms"));
+    }
+
+    private Optional<ModelRoute> routeFor(ChatClientRequest request) {
+        int inputChars = request.prompt().getInstructions().stream()
+                .filter(message -> message.getMessageType() == MessageType.USER)
+                .map(Message::getText)
+                .mapToInt(text -> text != null ? text.length() : 0)
+                .sum();
+        boolean highStakes = Boolean.TRUE.equals(request.context().get(AiModelRouter.HIGH_STAKES));
+        return router.route(purpose, inputChars, highStakes);
+    }
+
+    /**
+     * 기존 옵션(용도별 temperature 등)은 유지하고 모델/최대 토큰만 덮어씀
+     */
+    private ChatClientRequest withOptions(ChatClientRequest request, ModelRoute route) {
+        ChatOptions current = request.prompt().getOptions();
+        OpenAiChatOptions options = current instanceof OpenAiChatOptions openAiOptions
+                ? openAiOptions.copy()
+                : OpenAiChatOptions.builder()
+                        .temperature(current != null ? current.getTemperature() : null)
+                        .build();
+        options.setModel(route.model());
+        if (route.maxTokens() != null) {
+            options.setMaxTokens(route.maxTokens());
+        }
+        Prompt prompt = request.prompt().mutate().chatOptions(options).build();
+        return request.mutate().prompt(prompt).build();
+    }
+
+    @Override
+    public String getName() {
+        return "modelRoutingAdvisor";
+    }
+
+    @Override
+    public int getOrder() {
+        // 지표/보호 advisor 안쪽 — 타임아웃이 브레이커 실패로 집계되고, 헤지 요청마다 따로 라우팅되도록
+        return Ordered.HIGHEST_PRECEDENCE + 4;
+    }
+}
@@ -0,0 +1,120 @@
+package com.greenkey20.innerorbit.common.ai;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 미리 컴파일한 시스템 프롬프트 템플릿 — 고정 접두부 + 요청별 값이 들어가는 후미부
+ *
+ * 파일 형식 (prompts/{version}/{name}.st):
+ * - "--- dynamic ---" 줄 위: 고정 접두부. 치환 없이 모든 요청에서 바이트 단위로 동일 → 제공자 프롬프트 캐시(접두부 일치) 적중
+ * - 줄 아래: 후미부. {{name}} 자리표시자만 요청마다 치환 (파싱은 로드 시 한 번)
+ */
+public final class PromptTemplate {
+
+    public static final String DYNAMIC_MARKER = "--- dynamic ---";
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{(\\w+)}}");
+
+    private final String name;
+    private final String version;
+    private final String revision;
+    private final String staticPrefix;
+    private final List<Segment> dynamicSegments;
+
+    private PromptTemplate(String name, String version, String source, String staticPrefix, List<Segment> dynamicSegments) {
+        this.name = name;
+        this.version = version;
+        this.revision = version + "-" + shortHash(source);
+        this.staticPrefix = staticPrefix;
+        this.dynamicSegments = dynamicSegments;
+    }
+
+    public static PromptTemplate compile(String name, String version, String source) {
+        String normalized = source.replace("\r\n", "\n");
+        int marker = normalized.indexOf("\n" + DYNAMIC_MARKER + "\n");
+        if (marker < 0) {
+            return new PromptTemplate(name, version, normalized, normalized, List.of());
+        }
+
+        // 접두부와 후미부 사이는 빈 줄 하나
+        String staticPrefix = normalized.substring(0, marker + 1) + "\n";
+        String dynamicPart = normalized.substring(marker + DYNAMIC_MARKER.length() + 2);
+        if (PLACEHOLDER.matcher(staticPrefix).find()) {
+            throw new IllegalArgumentException(
+                    "Prompt template '" + name + "' has placeholders above the dynamic marker");
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER.matcher(dynamicPart);
+        int last = 0;
+        while (matcher.find()) {
+            segments.add(new Segment(dynamicPart.substring(last, matcher.start()), false));
+            segments.add(new Segment(matcher.group(1), true));
+            last = matcher.end();
+        }
+        segments.add(new Segment(dynamicPart.substring(last), false));
+        return new PromptTemplate(name, version, normalized, staticPrefix, List.copyOf(segments));
+    }
+
+    /**
+     * 고정 접두부 뒤에 후미부를 치환해 붙임 — 값이 없는 자리표시자는 오류
+     */
+    public String render(Map<String, ?> variables) {
+        StringBuilder sb = new StringBuilder(staticPrefix.length() + 128).append(staticPrefix);
+        for (Segment segment : dynamicSegments) {
+            if (!segment.placeholder()) {
+                sb.append(segment.text());
+                continue;
+            }
+            Object value = variables.get(segment.text());
+            if (value == null && !variables.containsKey(segment.text())) {
+                throw new IllegalArgumentException(
+                        "Missing variable '" + segment.text() + "' for prompt template '" + name + "'");
+            }
+            sb.append(value);
+        }
+        return sb.toString();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String version() {
+        return version;
+    }
+
+    /**
+     * 버전 + 원본 해시 — 같은 버전 안에서 파일을 고쳐도(hot-reload) 달라짐. 결과 캐시 키 등에 사용
+     */
+    public String revision() {
+        return revision;
+    }
+
+    public String staticPrefix() {
+        return staticPrefix;
+    }
+
+    /**
+     * 원본 SHA-256 앞 8자리 — 지문 길이(log_entries.analysis_content_hash VARCHAR(100)) 안에서 변경 구분용
+     */
+    private static String shortHash(String source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 4);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Segment(String text, boolean placeholder) {
+    }
+}
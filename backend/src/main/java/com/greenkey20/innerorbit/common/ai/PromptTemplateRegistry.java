@@ -0,0 +1,110 @@
+package com.greenkey20.innerorbit.common.ai;
+
+import com.greenkey20.innerorbit.common.config.PromptTemplateProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 버전별 시스템 프롬프트 템플릿 — 기동 시 {location}{version}/*.st 를 모두 읽어 컴파일
+ *
+ * hot-reload가 켜져 있으면 주기적으로 다시 읽어 내용이 바뀐 템플릿만 교체 (재기동 없이 프롬프트 수정)
+ * 다시 읽다 실패하면 기존 템플릿 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PromptTemplateRegistry {
+
+    private static final String EXTENSION = ".st";
+
+    private final PromptTemplateProperties properties;
+    private final ResourcePatternResolver resourcePatternResolver = new PathMatchingResourcePatternResolver();
+
+    private volatile Map<String, PromptTemplate> templates = Map.of();
+    private volatile Map<String, String> sources = Map.of();
+
+    @PostConstruct
+    void load() {
+        reload();
+        log.info("Prompt templates loaded - version: {}, templates: {}", properties.getVersion(), templates.keySet());
+    }
+
+    public PromptTemplate get(String name) {
+        PromptTemplate template = templates.get(name);
+        if (template == null) {
+            throw new IllegalStateException(
+                    "Prompt template not found: " + name + " (version " + properties.getVersion() + ")");
+        }
+        return template;
+    }
+
+    public String render(String name, Map<String, ?> variables) {
+        return get(name).render(variables);
+    }
+
+    @Scheduled(fixedDelayString = "${prompt-templates.reload-interval:PT30S}")
+    void reloadIfEnabled() {
+        if (!properties.isHotReload()) {
+            return;
+        }
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("Prompt template reload failed, keeping current templates: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 템플릿을 다시 읽어 내용이 바뀌었을 때만 교체 — 컴파일 실패 시 예외, 기존 템플릿 유지
+     */
+    public synchronized void reload() {
+        String version = properties.getVersion();
+        Map<String, String> loadedSources = readSources(version);
+        if (loadedSources.equals(sources)) {
+            return;
+        }
+
+        Map<String, PromptTemplate> compiled = new HashMap<>();
+        loadedSources.forEach((name, source) -> compiled.put(name, PromptTemplate.compile(name, version, source)));
+        if (!sources.isEmpty()) {
+            loadedSources.keySet().stream()
+                    .filter(name -> !loadedSources.get(name).equals(sources.get(name)))
+                    .forEach(name -> log.info("Prompt template reloaded - {} ({})", name, version));
+        }
+        templates = Map.copyOf(compiled);
+        sources = Map.copyOf(loadedSources);
+    }
+
+    private Map<String, String> readSources(String version) {
+        String location = properties.getLocation().endsWith("/") ? properties.getLocation() : properties.getLocation() + "/";
+        try {
+            Map<String, String> loaded = new HashMap<>();
+            for (Resource resource : resourcePatternResolver.getResources(location + version + "/*" + EXTENSION)) {
+                String filename = resource.getFilename();
+                if (filename == null) {
+                    continue;
+                }
+                String name = filename.substring(0, filename.length() - EXTENSION.length());
+                loaded.put(name, resource.getContentAsString(StandardCharsets.UTF_8));
+            }
+            if (loaded.isEmpty()) {
+                throw new IllegalStateException("No prompt templates found at " + location + version);
+            }
+            return loaded;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read prompt templates at " + location + version, e);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.greenkey20.innerorbit.common.ai;
+
+import com.greenkey20.innerorbit.common.deadline.RequestDeadline;
+import com.greenkey20.innerorbit.common.exception.BusinessException;
+import com.greenkey20.innerorbit.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.core.Ordered;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 마감(RequestDeadline)을 LLM 호출에 적용하는 advisor
+ *
+ * - 동기 호출: 마감이 있으면 가상 스레드에서 실행하고 남은 시간이 지나면 인터럽트로 취소
+ *   (안쪽 헤지/라우팅 대기와 JDK HttpClient 전송까지 인터럽트가 전파되어 진행 중인 OpenAI 요청 중단) → AI_TIMEOUT
+ *   이미 마감이 지났으면 호출하지 않음
+ * - 스트리밍: 마감까지 끝나지 않으면 구독 취소 후 AI_TIMEOUT — 그때까지 보낸 토큰은 부분 응답으로 남음.
+ *   클라이언트 연결이 끊겨 구독이 취소된 경우도 취소로 집계
+ *
+ * 지표: ai.deadline.cancelled{purpose, reason=deadline|disconnect},
+ *       ai.deadline.tokens.saved{purpose} — 완료된 호출의 평균 출력 토큰에서 이미 받은 토큰을 뺀 추정치
+ */
+@Slf4j
+public class RequestDeadlineAdvisor implements CallAdvisor, StreamAdvisor {
+
+    private static final ExecutorService CALL_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final ChatClientPurpose purpose;
+    private final Counter deadlineCancelled;
+    private final Counter disconnectCancelled;
+    private final Counter tokensSaved;
+    private final LongAdder completedCalls = new LongAdder();
+    private final LongAdder completionTokens = new LongAdder();
+
+    public RequestDeadlineAdvisor(ChatClientPurpose purpose, MeterRegistry meterRegistry) {
+        this.purpose = purpose;
+        String tag = purpose.name().toLowerCase();
+        this.deadlineCancelled = Counter.builder("ai.deadline.cancelled")
+                .description("LLM calls cancelled because the request deadline passed")
+                .tag("purpose", tag)
+                .tag("reason", "deadline")
+                .register(meterRegistry);
+        this.disconnectCancelled = Counter.builder("ai.deadline.cancelled")
+                .description("LLM streams cancelled because the client went away")
+                .tag("purpose", tag)
+                .tag("reason", "disconnect")
+                .register(meterRegistry);
+        this.tokensSaved = Counter.builder("ai.deadline.tokens.saved")
+                .description("Estimated completion tokens not generated due to cancellation")
+                .tag("purpose", tag)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ChatClientResponse adviseCall(ChatClientRequest request, CallAdvisorChain chain) {
+        Optional<RequestDeadline> deadline = RequestDeadline.current();
+        if (deadline.isEmpty()) {
+            return recordCompleted(chain.nextCall(request));
+        }
+        if (deadline.get().isExpired()) {
+            cancelled(deadlineCancelled, 0);
+            throw timeout("deadline passed before call");
+        }
+
+        Future<ChatClientResponse> future = CALL_EXECUTOR.submit(() -> chain.nextCall(request));
+        try {
+            return recordCompleted(future.get(deadline.get().remaining().toNanos(), TimeUnit.NANOSECONDS));
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            cancelled(deadlineCancelled, 0);
+            throw timeout("request deadline exceeded");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.AI_TIMEOUT, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public Flux<ChatClientResponse> adviseStream(ChatClientRequest request, StreamAdvisorChain chain) {
+        Optional<RequestDeadline> deadline = RequestDeadline.current();
+        AtomicLong streamedTokens = new AtomicLong();
+        Flux<ChatClientResponse> stream = chain.nextStream(request)
+                .doOnNext(response -> {
+                    streamedTokens.incrementAndGet();
+                    recordUsage(response.chatResponse());
+                });
+        if (deadline.isPresent()) {
+            // 청크마다 마감까지 남은 시간으로 다시 걸어 전체 스트림에 마감 적용
+            Mono<Long> untilDeadline = Mono.defer(() -> Mono.delay(deadline.get().remaining()));
+            stream = stream.timeout(untilDeadline, response -> untilDeadline)
+                    .onErrorMap(TimeoutException.class, e -> {
+                        cancelled(deadlineCancelled, streamedTokens.get());
+                        return timeout("request deadline exceeded after " + streamedTokens.get() + " chunks");
+                    });
+        }
+        return stream.doOnCancel(() -> cancelled(disconnectCancelled, streamedTokens.get()));
+    }
+
+    private ChatClientResponse recordCompleted(ChatClientResponse response) {
+        recordUsage(response.chatResponse());
+        return response;
+    }
+
+    /**
+     * 스트리밍은 사용량이 마지막 청크에만 실려 오므로 0이 아닌 값만 반영
+     */
+    private void recordUsage(ChatResponse chatResponse) {
+        if (chatResponse == null || chatResponse.getMetadata() == null) {
+            return;
+        }
+        Usage usage = chatResponse.getMetadata().getUsage();
+        if (usage == null || usage.getCompletionTokens() == null || usage.getCompletionTokens() == 0) {
+            return;
+        }
+        completedCalls.increment();
+        completionTokens.add(usage.getCompletionTokens());
+    }
+
+    private void cancelled(Counter reason, long alreadyReceived) {
+        reason.increment();
+        long calls = completedCalls.sum();
+        if (calls > 0) {
+            tokensSaved.increment(Math.max(0, completionTokens.sum() / calls - alreadyReceived));
+        }
+    }
+
+    private BusinessException timeout(String reason) {
+        log.warn("{} call cancelled: {}", purpose, reason);
+        return new BusinessException(ErrorCode.AI_TIMEOUT);
+    }
+
+    @Override
+    public String getName() {
+        return "requestDeadlineAdvisor";
+    }
+
+    @Override
+    public int getOrder() {
+        // 지표/토큰 예산/입장 제어 advisor 안쪽 (호출 스레드에서 SecurityContext·마감을 읽도록), 보호/라우팅 advisor 바깥 — 헤지 요청까지 함께 취소
+        return Ordered.HIGHEST_PRECEDENCE + 2;
+    }
+}
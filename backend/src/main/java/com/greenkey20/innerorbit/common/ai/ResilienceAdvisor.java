@@ -0,0 +1,192 @@
+package com.greenkey20.innerorbit.common.ai;
+
+import com.greenkey20.innerorbit.common.exception.BusinessException;
+import com.greenkey20.innerorbit.common.exception.ErrorCode;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
+import org.springframework.core.Ordered;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OpenAI 호출 보호 advisor — 서킷 브레이커 → 벌크헤드 → (헤지) 순으로 감쌈
+ *
+ * - 브레이커 open / 벌크헤드 초과 시 호출하지 않고 바로 AI_UNAVAILABLE — 호출 측이 용도별 대체 응답 제공
+ * - 헤지: 헤지 대상 용도만, 첫 요청이 p95 지연 안에 끝나지 않으면 같은 요청을 한 번 더 보내 먼저 성공한 응답 사용
+ *   (벌크헤드 자리가 없으면 헤지하지 않음, 브레이커에는 한 번의 호출로 기록)
+ * - 스트리밍: 헤지 없음, 느린 호출 판정은 첫 토큰까지 시간
+ *
+ * 지표: ai.hedge.requests{purpose}, ai.hedge.wins{purpose}
+ */
+public class ResilienceAdvisor implements CallAdvisor, StreamAdvisor {
+
+    private static final ExecutorService ATTEMPT_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final ChatClientPurpose purpose;
+    private final AiResilienceRegistry registry;
+    private final Counter hedgeRequests;
+    private final Counter hedgeWins;
+
+    public ResilienceAdvisor(ChatClientPurpose purpose, AiResilienceRegistry registry, MeterRegistry meterRegistry) {
+        this.purpose = purpose;
+        this.registry = registry;
+        String tag = purpose.name().toLowerCase();
+        this.hedgeRequests = Counter.builder("ai.hedge.requests")
+                .description("Second requests sent because the first exceeded the hedge delay")
+                .tag("purpose", tag)
+                .register(meterRegistry);
+        this.hedgeWins = Counter.builder("ai.hedge.wins")
+                .description("Hedged requests that answered before the original")
+                .tag("purpose", tag)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ChatClientResponse adviseCall(ChatClientRequest request, CallAdvisorChain chain) {
+        if (!registry.isEnabled()) {
+            return chain.nextCall(request);
+        }
+        CircuitBreaker circuitBreaker = registry.circuitBreaker(purpose);
+        Bulkhead bulkhead = registry.bulkhead(purpose);
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw unavailable("circuit breaker " + circuitBreaker.getState());
+        }
+        try {
+            bulkhead.acquirePermission();
+        } catch (BulkheadFullException e) {
+            circuitBreaker.releasePermission();
+            throw unavailable("bulkhead full");
+        }
+
+        long start = System.nanoTime();
+        try {
+            ChatClientResponse response = callWithHedge(request, chain, bulkhead);
+            long elapsed = System.nanoTime() - start;
+            circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+            registry.recordLatency(purpose, Duration.ofNanos(elapsed));
+            return response;
+        } catch (RuntimeException e) {
+            if (Thread.currentThread().isInterrupted()) {
+                // 요청 마감/취소로 중단 — 모델 장애가 아니므로 실패로 집계하지 않음
+                circuitBreaker.releasePermission();
+            } else {
+                circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            }
+            throw e;
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    private ChatClientResponse callWithHedge(ChatClientRequest request, CallAdvisorChain chain, Bulkhead bulkhead) {
+        Duration hedgeDelay = registry.hedgeDelay(purpose);
+        if (hedgeDelay == null) {
+            return chain.nextCall(request);
+        }
+
+        // 체인은 한 번만 진행할 수 있으므로 헤지 요청용으로 이 advisor 이후 체인을 복사
+        CallAdvisorChain hedgeChain = chain.copy(this);
+        ExecutorCompletionService<ChatClientResponse> race = new ExecutorCompletionService<>(ATTEMPT_EXECUTOR);
+        List<Future<ChatClientResponse>> attempts = new ArrayList<>();
+        attempts.add(race.submit(() -> chain.nextCall(request)));
+        try {
+            Future<ChatClientResponse> completed = race.poll(hedgeDelay.toNanos(), TimeUnit.NANOSECONDS);
+            if (completed == null && bulkhead.tryAcquirePermission()) {
+                hedgeRequests.increment();
+                attempts.add(race.submit(() -> {
+                    try {
+                        return hedgeChain.nextCall(request);
+                    } finally {
+                        bulkhead.onComplete();
+                    }
+                }));
+            }
+
+            RuntimeException failure = null;
+            for (int remaining = attempts.size(); remaining > 0; remaining--) {
+                Future<ChatClientResponse> attempt = completed != null ? completed : race.take();
+                completed = null;
+                try {
+                    ChatClientResponse response = attempt.get();
+                    if (attempts.indexOf(attempt) > 0) {
+                        hedgeWins.increment();
+                    }
+                    return response;
+                } catch (ExecutionException e) {
+                    failure = e.getCause() instanceof RuntimeException runtime
+                            ? runtime : new IllegalStateException(e.getCause());
+                }
+            }
+            throw failure;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.AI_UNAVAILABLE, e);
+        } finally {
+            attempts.forEach(attempt -> attempt.cancel(true));
+        }
+    }
+
+    @Override
+    public Flux<ChatClientResponse> adviseStream(ChatClientRequest request, StreamAdvisorChain chain) {
+        if (!registry.isEnabled()) {
+            return chain.nextStream(request);
+        }
+        return Flux.defer(() -> {
+            CircuitBreaker circuitBreaker = registry.circuitBreaker(purpose);
+            Bulkhead bulkhead = registry.bulkhead(purpose);
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return Flux.error(unavailable("circuit breaker " + circuitBreaker.getState()));
+            }
+            // 리액티브 스레드를 막지 않도록 대기 없이 시도
+            if (!bulkhead.tryAcquirePermission()) {
+                circuitBreaker.releasePermission();
+                return Flux.error(unavailable("bulkhead full"));
+            }
+
+            long start = System.nanoTime();
+            AtomicLong firstTokenNanos = new AtomicLong(-1);
+            return chain.nextStream(request)
+                    .doOnNext(response -> firstTokenNanos.compareAndSet(-1, System.nanoTime() - start))
+                    .doOnComplete(() -> circuitBreaker.onSuccess(
+                            firstTokenNanos.get() >= 0 ? firstTokenNanos.get() : System.nanoTime() - start,
+                            TimeUnit.NANOSECONDS))
+                    .doOnError(e -> circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e))
+                    .doOnCancel(circuitBreaker::releasePermission)
+                    .doFinally(signal -> bulkhead.onComplete());
+        });
+    }
+
+    private BusinessException unavailable(String reason) {
+        return new BusinessException(ErrorCode.AI_UNAVAILABLE, purpose + " call rejected: " + reason);
+    }
+
+    @Override
+    public String getName() {
+        return "resilienceAdvisor";
+    }
+
+    @Override
+    public int getOrder() {
+        // 지표/마감 advisor 안쪽, 라우팅 advisor 바깥 — 헤지 요청마다 라우팅/타임아웃이 따로 적용되도록
+        return Ordered.HIGHEST_PRECEDENCE + 3;
+    }
+}
@@ -0,0 +1,48 @@
+package com.greenkey20.innerorbit.common.config;
+
+import com.greenkey20.innerorbit.common.ai.AiPriority;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * LLM 호출 입장 제어 설정 (ai-admission.*) — 전체 동시 호출 상한 + 우선순위별 대기열
+ */
+@Component
+@ConfigurationProperties(prefix = "ai-admission")
+@Getter
+@Setter
+public class AiAdmissionProperties {
+
+    /** false면 입장 제어 없이 바로 호출 (용도별 벌크헤드만 적용) */
+    private boolean enabled = true;
+
+    /** 인스턴스 전체 OpenAI 동시 호출 상한 */
+    private int maxInFlight = 32;
+
+    /** 대기열이 가득 차거나 대기 시간을 넘겨 거절할 때 Retry-After */
+    private Duration retryAfter = Duration.ofSeconds(2);
+
+    /** 우선순위별 대기열 설정 — 없는 우선순위는 Queue 기본값 */
+    private Map<AiPriority, Queue> queues = new EnumMap<>(AiPriority.class);
+
+    public Queue queue(AiPriority priority) {
+        return queues.getOrDefault(priority, new Queue());
+    }
+
+    @Getter
+    @Setter
+    public static class Queue {
+
+        /** 대기열 길이 상한 — 넘으면 기다리지 않고 바로 429 */
+        private int maxQueued = 100;
+
+        /** 최대 대기 시간 — 넘으면 429 (요청 마감이 더 짧으면 마감까지) */
+        private Duration maxWait = Duration.ofSeconds(5);
+    }
+}
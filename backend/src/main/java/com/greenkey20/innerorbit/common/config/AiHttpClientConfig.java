@@ -0,0 +1,84 @@
+package com.greenkey20.innerorbit.common.config;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.ai.model.openai.autoconfigure.OpenAiChatProperties;
+import org.springframework.ai.model.openai.autoconfigure.OpenAiConnectionProperties;
+import org.springframework.ai.model.tool.ToolCallingManager;
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.reactive.JdkClientHttpConnector;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.ResponseErrorHandler;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * OpenAI 호출용 공유 HTTP 전송 설정
+ *
+ * Spring AI OpenAiApi는 RestClient(동기)/WebClient(스트리밍) 빌더로 만들어지므로,
+ * OpenAiChatModel을 직접 등록해 그 두 빌더에만 같은 JDK HttpClient 하나를 연결 (자동 구성 모델은 생략됨).
+ * 빌더는 prototype 빈이라 여기서 바꿔도 앱의 다른 RestClient/WebClient에는 영향 없음.
+ * HttpClient는 호스트별 keep-alive 커넥션 풀을 내장 — 요청마다 TCP/TLS 핸드셰이크를 반복하지 않음
+ * (유휴 커넥션 유지 시간: JVM 옵션 -Djdk.httpclient.keepalive.timeout=초)
+ */
+@Configuration
+public class AiHttpClientConfig {
+
+    @Bean
+    public HttpClient aiHttpClient(@Value("${spring.ai.openai.client.connect-timeout:10s}") Duration connectTimeout) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * 자동 구성과 같은 연결 설정(spring.ai.openai.*, chat.* 우선)으로 생성 — 전송 계층만 aiHttpClient로 교체
+     */
+    @Bean
+    public OpenAiChatModel openAiChatModel(OpenAiConnectionProperties connectionProperties,
+                                           OpenAiChatProperties chatProperties,
+                                           HttpClient aiHttpClient,
+                                           @Value("${spring.ai.openai.client.read-timeout:60s}") Duration readTimeout,
+                                           ObjectProvider<RestClient.Builder> restClientBuilderProvider,
+                                           ObjectProvider<WebClient.Builder> webClientBuilderProvider,
+                                           ToolCallingManager toolCallingManager,
+                                           RetryTemplate retryTemplate,
+                                           ResponseErrorHandler responseErrorHandler,
+                                           ObjectProvider<ObservationRegistry> observationRegistry) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(aiHttpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        JdkClientHttpConnector connector = new JdkClientHttpConnector(aiHttpClient);
+        connector.setReadTimeout(readTimeout);
+
+        OpenAiApi openAiApi = OpenAiApi.builder()
+                .baseUrl(StringUtils.hasText(chatProperties.getBaseUrl())
+                        ? chatProperties.getBaseUrl() : connectionProperties.getBaseUrl())
+                .apiKey(StringUtils.hasText(chatProperties.getApiKey())
+                        ? chatProperties.getApiKey() : connectionProperties.getApiKey())
+                .completionsPath(chatProperties.getCompletionsPath())
+                .restClientBuilder(restClientBuilderProvider.getIfAvailable(RestClient::builder).requestFactory(requestFactory))
+                .webClientBuilder(webClientBuilderProvider.getIfAvailable(WebClient::builder).clientConnector(connector))
+                .responseErrorHandler(responseErrorHandler)
+                .build();
+
+        return OpenAiChatModel.builder()
+                .openAiApi(openAiApi)
+                .defaultOptions(chatProperties.getOptions())
+                .toolCallingManager(toolCallingManager)
+                .retryTemplate(retryTemplate)
+                .observationRegistry(observationRegistry.getIfUnique(() -> ObservationRegistry.NOOP))
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.greenkey20.innerorbit.common.config;
+
+import com.greenkey20.innerorbit.common.ai.ChatClientPurpose;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 용도/입력 크기별 모델 라우팅 설정 (ai-routing.*)
+ * 설정이 없는 용도는 spring.ai.openai.chat.options 기본 모델 그대로 사용
+ */
+@Component
+@ConfigurationProperties(prefix = "ai-routing")
+@Getter
+@Setter
+public class AiModelRoutingProperties {
+
+    /** false면 라우팅/타임아웃 없이 기본 모델로 호출 */
+    private boolean enabled = true;
+
+    /** p95 계산에 쓰는 최근 지연 시간 구간 — 이보다 오래된 측정값은 무시 */
+    private Duration latencyWindow = Duration.ofMinutes(5);
+
+    /** 모델별로 보관하는 최근 측정값 수 */
+    private int latencySamples = 200;
+
+    /** p95로 판단하기 위한 최소 측정 수 — 미만이면 기본 모델 유지 */
+    private int minSamples = 20;
+
+    private Map<ChatClientPurpose, PurposeRoutes> purposes = new EnumMap<>(ChatClientPurpose.class);
+
+    @Getter
+    @Setter
+    public static class PurposeRoutes {
+
+        /** 사용자 입력 길이 오름차순 — 입력이 maxInputChars 이하인 첫 경로 사용 (마지막 경로는 상한 없음) */
+        private List<Route> tiers = new ArrayList<>();
+
+        /** 고위험 요청(예: CRISIS 상태 분석) 전용 경로 — 없으면 tiers에서 선택 */
+        private Route highStakes;
+    }
+
+    @Getter
+    @Setter
+    public static class Route {
+
+        /** 입력(사용자 메시지) 최대 길이 — null이면 상한 없음 */
+        private Integer maxInputChars;
+
+        private String model;
+
+        private Integer maxTokens;
+
+        /** 호출 타임아웃 (스트리밍은 첫 토큰까지) — null이면 HTTP read-timeout만 적용 */
+        private Duration timeout;
+
+        /** model의 최근 p95가 이 값을 넘으면 fallbackModel로 전환, 구간이 지나 측정값이 빠지면 복귀 */
+        private Duration latencyBudget;
+
+        private String fallbackModel;
+    }
+}
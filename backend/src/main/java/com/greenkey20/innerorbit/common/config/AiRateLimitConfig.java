@@ -0,0 +1,34 @@
+package com.greenkey20.innerorbit.common.config;
+
+import com.greenkey20.innerorbit.common.ratelimit.AiRateLimitInterceptor;
+import com.greenkey20.innerorbit.common.ratelimit.AiRateLimiter;
+import com.greenkey20.innerorbit.common.ratelimit.TokenBudgetAdvisor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.ai.chat.client.ChatClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 사용자별 AI 요청 제한 연결
+ *
+ * - @AiRateLimited 엔드포인트 진입 시 버킷/예산 확인 (AiRateLimitInterceptor)
+ * - 자동 구성 ChatClient.Builder에 TokenBudgetAdvisor 등록 — ChatClientRegistry가 이 빌더를 clone()하므로 모든 용도에 적용
+ */
+@Configuration
+@RequiredArgsConstructor
+public class AiRateLimitConfig implements WebMvcConfigurer {
+
+    private final AiRateLimitInterceptor aiRateLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(aiRateLimitInterceptor).addPathPatterns("/api/**");
+    }
+
+    @Bean
+    public ChatClientCustomizer tokenBudgetChatClientCustomizer(AiRateLimiter aiRateLimiter) {
+        return builder -> builder.defaultAdvisors(new TokenBudgetAdvisor(aiRateLimiter));
+    }
+}
@@ -0,0 +1,41 @@
+package com.greenkey20.innerorbit.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 AI 요청 제한 설정 (ai-rate-limit.*) — 토큰 버킷 + 일일 토큰 예산
+ */
+@Component
+@ConfigurationProperties(prefix = "ai-rate-limit")
+@Getter
+@Setter
+public class AiRateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** 버킷 크기 — 연속으로 보낼 수 있는 최대 요청 수 (비용 단위) */
+    private int bucketCapacity = 20;
+
+    /** 분당 보충량 */
+    private double refillPerMinute = 10;
+
+    /** 사용자별 하루 LLM 토큰 예산 (입력+출력, 실제 사용량 기준). 0이면 제한 없음 */
+    private long dailyTokenBudget = 200_000;
+
+    /**
+     * 로컬 사전 확인 — 마지막으로 Redis에서 본 상태 기준으로 버킷과 예산이 모두 이 비율 이상 남아 있으면
+     * Redis 없이 허용하고 차감분은 다음 Redis 확인 때 함께 반영
+     */
+    private double localHeadroom = 0.5;
+
+    /** 로컬에서 허용할 수 있는 최대 미반영 비용 — 인스턴스 수 × 이 값만큼까지 초과 허용될 수 있음 */
+    private int maxLocalDebt = 3;
+
+    /** 로컬 상태 유효 시간 — 지나면 Redis에서 다시 확인 */
+    private Duration localStateTtl = Duration.ofSeconds(10);
+}
@@ -0,0 +1,74 @@
+package com.greenkey20.innerorbit.common.config;
+
+import com.greenkey20.innerorbit.common.ai.ChatClientPurpose;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * OpenAI 호출 보호 설정 (ai-resilience.*) — 서킷 브레이커, 용도별 벌크헤드, 헤지 요청
+ */
+@Component
+@ConfigurationProperties(prefix = "ai-resilience")
+@Getter
+@Setter
+public class AiResilienceProperties {
+
+    /** false면 브레이커/벌크헤드/헤지 없이 그대로 호출 */
+    private boolean enabled = true;
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /** 용도별 설정 — 없는 용도는 Purpose 기본값 */
+    private Map<ChatClientPurpose, Purpose> purposes = new EnumMap<>(ChatClientPurpose.class);
+
+    public Purpose purpose(ChatClientPurpose purpose) {
+        return purposes.getOrDefault(purpose, new Purpose());
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        /** 실패율(%) — 최근 slidingWindowSize 호출 중 이 비율 이상 실패하면 open */
+        private float failureRateThreshold = 50;
+
+        /** 느린 호출 비율(%) — slowCallDuration보다 오래 걸린 호출 비율이 이 이상이면 open */
+        private float slowCallRateThreshold = 80;
+
+        private int slidingWindowSize = 20;
+
+        /** 이보다 적게 호출됐으면 비율을 판단하지 않음 */
+        private int minimumNumberOfCalls = 10;
+
+        /** open 유지 시간 — 지나면 half-open으로 몇 건만 시험 호출 */
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+
+        private int permittedCallsInHalfOpenState = 3;
+    }
+
+    @Getter
+    @Setter
+    public static class Purpose {
+
+        /** 동시 호출 상한 — 넘으면 maxWait만큼 기다린 뒤 거절 (다른 용도/비 AI 요청의 스레드 보호) */
+        private int maxConcurrentCalls = 20;
+
+        private Duration maxWait = Duration.ZERO;
+
+        /** 이보다 오래 걸리면 느린 호출로 집계 */
+        private Duration slowCallDuration = Duration.ofSeconds(15);
+
+        /** 멱등 호출만 — 첫 요청이 p95 지연을 넘기면 같은 요청을 한 번 더 보내 먼저 온 응답 사용 */
+        private boolean hedge = false;
+
+        /** 헤지 지연 하한/상한 — p95 측정값이 부족하면 상한 사용 */
+        private Duration hedgeMinDelay = Duration.ofMillis(500);
+        private Duration hedgeMaxDelay = Duration.ofSeconds(5);
+    }
+}
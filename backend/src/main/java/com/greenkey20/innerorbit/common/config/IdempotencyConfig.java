@@ -0,0 +1,26 @@
+package com.greenkey20.innerorbit.common.config;
+
+import com.greenkey20.innerorbit.common.idempotency.IdempotencyInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * @Idempotent 엔드포인트의 Idempotency-Key 처리 (IdempotencyInterceptor)
+ * 재생되는 재시도가 AI 요청 제한 버킷을 차감하지 않도록 다른 인터셉터보다 먼저 실행
+ */
+@Configuration
+@RequiredArgsConstructor
+public class IdempotencyConfig implements WebMvcConfigurer {
+
+    private final IdempotencyInterceptor idempotencyInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(idempotencyInterceptor)
+                .addPathPatterns("/api/**")
+                .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+}
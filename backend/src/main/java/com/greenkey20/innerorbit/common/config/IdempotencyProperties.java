@@ -0,0 +1,45 @@
+package com.greenkey20.innerorbit.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 멱등 키 설정 (idempotency.*)
+ */
+@Component
+@ConfigurationProperties(prefix = "idempotency")
+@Getter
+@Setter
+public class IdempotencyProperties {
+
+    /** false면 헤더가 있어도 매번 처리 */
+    private boolean enabled = true;
+
+    /** 클라이언트가 재시도 간에 같은 값을 보내는 헤더 */
+    private String header = "Idempotency-Key";
+
+    /** 키 최대 길이 — 넘으면 INVALID_IDEMPOTENCY_KEY 400 */
+    private int maxKeyLength = 255;
+
+    /** 완료된 응답 보관 시간 — 이 안의 재시도는 DB/LLM을 거치지 않고 저장된 응답으로 응답 */
+    private Duration ttl = Duration.ofHours(24);
+
+    /** 처리 중 표식 TTL — 처리한 인스턴스가 죽어도 이 시간 뒤에는 다시 처리 가능 */
+    private Duration inProgressTtl = Duration.ofMinutes(3);
+
+    /**
+     * @DeadlineBudget 엔드포인트의 처리 중 표식은 max(inProgressTtl, 마감 + 이 여유)
+     * 표식은 갱신되지 않으므로 마감까지 도는 요청보다 먼저 만료되면 재시도가 두 번째 처리를 시작함
+     */
+    private Duration inProgressGrace = Duration.ofSeconds(30);
+
+    /** 같은 키의 첫 요청이 끝나기를 기다리는 최대 시간 — 넘으면 IDEMPOTENCY_IN_PROGRESS 409 */
+    private Duration maxWait = Duration.ofSeconds(30);
+
+    /** 첫 요청 완료 확인 주기 */
+    private Duration pollInterval = Duration.ofMillis(100);
+}
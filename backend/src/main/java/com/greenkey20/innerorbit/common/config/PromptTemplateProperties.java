@@ -0,0 +1,25 @@
+package com.greenkey20.innerorbit.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시스템 프롬프트 템플릿 설정 (prompt-templates.*)
+ */
+@Component
+@ConfigurationProperties(prefix = "prompt-templates")
+@Getter
+@Setter
+public class PromptTemplateProperties {
+
+    /** 템플릿 루트 — 하위 {version}/{name}.st. 운영 중 교체하려면 file: 경로 지정 */
+    private String location = "classpath:prompts/";
+
+    /** 사용할 템플릿 버전 (하위 디렉터리 이름) */
+    private String version = "v2";
+
+    /** true면 reload-interval마다 다시 읽어 바뀐 템플릿만 교체 */
+    private boolean hotReload = false;
+}
@@ -0,0 +1,22 @@
+package com.greenkey20.innerorbit.common.config;
+
+import com.greenkey20.innerorbit.common.deadline.RequestDeadlineInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * API 요청마다 마감 바인딩 (RequestDeadlineInterceptor)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class RequestDeadlineConfig implements WebMvcConfigurer {
+
+    private final RequestDeadlineInterceptor requestDeadlineInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestDeadlineInterceptor).addPathPatterns("/api/**");
+    }
+}
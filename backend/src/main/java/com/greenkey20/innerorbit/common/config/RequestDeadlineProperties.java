@@ -0,0 +1,30 @@
+package com.greenkey20.innerorbit.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 요청 마감 설정 (request-deadline.*)
+ */
+@Component
+@ConfigurationProperties(prefix = "request-deadline")
+@Getter
+@Setter
+public class RequestDeadlineProperties {
+
+    /** false면 마감 없이 모델 라우팅 타임아웃/HTTP read-timeout만 적용 */
+    private boolean enabled = true;
+
+    /** 클라이언트가 기다릴 시간(ms)을 보내는 헤더 */
+    private String header = "X-Request-Timeout";
+
+    /** 헤더가 없을 때 마감 */
+    private Duration defaultTimeout = Duration.ofSeconds(30);
+
+    /** 헤더 값 상한 */
+    private Duration maxTimeout = Duration.ofSeconds(60);
+}
@@ -0,0 +1,36 @@
+package com.greenkey20.innerorbit.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 동일 AI 요청 합치기 설정 (ai-single-flight.*)
+ */
+@Component
+@ConfigurationProperties(prefix = "ai-single-flight")
+@Getter
+@Setter
+public class SingleFlightProperties {
+
+    /** false면 요청마다 각자 호출 */
+    private boolean enabled = true;
+
+    /** 인스턴스 간 합치기 (Redis) — false면 인스턴스 안에서만 합침 */
+    private boolean shared = true;
+
+    /** 실행 중 표식(분산 락) TTL — 실행 중에는 자동 갱신, 인스턴스가 죽으면 이 시간 뒤 해제 */
+    private Duration lockTtl = Duration.ofSeconds(15);
+
+    /** 다른 인스턴스의 결과를 기다리는 쪽이 읽을 수 있도록 결과를 남겨 두는 시간 */
+    private Duration resultTtl = Duration.ofSeconds(10);
+
+    /** 다른 인스턴스 결과 최대 대기 시간 — 넘으면 직접 호출 */
+    private Duration maxWait = Duration.ofSeconds(30);
+
+    /** 다른 인스턴스 결과 확인 주기 */
+    private Duration pollInterval = Duration.ofMillis(100);
+}
@@ -0,0 +1,18 @@
+package com.greenkey20.innerorbit.common.deadline;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 기본 마감(request-deadline.default-timeout)보다 오래 걸리는 엔드포인트의 마감 — 헤더가 없을 때 기본값이자 헤더 상한
+ * 모델 라우팅 타임아웃 + 앞단 작업(조회, 요약 등)보다 길게 잡아야 정상 생성이 마감으로 취소되지 않음
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DeadlineBudget {
+
+    /** 마감(초) */
+    long seconds();
+}
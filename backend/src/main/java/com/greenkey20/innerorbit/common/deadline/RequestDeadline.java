@@ -0,0 +1,43 @@
+package com.greenkey20.innerorbit.common.deadline;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 요청 마감 시각 — 클라이언트가 응답을 기다려 줄 남은 시간
+ *
+ * HTTP 요청 스레드에 바인딩(RequestDeadlineInterceptor)해 컨트롤러 → AiUseCase → ChatClient 호출까지 전달,
+ * RequestDeadlineAdvisor가 남은 시간 안에 끝나지 않는 LLM 호출을 취소
+ * 스케줄러/비동기 작업처럼 요청 스레드가 아닌 곳에서는 마감 없음
+ */
+public record RequestDeadline(long deadlineNanos) {
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    public static RequestDeadline after(Duration timeout) {
+        return new RequestDeadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    public static Optional<RequestDeadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    public static void bind(RequestDeadline deadline) {
+        CURRENT.set(deadline);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 남은 시간 — 지났으면 0
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+}
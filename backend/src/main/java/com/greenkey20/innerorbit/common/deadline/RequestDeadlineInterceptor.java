@@ -0,0 +1,69 @@
+package com.greenkey20.innerorbit.common.deadline;
+
+import com.greenkey20.innerorbit.common.config.RequestDeadlineProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * 요청 마감 바인딩 — 클라이언트가 보낸 대기 시간(X-Request-Timeout, ms) 또는 기본값, maxTimeout 이내
+ * @DeadlineBudget 엔드포인트는 그 값이 기본값이자 상한 (maxTimeout보다 작으면 maxTimeout이 상한)
+ * 요청 처리가 끝나거나 비동기(SSE) 처리로 넘어가면 해제 — 스트리밍은 구독 시점에 advisor가 마감을 읽어 감
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RequestDeadlineInterceptor implements AsyncHandlerInterceptor {
+
+    private final RequestDeadlineProperties properties;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (properties.isEnabled()) {
+            DeadlineBudget budget = handler instanceof HandlerMethod handlerMethod
+                    ? handlerMethod.getMethodAnnotation(DeadlineBudget.class)
+                    : null;
+            RequestDeadline.bind(RequestDeadline.after(timeoutOf(request, budget)));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestDeadline.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestDeadline.clear();
+    }
+
+    private Duration timeoutOf(HttpServletRequest request, DeadlineBudget budget) {
+        Duration defaultTimeout = budget != null ? Duration.ofSeconds(budget.seconds()) : properties.getDefaultTimeout();
+        Duration maxTimeout = budget != null && defaultTimeout.compareTo(properties.getMaxTimeout()) > 0
+                ? defaultTimeout
+                : properties.getMaxTimeout();
+
+        String header = request.getHeader(properties.getHeader());
+        if (header == null || header.isBlank()) {
+            return defaultTimeout;
+        }
+        try {
+            long millis = Long.parseLong(header.trim());
+            if (millis <= 0) {
+                return defaultTimeout;
+            }
+            Duration requested = Duration.ofMillis(millis);
+            return requested.compareTo(maxTimeout) > 0 ? maxTimeout : requested;
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring invalid {} header: {}", properties.getHeader(), header);
+            return defaultTimeout;
+        }
+    }
+}
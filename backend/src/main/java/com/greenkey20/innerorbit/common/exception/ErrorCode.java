@@ -16,15 +16,36 @@ public enum ErrorCode {
     INVALID_STABILITY_VALUE("안정성 값은 0-100 사이여야 합니다.", HttpStatus.BAD_REQUEST),
     INVALID_GRAVITY_VALUE("그리움 강도 값은 0-100 사이여야 합니다.", HttpStatus.BAD_REQUEST),
     EMPTY_CONTENT("내용을 입력해주세요.", HttpStatus.BAD_REQUEST),
+    INVALID_IDEMPOTENCY_KEY("Idempotency-Key 값이 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
 
     // 404 Not Found
     LOG_ENTRY_NOT_FOUND("로그 엔트리를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     USER_NOT_FOUND("사용자를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     WEEKLY_REPORT_NOT_FOUND("주간 리포트를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    ANALYSIS_JOB_NOT_FOUND("분석 작업을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+
+    // 409 Conflict
+    LOG_ENTRY_CONFLICT("로그가 다른 요청에 의해 수정되었습니다. 다시 시도해주세요.", HttpStatus.CONFLICT),
+    IDEMPOTENCY_IN_PROGRESS("같은 요청을 아직 처리하고 있습니다. 잠시 후 다시 시도해주세요.", HttpStatus.CONFLICT),
+    WEEKLY_REPORT_GENERATION_IN_PROGRESS("이번 주 리포트를 생성하고 있습니다. 잠시 후 다시 시도해주세요.", HttpStatus.CONFLICT),
+
+    // 422 Unprocessable Entity
+    IDEMPOTENCY_KEY_REUSED("이미 다른 요청에 사용된 Idempotency-Key입니다.", HttpStatus.UNPROCESSABLE_ENTITY),
+
+    // 429 Too Many Requests
+    AI_RATE_LIMITED("AI 요청이 너무 잦습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
+    AI_TOKEN_BUDGET_EXCEEDED("오늘 사용할 수 있는 AI 사용량을 모두 사용했습니다. 내일 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
+    AI_OVERLOADED("AI 요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
 
     // 500 Internal Server Error
     INTERNAL_SERVER_ERROR("서버 내부 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
-    DATABASE_ERROR("데이터베이스 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+    DATABASE_ERROR("데이터베이스 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+
+    // 503 Service Unavailable
+    AI_UNAVAILABLE("AI 기능을 잠시 사용할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+
+    // 504 Gateway Timeout
+    AI_TIMEOUT("AI 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요.", HttpStatus.GATEWAY_TIMEOUT);
 
     private final String message;
     private final HttpStatus httpStatus;
@@ -1,6 +1,8 @@
 package com.greenkey20.innerorbit.common.exception;
 
+import com.greenkey20.innerorbit.common.ratelimit.RateLimitExceededException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
@@ -18,6 +20,18 @@ import java.util.stream.Collectors;
 @Slf4j
 public class GlobalExceptionHandler {
 
+    /**
+     * 사용자별 AI 요청 제한 초과 — 429 + Retry-After(초)
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    protected ResponseEntity<ErrorResponse> handleRateLimitExceededException(RateLimitExceededException e) {
+        log.warn("Rate limit exceeded: {} (retry after {})", e.getErrorCode(), e.getRetryAfter());
+        long retryAfterSeconds = Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(e.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ErrorResponse.of(e.getErrorCode()));
+    }
+
     /**
      * BusinessException 처리
      */
@@ -0,0 +1,34 @@
+package com.greenkey20.innerorbit.common.idempotency;
+
+import com.greenkey20.innerorbit.common.config.IdempotencyProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Idempotency-Key가 붙은 요청만 본문을 캐시해 IdempotencyInterceptor가 지문에 본문 해시를 넣을 수 있게 함
+ * 키가 없는 요청은 그대로 통과 (스트리밍 업로드 등에 영향 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyBodyCachingFilter extends OncePerRequestFilter {
+
+    private final IdempotencyProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || request.getHeader(properties.getHeader()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        filterChain.doFilter(new CachedBodyRequest(request), response);
+    }
+}
@@ -0,0 +1,123 @@
+package com.greenkey20.innerorbit.common.idempotency;
+
+import com.greenkey20.innerorbit.common.config.IdempotencyProperties;
+import com.greenkey20.innerorbit.common.deadline.DeadlineBudget;
+import com.greenkey20.innerorbit.common.exception.BusinessException;
+import com.greenkey20.innerorbit.common.exception.ErrorCode;
+import com.greenkey20.innerorbit.security.UserPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * @Idempotent 엔드포인트 진입 전 Idempotency-Key 선점 — 이미 처리된 키면 컨트롤러를 거치지 않고 저장된 응답 재생
+ * 선점한 요청은 IdempotentResponseAdvice가 성공 응답을 저장하고, 요청 종료 시 저장되지 않았으면 선점 해제
+ * 헤더가 없거나 인증 전이면 평소대로 처리
+ * 지문은 메서드 + 경로(쿼리 포함) + 본문 SHA-256 — 본문은 IdempotencyBodyCachingFilter가 미리 읽어 둠
+ * 처리 중 표식 TTL은 @DeadlineBudget 마감 + 여유 이상 — 긴 요청이 끝나기 전에 표식이 만료되지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyInterceptor implements HandlerInterceptor {
+
+    static final String CLAIM_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".claim";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final IdempotencyStore idempotencyStore;
+    private final IdempotencyProperties properties;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!properties.isEnabled()
+                || !(handler instanceof HandlerMethod handlerMethod)
+                || !handlerMethod.hasMethodAnnotation(Idempotent.class)) {
+            return true;
+        }
+        String key = request.getHeader(properties.getHeader());
+        Long userId = currentUserId();
+        if (key == null || userId == null) {
+            return true;
+        }
+        if (key.isBlank() || key.length() > properties.getMaxKeyLength()) {
+            throw new BusinessException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+
+        IdempotencyStore.Claim claim = idempotencyStore.claim(userId, key, fingerprint(request), inProgressTtl(handlerMethod));
+        if (claim.isReplay()) {
+            log.info("Replaying idempotent response - userId={}, {} {}", userId, request.getMethod(), request.getRequestURI());
+            replay(response, claim.replay());
+            return false;
+        }
+        request.setAttribute(CLAIM_ATTRIBUTE, claim);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(CLAIM_ATTRIBUTE) instanceof IdempotencyStore.Claim claim) {
+            idempotencyStore.release(claim);
+        }
+    }
+
+    private static void replay(HttpServletResponse response, IdempotencyStore.StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.location());
+        }
+        if (stored.body() != null) {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write(stored.body());
+        }
+    }
+
+    private Duration inProgressTtl(HandlerMethod handlerMethod) {
+        DeadlineBudget budget = handlerMethod.getMethodAnnotation(DeadlineBudget.class);
+        if (budget == null) {
+            return properties.getInProgressTtl();
+        }
+        Duration budgetTtl = Duration.ofSeconds(budget.seconds()).plus(properties.getInProgressGrace());
+        return budgetTtl.compareTo(properties.getInProgressTtl()) > 0 ? budgetTtl : properties.getInProgressTtl();
+    }
+
+    /**
+     * 같은 키를 다른 엔드포인트나 다른 본문에 다시 쓰면 지문이 달라져 IDEMPOTENCY_KEY_REUSED
+     */
+    private static String fingerprint(HttpServletRequest request) {
+        CachedBodyRequest cached = WebUtils.getNativeRequest(request, CachedBodyRequest.class);
+        byte[] body = cached != null ? cached.body() : new byte[0];
+        try {
+            String bodyHash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+            String query = request.getQueryString() != null ? "?" + request.getQueryString() : "";
+            return request.getMethod() + " " + request.getRequestURI() + query + " " + bodyHash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.userId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,201 @@
+package com.greenkey20.innerorbit.common.idempotency;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.greenkey20.innerorbit.common.config.IdempotencyProperties;
+import com.greenkey20.innerorbit.common.exception.BusinessException;
+import com.greenkey20.innerorbit.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 멱등 키 저장소 (Redis) — 키는 사용자 단위 (idem:{userId}:{key})
+ *
+ * 선점: SET NX로 처리 중 표식을 남긴 요청만 실제로 처리
+ * 완료: 성공 응답(상태, Location, 본문)으로 덮어쓰고 ttl 동안 보관 — 재시도는 이 응답을 그대로 재생
+ * 실패: 처리 중 표식이 그대로일 때만 삭제 (Lua) — 같은 키로 재시도하면 다시 처리
+ * 같은 키의 처리 중 요청이 있으면 완료될 때까지 pollInterval 주기로 확인, 먼저 요청이 실패해 표식이 사라지면 직접 선점
+ * 다른 엔드포인트나 다른 본문에 같은 키를 쓰면 IDEMPOTENCY_KEY_REUSED 422
+ * Redis 장애 시 멱등 처리 없이 진행
+ *
+ * 지표: idempotency.requests{result=acquired|replayed|waited|reused|timeout|bypassed}
+ */
+@Component
+@Slf4j
+public class IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idem:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public IdempotencyStore(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                            IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param fingerprint 요청 식별 (메서드 + 경로 + 쿼리 + 본문 해시) — 같은 키가 다른 요청에 쓰였는지 확인용
+     * @return 선점(처리 진행) 또는 저장된 응답 재생
+     */
+    public Claim claim(Long userId, String idempotencyKey, String fingerprint) {
+        return claim(userId, idempotencyKey, fingerprint, properties.getInProgressTtl());
+    }
+
+    /**
+     * @param inProgressTtl 처리 중 표식 TTL — 요청이 끝날 수 있는 최대 시간보다 길어야 재시도가 재처리하지 않음
+     */
+    public Claim claim(Long userId, String idempotencyKey, String fingerprint, Duration inProgressTtl) {
+        String redisKey = KEY_PREFIX + userId + ":" + idempotencyKey;
+        long deadline = System.nanoTime() + properties.getMaxWait().toNanos();
+        boolean waited = false;
+        try {
+            while (true) {
+                String marker = write(Entry.inProgress(fingerprint));
+                if (Boolean.TRUE.equals(redisTemplate.opsForValue()
+                        .setIfAbsent(redisKey, marker, inProgressTtl))) {
+                    record("acquired");
+                    return Claim.acquired(redisKey, marker);
+                }
+
+                String json = redisTemplate.opsForValue().get(redisKey);
+                if (json == null) {
+                    continue;  // 그 사이 만료되거나 먼저 요청이 실패 — 다시 선점 시도
+                }
+                Entry entry = objectMapper.readValue(json, Entry.class);
+                if (!fingerprint.equals(entry.fingerprint())) {
+                    record("reused");
+                    throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+                }
+                if (entry.isCompleted()) {
+                    record(waited ? "waited" : "replayed");
+                    return Claim.replay(new StoredResponse(entry.status(), entry.location(), entry.body()));
+                }
+                if (System.nanoTime() >= deadline) {
+                    record("timeout");
+                    throw new BusinessException(ErrorCode.IDEMPOTENCY_IN_PROGRESS);
+                }
+                waited = true;
+                Thread.sleep(properties.getPollInterval().toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_IN_PROGRESS, e);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Idempotency store unavailable, processing without key - {}: {}", redisKey, e.getMessage());
+            record("bypassed");
+            return Claim.bypass();
+        }
+    }
+
+    /**
+     * 성공 응답 저장 — 처리 중 표식을 덮어씀
+     */
+    public void complete(Claim claim, StoredResponse response) {
+        if (!claim.isAcquired()) {
+            return;
+        }
+        try {
+            Entry entry = objectMapper.readValue(claim.marker(), Entry.class).completed(response);
+            redisTemplate.opsForValue().set(claim.redisKey(), write(entry), properties.getTtl());
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to store idempotent response - {}: {}", claim.redisKey(), e.getMessage());
+        }
+    }
+
+    /**
+     * 요청 종료 시 호출 — 완료 응답이 저장되지 않았으면(실패) 표식을 지워 재시도가 다시 처리되도록 함
+     */
+    public void release(Claim claim) {
+        if (!claim.isAcquired()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(claim.redisKey()), claim.marker());
+        } catch (DataAccessException e) {
+            log.warn("Failed to release idempotency key - {}: {}", claim.redisKey(), e.getMessage());
+        }
+    }
+
+    private String write(Entry entry) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(entry);
+    }
+
+    private void record(String result) {
+        Counter.builder("idempotency.requests")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 재생할 응답 — 대상 엔드포인트는 모두 JSON 본문
+     */
+    public record StoredResponse(int status, String location, String body) {
+    }
+
+    /**
+     * redisKey가 null이면 Redis 장애로 멱등 처리 없이 진행, replay가 있으면 저장된 응답 재생
+     */
+    public record Claim(String redisKey, String marker, StoredResponse replay) {
+
+        static Claim acquired(String redisKey, String marker) {
+            return new Claim(redisKey, marker, null);
+        }
+
+        static Claim replay(StoredResponse response) {
+            return new Claim(null, null, response);
+        }
+
+        static Claim bypass() {
+            return new Claim(null, null, null);
+        }
+
+        public boolean isAcquired() {
+            return redisKey != null;
+        }
+
+        public boolean isReplay() {
+            return replay != null;
+        }
+    }
+
+    /**
+     * Redis 값 — token은 처리 중 표식을 요청마다 구분해 다른 요청의 표식을 지우지 않도록 함
+     */
+    record Entry(String fingerprint, String token, Integer status, String location, String body) {
+
+        static Entry inProgress(String fingerprint) {
+            return new Entry(fingerprint, UUID.randomUUID().toString(), null, null, null);
+        }
+
+        Entry completed(StoredResponse response) {
+            return new Entry(fingerprint, token, response.status(), response.location(), response.body());
+        }
+
+        @JsonIgnore
+        boolean isCompleted() {
+            return status != null;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.greenkey20.innerorbit.common.idempotency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Idempotency-Key 헤더를 지원하는 엔드포인트 표시 — 같은 키로 재시도하면 첫 응답을 그대로 돌려줌
+ * (IdempotencyInterceptor가 키 선점/재생, IdempotentResponseAdvice가 성공 응답 저장)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+}
@@ -0,0 +1,59 @@
+package com.greenkey20.innerorbit.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.net.URI;
+
+/**
+ * 선점한 @Idempotent 요청의 2xx 응답을 본문 쓰기 직전에 저장 — 클라이언트가 응답을 못 받고 재시도해도 같은 응답 재생
+ * 예외 응답은 저장하지 않음 (IdempotencyInterceptor가 선점 해제 → 재시도 시 다시 처리)
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotentResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(Idempotent.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)
+                || !(servletRequest.getServletRequest().getAttribute(IdempotencyInterceptor.CLAIM_ATTRIBUTE)
+                        instanceof IdempotencyStore.Claim claim)) {
+            return body;
+        }
+        int status = servletResponse.getServletResponse().getStatus();
+        if (status < 200 || status >= 300) {
+            return body;
+        }
+        try {
+            URI location = response.getHeaders().getLocation();
+            idempotencyStore.complete(claim, new IdempotencyStore.StoredResponse(
+                    status, location != null ? location.toString() : null, objectMapper.writeValueAsString(body)));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize idempotent response: {}", e.getMessage());
+        }
+        return body;
+    }
+}
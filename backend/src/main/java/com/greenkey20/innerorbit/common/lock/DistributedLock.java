@@ -0,0 +1,23 @@
+package com.greenkey20.innerorbit.common.lock;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 여러 백엔드 인스턴스 사이의 분산 락
+ * 스케줄러 작업처럼 클러스터 전체에서 한 노드만 실행해야 하는 작업에 사용
+ */
+public interface DistributedLock {
+
+    /**
+     * 대기 없이 즉시 획득 시도 — 다른 노드가 보유 중이면 Optional.empty
+     * 보유 중에는 ttl 만료 전에 자동 갱신되며, close() 시 해제
+     */
+    Optional<LockHandle> tryLock(String key, Duration ttl);
+
+    interface LockHandle extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,81 @@
+package com.greenkey20.innerorbit.common.lock;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 기반 DistributedLock 구현체
+ *
+ * 획득: SET key token NX PX ttl — token은 획득한 노드/호출 식별용 UUID
+ * 갱신: ttl/3 주기로 token이 일치할 때만 PEXPIRE (작업이 ttl보다 길어도 락 유지, 노드가 죽으면 ttl 후 만료)
+ * 해제: token이 일치할 때만 DEL (만료 후 다른 노드가 가져간 락을 지우지 않도록 Lua로 원자 처리)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisDistributedLock implements DistributedLock {
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final ScheduledExecutorService renewalExecutor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("distributed-lock-renewal").daemon().factory());
+
+    @Override
+    public Optional<LockHandle> tryLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        if (!Boolean.TRUE.equals(acquired)) {
+            return Optional.empty();
+        }
+
+        long renewPeriodMs = Math.max(ttl.toMillis() / 3, 1);
+        ScheduledFuture<?> renewal = renewalExecutor.scheduleAtFixedRate(
+                () -> renew(key, token, ttl), renewPeriodMs, renewPeriodMs, TimeUnit.MILLISECONDS);
+        log.debug("Distributed lock acquired - key={}", key);
+
+        return () -> {
+            renewal.cancel(false);
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+            log.debug("Distributed lock released - key={}", key);
+        };
+    }
+
+    private void renew(String key, String token, Duration ttl) {
+        // 예외가 전파되면 scheduleAtFixedRate 이후 실행이 중단되므로 모두 잡아서 로깅
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(key), token, String.valueOf(ttl.toMillis()));
+            if (renewed == null || renewed == 0) {
+                log.warn("Distributed lock lost before release - key={}", key);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to renew distributed lock - key={}: {}", key, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renewalExecutor.shutdownNow();
+    }
+}
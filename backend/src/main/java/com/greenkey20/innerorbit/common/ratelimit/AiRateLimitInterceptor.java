@@ -0,0 +1,46 @@
+package com.greenkey20.innerorbit.common.ratelimit;
+
+import com.greenkey20.innerorbit.security.UserPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * @AiRateLimited 엔드포인트 진입 전 사용자별 버킷/예산 확인
+ * 초과 시 RateLimitExceededException → GlobalExceptionHandler가 429 + Retry-After로 응답
+ */
+@Component
+@RequiredArgsConstructor
+public class AiRateLimitInterceptor implements HandlerInterceptor {
+
+    private final AiRateLimiter aiRateLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        AiRateLimited limited = handlerMethod.getMethodAnnotation(AiRateLimited.class);
+        if (limited == null) {
+            return true;
+        }
+        Long userId = currentUserId();
+        if (userId != null) {
+            aiRateLimiter.acquire(userId, limited.cost());
+        }
+        return true;
+    }
+
+    static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.userId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.greenkey20.innerorbit.common.ratelimit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * LLM을 호출하는 엔드포인트 표시 — AiRateLimitInterceptor가 사용자별 토큰 버킷/일일 예산 확인
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AiRateLimited {
+
+    /** 요청 한 번에 차감할 버킷 토큰 수 (여러 건을 묶어 분석하는 요청은 크게) */
+    int cost() default 1;
+}
@@ -0,0 +1,244 @@
+package com.greenkey20.innerorbit.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.greenkey20.innerorbit.common.config.AiRateLimitProperties;
+import com.greenkey20.innerorbit.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 사용자별 AI 요청 제한 — Redis 토큰 버킷 + 일일 토큰 예산
+ *
+ * 버킷: ai:rl:{userId}:bucket 해시(tokens, ts)를 Lua 스크립트 한 번으로 보충/확인/차감 (시각은 Redis TIME 기준이라 노드 간 시계 차이 무관)
+ * 예산: ai:rl:{userId}:budget:yyyyMMdd 카운터 — 응답의 실제 사용량(입력+출력 토큰)을 INCRBY, 다음 날 만료
+ * {userId} 해시 태그로 두 키가 같은 클러스터 슬롯에 위치
+ *
+ * 로컬 사전 확인: 마지막 Redis 확인 결과 버킷과 예산이 넉넉히 남은 사용자는 Redis 왕복 없이 허용하고
+ * 허용한 비용을 debt로 쌓아 다음 Redis 확인 때 함께 차감 (debt 상한 maxLocalDebt, 상태 유효 시간 localStateTtl)
+ */
+@Component
+@Slf4j
+public class AiRateLimiter {
+
+    /**
+     * KEYS[1]=bucket, KEYS[2]=budget
+     * ARGV: capacity, refill(토큰/ms), cost, debt, dailyBudget, bucketTtlMs
+     * 반환: {허용(1) / 버킷 부족(0) / 예산 소진(-1), 남은 토큰, 재시도까지 ms, 오늘 사용 토큰}
+     */
+    private static final RedisScript<List> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local t = redis.call('time')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local cost = tonumber(ARGV[3])
+            local debt = tonumber(ARGV[4])
+            local budget = tonumber(ARGV[5])
+            local used = tonumber(redis.call('get', KEYS[2]) or '0')
+            local state = redis.call('hmget', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1]) or capacity
+            local ts = tonumber(state[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate) - debt
+            local allowed = 1
+            local retry = 0
+            if budget > 0 and used >= budget then
+              allowed = -1
+            elseif tokens < cost then
+              allowed = 0
+              retry = math.ceil((cost - tokens) / rate)
+            else
+              tokens = tokens - cost
+            end
+            redis.call('hset', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('pexpire', KEYS[1], ARGV[6])
+            return {allowed, math.floor(tokens), retry, used}
+            """, List.class);
+
+    /**
+     * KEYS[1]=budget, ARGV: tokens, ttlSeconds — 첫 기록일 때만 만료 지정
+     */
+    private static final RedisScript<Long> RECORD_USAGE_SCRIPT = new DefaultRedisScript<>("""
+            local used = redis.call('incrby', KEYS[1], ARGV[1])
+            if used == tonumber(ARGV[1]) then redis.call('expire', KEYS[1], ARGV[2]) end
+            return used
+            """, Long.class);
+
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final long BUDGET_TTL_SECONDS = Duration.ofDays(2).toSeconds();
+
+    private final StringRedisTemplate redisTemplate;
+    private final AiRateLimitProperties properties;
+    private final Cache<Long, LocalBucket> localBuckets;
+    private final Counter localHits;
+    private final Counter rejected;
+
+    public AiRateLimiter(StringRedisTemplate redisTemplate, AiRateLimitProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+        this.localHits = Counter.builder("ai.ratelimit.local")
+                .description("Redis 확인 없이 로컬에서 허용한 요청 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("ai.ratelimit.rejected")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 허용 여부 확인 — 초과 시 RateLimitExceededException (429, Retry-After)
+     */
+    public void acquire(Long userId, int cost) {
+        if (!properties.isEnabled() || userId == null) {
+            return;
+        }
+        LocalBucket local = localBuckets.get(userId, id -> new LocalBucket());
+        synchronized (local) {
+            if (local.tryLocal(cost, System.nanoTime())) {
+                localHits.increment();
+                return;
+            }
+            Decision decision = checkRedis(userId, cost, local.debt);
+            if (decision == null) {
+                return;
+            }
+            local.sync(decision.tokens(), decision.used(), System.nanoTime());
+            if (decision.allowed() == 0) {
+                rejected.increment();
+                throw new RateLimitExceededException(ErrorCode.AI_RATE_LIMITED,
+                        Duration.ofMillis(Math.max(decision.retryAfterMillis(), 1000)));
+            }
+            if (decision.allowed() < 0) {
+                rejected.increment();
+                throw new RateLimitExceededException(ErrorCode.AI_TOKEN_BUDGET_EXCEEDED, untilTomorrow());
+            }
+        }
+    }
+
+    /**
+     * 응답의 실제 토큰 사용량을 일일 예산에 반영
+     */
+    public void recordTokenUsage(Long userId, long tokens) {
+        if (!properties.isEnabled() || userId == null || tokens <= 0) {
+            return;
+        }
+        try {
+            Long used = redisTemplate.execute(RECORD_USAGE_SCRIPT, List.of(budgetKey(userId)),
+                    String.valueOf(tokens), String.valueOf(BUDGET_TTL_SECONDS));
+            LocalBucket local = localBuckets.getIfPresent(userId);
+            if (used != null && local != null) {
+                synchronized (local) {
+                    local.budgetUsed = used;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to record AI token usage - userId={}: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * Redis 장애 시에는 AI 기능 자체를 막지 않도록 허용 (null 반환)
+     */
+    private Decision checkRedis(Long userId, int cost, int debt) {
+        try {
+            List<?> result = redisTemplate.execute(ACQUIRE_SCRIPT,
+                    List.of(bucketKey(userId), budgetKey(userId)),
+                    String.valueOf(properties.getBucketCapacity()),
+                    String.valueOf(refillPerMillis()),
+                    String.valueOf(cost),
+                    String.valueOf(debt),
+                    String.valueOf(properties.getDailyTokenBudget()),
+                    String.valueOf(bucketTtlMillis()));
+            if (result == null || result.size() < 4) {
+                return null;
+            }
+            return new Decision(toLong(result.get(0)), toLong(result.get(1)),
+                    toLong(result.get(2)), toLong(result.get(3)));
+        } catch (Exception e) {
+            log.warn("AI rate limit check failed, allowing request - userId={}: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    private double refillPerMillis() {
+        return properties.getRefillPerMinute() / 60_000.0;
+    }
+
+    /**
+     * 빈 버킷이 가득 찰 때까지 걸리는 시간 — 그 이후엔 키가 없어도 가득 찬 버킷과 같음
+     */
+    private long bucketTtlMillis() {
+        return (long) Math.ceil(properties.getBucketCapacity() / refillPerMillis()) + 1000;
+    }
+
+    private static String bucketKey(Long userId) {
+        return "ai:rl:{" + userId + "}:bucket";
+    }
+
+    private static String budgetKey(Long userId) {
+        return "ai:rl:{" + userId + "}:budget:" + LocalDate.now().format(DAY);
+    }
+
+    private static Duration untilTomorrow() {
+        return Duration.between(LocalDateTime.now(), LocalDate.now().plusDays(1).atStartOfDay());
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+    }
+
+    private record Decision(long allowed, long tokens, long retryAfterMillis, long used) {
+    }
+
+    /**
+     * 사용자별 마지막 Redis 확인 결과와 아직 반영하지 않은 로컬 차감분 — 인스턴스로 동기화
+     */
+    private final class LocalBucket {
+
+        private double tokens;
+        private long budgetUsed;
+        private int debt;
+        private long syncedAt;
+        private boolean synced;
+
+        boolean tryLocal(int cost, long now) {
+            if (!synced || now - syncedAt > properties.getLocalStateTtl().toNanos()) {
+                return false;
+            }
+            if (debt + cost > properties.getMaxLocalDebt()) {
+                return false;
+            }
+            double headroom = properties.getLocalHeadroom();
+            if (tokens - debt - cost < properties.getBucketCapacity() * headroom) {
+                return false;
+            }
+            long budget = properties.getDailyTokenBudget();
+            if (budget > 0 && budgetUsed > budget * (1 - headroom)) {
+                return false;
+            }
+            debt += cost;
+            return true;
+        }
+
+        void sync(long tokens, long budgetUsed, long now) {
+            this.tokens = tokens;
+            this.budgetUsed = budgetUsed;
+            this.debt = 0;
+            this.syncedAt = now;
+            this.synced = true;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.greenkey20.innerorbit.common.ratelimit;
+
+import java.util.Optional;
+
+/**
+ * LLM 토큰 사용량을 반영할 사용자 — 인증 컨텍스트가 없는 스레드(비동기 분석 워커 등)에서 사용자 요청 작업을 실행하는 동안 바인딩
+ * TokenBudgetAdvisor가 SecurityContext에 사용자가 없을 때 확인. 바인딩한 쪽이 작업 후 반드시 해제
+ */
+public final class AiUsageContext {
+
+    private static final ThreadLocal<Long> CURRENT_USER = new ThreadLocal<>();
+
+    private AiUsageContext() {
+    }
+
+    public static void bind(Long userId) {
+        CURRENT_USER.set(userId);
+    }
+
+    public static Optional<Long> currentUserId() {
+        return Optional.ofNullable(CURRENT_USER.get());
+    }
+
+    public static void clear() {
+        CURRENT_USER.remove();
+    }
+}
@@ -0,0 +1,21 @@
+package com.greenkey20.innerorbit.common.ratelimit;
+
+import com.greenkey20.innerorbit.common.exception.BusinessException;
+import com.greenkey20.innerorbit.common.exception.ErrorCode;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 AI 요청 제한 초과 — 429 + Retry-After
+ */
+@Getter
+public class RateLimitExceededException extends BusinessException {
+
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(ErrorCode errorCode, Duration retryAfter) {
+        super(errorCode);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,75 @@
+package com.greenkey20.innerorbit.common.ratelimit;
+
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.core.Ordered;
+import reactor.core.publisher.Flux;
+
+/**
+ * 응답의 실제 토큰 사용량(입력+출력)을 요청 사용자의 일일 예산에 반영
+ *
+ * 사용자는 호출 스레드의 SecurityContext, 없으면 AiUsageContext에서 확인 — ResilienceAdvisor의 헤지/벌크헤드
+ * 스레드로 넘어가기 전에 읽어야 하므로 가장 바깥에서 실행
+ * 비동기 분석 작업은 워커가 작업 사용자를 AiUsageContext에 바인딩해 집계, 스케줄러 배치 호출은 집계하지 않음
+ */
+public class TokenBudgetAdvisor implements CallAdvisor, StreamAdvisor {
+
+    private final AiRateLimiter aiRateLimiter;
+
+    public TokenBudgetAdvisor(AiRateLimiter aiRateLimiter) {
+        this.aiRateLimiter = aiRateLimiter;
+    }
+
+    @Override
+    public ChatClientResponse adviseCall(ChatClientRequest request, CallAdvisorChain chain) {
+        Long userId = currentUserId();
+        ChatClientResponse response = chain.nextCall(request);
+        if (userId != null) {
+            aiRateLimiter.recordTokenUsage(userId, totalTokens(response.chatResponse()));
+        }
+        return response;
+    }
+
+    @Override
+    public Flux<ChatClientResponse> adviseStream(ChatClientRequest request, StreamAdvisorChain chain) {
+        Long userId = currentUserId();
+        if (userId == null) {
+            return chain.nextStream(request);
+        }
+        // 스트리밍은 사용량이 마지막 청크에만 실려 옴 (stream-usage 옵션)
+        return chain.nextStream(request)
+                .doOnNext(response -> aiRateLimiter.recordTokenUsage(userId, totalTokens(response.chatResponse())));
+    }
+
+    private static Long currentUserId() {
+        Long userId = AiRateLimitInterceptor.currentUserId();
+        return userId != null ? userId : AiUsageContext.currentUserId().orElse(null);
+    }
+
+    private static long totalTokens(ChatResponse chatResponse) {
+        if (chatResponse == null || chatResponse.getMetadata() == null) {
+            return 0;
+        }
+        Usage usage = chatResponse.getMetadata().getUsage();
+        if (usage == null || usage.getTotalTokens() == null) {
+            return 0;
+        }
+        return usage.getTotalTokens();
+    }
+
+    @Override
+    public String getName() {
+        return "tokenBudgetAdvisor";
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
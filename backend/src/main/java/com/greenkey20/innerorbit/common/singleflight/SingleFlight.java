@@ -0,0 +1,208 @@
+package com.greenkey20.innerorbit.common.singleflight;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.greenkey20.innerorbit.common.config.SingleFlightProperties;
+import com.greenkey20.innerorbit.common.deadline.RequestDeadline;
+import com.greenkey20.innerorbit.common.exception.BusinessException;
+import com.greenkey20.innerorbit.common.exception.ErrorCode;
+import com.greenkey20.innerorbit.common.lock.DistributedLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 동일 요청 합치기 (single-flight) — 같은 키로 동시에 들어온 호출은 한 번만 실행하고 결과를 함께 받음
+ *
+ * 인스턴스 안: 키별 CompletableFuture를 공유 — 먼저 온 호출(leader)이 실행, 나머지는 같은 결과/예외를 받음
+ * 인스턴스 간: leader가 분산 락(ai:sf:lock:{key})을 잡고 실행 후 결과를 ai:sf:result:{key}에 잠깐 남김.
+ *   락을 못 잡은 인스턴스는 결과가 올라올 때까지 pollInterval 주기로 확인하고,
+ *   결과 없이 락이 풀리거나(실패) maxWait을 넘기면 직접 실행
+ * Redis 장애 시 인스턴스 안에서만 합침
+ *
+ * 지표: ai.singleflight.executed{name} — 실제 실행 수, ai.singleflight.coalesced{name, scope=local|shared} — 합쳐진 호출 수
+ */
+@Component
+@Slf4j
+public class SingleFlight {
+
+    private static final String LOCK_PREFIX = "ai:sf:lock:";
+    private static final String RESULT_PREFIX = "ai:sf:result:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final DistributedLock distributedLock;
+    private final ObjectMapper objectMapper;
+    private final SingleFlightProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlight(StringRedisTemplate redisTemplate, DistributedLock distributedLock, ObjectMapper objectMapper,
+                        SingleFlightProperties properties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.distributedLock = distributedLock;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param name   지표 태그용 호출 종류 (analysis, keywords 등)
+     * @param key    요청 지문 — 같은 키면 같은 결과여도 되는 요청이어야 함
+     * @param type   인스턴스 간 결과 전달용 타입
+     * @param loader 실제 호출
+     */
+    public <T> T execute(String name, String key, Class<T> type, Supplier<T> loader) {
+        return execute(name, key, objectMapper.constructType(type), loader);
+    }
+
+    public <T> T execute(String name, String key, TypeReference<T> type, Supplier<T> loader) {
+        return execute(name, key, objectMapper.constructType(type), loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T execute(String name, String key, JavaType type, Supplier<T> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+
+        String flightKey = name + ":" + key;
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, future);
+        if (existing != null) {
+            coalesced(name, "local");
+            log.debug("Coalesced with in-flight call - {}", flightKey);
+            return (T) await(existing);
+        }
+
+        try {
+            T result = properties.isShared() ? executeShared(name, flightKey, type, loader) : executeLocal(name, loader);
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, future);
+        }
+    }
+
+    private <T> T executeLocal(String name, Supplier<T> loader) {
+        executed(name);
+        return loader.get();
+    }
+
+    private <T> T executeShared(String name, String flightKey, JavaType type, Supplier<T> loader) {
+        Optional<DistributedLock.LockHandle> lock;
+        try {
+            lock = distributedLock.tryLock(LOCK_PREFIX + flightKey, properties.getLockTtl());
+        } catch (Exception e) {
+            log.warn("Single-flight lock unavailable, executing locally - {}: {}", flightKey, e.getMessage());
+            return executeLocal(name, loader);
+        }
+
+        if (lock.isPresent()) {
+            try (DistributedLock.LockHandle ignored = lock.get()) {
+                T result = executeLocal(name, loader);
+                publish(flightKey, result);
+                return result;
+            }
+        }
+
+        Optional<T> shared = awaitShared(flightKey, type);
+        if (shared.isPresent()) {
+            coalesced(name, "shared");
+            return shared.get();
+        }
+        return executeLocal(name, loader);
+    }
+
+    /**
+     * 다른 인스턴스의 결과 대기 — 결과 없이 락이 풀리면(실패/만료) 즉시 포기
+     */
+    private <T> Optional<T> awaitShared(String flightKey, JavaType type) {
+        long deadline = System.nanoTime() + properties.getMaxWait().toNanos();
+        try {
+            while (System.nanoTime() < deadline) {
+                Thread.sleep(properties.getPollInterval().toMillis());
+                String json = redisTemplate.opsForValue().get(RESULT_PREFIX + flightKey);
+                if (json != null) {
+                    return Optional.of(objectMapper.readValue(json, type));
+                }
+                if (!Boolean.TRUE.equals(redisTemplate.hasKey(LOCK_PREFIX + flightKey))) {
+                    return Optional.empty();
+                }
+            }
+            log.warn("Timed out waiting for shared single-flight result - {}", flightKey);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Failed to read shared single-flight result - {}: {}", flightKey, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 락 해제 전에 결과를 올려야 대기 중인 인스턴스가 "결과 없이 락 해제"로 오인하지 않음
+     */
+    private void publish(String flightKey, Object result) {
+        if (result == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(RESULT_PREFIX + flightKey,
+                    objectMapper.writeValueAsString(result), properties.getResultTtl());
+        } catch (Exception e) {
+            log.warn("Failed to publish single-flight result - {}: {}", flightKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 먼저 온 호출의 결과 대기 — 요청 마감이 있으면 그 안에서만 기다림
+     */
+    private static Object await(CompletableFuture<Object> future) {
+        Optional<RequestDeadline> deadline = RequestDeadline.current();
+        try {
+            return deadline.isPresent()
+                    ? future.get(deadline.get().remaining().toNanos(), TimeUnit.NANOSECONDS)
+                    : future.join();
+        } catch (TimeoutException e) {
+            throw new BusinessException(ErrorCode.AI_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.AI_TIMEOUT, e);
+        } catch (ExecutionException | CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void executed(String name) {
+        Counter.builder("ai.singleflight.executed")
+                .tag("name", name)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void coalesced(String name, String scope) {
+        Counter.builder("ai.singleflight.coalesced")
+                .tag("name", name)
+                .tag("scope", scope)
+                .register(meterRegistry)
+                .increment();
+    }
+}
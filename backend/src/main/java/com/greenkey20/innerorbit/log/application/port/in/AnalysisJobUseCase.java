@@ -0,0 +1,29 @@
+package com.greenkey20.innerorbit.log.application.port.in;
+
+import com.greenkey20.innerorbit.log.domain.model.AnalysisJob;
+
+/**
+ * 비동기 AI 분석 작업 in port
+ */
+public interface AnalysisJobUseCase {
+
+    /**
+     * 비동기 모드 사용 가능 여부 (analysis-job.enabled)
+     */
+    boolean isAsyncEnabled();
+
+    /**
+     * 분석 작업 등록 — 큐에 넣고 바로 반환 (LLM 호출은 워커가 수행)
+     */
+    AnalysisJob requestAnalysis(Long logId, Long userId);
+
+    /**
+     * 작업 상태 조회 — 요청한 사용자의 작업만
+     */
+    AnalysisJob getJob(String jobId, Long userId);
+
+    /**
+     * 워커 전용 — 작업 1건 실행. 이미 끝난 작업은 건너뜀
+     */
+    void process(String jobId);
+}
@@ -5,6 +5,8 @@ import com.greenkey20.innerorbit.log.infrastructure.adapter.in.web.dto.request.L
 import com.greenkey20.innerorbit.log.infrastructure.adapter.in.web.dto.request.LogEntryUpdateRequest;
 import com.greenkey20.innerorbit.log.infrastructure.adapter.in.web.dto.response.LogEntryResponse;
 
+import reactor.core.publisher.Flux;
+
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -32,8 +34,18 @@ public interface LogUseCase {
 
     LogEntryResponse updateLogAnalysis(Long logId);
 
+    /**
+     * 여러 로그 일괄 AI 분석 — 본인 로그만 대상, 요청 순서대로 반환
+     */
+    List<LogEntryResponse> updateLogAnalysisBatch(List<Long> logIds, Long userId);
+
     LogEntryResponse generateInsightFeedback(Long logId);
 
+    /**
+     * Insight 피드백 토큰 스트리밍 — 스트림이 정상 완료되면 전체 피드백을 aiFeedback에 저장한 뒤 종료
+     */
+    Flux<String> streamInsightFeedback(Long logId);
+
     void deleteLogEntry(Long id);
 
     Map<String, Object> getStatistics();
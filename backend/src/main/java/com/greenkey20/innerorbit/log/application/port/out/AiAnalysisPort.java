@@ -1,5 +1,9 @@
 package com.greenkey20.innerorbit.log.application.port.out;
 
+import com.greenkey20.innerorbit.log.domain.model.LogEntry;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -12,10 +16,25 @@ public interface AiAnalysisPort {
      */
     Map<String, Object> analyzeCognitiveDistortions(String content, Integer gravity, Integer stability);
 
+    /**
+     * 여러 로그 일괄 분석 — 로그 id별 결과 Map. 분석에 실패한 로그는 결과에서 빠짐
+     */
+    Map<Long, Map<String, Object>> analyzeCognitiveDistortionsBatch(List<LogEntry> entries);
+
+    /**
+     * 분석 입력 지문 — 저장된 지문과 같으면 기존 analysis_result를 그대로 사용
+     */
+    String analysisFingerprint(String content, Integer gravity, Integer stability);
+
     /**
      * Insight Log AI 피드백 생성
      *
      * @param recentLogsContext 최근 Flight Log 컨텍스트 문자열
      */
     String generateInsightFeedback(String trigger, String abstraction, String application, String recentLogsContext);
+
+    /**
+     * Insight Log AI 피드백 스트리밍 — 토큰 단위
+     */
+    Flux<String> streamInsightFeedback(String trigger, String abstraction, String application, String recentLogsContext);
 }
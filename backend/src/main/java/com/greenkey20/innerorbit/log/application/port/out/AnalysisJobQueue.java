@@ -0,0 +1,23 @@
+package com.greenkey20.innerorbit.log.application.port.out;
+
+import com.greenkey20.innerorbit.log.domain.model.AnalysisJob;
+
+import java.util.Optional;
+
+/**
+ * 비동기 AI 분석 작업 큐 out port
+ */
+public interface AnalysisJobQueue {
+
+    /**
+     * 작업을 워커 큐에 추가 (상태는 save로 먼저 기록)
+     */
+    void enqueue(AnalysisJob job);
+
+    /**
+     * 작업 상태 저장 — 완료/실패 상태면 구독 중인 클라이언트에게 알림 발행
+     */
+    void save(AnalysisJob job);
+
+    Optional<AnalysisJob> findById(String jobId);
+}
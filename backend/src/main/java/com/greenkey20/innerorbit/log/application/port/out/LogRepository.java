@@ -4,6 +4,7 @@ import com.greenkey20.innerorbit.log.domain.model.LogEntry;
 import com.greenkey20.innerorbit.log.domain.model.LogType;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +17,8 @@ public interface LogRepository {
 
     Optional<LogEntry> findById(Long id);
 
+    List<LogEntry> findAllByIds(Collection<Long> ids);
+
     List<LogEntry> findAllOrderByCreatedAtDesc();
 
     List<LogEntry> findTop5ByLogType(LogType logType);
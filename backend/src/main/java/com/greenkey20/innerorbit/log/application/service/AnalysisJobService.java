@@ -0,0 +1,108 @@
+package com.greenkey20.innerorbit.log.application.service;
+
+import com.greenkey20.innerorbit.common.exception.BusinessException;
+import com.greenkey20.innerorbit.common.exception.ErrorCode;
+import com.greenkey20.innerorbit.common.ratelimit.AiUsageContext;
+import com.greenkey20.innerorbit.log.application.port.in.AnalysisJobUseCase;
+import com.greenkey20.innerorbit.log.application.port.in.LogUseCase;
+import com.greenkey20.innerorbit.log.application.port.out.AnalysisJobQueue;
+import com.greenkey20.innerorbit.log.application.port.out.LogRepository;
+import com.greenkey20.innerorbit.log.domain.model.AnalysisJob;
+import com.greenkey20.innerorbit.log.infrastructure.config.AnalysisJobProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * AnalysisJobUseCase 구현체 — 요청 스레드는 작업 등록만 하고 바로 반환,
+ * 실제 분석(LogUseCase.updateLogAnalysis)은 워커 풀에서 실행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisJobService implements AnalysisJobUseCase {
+
+    /** 잠시 후 다시 호출하면 성공할 수 있는 AI 오류 — 브레이커 open/벌크헤드 초과, 마감, 입장 제어 과부하 */
+    private static final Set<ErrorCode> TRANSIENT_ERRORS =
+            EnumSet.of(ErrorCode.AI_UNAVAILABLE, ErrorCode.AI_TIMEOUT, ErrorCode.AI_OVERLOADED);
+
+    private final AnalysisJobQueue analysisJobQueue;
+    private final LogRepository logRepository;
+    private final LogUseCase logUseCase;
+    private final AnalysisJobProperties analysisJobProperties;
+
+    @Override
+    public boolean isAsyncEnabled() {
+        return analysisJobProperties.isEnabled();
+    }
+
+    @Override
+    public AnalysisJob requestAnalysis(Long logId, Long userId) {
+        if (logRepository.findById(logId).isEmpty()) {
+            throw new BusinessException(ErrorCode.LOG_ENTRY_NOT_FOUND,
+                    String.format("ID %d에 해당하는 로그를 찾을 수 없습니다.", logId));
+        }
+
+        AnalysisJob job = AnalysisJob.queued(logId, userId);
+        analysisJobQueue.save(job);
+        analysisJobQueue.enqueue(job);
+
+        log.info("Analysis job queued - jobId: {}, logId: {}", job.getJobId(), logId);
+        return job;
+    }
+
+    @Override
+    public AnalysisJob getJob(String jobId, Long userId) {
+        return analysisJobQueue.findById(jobId)
+                .filter(job -> job.getUserId().equals(userId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.ANALYSIS_JOB_NOT_FOUND));
+    }
+
+    /**
+     * 일시적 AI 오류는 QUEUED로 되돌리고 예외를 던져 ack하지 않음 → 워커가 retryBackoff 뒤 다시 처리 (maxAttempts까지)
+     * 그 밖의 실패(로그 없음, 응답 형식 오류 등)와 재시도 소진은 FAILED로 기록하고 정상 반환 (워커가 ack)
+     * 상태 저장 자체가 실패해도 예외를 그대로 던져 ack하지 않음 → 다시 가져감
+     */
+    @Override
+    public void process(String jobId) {
+        Optional<AnalysisJob> found = analysisJobQueue.findById(jobId);
+        if (found.isEmpty() || found.get().isFinished()) {
+            log.debug("Analysis job {} already finished or expired, skipping", jobId);
+            return;
+        }
+
+        AnalysisJob job = found.get();
+        job.markRunning();
+        analysisJobQueue.save(job);
+
+        // 워커 스레드에는 인증 컨텍스트가 없으므로 작업 사용자를 바인딩해 토큰 사용량을 그 사용자의 일일 예산에 반영
+        AiUsageContext.bind(job.getUserId());
+        try {
+            logUseCase.updateLogAnalysis(job.getLogId());
+            job.markCompleted();
+        } catch (BusinessException e) {
+            if (TRANSIENT_ERRORS.contains(e.getErrorCode())
+                    && job.getAttempts() < analysisJobProperties.getMaxAttempts()) {
+                log.warn("Analysis job {} hit transient AI error (attempt {}/{}), leaving it for retry: {}",
+                        jobId, job.getAttempts(), analysisJobProperties.getMaxAttempts(), e.getMessage());
+                job.markRetrying(e.getMessage());
+                analysisJobQueue.save(job);
+                throw e;
+            }
+            log.warn("Analysis job {} failed: {}", jobId, e.getMessage());
+            job.markFailed(e.getMessage());
+        } catch (Exception e) {
+            log.error("Analysis job {} failed: {}", jobId, e.getMessage(), e);
+            job.markFailed("AI 분석에 실패했습니다.");
+        } finally {
+            AiUsageContext.clear();
+        }
+
+        analysisJobQueue.save(job);
+        log.info("Analysis job finished - jobId: {}, status: {}", jobId, job.getStatus());
+    }
+}
@@ -13,12 +13,23 @@ import com.greenkey20.innerorbit.log.infrastructure.adapter.in.web.dto.request.L
 import com.greenkey20.innerorbit.log.infrastructure.adapter.in.web.dto.response.LogEntryResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * LogUseCase 구현체 — log 도메인 application service
@@ -182,16 +193,25 @@ public class LogService implements LogUseCase {
         throw new UnsupportedOperationException("Not implemented yet");
     }
 
+    /**
+     * 3단계 분리: 짧은 읽기 → 트랜잭션 밖 LLM 호출 → 버전 검증 짧은 쓰기
+     * LLM 왕복(최대 read-timeout) 동안 DB 커넥션을 점유하지 않도록 NOT_SUPPORTED로 실행
+     * 분석 입력(본문, gravity/stability)이 마지막 분석 때와 같으면 LLM 호출/저장 없이 기존 결과 반환
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LogEntryResponse updateLogAnalysis(Long logId) {
         log.info("Starting AI analysis for log entry ID: {}", logId);
 
-        LogEntry logEntry = logRepository.findById(logId)
-                .orElseThrow(() -> new BusinessException(
-                        ErrorCode.LOG_ENTRY_NOT_FOUND,
-                        String.format("ID %d에 해당하는 로그를 찾을 수 없습니다.", logId)
-                ));
+        LogEntry logEntry = findLogEntryOrThrow(logId);
+
+        String fingerprint = aiAnalysisPort.analysisFingerprint(
+                logEntry.getContent(), logEntry.getGravity(), logEntry.getStability());
+        if (logEntry.getAnalysisResult() != null && fingerprint != null
+                && fingerprint.equals(logEntry.getAnalysisContentHash())) {
+            log.info("Analysis input unchanged for log entry ID: {}, returning stored result", logId);
+            return LogEntryResponse.from(logEntry);
+        }
 
         Map<String, Object> analysisMap = aiAnalysisPort.analyzeCognitiveDistortions(
                 logEntry.getContent(),
@@ -199,34 +219,83 @@ public class LogService implements LogUseCase {
                 logEntry.getStability()
         );
         logEntry.setAnalysisResult(analysisMap);
+        logEntry.setAnalysisContentHash(fingerprint);
 
-        LogEntry updatedEntry = logRepository.save(logEntry);
+        LogEntry updatedEntry = saveWithVersionCheck(logEntry);
         log.info("AI analysis completed and saved for log entry ID: {}", logId);
 
         return LogEntryResponse.from(updatedEntry);
     }
 
+    /**
+     * 일괄 분석 — 입력이 바뀐 로그만 모아 몇 번의 LLM 호출로 분석 (커넥션 미점유는 updateLogAnalysis와 동일)
+     * 다른 사용자의 로그/없는 id는 결과에서 제외. 분석 실패나 동시 수정 충돌이 난 로그는 기존 상태로 반환
+     */
     @Override
-    @Transactional
-    public LogEntryResponse generateInsightFeedback(Long logId) {
-        log.info("Generating AI feedback for Insight log entry ID: {}", logId);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<LogEntryResponse> updateLogAnalysisBatch(List<Long> logIds, Long userId) {
+        log.info("Starting batch AI analysis for {} log entries, userId: {}", logIds.size(), userId);
+
+        Map<Long, LogEntry> entries = logRepository.findAllByIds(new LinkedHashSet<>(logIds)).stream()
+                .filter(entry -> userId.equals(entry.getUserId()))
+                .collect(Collectors.toMap(LogEntry::getId, Function.identity()));
+
+        Map<Long, String> fingerprints = new HashMap<>();
+        List<LogEntry> targets = new ArrayList<>();
+        for (LogEntry entry : entries.values()) {
+            String fingerprint = aiAnalysisPort.analysisFingerprint(
+                    entry.getContent(), entry.getGravity(), entry.getStability());
+            if (entry.getAnalysisResult() != null && fingerprint != null
+                    && fingerprint.equals(entry.getAnalysisContentHash())) {
+                continue;
+            }
+            fingerprints.put(entry.getId(), fingerprint);
+            targets.add(entry);
+        }
 
-        LogEntry logEntry = logRepository.findById(logId)
-                .orElseThrow(() -> new BusinessException(
-                        ErrorCode.LOG_ENTRY_NOT_FOUND,
-                        String.format("ID %d에 해당하는 로그를 찾을 수 없습니다.", logId)
-                ));
+        Map<Long, Map<String, Object>> analyses = targets.isEmpty()
+                ? Map.of()
+                : aiAnalysisPort.analyzeCognitiveDistortionsBatch(targets);
 
-        if (logEntry.getContent() == null || logEntry.getContent().trim().isEmpty()) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "관찰 내용(content)이 없습니다.");
-        }
-        if (logEntry.getInsightAbstraction() == null || logEntry.getInsightAbstraction().trim().isEmpty()) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Insight Abstraction이 없습니다.");
-        }
-        if (logEntry.getInsightApplication() == null || logEntry.getInsightApplication().trim().isEmpty()) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Insight Application이 없습니다.");
+        for (LogEntry entry : targets) {
+            Map<String, Object> analysisMap = analyses.get(entry.getId());
+            if (analysisMap == null) {
+                log.warn("Batch analysis produced no result for log entry ID: {}", entry.getId());
+                continue;
+            }
+            entry.setAnalysisResult(analysisMap);
+            entry.setAnalysisContentHash(fingerprints.get(entry.getId()));
+            try {
+                entries.put(entry.getId(), saveWithVersionCheck(entry));
+            } catch (BusinessException e) {
+                log.warn("Skipping batch analysis save for log entry ID: {} - {}", entry.getId(), e.getMessage());
+                entries.remove(entry.getId());
+                logRepository.findById(entry.getId()).ifPresent(latest -> entries.put(latest.getId(), latest));
+            }
         }
 
+        log.info("Batch AI analysis completed - requested: {}, analyzed: {}, unchanged: {}",
+                logIds.size(), analyses.size(), entries.size() - targets.size());
+
+        return logIds.stream()
+                .distinct()
+                .map(entries::get)
+                .filter(Objects::nonNull)
+                .map(LogEntryResponse::from)
+                .toList();
+    }
+
+    /**
+     * updateLogAnalysis와 동일한 3단계 분리 — 피드백 생성 중 커넥션 미점유
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public LogEntryResponse generateInsightFeedback(Long logId) {
+        log.info("Generating AI feedback for Insight log entry ID: {}", logId);
+
+        LogEntry logEntry = findLogEntryOrThrow(logId);
+        validateInsightFeedbackTarget(logEntry);
+
         String recentLogsContext = buildRecentFlightLogsContext(logEntry.getUserId());
 
         String feedback = aiAnalysisPort.generateInsightFeedback(
@@ -237,12 +306,76 @@ public class LogService implements LogUseCase {
         );
 
         logEntry.setAiFeedback(feedback);
-        LogEntry updatedEntry = logRepository.save(logEntry);
+        LogEntry updatedEntry = saveWithVersionCheck(logEntry);
         log.info("AI feedback generated and saved for Insight log entry ID: {}", logId);
 
         return LogEntryResponse.from(updatedEntry);
     }
 
+    /**
+     * 스트리밍 버전 — 조회/검증은 구독 전에 끝내고(실패 시 일반 에러 응답),
+     * 토큰을 모두 보낸 뒤 모은 피드백을 버전 검증 저장. 중간에 끊기거나 실패하면 저장하지 않음
+     * 저장은 LLM 응답 스레드가 아닌 boundedElastic에서 실행
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Flux<String> streamInsightFeedback(Long logId) {
+        log.info("Streaming AI feedback for Insight log entry ID: {}", logId);
+
+        LogEntry logEntry = findLogEntryOrThrow(logId);
+        validateInsightFeedbackTarget(logEntry);
+
+        String recentLogsContext = buildRecentFlightLogsContext(logEntry.getUserId());
+        StringBuilder feedback = new StringBuilder();
+
+        Mono<String> persist = Mono.<String>fromRunnable(() -> {
+            logEntry.setAiFeedback(feedback.toString());
+            saveWithVersionCheck(logEntry);
+            log.info("Streamed AI feedback saved for Insight log entry ID: {}", logId);
+        }).subscribeOn(Schedulers.boundedElastic());
+
+        return aiAnalysisPort.streamInsightFeedback(
+                        logEntry.getContent(),
+                        logEntry.getInsightAbstraction(),
+                        logEntry.getInsightApplication(),
+                        recentLogsContext)
+                .doOnNext(feedback::append)
+                .concatWith(persist);
+    }
+
+    private void validateInsightFeedbackTarget(LogEntry logEntry) {
+        if (logEntry.getContent() == null || logEntry.getContent().trim().isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "관찰 내용(content)이 없습니다.");
+        }
+        if (logEntry.getInsightAbstraction() == null || logEntry.getInsightAbstraction().trim().isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Insight Abstraction이 없습니다.");
+        }
+        if (logEntry.getInsightApplication() == null || logEntry.getInsightApplication().trim().isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Insight Application이 없습니다.");
+        }
+    }
+
+    private LogEntry findLogEntryOrThrow(Long logId) {
+        return logRepository.findById(logId)
+                .orElseThrow(() -> new BusinessException(
+                        ErrorCode.LOG_ENTRY_NOT_FOUND,
+                        String.format("ID %d에 해당하는 로그를 찾을 수 없습니다.", logId)
+                ));
+    }
+
+    /**
+     * 읽기 시점의 version으로 저장 — 그 사이 다른 요청이 수정했다면 덮어쓰지 않고 409
+     */
+    private LogEntry saveWithVersionCheck(LogEntry logEntry) {
+        try {
+            return logRepository.save(logEntry);
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Concurrent modification detected for log entry ID: {}, version: {}",
+                    logEntry.getId(), logEntry.getVersion());
+            throw new BusinessException(ErrorCode.LOG_ENTRY_CONFLICT, e);
+        }
+    }
+
     /**
      * 최근 Flight Log를 요약하여 컨텍스트 문자열 생성
      * Insight Feedback에 사용자의 최근 감정 패턴을 제공하기 위함
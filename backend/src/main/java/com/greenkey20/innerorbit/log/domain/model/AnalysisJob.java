@@ -0,0 +1,71 @@
+package com.greenkey20.innerorbit.log.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 비동기 AI 분석 작업 순수 도메인 모델
+ * 분석 결과 자체는 log_entries.analysis_result에 저장되고, 작업은 진행 상태만 보관
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalysisJob {
+
+    private String jobId;
+    private Long logId;
+    private Long userId;
+    private AnalysisJobStatus status;
+    private String errorMessage;
+    private int attempts;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static AnalysisJob queued(Long logId, Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        return AnalysisJob.builder()
+                .jobId(UUID.randomUUID().toString())
+                .logId(logId)
+                .userId(userId)
+                .status(AnalysisJobStatus.QUEUED)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    public boolean isFinished() {
+        return status == AnalysisJobStatus.COMPLETED || status == AnalysisJobStatus.FAILED;
+    }
+
+    public void markRunning() {
+        this.status = AnalysisJobStatus.RUNNING;
+        this.attempts++;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 일시적 AI 장애 — 대기 상태로 되돌려 워커가 다시 가져가도록 (마지막 오류는 조회 응답에 노출)
+     */
+    public void markRetrying(String errorMessage) {
+        this.status = AnalysisJobStatus.QUEUED;
+        this.errorMessage = errorMessage;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void markCompleted() {
+        this.status = AnalysisJobStatus.COMPLETED;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void markFailed(String errorMessage) {
+        this.status = AnalysisJobStatus.FAILED;
+        this.errorMessage = errorMessage;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,11 @@
+package com.greenkey20.innerorbit.log.domain.model;
+
+/**
+ * 비동기 AI 분석 작업 상태
+ */
+public enum AnalysisJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -22,6 +22,8 @@ public class LogEntry {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private Map<String, Object> analysisResult;
+    /** analysisResult를 계산한 입력의 지문 (프롬프트 버전 + gravity/stability + 본문 해시) */
+    private String analysisContentHash;
     private Long userId;
     private String location;
     private String sensoryVisual;
@@ -31,4 +33,6 @@ public class LogEntry {
     private String insightAbstraction;
     private String insightApplication;
     private String aiFeedback;
+    /** 낙관적 락 버전 — 분석 결과 저장 시 동시 수정 감지용 */
+    private Long version;
 }
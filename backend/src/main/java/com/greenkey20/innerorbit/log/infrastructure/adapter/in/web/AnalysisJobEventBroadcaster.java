@@ -0,0 +1,62 @@
+package com.greenkey20.innerorbit.log.infrastructure.adapter.in.web;
+
+import com.greenkey20.innerorbit.log.domain.model.AnalysisJob;
+import com.greenkey20.innerorbit.log.infrastructure.adapter.in.web.dto.response.AnalysisJobResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 분석 작업 완료 SSE 구독 관리 — 이 인스턴스에 연결된 구독자만 보관
+ * 완료 이벤트는 Redis Pub/Sub(analysis:job-events)으로 모든 인스턴스에 전달되어 publish 호출
+ */
+@Component
+@Slf4j
+public class AnalysisJobEventBroadcaster {
+
+    private static final Duration EMITTER_TIMEOUT = Duration.ofMinutes(3);
+
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(String jobId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT.toMillis());
+        emitters.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+        emitter.onCompletion(() -> remove(jobId, emitter));
+        emitter.onTimeout(() -> remove(jobId, emitter));
+        emitter.onError(e -> remove(jobId, emitter));
+        return emitter;
+    }
+
+    /**
+     * 완료/실패한 작업을 구독자에게 보내고 연결 종료
+     */
+    public void publish(AnalysisJob job) {
+        List<SseEmitter> subscribers = emitters.remove(job.getJobId());
+        if (subscribers == null) {
+            return;
+        }
+        AnalysisJobResponse response = AnalysisJobResponse.from(job);
+        for (SseEmitter emitter : subscribers) {
+            try {
+                emitter.send(SseEmitter.event().name("job").data(response));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Analysis job subscriber already gone - jobId: {}", job.getJobId());
+            }
+        }
+    }
+
+    private void remove(String jobId, SseEmitter emitter) {
+        emitters.computeIfPresent(jobId, (id, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+}
@@ -1,9 +1,16 @@
 package com.greenkey20.innerorbit.log.infrastructure.adapter.in.web;
 
+import com.greenkey20.innerorbit.common.exception.BusinessException;
+import com.greenkey20.innerorbit.common.idempotency.Idempotent;
+import com.greenkey20.innerorbit.common.ratelimit.AiRateLimited;
+import com.greenkey20.innerorbit.log.application.port.in.AnalysisJobUseCase;
 import com.greenkey20.innerorbit.log.application.port.in.LogUseCase;
+import com.greenkey20.innerorbit.log.domain.model.AnalysisJob;
 import com.greenkey20.innerorbit.log.infrastructure.adapter.in.web.dto.request.AnalysisUpdateRequest;
+import com.greenkey20.innerorbit.log.infrastructure.adapter.in.web.dto.request.BatchAnalysisRequest;
 import com.greenkey20.innerorbit.log.infrastructure.adapter.in.web.dto.request.LogEntryCreateRequest;
 import com.greenkey20.innerorbit.log.infrastructure.adapter.in.web.dto.request.LogEntryUpdateRequest;
+import com.greenkey20.innerorbit.log.infrastructure.adapter.in.web.dto.response.AnalysisJobResponse;
 import com.greenkey20.innerorbit.log.infrastructure.adapter.in.web.dto.response.LogEntryResponse;
 import com.greenkey20.innerorbit.security.UserPrincipal;
 import jakarta.validation.Valid;
@@ -11,10 +18,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -30,7 +43,10 @@ import java.util.Map;
 public class LogController {
 
     private final LogUseCase logUseCase;
+    private final AnalysisJobUseCase analysisJobUseCase;
+    private final AnalysisJobEventBroadcaster analysisJobEventBroadcaster;
 
+    @Idempotent
     @PostMapping
     public ResponseEntity<LogEntryResponse> createLogEntry(
             @Valid @RequestBody LogEntryCreateRequest request,
@@ -99,13 +115,77 @@ public class LogController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * POST /api/logs/{id}/analyze?async=true
+     * async: 작업만 등록하고 202 + jobId 반환 — 완료는 /analysis-jobs/{jobId}/events(SSE) 또는 상태 조회로 확인
+     * (analysis-job.enabled=false면 async여도 동기 처리)
+     */
+    @Idempotent
+    @AiRateLimited
     @PostMapping("/{id}/analyze")
-    public ResponseEntity<LogEntryResponse> analyzeLogEntry(@PathVariable Long id) {
+    public ResponseEntity<?> analyzeLogEntry(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean async,
+            Authentication authentication) {
+        if (async && analysisJobUseCase.isAsyncEnabled()) {
+            log.info("Queueing AI analysis for log entry with id: {}", id);
+            Long userId = ((UserPrincipal) authentication.getPrincipal()).userId();
+            AnalysisJob job = analysisJobUseCase.requestAnalysis(id, userId);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/logs/analysis-jobs/" + job.getJobId()))
+                    .body(AnalysisJobResponse.from(job));
+        }
+
         log.info("Triggering AI analysis for log entry with id: {}", id);
         LogEntryResponse response = logUseCase.updateLogAnalysis(id);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * POST /api/logs/analyze-batch
+     * 여러 로그를 묶어서 분석 — 본인 로그만, 요청 순서대로 반환
+     */
+    @AiRateLimited(cost = 5)
+    @PostMapping("/analyze-batch")
+    public ResponseEntity<List<LogEntryResponse>> analyzeLogEntries(
+            @Valid @RequestBody BatchAnalysisRequest request,
+            Authentication authentication) {
+        log.info("Triggering batch AI analysis for {} log entries", request.getLogIds().size());
+        Long userId = ((UserPrincipal) authentication.getPrincipal()).userId();
+        List<LogEntryResponse> responses = logUseCase.updateLogAnalysisBatch(request.getLogIds(), userId);
+        return ResponseEntity.ok(responses);
+    }
+
+    @GetMapping("/analysis-jobs/{jobId}")
+    public ResponseEntity<AnalysisJobResponse> getAnalysisJob(
+            @PathVariable String jobId,
+            Authentication authentication) {
+        Long userId = ((UserPrincipal) authentication.getPrincipal()).userId();
+        return ResponseEntity.ok(AnalysisJobResponse.from(analysisJobUseCase.getJob(jobId, userId)));
+    }
+
+    /**
+     * GET /api/logs/analysis-jobs/{jobId}/events (SSE)
+     * 작업이 끝나면 event: job 1건 후 종료 — 이미 끝난 작업이면 즉시 전송
+     */
+    @GetMapping(value = "/analysis-jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeAnalysisJob(
+            @PathVariable String jobId,
+            Authentication authentication) {
+        Long userId = ((UserPrincipal) authentication.getPrincipal()).userId();
+        AnalysisJob job = analysisJobUseCase.getJob(jobId, userId);
+
+        SseEmitter emitter = analysisJobEventBroadcaster.subscribe(jobId);
+        // 구독 등록 전에 끝났을 수 있으므로 등록 후 상태를 다시 확인
+        AnalysisJob latest = job.isFinished() ? job : analysisJobUseCase.getJob(jobId, userId);
+        if (latest.isFinished()) {
+            analysisJobEventBroadcaster.publish(latest);
+        }
+        return emitter;
+    }
+
+    @Idempotent
+    @AiRateLimited
     @PostMapping("/{id}/request-feedback")
     public ResponseEntity<LogEntryResponse> requestInsightFeedback(@PathVariable Long id) {
         log.info("Requesting AI feedback for Insight log with id: {}", id);
@@ -113,6 +193,28 @@ public class LogController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * POST /api/logs/{id}/request-feedback/stream (SSE)
+     * event: token {"content": "..."} 반복 → 저장 완료 후 event: done / 실패 시 event: error
+     */
+    @AiRateLimited
+    @PostMapping(value = "/{id}/request-feedback/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Map<String, String>>> streamInsightFeedback(@PathVariable Long id) {
+        log.info("Streaming AI feedback for Insight log with id: {}", id);
+        return logUseCase.streamInsightFeedback(id)
+                .map(token -> sseEvent("token", "content", token))
+                .concatWith(Mono.fromSupplier(() -> sseEvent("done", "status", "saved")))
+                .onErrorResume(e -> {
+                    log.error("Failed to stream AI feedback for log id {}: {}", id, e.getMessage(), e);
+                    String message = e instanceof BusinessException ? e.getMessage() : "AI 피드백 생성에 실패했습니다.";
+                    return Mono.just(sseEvent("error", "error", message));
+                });
+    }
+
+    private ServerSentEvent<Map<String, String>> sseEvent(String event, String key, String value) {
+        return ServerSentEvent.<Map<String, String>>builder(Map.of(key, value)).event(event).build();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteLogEntry(@PathVariable Long id) {
         log.info("Deleting log entry with id: {}", id);
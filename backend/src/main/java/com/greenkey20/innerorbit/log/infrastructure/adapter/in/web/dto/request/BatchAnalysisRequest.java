@@ -0,0 +1,23 @@
+package com.greenkey20.innerorbit.log.infrastructure.adapter.in.web.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 일괄 AI 분석 요청 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchAnalysisRequest {
+
+    @NotEmpty(message = "분석할 로그 ID는 필수입니다")
+    @Size(max = 50, message = "한 번에 최대 50개까지 분석할 수 있습니다")
+    private List<@NotNull Long> logIds;
+}
@@ -0,0 +1,36 @@
+package com.greenkey20.innerorbit.log.infrastructure.adapter.in.web.dto.response;
+
+import com.greenkey20.innerorbit.log.domain.model.AnalysisJob;
+import com.greenkey20.innerorbit.log.domain.model.AnalysisJobStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 분석 작업 응답 DTO — 완료 후 결과는 GET /api/logs/{logId}로 조회
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnalysisJobResponse {
+
+    private String jobId;
+    private Long logId;
+    private AnalysisJobStatus status;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static AnalysisJobResponse from(AnalysisJob job) {
+        return AnalysisJobResponse.builder()
+                .jobId(job.getJobId())
+                .logId(job.getLogId())
+                .status(job.getStatus())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+}
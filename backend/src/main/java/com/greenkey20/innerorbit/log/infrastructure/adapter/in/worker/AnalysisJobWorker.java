@@ -0,0 +1,261 @@
+package com.greenkey20.innerorbit.log.infrastructure.adapter.in.worker;
+
+import com.greenkey20.innerorbit.common.exception.BusinessException;
+import com.greenkey20.innerorbit.log.application.port.in.AnalysisJobUseCase;
+import com.greenkey20.innerorbit.log.infrastructure.config.AnalysisJobProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import static com.greenkey20.innerorbit.log.infrastructure.adapter.out.redis.RedisAnalysisJobQueue.CONSUMER_GROUP;
+import static com.greenkey20.innerorbit.log.infrastructure.adapter.out.redis.RedisAnalysisJobQueue.STREAM_KEY;
+
+/**
+ * 비동기 AI 분석 워커 — Redis Stream consumer group 소비
+ *
+ * - 폴링 스레드 1개가 빈 슬롯 수만큼만 XREADGROUP → 작업은 virtual thread에서 실행, 동시 실행 수는 concurrency로 제한
+ * - 처리가 끝난 작업만 XACK — 처리 중 인스턴스가 죽거나 일시적 AI 장애로 실패하면 작업은 pending 목록에 남음
+ * - 기동 시 같은 consumer 이름의 pending 작업부터 다시 처리하고, 주기적으로 pending 작업을 다시 가져옴 (XCLAIM)
+ *   다른 consumer의 작업은 reclaim-idle 이상, 이 consumer의 작업은 실행 중이 아니면서 retry-backoff 이상 지난 것
+ */
+@Component
+@ConditionalOnProperty(prefix = "analysis-job", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisJobWorker {
+
+    private static final Duration READ_BLOCK = Duration.ofSeconds(2);
+    private static final Duration ERROR_BACKOFF = Duration.ofSeconds(5);
+    private static final int RECLAIM_BATCH = 50;
+
+    private final StringRedisTemplate redisTemplate;
+    private final AnalysisJobUseCase analysisJobUseCase;
+    private final AnalysisJobProperties analysisJobProperties;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<RecordId> inFlight = ConcurrentHashMap.newKeySet();
+    private volatile boolean running;
+    private Thread poller;
+    private Semaphore slots;
+    private String consumerName;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        consumerName = resolveConsumerName();
+        slots = new Semaphore(analysisJobProperties.getConcurrency());
+        running = true;
+        poller = Thread.ofPlatform().daemon().name("analysis-job-poller").start(this::pollLoop);
+        log.info("Analysis job worker started - consumer: {}, concurrency: {}",
+                consumerName, analysisJobProperties.getConcurrency());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (poller != null) {
+            poller.interrupt();
+        }
+        executor.shutdown();
+    }
+
+    private void pollLoop() {
+        boolean recovering = true;  // 먼저 이 consumer의 pending(처리 중 종료된) 작업부터
+        String pendingCursor = "0";
+        Instant nextReclaim = Instant.now();
+
+        while (running) {
+            try {
+                if (recovering && pendingCursor.equals("0") && !ensureGroup()) {
+                    sleep(ERROR_BACKOFF);
+                    continue;
+                }
+
+                // 빈 슬롯이 생길 때까지 대기 후, 빈 슬롯 수만큼만 읽음
+                slots.acquire();
+                int free = slots.availablePermits() + 1;
+                slots.release();
+
+                List<MapRecord<String, Object, Object>> records = recovering
+                        ? readPending(free, pendingCursor)
+                        : readNew(free);
+                if (recovering) {
+                    if (records.isEmpty()) {
+                        recovering = false;
+                    } else {
+                        pendingCursor = records.getLast().getId().getValue();
+                    }
+                }
+                records.forEach(this::dispatch);
+
+                if (Instant.now().isAfter(nextReclaim)) {
+                    reclaimIdle().forEach(this::dispatch);
+                    nextReclaim = Instant.now().plus(reclaimInterval());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                if (running) {
+                    // Redis 재시작 등으로 group이 사라졌을 수 있으므로 group 확인부터 다시
+                    log.warn("Analysis job polling failed: {}", e.getMessage());
+                    recovering = true;
+                    pendingCursor = "0";
+                    sleep(ERROR_BACKOFF);
+                }
+            }
+        }
+    }
+
+    private List<MapRecord<String, Object, Object>> readPending(int count, String afterId) {
+        return read(StreamReadOptions.empty().count(count), ReadOffset.from(afterId));
+    }
+
+    private List<MapRecord<String, Object, Object>> readNew(int count) {
+        return read(StreamReadOptions.empty().count(count).block(READ_BLOCK), ReadOffset.lastConsumed());
+    }
+
+    private List<MapRecord<String, Object, Object>> read(StreamReadOptions options, ReadOffset offset) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                Consumer.from(CONSUMER_GROUP, consumerName), options, StreamOffset.create(STREAM_KEY, offset));
+        return records != null ? records : List.of();
+    }
+
+    private List<MapRecord<String, Object, Object>> reclaimIdle() {
+        PendingMessages pending = redisTemplate.opsForStream()
+                .pending(STREAM_KEY, CONSUMER_GROUP, Range.unbounded(), RECLAIM_BATCH);
+        if (pending == null || pending.isEmpty()) {
+            return List.of();
+        }
+        RecordId[] staleIds = pending.stream()
+                .filter(this::isReclaimable)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (staleIds.length == 0) {
+            return List.of();
+        }
+        log.info("Reclaiming {} stale analysis jobs", staleIds.length);
+        return redisTemplate.opsForStream()
+                .claim(STREAM_KEY, CONSUMER_GROUP, consumerName, reclaimInterval(), staleIds);
+    }
+
+    /**
+     * 이 consumer의 pending 작업은 실행 중인 것만 빼면 ack되지 않은(재시도 대기) 작업 — 재기동을 기다리지 않고 다시 처리
+     */
+    private boolean isReclaimable(PendingMessage message) {
+        Duration idle = message.getElapsedTimeSinceLastDelivery();
+        if (message.getConsumerName().equals(consumerName)) {
+            return !inFlight.contains(message.getId())
+                    && idle.compareTo(analysisJobProperties.getRetryBackoff()) >= 0;
+        }
+        return idle.compareTo(analysisJobProperties.getReclaimIdle()) >= 0;
+    }
+
+    private Duration reclaimInterval() {
+        Duration retryBackoff = analysisJobProperties.getRetryBackoff();
+        Duration reclaimIdle = analysisJobProperties.getReclaimIdle();
+        return retryBackoff.compareTo(reclaimIdle) < 0 ? retryBackoff : reclaimIdle;
+    }
+
+    private void dispatch(MapRecord<String, Object, Object> record) {
+        if (!inFlight.add(record.getId())) {
+            return;  // 아직 실행 중 — 기동 복구와 reclaim이 같은 작업을 겹쳐 가져온 경우
+        }
+        try {
+            slots.acquire();
+        } catch (InterruptedException e) {
+            inFlight.remove(record.getId());
+            Thread.currentThread().interrupt();
+            return;
+        }
+        executor.submit(() -> {
+            try {
+                Object jobId = record.getValue().get("jobId");
+                if (jobId != null) {
+                    analysisJobUseCase.process(jobId.toString());
+                }
+                redisTemplate.opsForStream().acknowledge(STREAM_KEY, CONSUMER_GROUP, record.getId());
+            } catch (BusinessException e) {
+                log.warn("Analysis job record {} left pending for retry: {}", record.getId(), e.getMessage());
+            } catch (Exception e) {
+                log.error("Analysis job record {} not acknowledged: {}", record.getId(), e.getMessage(), e);
+            } finally {
+                inFlight.remove(record.getId());
+                slots.release();
+            }
+        });
+    }
+
+    /**
+     * consumer group 생성 (최초 1회) — 스트림이 없으면 XGROUP CREATE가 실패하므로 빈 레코드로 스트림을 만든 뒤 생성
+     * 빈 레코드는 jobId가 없어 워커가 ack만 하고 넘어감
+     */
+    private boolean ensureGroup() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(STREAM_KEY))) {
+                redisTemplate.opsForStream().add(STREAM_KEY, Map.of("init", "1"));
+            }
+            redisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), CONSUMER_GROUP);
+            log.info("Created consumer group {} on {}", CONSUMER_GROUP, STREAM_KEY);
+            return true;
+        } catch (Exception e) {
+            if (isGroupAlreadyExists(e)) {
+                return true;
+            }
+            log.warn("Failed to prepare consumer group {}: {}", CONSUMER_GROUP, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isGroupAlreadyExists(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t.getMessage() != null && t.getMessage().contains("BUSYGROUP")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String resolveConsumerName() {
+        if (!analysisJobProperties.getConsumerName().isBlank()) {
+            return analysisJobProperties.getConsumerName();
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "worker-" + ProcessHandle.current().pid();
+        }
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.greenkey20.innerorbit.log.infrastructure.adapter.out.ai;
 
 import com.greenkey20.innerorbit.ai.application.port.in.AiUseCase;
+import com.greenkey20.innerorbit.ai.application.port.in.BatchAnalysisItem;
 import com.greenkey20.innerorbit.log.application.port.out.AiAnalysisPort;
+import com.greenkey20.innerorbit.log.domain.model.LogEntry;
 import com.greenkey20.innerorbit.log.infrastructure.adapter.out.ai.dto.AnalysisResult;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -24,11 +28,34 @@ public class AiAnalysisAdapter implements AiAnalysisPort {
         return convertAnalysisResultToMap(result);
     }
 
+    @Override
+    public Map<Long, Map<String, Object>> analyzeCognitiveDistortionsBatch(List<LogEntry> entries) {
+        List<BatchAnalysisItem> items = entries.stream()
+                .map(entry -> new BatchAnalysisItem(
+                        entry.getId(), entry.getContent(), entry.getGravity(), entry.getStability()))
+                .toList();
+
+        Map<Long, Map<String, Object>> results = new HashMap<>();
+        aiUseCase.analyzeCognitiveDistortionsBatch(items)
+                .forEach((id, result) -> results.put(id, convertAnalysisResultToMap(result)));
+        return results;
+    }
+
+    @Override
+    public String analysisFingerprint(String content, Integer gravity, Integer stability) {
+        return aiUseCase.analysisFingerprint(content, gravity, stability);
+    }
+
     @Override
     public String generateInsightFeedback(String trigger, String abstraction, String application, String recentLogsContext) {
         return aiUseCase.generateInsightFeedback(trigger, abstraction, application, recentLogsContext);
     }
 
+    @Override
+    public Flux<String> streamInsightFeedback(String trigger, String abstraction, String application, String recentLogsContext) {
+        return aiUseCase.streamInsightFeedback(trigger, abstraction, application, recentLogsContext);
+    }
+
     private Map<String, Object> convertAnalysisResultToMap(AnalysisResult result) {
         return Map.of(
                 "distortions", result.getDistortions() != null ? result.getDistortions() : List.of(),
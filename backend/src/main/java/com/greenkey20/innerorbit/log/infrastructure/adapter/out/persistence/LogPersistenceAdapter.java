@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +33,13 @@ public class LogPersistenceAdapter implements LogRepository {
         return logJpaRepository.findById(id).map(this::toDomainModel);
     }
 
+    @Override
+    public List<LogEntry> findAllByIds(Collection<Long> ids) {
+        return logJpaRepository.findAllById(ids).stream()
+                .map(this::toDomainModel)
+                .toList();
+    }
+
     @Override
     public List<LogEntry> findAllOrderByCreatedAtDesc() {
         return logJpaRepository.findAllByOrderByCreatedAtDesc().stream()
@@ -78,6 +86,7 @@ public class LogPersistenceAdapter implements LogRepository {
                 .createdAt(model.getCreatedAt())
                 .updatedAt(model.getUpdatedAt())
                 .analysisResult(model.getAnalysisResult())
+                .analysisContentHash(model.getAnalysisContentHash())
                 .userId(model.getUserId())
                 .location(model.getLocation())
                 .sensoryVisual(model.getSensoryVisual())
@@ -87,6 +96,7 @@ public class LogPersistenceAdapter implements LogRepository {
                 .insightAbstraction(model.getInsightAbstraction())
                 .insightApplication(model.getInsightApplication())
                 .aiFeedback(model.getAiFeedback())
+                .version(model.getVersion())
                 .build();
     }
 
@@ -99,6 +109,7 @@ public class LogPersistenceAdapter implements LogRepository {
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .analysisResult(entity.getAnalysisResult())
+                .analysisContentHash(entity.getAnalysisContentHash())
                 .userId(entity.getUserId())
                 .location(entity.getLocation())
                 .sensoryVisual(entity.getSensoryVisual())
@@ -108,6 +119,7 @@ public class LogPersistenceAdapter implements LogRepository {
                 .insightAbstraction(entity.getInsightAbstraction())
                 .insightApplication(entity.getInsightApplication())
                 .aiFeedback(entity.getAiFeedback())
+                .version(entity.getVersion())
                 .build();
     }
 }
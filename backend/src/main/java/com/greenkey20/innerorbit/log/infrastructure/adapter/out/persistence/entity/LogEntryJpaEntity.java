@@ -48,6 +48,9 @@ public class LogEntryJpaEntity {
     @Column(name = "analysis_result", columnDefinition = "TEXT")
     private Map<String, Object> analysisResult;
 
+    @Column(name = "analysis_content_hash", length = 100)
+    private String analysisContentHash;
+
     @Column(name = "user_id", nullable = false)
     private Long userId;
 
@@ -77,6 +80,10 @@ public class LogEntryJpaEntity {
     @Column(name = "ai_feedback", columnDefinition = "TEXT")
     private String aiFeedback;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
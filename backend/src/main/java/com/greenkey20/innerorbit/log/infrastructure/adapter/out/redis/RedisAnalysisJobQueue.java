@@ -0,0 +1,74 @@
+package com.greenkey20.innerorbit.log.infrastructure.adapter.out.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.greenkey20.innerorbit.log.application.port.out.AnalysisJobQueue;
+import com.greenkey20.innerorbit.log.domain.model.AnalysisJob;
+import com.greenkey20.innerorbit.log.infrastructure.config.AnalysisJobProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * AnalysisJobQueue 구현체 — Redis Stream(작업 큐) + String(작업 상태) + Pub/Sub(완료 알림)
+ *
+ * Key 구조
+ * - analysis:jobs            : Stream, 필드 jobId/logId — consumer group analysis-workers가 소비
+ * - analysis:job:{jobId}     : 작업 상태 JSON, TTL analysis-job.job-ttl
+ * - analysis:job-events      : 완료/실패 시 작업 JSON 발행 — 모든 인스턴스의 SSE 구독자에게 전달
+ */
+@Repository
+@RequiredArgsConstructor
+public class RedisAnalysisJobQueue implements AnalysisJobQueue {
+
+    public static final String STREAM_KEY = "analysis:jobs";
+    public static final String CONSUMER_GROUP = "analysis-workers";
+    public static final String EVENT_CHANNEL = "analysis:job-events";
+    private static final String JOB_KEY_PREFIX = "analysis:job:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final AnalysisJobProperties analysisJobProperties;
+
+    @Override
+    public void enqueue(AnalysisJob job) {
+        redisTemplate.opsForStream().add(StreamRecords.newRecord()
+                .in(STREAM_KEY)
+                .ofMap(Map.of("jobId", job.getJobId(), "logId", String.valueOf(job.getLogId()))));
+    }
+
+    @Override
+    public void save(AnalysisJob job) {
+        String json = toJson(job);
+        redisTemplate.opsForValue().set(JOB_KEY_PREFIX + job.getJobId(), json, analysisJobProperties.getJobTtl());
+        if (job.isFinished()) {
+            redisTemplate.convertAndSend(EVENT_CHANNEL, json);
+        }
+    }
+
+    @Override
+    public Optional<AnalysisJob> findById(String jobId) {
+        String json = redisTemplate.opsForValue().get(JOB_KEY_PREFIX + jobId);
+        return Optional.ofNullable(json).map(this::fromJson);
+    }
+
+    private String toJson(AnalysisJob job) {
+        try {
+            return objectMapper.writeValueAsString(job);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize analysis job " + job.getJobId(), e);
+        }
+    }
+
+    private AnalysisJob fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, AnalysisJob.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize analysis job", e);
+        }
+    }
+}
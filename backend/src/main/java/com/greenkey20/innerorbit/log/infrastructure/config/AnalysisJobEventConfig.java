@@ -0,0 +1,41 @@
+package com.greenkey20.innerorbit.log.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.greenkey20.innerorbit.log.domain.model.AnalysisJob;
+import com.greenkey20.innerorbit.log.infrastructure.adapter.in.web.AnalysisJobEventBroadcaster;
+import com.greenkey20.innerorbit.log.infrastructure.adapter.out.redis.RedisAnalysisJobQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 분석 작업 완료 이벤트 구독 — 어느 인스턴스의 워커가 처리했든 SSE 구독자가 붙은 인스턴스로 전달
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "analysis-job", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class AnalysisJobEventConfig {
+
+    @Bean
+    public RedisMessageListenerContainer analysisJobEventListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                          ObjectMapper objectMapper,
+                                                                          AnalysisJobEventBroadcaster broadcaster) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            try {
+                String json = new String(message.getBody(), StandardCharsets.UTF_8);
+                broadcaster.publish(objectMapper.readValue(json, AnalysisJob.class));
+            } catch (Exception e) {
+                log.warn("Failed to handle analysis job event: {}", e.getMessage());
+            }
+        }, new ChannelTopic(RedisAnalysisJobQueue.EVENT_CHANNEL));
+        return container;
+    }
+}
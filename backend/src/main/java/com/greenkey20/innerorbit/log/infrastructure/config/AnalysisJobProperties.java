@@ -0,0 +1,39 @@
+package com.greenkey20.innerorbit.log.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 비동기 AI 분석 작업 큐 설정 (analysis-job.*)
+ */
+@Component
+@ConfigurationProperties(prefix = "analysis-job")
+@Getter
+@Setter
+public class AnalysisJobProperties {
+
+    /** false면 async 요청도 동기로 처리하고 워커를 띄우지 않음 */
+    private boolean enabled = true;
+
+    /** 인스턴스당 동시 처리 작업 수 (= 동시 LLM 호출 수) */
+    private int concurrency = 4;
+
+    /** consumer group 내 이 인스턴스 이름 — 재시작 후 같은 이름이면 처리 중이던 작업을 이어받음. 비우면 호스트명 */
+    private String consumerName = "";
+
+    /** 다른 consumer가 이 시간 이상 ack하지 않은 작업은 죽은 인스턴스의 작업으로 보고 가져옴 */
+    private Duration reclaimIdle = Duration.ofMinutes(5);
+
+    /** 일시적 AI 장애(503/504/과부하 429)로 ack하지 않은 이 인스턴스의 작업을 다시 처리하기까지 대기 시간 */
+    private Duration retryBackoff = Duration.ofSeconds(30);
+
+    /** 일시적 AI 장애 재시도를 포함한 최대 실행 횟수 — 넘으면 FAILED */
+    private int maxAttempts = 3;
+
+    /** 작업 상태 보관 기간 */
+    private Duration jobTtl = Duration.ofDays(1);
+}
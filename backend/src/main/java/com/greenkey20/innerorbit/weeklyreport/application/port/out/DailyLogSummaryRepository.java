@@ -0,0 +1,20 @@
+package com.greenkey20.innerorbit.weeklyreport.application.port.out;
+
+import com.greenkey20.innerorbit.weeklyreport.domain.model.DailyLogSummary;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 일별 로그 요약 영속성 out port
+ */
+public interface DailyLogSummaryRepository {
+
+    /**
+     * (userId, summaryDate)가 이미 있으면 내용 갱신, 없으면 생성
+     */
+    DailyLogSummary save(DailyLogSummary summary);
+
+    List<DailyLogSummary> findByUserIdsAndSummaryDateBetween(Collection<Long> userIds, LocalDate from, LocalDate to);
+}
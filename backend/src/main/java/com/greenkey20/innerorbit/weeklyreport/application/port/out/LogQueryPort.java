@@ -3,7 +3,10 @@ package com.greenkey20.innerorbit.weeklyreport.application.port.out;
 import com.greenkey20.innerorbit.log.domain.model.LogEntry;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * weeklyreport 도메인이 log 도메인 데이터를 조회하는 out port
@@ -12,4 +15,17 @@ import java.util.List;
 public interface LogQueryPort {
 
     List<LogEntry> findByUserIdAndCreatedAtBetween(Long userId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 사용자별 기간 내 로그 수 — 집계 쿼리 1번, 로그가 없는 사용자는 결과에 없음
+     */
+    Map<Long, Integer> countByUserIdsAndCreatedAtBetween(Collection<Long> userIds, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 여러 사용자의 기간 내 로그를 (userId, createdAt) 순 쿼리 1번으로 스트리밍하며 사용자 단위로 묶어 전달
+     * 한 번에 한 사용자 분량만 메모리에 유지. 리포트 생성에 쓰는 필드만 채워진 LogEntry 전달
+     * (consumer는 조회 트랜잭션 안에서 호출되므로 LLM 호출 등 오래 걸리는 작업 금지)
+     */
+    void streamGroupedByUserIdsAndCreatedAtBetween(Collection<Long> userIds, LocalDateTime from, LocalDateTime to,
+                                                   BiConsumer<Long, List<LogEntry>> userLogsConsumer);
 }
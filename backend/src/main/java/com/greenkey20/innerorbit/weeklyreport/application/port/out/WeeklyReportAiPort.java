@@ -1,5 +1,6 @@
 package com.greenkey20.innerorbit.weeklyreport.application.port.out;
 
+import com.greenkey20.innerorbit.common.ai.AiPriority;
 import com.greenkey20.innerorbit.weeklyreport.domain.model.WeeklyReportContent;
 
 /**
@@ -7,5 +8,13 @@ import com.greenkey20.innerorbit.weeklyreport.domain.model.WeeklyReportContent;
  */
 public interface WeeklyReportAiPort {
 
-    WeeklyReportContent generateWeeklyReport(String formattedLogs);
+    /**
+     * @param priority LLM 입장 우선순위 — 스케줄러 배치는 BATCH, 수동 생성은 INTERACTIVE
+     */
+    WeeklyReportContent generateWeeklyReport(String formattedLogs, AiPriority priority);
+
+    /**
+     * 하루치 로그 요약 (계층형 리포트의 map 단계) — 평문 한국어 요약
+     */
+    String summarizeDay(String formattedLogs, AiPriority priority);
 }
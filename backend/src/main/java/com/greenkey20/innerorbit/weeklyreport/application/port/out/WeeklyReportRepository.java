@@ -3,6 +3,7 @@ package com.greenkey20.innerorbit.weeklyreport.application.port.out;
 import com.greenkey20.innerorbit.weeklyreport.domain.model.WeeklyReport;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,11 +14,16 @@ public interface WeeklyReportRepository {
 
     WeeklyReport save(WeeklyReport weeklyReport);
 
+    List<WeeklyReport> saveAll(List<WeeklyReport> weeklyReports);
+
     List<WeeklyReport> findAllByUserIdOrderByWeekStartDesc(Long userId);
 
     Optional<WeeklyReport> findByIdAndUserId(Long id, Long userId);
 
-    boolean existsByUserIdAndWeekStart(Long userId, LocalDate weekStart);
-
     Optional<WeeklyReport> findByUserIdAndWeekStart(Long userId, LocalDate weekStart);
+
+    /**
+     * 주어진 사용자 중 해당 주 리포트가 이미 있는 사용자 id만 반환 (리포트 본문 미조회)
+     */
+    List<Long> findUserIdsWithReport(LocalDate weekStart, Collection<Long> userIds);
 }
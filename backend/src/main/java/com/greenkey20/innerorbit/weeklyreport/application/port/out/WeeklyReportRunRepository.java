@@ -0,0 +1,17 @@
+package com.greenkey20.innerorbit.weeklyreport.application.port.out;
+
+import com.greenkey20.innerorbit.weeklyreport.domain.model.UserShard;
+import com.greenkey20.innerorbit.weeklyreport.domain.model.WeeklyReportRun;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 주간 리포트 일괄 생성 체크포인트 영속성 out port
+ */
+public interface WeeklyReportRunRepository {
+
+    WeeklyReportRun save(WeeklyReportRun run);
+
+    Optional<WeeklyReportRun> findByWeekStartAndShard(LocalDate weekStart, UserShard shard);
+}
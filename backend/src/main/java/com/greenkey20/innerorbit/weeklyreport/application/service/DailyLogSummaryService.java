@@ -0,0 +1,88 @@
+package com.greenkey20.innerorbit.weeklyreport.application.service;
+
+import com.greenkey20.innerorbit.auth.application.port.out.UserRepository;
+import com.greenkey20.innerorbit.weeklyreport.application.port.out.LogQueryPort;
+import com.greenkey20.innerorbit.weeklyreport.domain.model.DailyLogSummary;
+import com.greenkey20.innerorbit.weeklyreport.domain.model.UserShard;
+import com.greenkey20.innerorbit.weeklyreport.infrastructure.config.WeeklyReportGenerationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 일별 로그 요약 사전 생성 (계층형 주간 리포트의 map 단계를 주중에 분산)
+ * 일요일에는 저장된 요약을 재사용하므로 리포트 생성 지연과 토큰 비용이 로그 수와 무관하게 유지됨
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DailyLogSummaryService {
+
+    private final UserRepository userRepository;
+    private final LogQueryPort logQueryPort;
+    private final DailySummaryReducer dailySummaryReducer;
+    private final WeeklyReportGenerationProperties generationProperties;
+
+    /**
+     * 스케줄러 전용 — 이번 주(weekStart ~ lastDay) 로그가 계층형 임계치를 넘은 사용자의 일별 요약 생성
+     * 이미 요약이 있고 그날 로그가 그대로(입력 지문 동일)인 날은 건너뜀
+     */
+    public void summarizeWeekToDate(LocalDate weekStart, LocalDate lastDay) {
+        if (generationProperties.getHierarchicalThreshold() <= 0) {
+            return;
+        }
+        LocalDateTime from = weekStart.atStartOfDay();
+        LocalDateTime to = lastDay.atTime(23, 59, 59);
+        GenerationThrottle throttle = GenerationThrottle.of(
+                generationProperties.getAiConcurrency(), generationProperties.getDbConcurrency());
+
+        long lastUserId = 0L;
+        int summarizedUsers = 0;
+        while (true) {
+            List<Long> userIds = userRepository.findIdsAfter(
+                    lastUserId, generationProperties.getPageSize(), UserShard.ALL.index(), UserShard.ALL.count());
+            if (userIds.isEmpty()) {
+                break;
+            }
+            lastUserId = userIds.getLast();
+
+            List<Long> heavyUserIds = logQueryPort.countByUserIdsAndCreatedAtBetween(userIds, from, to).entrySet().stream()
+                    .filter(entry -> dailySummaryReducer.isHierarchical(entry.getValue()))
+                    .map(Map.Entry::getKey)
+                    .toList();
+            if (heavyUserIds.isEmpty()) {
+                continue;
+            }
+
+            Map<Long, Map<LocalDate, DailyLogSummary>> summaries =
+                    dailySummaryReducer.findSummaries(heavyUserIds, weekStart, lastDay);
+            Map<Long, List<DailyLogs>> daysByUser = new HashMap<>();
+            logQueryPort.streamGroupedByUserIdsAndCreatedAtBetween(heavyUserIds, from, to, (userId, logs) ->
+                    daysByUser.put(userId, dailySummaryReducer.splitByDay(logs, summaries.getOrDefault(userId, Map.of()))));
+
+            // 조회 트랜잭션이 끝난 뒤 LLM 호출 — 사용자별 실패 격리
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                daysByUser.forEach((userId, days) -> executor.submit(() -> summarizeForUser(userId, days, throttle)));
+            }
+            summarizedUsers += daysByUser.size();
+        }
+
+        log.info("Daily log summaries refreshed for {} users, week: {} ~ {}", summarizedUsers, weekStart, lastDay);
+    }
+
+    private void summarizeForUser(Long userId, List<DailyLogs> days, GenerationThrottle throttle) {
+        try {
+            dailySummaryReducer.summarizeMissing(userId, days, throttle);
+        } catch (Exception e) {
+            log.error("Failed to summarize daily logs for userId={}: {}", userId, e.getMessage(), e);
+        }
+    }
+}
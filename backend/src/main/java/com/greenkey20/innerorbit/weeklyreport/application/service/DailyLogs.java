@@ -0,0 +1,19 @@
+package com.greenkey20.innerorbit.weeklyreport.application.service;
+
+import java.time.LocalDate;
+
+/**
+ * 계층형 주간 리포트의 하루 단위 입력
+ * summary가 있으면 저장된 일별 요약을 재사용, 없으면 formattedLogs를 LLM으로 요약해야 하는 날
+ * contentHash는 formattedLogs의 SHA-256 — 요약 저장 시 함께 기록해 다음 재사용 판단에 사용
+ */
+public record DailyLogs(LocalDate date, int logCount, String formattedLogs, String contentHash, String summary) {
+
+    public boolean summarized() {
+        return summary != null;
+    }
+
+    public DailyLogs withSummary(String summary) {
+        return new DailyLogs(date, logCount, formattedLogs, contentHash, summary);
+    }
+}
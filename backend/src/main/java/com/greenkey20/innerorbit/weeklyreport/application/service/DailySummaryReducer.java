@@ -0,0 +1,132 @@
+package com.greenkey20.innerorbit.weeklyreport.application.service;
+
+import com.greenkey20.innerorbit.log.domain.model.LogEntry;
+import com.greenkey20.innerorbit.weeklyreport.application.port.out.DailyLogSummaryRepository;
+import com.greenkey20.innerorbit.weeklyreport.application.port.out.WeeklyReportAiPort;
+import com.greenkey20.innerorbit.weeklyreport.domain.model.DailyLogSummary;
+import com.greenkey20.innerorbit.weeklyreport.infrastructure.config.WeeklyReportGenerationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 계층형 주간 리포트 (map-reduce) 컴포넌트
+ * map: 하루 로그 → 일별 요약 (daily_log_summaries에 저장, 평일 밤 스케줄러가 미리 생성)
+ * reduce: 일별 요약(최대 7개) → 주간 리포트 프롬프트
+ * 로그가 아무리 많아도 일요일 리포트의 프롬프트 크기와 LLM 호출 수는 요일 수로 제한됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DailySummaryReducer {
+
+    private final DailyLogSummaryRepository dailyLogSummaryRepository;
+    private final WeeklyReportAiPort weeklyReportAiPort;
+    private final WeeklyReportGenerationProperties generationProperties;
+
+    public boolean isHierarchical(int logCount) {
+        int threshold = generationProperties.getHierarchicalThreshold();
+        return threshold > 0 && logCount > threshold;
+    }
+
+    /**
+     * 저장된 일별 요약 — userId → (날짜 → 요약)
+     */
+    public Map<Long, Map<LocalDate, DailyLogSummary>> findSummaries(Collection<Long> userIds,
+                                                                   LocalDate from, LocalDate to) {
+        return dailyLogSummaryRepository.findByUserIdsAndSummaryDateBetween(userIds, from, to).stream()
+                .collect(Collectors.groupingBy(DailyLogSummary::getUserId,
+                        Collectors.toMap(DailyLogSummary::getSummaryDate, Function.identity())));
+    }
+
+    /**
+     * 로그를 날짜별로 나눔 — 저장된 요약의 입력 지문이 그날 로그의 지문과 같으면 요약 재사용
+     * 로그 수만 비교하면 같은 수로 수정된 날(내용/수치 변경)이 예전 요약으로 남음
+     */
+    public List<DailyLogs> splitByDay(List<LogEntry> logs, Map<LocalDate, DailyLogSummary> existing) {
+        Map<LocalDate, List<LogEntry>> logsByDate = logs.stream()
+                .collect(Collectors.groupingBy(log -> log.getCreatedAt().toLocalDate(), TreeMap::new, Collectors.toList()));
+
+        List<DailyLogs> days = new ArrayList<>(logsByDate.size());
+        logsByDate.forEach((date, dayLogs) -> {
+            String formattedLogs = WeeklyLogFormatter.format(dayLogs);
+            // 하루 로그의 입력 지문 — 일별 요약 프롬프트에 들어가는 형식 그대로 해시
+            String contentHash = sha256(formattedLogs);
+            DailyLogSummary saved = existing.get(date);
+            String summary = saved != null && Objects.equals(saved.getContentHash(), contentHash) ? saved.getSummary() : null;
+            days.add(new DailyLogs(date, dayLogs.size(), formattedLogs, contentHash, summary));
+        });
+        return days;
+    }
+
+    /**
+     * map 단계 — 요약이 없는 날만 LLM 요약(AI permit) 후 저장(DB permit)
+     */
+    public List<DailyLogs> summarizeMissing(Long userId, List<DailyLogs> days, GenerationThrottle throttle) {
+        List<DailyLogs> summarized = new ArrayList<>(days.size());
+        for (DailyLogs day : days) {
+            if (day.summarized()) {
+                summarized.add(day);
+                continue;
+            }
+            String summary = throttle.ai(() -> weeklyReportAiPort.summarizeDay(day.formattedLogs(), throttle.aiPriority()));
+            throttle.db(() -> saveQuietly(userId, day, summary));
+            summarized.add(day.withSummary(summary));
+        }
+        return summarized;
+    }
+
+    /**
+     * reduce 단계 입력 — 날짜순 일별 요약
+     */
+    public String formatForWeeklyReport(List<DailyLogs> days) {
+        StringBuilder sb = new StringBuilder("(로그가 많아 하루 단위 요약으로 전달합니다)\n");
+        for (DailyLogs day : days) {
+            sb.append("[%s] 로그 %d건 요약: %s".formatted(day.date(), day.logCount(), day.summary().strip()));
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 요약 저장은 재사용을 위한 캐시 — 동시 저장 충돌이어도 이번 리포트에는 이미 계산한 요약을 그대로 사용
+     */
+    private DailyLogSummary saveQuietly(Long userId, DailyLogs day, String summary) {
+        try {
+            return dailyLogSummaryRepository.save(DailyLogSummary.builder()
+                    .userId(userId)
+                    .summaryDate(day.date())
+                    .logCount(day.logCount())
+                    .contentHash(day.contentHash())
+                    .summary(summary)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            log.info("Daily summary already saved by another run - userId={}, date={}", userId, day.date());
+            return null;
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
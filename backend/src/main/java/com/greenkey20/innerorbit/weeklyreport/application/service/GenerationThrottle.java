@@ -0,0 +1,67 @@
+package com.greenkey20.innerorbit.weeklyreport.application.service;
+
+import com.greenkey20.innerorbit.common.ai.AiPriority;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 주간 리포트 일괄 생성 시 LLM 호출과 DB 작업의 동시 실행 수를 각각 제한하는 permit 묶음.
+ * 한 번의 일괄 생성 실행 동안 모든 사용자 작업이 같은 인스턴스를 공유
+ * LLM 입장 우선순위(aiPriority)도 함께 전달 — 스케줄러 실행은 BATCH, 사용자 요청 단건 생성은 INTERACTIVE
+ */
+public final class GenerationThrottle {
+
+    /** 제한 없음 — 스케줄러 순차 실행용 */
+    public static final GenerationThrottle UNBOUNDED = new GenerationThrottle(null, null, AiPriority.BATCH);
+
+    /** 제한 없음 — 사용자가 응답을 기다리는 단건 생성(수동 생성)용 */
+    public static final GenerationThrottle INTERACTIVE = new GenerationThrottle(null, null, AiPriority.INTERACTIVE);
+
+    private final Semaphore aiPermits;
+    private final Semaphore dbPermits;
+    private final AiPriority aiPriority;
+
+    private GenerationThrottle(Semaphore aiPermits, Semaphore dbPermits, AiPriority aiPriority) {
+        this.aiPermits = aiPermits;
+        this.dbPermits = dbPermits;
+        this.aiPriority = aiPriority;
+    }
+
+    public static GenerationThrottle of(int aiConcurrency, int dbConcurrency) {
+        if (aiConcurrency < 1 || dbConcurrency < 1) {
+            throw new IllegalArgumentException("동시 실행 수는 1 이상이어야 합니다. ai=" + aiConcurrency + ", db=" + dbConcurrency);
+        }
+        return new GenerationThrottle(new Semaphore(aiConcurrency, true), new Semaphore(dbConcurrency, true),
+                AiPriority.BATCH);
+    }
+
+    public AiPriority aiPriority() {
+        return aiPriority;
+    }
+
+    public <T> T ai(Supplier<T> task) {
+        return withPermit(aiPermits, task);
+    }
+
+    public <T> T db(Supplier<T> task) {
+        return withPermit(dbPermits, task);
+    }
+
+    private static <T> T withPermit(Semaphore permits, Supplier<T> task) {
+        if (permits == null) {
+            return task.get();
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("permit 대기 중 인터럽트되었습니다.", e);
+        }
+        try {
+            return task.get();
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.greenkey20.innerorbit.weeklyreport.application.service;
+
+import java.util.List;
+
+/**
+ * 일괄 생성 중 AI 리포트가 필요한 사용자 — 로그 조회/포맷은 끝났고 LLM 호출과 저장만 남은 상태
+ * 일반: formattedLogs 전체를 한 프롬프트로 / 계층형: days(하루 단위 입력)를 요약한 뒤 요약들로 리포트 생성
+ */
+public record PendingWeeklyReport(Long userId, int logCount, String formattedLogs, List<DailyLogs> days) {
+
+    public PendingWeeklyReport(Long userId, int logCount, String formattedLogs) {
+        this(userId, logCount, formattedLogs, List.of());
+    }
+
+    public static PendingWeeklyReport hierarchical(Long userId, int logCount, List<DailyLogs> days) {
+        return new PendingWeeklyReport(userId, logCount, null, days);
+    }
+
+    public boolean isHierarchical() {
+        return !days.isEmpty();
+    }
+}
@@ -0,0 +1,36 @@
+package com.greenkey20.innerorbit.weeklyreport.application.service;
+
+import com.greenkey20.innerorbit.log.domain.model.LogEntry;
+import com.greenkey20.innerorbit.log.domain.model.LogType;
+
+import java.util.List;
+
+/**
+ * 주간 리포트/일별 요약 프롬프트용 로그 포맷 — 로그 1건당 한 줄
+ */
+final class WeeklyLogFormatter {
+
+    private WeeklyLogFormatter() {
+    }
+
+    static String format(List<LogEntry> logs) {
+        StringBuilder sb = new StringBuilder();
+        for (LogEntry log : logs) {
+            String dateStr = log.getCreatedAt().toLocalDate().toString();
+            LogType type = log.getLogType() != null ? log.getLogType() : LogType.DAILY;
+
+            switch (type) {
+                case DAILY -> sb.append("[%s] 안정성:%d, 중력:%d / %s".formatted(
+                        dateStr, log.getStability(), log.getGravity(), log.getContent()));
+                case SENSORY -> sb.append("[%s] 장소:%s / 시각:%s, 청각:%s, 촉각:%s".formatted(
+                        dateStr, log.getLocation(),
+                        log.getSensoryVisual(), log.getSensoryAuditory(), log.getSensoryTactile()));
+                case INSIGHT -> sb.append("[%s] 관찰:%s → CS개념:%s → 적용:%s".formatted(
+                        dateStr, log.getContent(),
+                        log.getInsightAbstraction(), log.getInsightApplication()));
+            }
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+}
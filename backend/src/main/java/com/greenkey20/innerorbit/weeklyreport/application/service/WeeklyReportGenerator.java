@@ -1,25 +1,30 @@
 package com.greenkey20.innerorbit.weeklyreport.application.service;
 
 import com.greenkey20.innerorbit.log.domain.model.LogEntry;
-import com.greenkey20.innerorbit.log.domain.model.LogType;
 import com.greenkey20.innerorbit.weeklyreport.application.port.out.LogQueryPort;
 import com.greenkey20.innerorbit.weeklyreport.application.port.out.WeeklyReportAiPort;
 import com.greenkey20.innerorbit.weeklyreport.application.port.out.WeeklyReportRepository;
+import com.greenkey20.innerorbit.weeklyreport.domain.model.DailyLogSummary;
 import com.greenkey20.innerorbit.weeklyreport.domain.model.WeeklyReport;
 import com.greenkey20.innerorbit.weeklyreport.domain.model.WeeklyReportContent;
 import com.greenkey20.innerorbit.weeklyreport.domain.model.WeeklyReportStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 사용자별 주간 리포트 생성 컴포넌트.
  * WeeklyReportService에서 분리한 이유: @Transactional self-invocation 방지
+ * 로그 조회(읽기 전용) → LLM 호출(트랜잭션 없음) → 저장(단독 트랜잭션) 순으로 커넥션을 짧게만 점유
  */
 @Component
 @RequiredArgsConstructor
@@ -29,29 +34,128 @@ public class WeeklyReportGenerator {
     private final LogQueryPort logQueryPort;
     private final WeeklyReportRepository weeklyReportRepository;
     private final WeeklyReportAiPort weeklyReportAiPort;
+    private final DailySummaryReducer dailySummaryReducer;
 
-    @Transactional
+    /**
+     * 수동 생성용 — 사용자가 응답을 기다리므로 LLM은 INTERACTIVE로 입장.
+     * LLM 응답 대기 동안 커넥션을 점유하지 않도록 트랜잭션 없이 실행.
+     * 조회/저장은 각 어댑터 호출 단위의 짧은 트랜잭션으로 처리
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public WeeklyReport generateReportForUser(Long userId, LocalDate weekStart, LocalDate weekEnd) {
+        return generateReportForUser(userId, weekStart, weekEnd, GenerationThrottle.INTERACTIVE);
+    }
+
+    /**
+     * 일괄 생성용 — 조회/저장은 DB permit, LLM 호출은 AI permit 안에서 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public WeeklyReport generateReportForUser(Long userId, LocalDate weekStart, LocalDate weekEnd,
+                                              GenerationThrottle throttle) {
         LocalDateTime from = weekStart.atStartOfDay();
         LocalDateTime to = weekEnd.atTime(23, 59, 59);
 
-        List<LogEntry> logs = logQueryPort.findByUserIdAndCreatedAtBetween(userId, from, to);
+        List<LogEntry> logs = throttle.db(() -> logQueryPort.findByUserIdAndCreatedAtBetween(userId, from, to));
         int logCount = logs.size();
 
-        WeeklyReportStatus status;
-        WeeklyReportContent report = null;
+        WeeklyReportStatus status = statusFor(logCount);
+        if (status == WeeklyReportStatus.GENERATED) {
+            Map<LocalDate, DailyLogSummary> summaries = dailySummaryReducer.isHierarchical(logCount)
+                    ? throttle.db(() -> dailySummaryReducer.findSummaries(List.of(userId), weekStart, weekEnd))
+                            .getOrDefault(userId, Map.of())
+                    : Map.of();
+            return completeReport(toPending(userId, logs, summaries), weekStart, weekEnd, throttle);
+        }
+
+        WeeklyReport weeklyReport = buildReport(userId, weekStart, weekEnd, status, logCount, null);
+
+        log.info("Saving weekly report for userId={}, weekStart={}, status={}", userId, weekStart, status);
+        return throttle.db(() -> saveIdempotently(weeklyReport));
+    }
+
+    /**
+     * 일괄 생성 1단계 (LLM 호출 없음) — 사용자 묶음 단위 조회
+     * 로그 수는 집계 쿼리 1번으로 구하고, NA/INSUFFICIENT 사용자는 로그 본문을 읽지 않고 바로 저장.
+     * AI 리포트 대상만 정렬 쿼리 1번으로 스트리밍해 사용자별 프롬프트로 변환해 반환
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PendingWeeklyReport> prepareBatch(List<Long> userIds, LocalDate weekStart, LocalDate weekEnd) {
+        LocalDateTime from = weekStart.atStartOfDay();
+        LocalDateTime to = weekEnd.atTime(23, 59, 59);
+
+        Map<Long, Integer> logCounts = logQueryPort.countByUserIdsAndCreatedAtBetween(userIds, from, to);
+
+        List<WeeklyReport> withoutAi = new ArrayList<>();
+        List<Long> aiTargets = new ArrayList<>();
+        List<Long> hierarchicalTargets = new ArrayList<>();
+        for (Long userId : userIds) {
+            int logCount = logCounts.getOrDefault(userId, 0);
+            WeeklyReportStatus status = statusFor(logCount);
+            if (status == WeeklyReportStatus.GENERATED) {
+                aiTargets.add(userId);
+                if (dailySummaryReducer.isHierarchical(logCount)) {
+                    hierarchicalTargets.add(userId);
+                }
+            } else {
+                withoutAi.add(buildReport(userId, weekStart, weekEnd, status, logCount, null));
+            }
+        }
+        saveAllIdempotently(withoutAi);
+
+        // 계층형 대상은 평일 밤에 만들어 둔 일별 요약을 함께 조회해 재사용
+        Map<Long, Map<LocalDate, DailyLogSummary>> summaries = hierarchicalTargets.isEmpty()
+                ? Map.of()
+                : dailySummaryReducer.findSummaries(hierarchicalTargets, weekStart, weekEnd);
+
+        List<PendingWeeklyReport> pendingReports = new ArrayList<>(aiTargets.size());
+        logQueryPort.streamGroupedByUserIdsAndCreatedAtBetween(aiTargets, from, to, (userId, logs) ->
+                pendingReports.add(toPending(userId, logs, summaries.getOrDefault(userId, Map.of()))));
 
+        log.info("Prepared weekly report batch - users={}, withoutAi={}, aiTargets={}",
+                userIds.size(), withoutAi.size(), pendingReports.size());
+        return pendingReports;
+    }
+
+    /**
+     * 일괄 생성 2단계 — prepareBatch 결과 1건에 대해 LLM 호출(AI permit) 후 저장(DB permit)
+     * 계층형이면 요약이 없는 날만 먼저 일별 요약(map)한 뒤, 일별 요약들로 주간 리포트 생성(reduce)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public WeeklyReport completeReport(PendingWeeklyReport pending, LocalDate weekStart, LocalDate weekEnd,
+                                       GenerationThrottle throttle) {
+        String reportInput = pending.isHierarchical()
+                ? dailySummaryReducer.formatForWeeklyReport(
+                        dailySummaryReducer.summarizeMissing(pending.userId(), pending.days(), throttle))
+                : pending.formattedLogs();
+        WeeklyReportContent report = throttle.ai(() -> weeklyReportAiPort.generateWeeklyReport(reportInput, throttle.aiPriority()));
+        WeeklyReport weeklyReport = buildReport(pending.userId(), weekStart, weekEnd,
+                WeeklyReportStatus.GENERATED, pending.logCount(), report);
+
+        log.info("Saving weekly report for userId={}, weekStart={}, status={}",
+                pending.userId(), weekStart, WeeklyReportStatus.GENERATED);
+        return throttle.db(() -> saveIdempotently(weeklyReport));
+    }
+
+    private PendingWeeklyReport toPending(Long userId, List<LogEntry> logs, Map<LocalDate, DailyLogSummary> summaries) {
+        if (dailySummaryReducer.isHierarchical(logs.size())) {
+            return PendingWeeklyReport.hierarchical(userId, logs.size(), dailySummaryReducer.splitByDay(logs, summaries));
+        }
+        return new PendingWeeklyReport(userId, logs.size(), WeeklyLogFormatter.format(logs));
+    }
+
+    private WeeklyReportStatus statusFor(int logCount) {
         if (logCount == 0) {
-            status = WeeklyReportStatus.NA;
-        } else if (logCount == 1) {
-            status = WeeklyReportStatus.INSUFFICIENT;
-        } else {
-            status = WeeklyReportStatus.GENERATED;
-            String formattedLogs = formatLogsForAi(logs);
-            report = weeklyReportAiPort.generateWeeklyReport(formattedLogs);
+            return WeeklyReportStatus.NA;
         }
+        if (logCount == 1) {
+            return WeeklyReportStatus.INSUFFICIENT;
+        }
+        return WeeklyReportStatus.GENERATED;
+    }
 
-        WeeklyReport weeklyReport = WeeklyReport.builder()
+    private WeeklyReport buildReport(Long userId, LocalDate weekStart, LocalDate weekEnd,
+                                     WeeklyReportStatus status, int logCount, WeeklyReportContent report) {
+        return WeeklyReport.builder()
                 .userId(userId)
                 .weekStart(weekStart)
                 .weekEnd(weekEnd)
@@ -59,29 +163,34 @@ public class WeeklyReportGenerator {
                 .logCount(logCount)
                 .report(report)
                 .build();
+    }
 
-        log.info("Saving weekly report for userId={}, weekStart={}, status={}", userId, weekStart, status);
-        return weeklyReportRepository.save(weeklyReport);
+    /**
+     * 한 트랜잭션으로 일괄 저장 — 그 사이 다른 요청이 일부를 먼저 저장해 제약 위반이면 건별 저장으로 재시도
+     */
+    private void saveAllIdempotently(List<WeeklyReport> weeklyReports) {
+        if (weeklyReports.isEmpty()) {
+            return;
+        }
+        try {
+            weeklyReportRepository.saveAll(weeklyReports);
+        } catch (DataIntegrityViolationException e) {
+            log.info("Batch save of {} weekly reports conflicted, retrying one by one", weeklyReports.size());
+            weeklyReports.forEach(this::saveIdempotently);
+        }
     }
 
-    private String formatLogsForAi(List<LogEntry> logs) {
-        StringBuilder sb = new StringBuilder();
-        for (LogEntry log : logs) {
-            String dateStr = log.getCreatedAt().toLocalDate().toString();
-            LogType type = log.getLogType() != null ? log.getLogType() : LogType.DAILY;
-
-            switch (type) {
-                case DAILY -> sb.append("[%s] 안정성:%d, 중력:%d / %s".formatted(
-                        dateStr, log.getStability(), log.getGravity(), log.getContent()));
-                case SENSORY -> sb.append("[%s] 장소:%s / 시각:%s, 청각:%s, 촉각:%s".formatted(
-                        dateStr, log.getLocation(),
-                        log.getSensoryVisual(), log.getSensoryAuditory(), log.getSensoryTactile()));
-                case INSIGHT -> sb.append("[%s] 관찰:%s → CS개념:%s → 적용:%s".formatted(
-                        dateStr, log.getContent(),
-                        log.getInsightAbstraction(), log.getInsightApplication()));
-            }
-            sb.append("\n");
+    /**
+     * uq_user_week 제약으로 중복 저장 방지 — LLM 호출 중 다른 요청이 먼저 저장했다면 그 리포트를 반환
+     */
+    private WeeklyReport saveIdempotently(WeeklyReport weeklyReport) {
+        try {
+            return weeklyReportRepository.save(weeklyReport);
+        } catch (DataIntegrityViolationException e) {
+            log.info("Weekly report already saved by another request - userId={}, weekStart={}",
+                    weeklyReport.getUserId(), weeklyReport.getWeekStart());
+            return weeklyReportRepository.findByUserIdAndWeekStart(weeklyReport.getUserId(), weeklyReport.getWeekStart())
+                    .orElseThrow(() -> e);
         }
-        return sb.toString();
     }
 }
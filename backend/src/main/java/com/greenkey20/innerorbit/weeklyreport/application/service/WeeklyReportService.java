@@ -1,20 +1,32 @@
 package com.greenkey20.innerorbit.weeklyreport.application.service;
 
 import com.greenkey20.innerorbit.auth.application.port.out.UserRepository;
-import com.greenkey20.innerorbit.auth.domain.model.User;
+import com.greenkey20.innerorbit.common.deadline.RequestDeadline;
 import com.greenkey20.innerorbit.common.exception.BusinessException;
 import com.greenkey20.innerorbit.common.exception.ErrorCode;
+import com.greenkey20.innerorbit.common.lock.DistributedLock;
 import com.greenkey20.innerorbit.weeklyreport.application.port.in.WeeklyReportUseCase;
 import com.greenkey20.innerorbit.weeklyreport.application.port.out.WeeklyReportRepository;
+import com.greenkey20.innerorbit.weeklyreport.application.port.out.WeeklyReportRunRepository;
+import com.greenkey20.innerorbit.weeklyreport.domain.model.UserShard;
 import com.greenkey20.innerorbit.weeklyreport.domain.model.WeeklyReport;
+import com.greenkey20.innerorbit.weeklyreport.domain.model.WeeklyReportRun;
+import com.greenkey20.innerorbit.weeklyreport.infrastructure.config.WeeklyReportGenerationProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.temporal.TemporalAdjusters;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 
 /**
  * WeeklyReportUseCase 구현체
@@ -24,27 +36,141 @@ import java.util.List;
 @Slf4j
 public class WeeklyReportService implements WeeklyReportUseCase {
 
+    private static final String GENERATE_LOCK_PREFIX = "weekly-report:generate:";
+
     private final WeeklyReportRepository weeklyReportRepository;
     private final WeeklyReportGenerator weeklyReportGenerator;
     private final UserRepository userRepository;
+    private final WeeklyReportRunRepository weeklyReportRunRepository;
+    private final WeeklyReportGenerationProperties generationProperties;
+    private final DistributedLock distributedLock;
 
     /**
-     * 스케줄러 전용 — 전체 사용자 주간 리포트 일괄 생성
+     * 전체 사용자 주간 리포트 일괄 생성 (단일 샤드)
      */
     public void generateForAllUsers(LocalDate weekStart, LocalDate weekEnd) {
-        List<User> users = userRepository.findAll();
-        log.info("Starting weekly report generation for {} users, week: {} ~ {}", users.size(), weekStart, weekEnd);
-
-        for (User user : users) {
-            try {
-                weeklyReportGenerator.generateReportForUser(user.getId(), weekStart, weekEnd);
-                log.info("Weekly report generated for userId={}", user.getId());
-            } catch (Exception e) {
-                log.error("Failed to generate weekly report for userId={}: {}", user.getId(), e.getMessage(), e);
+        generateForShard(weekStart, weekEnd, UserShard.ALL);
+    }
+
+    /**
+     * 스케줄러 전용 — 샤드에 속한 사용자 주간 리포트 일괄 생성 (호출 측에서 샤드 분산 락 보유)
+     * 사용자 id를 keyset 페이지 단위로 읽고, 페이지 완료마다 weekly_report_runs에 체크포인트 기록
+     * 중단 후 재실행 시 마지막 체크포인트 이후 사용자부터 재개하며, 이미 리포트가 있는 사용자는 건너뜀
+     * 병렬 모드: 페이지 내 사용자별 작업을 virtual thread로 실행하고, LLM/DB 동시 실행 수는 GenerationThrottle로 제한
+     */
+    public void generateForShard(LocalDate weekStart, LocalDate weekEnd, UserShard shard) {
+        WeeklyReportRun run = weeklyReportRunRepository.findByWeekStartAndShard(weekStart, shard)
+                .orElseGet(() -> weeklyReportRunRepository.save(WeeklyReportRun.start(weekStart, shard)));
+        if (run.isCompleted()) {
+            log.info("Weekly report generation already completed for week: {} ~ {}, shard={}", weekStart, weekEnd, shard);
+            return;
+        }
+        log.info("Starting weekly report generation, week: {} ~ {}, shard={}, resume after userId={}, parallel={}",
+                weekStart, weekEnd, shard, run.getLastUserId(), generationProperties.isParallel());
+
+        GenerationThrottle throttle = generationProperties.isParallel()
+                ? GenerationThrottle.of(generationProperties.getAiConcurrency(), generationProperties.getDbConcurrency())
+                : GenerationThrottle.UNBOUNDED;
+
+        while (true) {
+            List<Long> userIds = userRepository.findIdsAfter(
+                    run.getLastUserId(), generationProperties.getPageSize(), shard.index(), shard.count());
+            if (userIds.isEmpty()) {
+                break;
             }
+
+            Set<Long> alreadyGenerated = new HashSet<>(weeklyReportRepository.findUserIdsWithReport(weekStart, userIds));
+            List<Long> pending = userIds.stream()
+                    .filter(userId -> !alreadyGenerated.contains(userId))
+                    .toList();
+
+            generatePage(pending, weekStart, weekEnd, throttle);
+
+            run.checkpoint(userIds.getLast(), userIds.size());
+            run = weeklyReportRunRepository.save(run);
+            log.info("Weekly report checkpoint - shard={}, lastUserId={}, processed={}, skipped={}",
+                    shard, run.getLastUserId(), run.getProcessedCount(), alreadyGenerated.size());
         }
 
-        log.info("Weekly report generation completed for all users");
+        run.complete();
+        weeklyReportRunRepository.save(run);
+        log.info("Weekly report generation completed - shard={}, total processed={}", shard, run.getProcessedCount());
+    }
+
+    /**
+     * 스케줄러 전용 — 완료되지 않은 실행을 이어서 진행 (호출 측에서 샤드 분산 락 보유)
+     * 중단된(RUNNING) 실행은 체크포인트부터 재개하고, 실행 기록이 아예 없으면(일요일 트리거가 락 저장소 장애 등으로
+     * 건너뛴 경우) 새로 시작 — 이미 완료된 실행은 조용히 종료
+     */
+    public void resumeIncompleteRun(LocalDate weekStart, LocalDate weekEnd, UserShard shard) {
+        Optional<WeeklyReportRun> run = weeklyReportRunRepository.findByWeekStartAndShard(weekStart, shard);
+        if (run.map(WeeklyReportRun::isCompleted).orElse(false)) {
+            return;
+        }
+        if (run.isPresent()) {
+            log.info("Resuming interrupted weekly report run for week: {} ~ {}, shard={}", weekStart, weekEnd, shard);
+        } else {
+            log.warn("No weekly report run found for week: {} ~ {}, shard={} - starting it from the resume schedule",
+                    weekStart, weekEnd, shard);
+        }
+        generateForShard(weekStart, weekEnd, shard);
+    }
+
+    /**
+     * 페이지 단위 처리 — 로그 조회는 prepareBatch 한 번(LLM 없음), 이후 AI 대상만 사용자별로 LLM 호출
+     * prepareBatch 자체가 실패하면 해당 페이지는 사용자별 개별 조회 경로로 처리
+     */
+    private void generatePage(List<Long> userIds, LocalDate weekStart, LocalDate weekEnd, GenerationThrottle throttle) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        List<PendingWeeklyReport> pendingReports;
+        try {
+            pendingReports = throttle.db(() -> weeklyReportGenerator.prepareBatch(userIds, weekStart, weekEnd));
+        } catch (Exception e) {
+            log.error("Failed to prepare weekly report batch of {} users, falling back to per-user generation: {}",
+                    userIds.size(), e.getMessage(), e);
+            runAll(userIds, userId -> generateForUser(userId, weekStart, weekEnd, throttle));
+            return;
+        }
+
+        runAll(pendingReports, pending -> completeForUser(pending, weekStart, weekEnd, throttle));
+    }
+
+    private <T> void runAll(List<T> items, Consumer<T> task) {
+        if (!generationProperties.isParallel()) {
+            items.forEach(task);
+            return;
+        }
+        // close()가 제출된 모든 작업 완료까지 대기 — 페이지가 끝나야 체크포인트 전진
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (T item : items) {
+                executor.submit(() -> task.accept(item));
+            }
+        }
+    }
+
+    private void completeForUser(PendingWeeklyReport pending, LocalDate weekStart, LocalDate weekEnd,
+                                 GenerationThrottle throttle) {
+        try {
+            weeklyReportGenerator.completeReport(pending, weekStart, weekEnd, throttle);
+            log.info("Weekly report generated for userId={}", pending.userId());
+        } catch (Exception e) {
+            log.error("Failed to generate weekly report for userId={}: {}", pending.userId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 사용자 단위 실패 격리 — 한 사용자의 실패가 나머지 사용자 생성에 영향을 주지 않도록
+     */
+    private void generateForUser(Long userId, LocalDate weekStart, LocalDate weekEnd, GenerationThrottle throttle) {
+        try {
+            weeklyReportGenerator.generateReportForUser(userId, weekStart, weekEnd, throttle);
+            log.info("Weekly report generated for userId={}", userId);
+        } catch (Exception e) {
+            log.error("Failed to generate weekly report for userId={}: {}", userId, e.getMessage(), e);
+        }
     }
 
     @Override
@@ -58,18 +184,77 @@ public class WeeklyReportService implements WeeklyReportUseCase {
                 .orElseThrow(() -> new BusinessException(ErrorCode.WEEKLY_REPORT_NOT_FOUND));
     }
 
+    /**
+     * 수동 생성 — 같은 (사용자, 주) 동시 요청은 전용 분산 락(weekly-report:generate:{userId}:{weekStart})을 잡은 한 요청만 생성
+     * AI 호출 합치기(ai-single-flight) 설정과 무관하게 동작하고, 늦게 온 요청은 manualMaxWait 동안 락을 다시 시도하며
+     * 먼저 요청이 저장한 리포트를 반환 — LLM 중복 호출/uq_user_week 충돌 방지
+     */
     @Override
     public WeeklyReport generateForCurrentWeek(Long userId) {
         // 가장 최근 완료된 토요일 기준 — 일~토 한 주 집계 (Asia/Seoul 기준)
         LocalDate weekEnd   = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.SATURDAY));
         LocalDate weekStart = weekEnd.minusDays(6);  // 일요일
 
-        if (weeklyReportRepository.existsByUserIdAndWeekStart(userId, weekStart)) {
+        Optional<WeeklyReport> existing = weeklyReportRepository.findByUserIdAndWeekStart(userId, weekStart);
+        if (existing.isPresent()) {
             log.info("Weekly report already exists for userId={}, weekStart={}", userId, weekStart);
-            return weeklyReportRepository.findByUserIdAndWeekStart(userId, weekStart)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.WEEKLY_REPORT_NOT_FOUND));
+            return existing.get();
         }
 
-        return weeklyReportGenerator.generateReportForUser(userId, weekStart, weekEnd);
+        String lockKey = GENERATE_LOCK_PREFIX + userId + ":" + weekStart;
+        long deadline = System.nanoTime() + maxWait().toNanos();
+        try {
+            while (true) {
+                Optional<DistributedLock.LockHandle> lock;
+                try {
+                    lock = distributedLock.tryLock(lockKey, generationProperties.getManualLockTtl());
+                } catch (Exception e) {
+                    // Redis 장애 — 중복 생성 방지는 uq_user_week에 맡기고 진행
+                    log.warn("Weekly report generate lock unavailable, generating without lock - {}: {}",
+                            lockKey, e.getMessage());
+                    return findOrGenerate(userId, weekStart, weekEnd);
+                }
+
+                if (lock.isPresent()) {
+                    try (DistributedLock.LockHandle ignored = lock.get()) {
+                        return findOrGenerate(userId, weekStart, weekEnd);
+                    }
+                }
+
+                if (System.nanoTime() >= deadline) {
+                    log.warn("Timed out waiting for in-flight weekly report generation - {}", lockKey);
+                    throw new BusinessException(ErrorCode.WEEKLY_REPORT_GENERATION_IN_PROGRESS);
+                }
+                Thread.sleep(generationProperties.getManualPollInterval().toMillis());
+
+                Optional<WeeklyReport> generated = weeklyReportRepository.findByUserIdAndWeekStart(userId, weekStart);
+                if (generated.isPresent()) {
+                    log.info("Joined in-flight weekly report generation for userId={}, weekStart={}", userId, weekStart);
+                    return generated.get();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.WEEKLY_REPORT_GENERATION_IN_PROGRESS, e);
+        }
+    }
+
+    /**
+     * 락을 잡기 직전에 다른 요청이 끝냈을 수 있으므로 한 번 더 확인
+     */
+    private WeeklyReport findOrGenerate(Long userId, LocalDate weekStart, LocalDate weekEnd) {
+        return weeklyReportRepository.findByUserIdAndWeekStart(userId, weekStart)
+                .orElseGet(() -> weeklyReportGenerator.generateReportForUser(userId, weekStart, weekEnd));
+    }
+
+    /**
+     * 대기 한도 — 요청 마감이 더 짧으면 그 안에서만 기다림
+     */
+    private Duration maxWait() {
+        Duration maxWait = generationProperties.getManualMaxWait();
+        return RequestDeadline.current()
+                .map(RequestDeadline::remaining)
+                .filter(remaining -> remaining.compareTo(maxWait) < 0)
+                .orElse(maxWait);
     }
 }
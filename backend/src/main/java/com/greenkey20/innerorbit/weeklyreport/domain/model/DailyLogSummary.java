@@ -0,0 +1,28 @@
+package com.greenkey20.innerorbit.weeklyreport.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 하루 로그 AI 요약 순수 도메인 모델 (JPA 어노테이션 없음)
+ * contentHash: 요약한 그날 로그의 SHA-256 — 이후 로그가 추가/삭제/수정되면 재요약 대상
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyLogSummary {
+
+    private Long id;
+    private Long userId;
+    private LocalDate summaryDate;
+    private Integer logCount;
+    private String contentHash;
+    private String summary;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,16 @@
+package com.greenkey20.innerorbit.weeklyreport.domain.model;
+
+/**
+ * 주간 리포트 일괄 생성 단위 — 사용자 id를 count개로 나눈 것 중 index번째 (id % count == index)
+ * count=1이면 전체 사용자 (리더 단독 실행 모드)
+ */
+public record UserShard(int index, int count) {
+
+    public static final UserShard ALL = new UserShard(0, 1);
+
+    public UserShard {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("잘못된 샤드 범위입니다. index=" + index + ", count=" + count);
+        }
+    }
+}
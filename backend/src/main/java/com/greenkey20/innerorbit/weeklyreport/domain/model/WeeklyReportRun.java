@@ -0,0 +1,64 @@
+package com.greenkey20.innerorbit.weeklyreport.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 주간 리포트 일괄 생성 실행 체크포인트 순수 도메인 모델 (JPA 어노테이션 없음)
+ * (주, 샤드)마다 하나씩 기록
+ * lastUserId까지의 사용자는 처리 완료 — 재시작 시 그 다음 id부터 이어서 진행
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeeklyReportRun {
+
+    private Long id;
+    private LocalDate weekStart;
+    private Integer shardIndex;
+    private Integer shardCount;
+    private WeeklyReportRunStatus status;
+    private Long lastUserId;
+    private Integer processedCount;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    public static WeeklyReportRun start(LocalDate weekStart, UserShard shard) {
+        return WeeklyReportRun.builder()
+                .weekStart(weekStart)
+                .shardIndex(shard.index())
+                .shardCount(shard.count())
+                .status(WeeklyReportRunStatus.RUNNING)
+                .lastUserId(0L)
+                .processedCount(0)
+                .startedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public UserShard getShard() {
+        return new UserShard(shardIndex, shardCount);
+    }
+
+    public boolean isCompleted() {
+        return status == WeeklyReportRunStatus.COMPLETED;
+    }
+
+    /**
+     * 한 페이지 처리 완료 후 체크포인트 전진
+     */
+    public void checkpoint(Long lastUserId, int processedInPage) {
+        this.lastUserId = lastUserId;
+        this.processedCount += processedInPage;
+    }
+
+    public void complete() {
+        this.status = WeeklyReportRunStatus.COMPLETED;
+        this.completedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,11 @@
+package com.greenkey20.innerorbit.weeklyreport.domain.model;
+
+/**
+ * 주간 리포트 일괄 생성 실행 상태
+ * - RUNNING: 진행 중 또는 중단됨 (다음 실행 시 체크포인트부터 재개)
+ * - COMPLETED: 전체 사용자 처리 완료
+ */
+public enum WeeklyReportRunStatus {
+    RUNNING,
+    COMPLETED
+}
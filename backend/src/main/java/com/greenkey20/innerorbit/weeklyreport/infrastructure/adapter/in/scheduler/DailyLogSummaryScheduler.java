@@ -0,0 +1,57 @@
+package com.greenkey20.innerorbit.weeklyreport.infrastructure.adapter.in.scheduler;
+
+import com.greenkey20.innerorbit.common.lock.DistributedLock;
+import com.greenkey20.innerorbit.weeklyreport.application.service.DailyLogSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Optional;
+
+/**
+ * 일별 로그 요약 스케줄러
+ * 기본: 매일 00:10 — 이번 주 일요일 ~ 어제까지 요약 갱신
+ * 토요일분(일요일 새벽)은 주간 리포트 생성이 직접 요약하므로 건너뜀
+ * 클러스터: 날짜별 분산 락을 잡은 한 노드만 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DailyLogSummaryScheduler {
+
+    private static final String LOCK_KEY_PREFIX = "daily-summary:lock:";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(2);
+
+    private final DailyLogSummaryService dailyLogSummaryService;
+    private final DistributedLock distributedLock;
+
+    @Scheduled(cron = "${weekly-report.scheduler.daily-summary-cron:0 10 0 * * *}")
+    public void summarizeDailyLogs() {
+        LocalDate lastDay = LocalDate.now().minusDays(1);
+        if (lastDay.getDayOfWeek() == DayOfWeek.SATURDAY) {
+            return;
+        }
+        LocalDate weekStart = lastDay.with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
+
+        Optional<DistributedLock.LockHandle> lock;
+        try {
+            lock = distributedLock.tryLock(LOCK_KEY_PREFIX + lastDay, LOCK_TTL);
+        } catch (Exception e) {
+            log.error("Failed to acquire daily summary lock for {}: {}", lastDay, e.getMessage(), e);
+            return;
+        }
+        if (lock.isEmpty()) {
+            log.info("Daily summary for {} is running on another node, skipping", lastDay);
+            return;
+        }
+
+        try (DistributedLock.LockHandle ignored = lock.get()) {
+            dailyLogSummaryService.summarizeWeekToDate(weekStart, lastDay);
+        }
+    }
+}
@@ -1,30 +1,91 @@
 package com.greenkey20.innerorbit.weeklyreport.infrastructure.adapter.in.scheduler;
 
+import com.greenkey20.innerorbit.common.lock.DistributedLock;
 import com.greenkey20.innerorbit.weeklyreport.application.service.WeeklyReportService;
+import com.greenkey20.innerorbit.weeklyreport.domain.model.UserShard;
+import com.greenkey20.innerorbit.weeklyreport.infrastructure.config.WeeklyReportGenerationProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * 주간 리포트 자동 생성 스케줄러
  * 기본: 매주 일요일 자정 (0 0 0 * * SUN) — 완료된 한 주(일~토) 집계
  * 로컬 테스트: WEEKLY_REPORT_CRON 환경변수로 오버라이드 가능
+ * 재개: 매시 30분 직전 주 실행이 완료되지 않았으면 이어서 진행 — 중단된 실행은 체크포인트부터,
+ * 실행 기록이 없으면(생성 트리거가 락 저장소 장애로 건너뜀) 처음부터
+ * 스케줄러 스레드 풀(spring.task.scheduling.pool.size)에서 생성/재개가 동시에 트리거될 수 있으므로
+ * 두 경로 모두 같은 (주, 샤드) 분산 락 안에서만 실행 — 같은 노드에서도 락이 겹침을 막음
+ *
+ * 클러스터: 모든 노드에서 트리거되지만 (주, 샤드)별 분산 락을 잡은 노드만 해당 샤드를 처리
+ * - shard-count=1: 락을 잡은 한 노드가 전체 사용자 처리 (리더 모드)
+ * - shard-count=N: 각 노드가 비어 있는 샤드 락을 차례로 잡아 처리 — 살아 있는 노드 수만큼 자연스럽게 분산
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class WeeklyReportScheduler {
 
+    private static final String LOCK_KEY_PREFIX = "weekly-report:lock:";
+    /** 보유 중에는 자동 갱신 — 노드가 죽으면 이 시간 뒤 다른 노드가 재개 가능 */
+    private static final Duration LOCK_TTL = Duration.ofMinutes(2);
+
     private final WeeklyReportService weeklyReportService;
+    private final DistributedLock distributedLock;
+    private final WeeklyReportGenerationProperties generationProperties;
 
     @Scheduled(cron = "${weekly-report.scheduler.cron}")
     public void generateWeeklyReports() {
         log.info("Weekly report scheduler triggered");
         LocalDate weekEnd   = LocalDate.now().minusDays(1);   // 어제 = 토요일
         LocalDate weekStart = weekEnd.minusDays(6);           // 6일 전 = 일요일 (일~토 한 주)
-        weeklyReportService.generateForAllUsers(weekStart, weekEnd);
+        forEachLockedShard(weekStart, shard -> weeklyReportService.generateForShard(weekStart, weekEnd, shard));
+    }
+
+    @Scheduled(cron = "${weekly-report.scheduler.resume-cron:0 30 * * * *}")
+    public void resumeInterruptedWeeklyReports() {
+        // 직전에 완료된 한 주(일~토) — 토요일 당일에는 아직 진행 중인 주가 아니라 그 전 주
+        LocalDate weekEnd   = LocalDate.now().minusDays(1).with(TemporalAdjusters.previousOrSame(DayOfWeek.SATURDAY));
+        LocalDate weekStart = weekEnd.minusDays(6);
+        forEachLockedShard(weekStart, shard -> weeklyReportService.resumeIncompleteRun(weekStart, weekEnd, shard));
+    }
+
+    /**
+     * 샤드마다 락 획득을 시도해 잡은 샤드만 실행 — 다른 노드가 처리 중인 샤드는 건너뜀
+     * 이미 완료된 샤드는 체크포인트(COMPLETED)로 즉시 종료되므로 늦게 도착한 노드가 잡아도 중복 생성 없음
+     */
+    private void forEachLockedShard(LocalDate weekStart, Consumer<UserShard> task) {
+        int shardCount = generationProperties.getShardCount();
+        for (int index = 0; index < shardCount; index++) {
+            UserShard shard = new UserShard(index, shardCount);
+            String lockKey = LOCK_KEY_PREFIX + weekStart + ":" + shard.index() + "/" + shard.count();
+
+            Optional<DistributedLock.LockHandle> lock;
+            try {
+                lock = distributedLock.tryLock(lockKey, LOCK_TTL);
+            } catch (Exception e) {
+                // 락 저장소 장애 시 중복 실행보다 건너뛰기를 선택 — 실행 기록이 없는 샤드는 재개 스케줄이 새로 시작
+                log.error("Failed to acquire weekly report lock - key={}: {}", lockKey, e.getMessage(), e);
+                continue;
+            }
+            if (lock.isEmpty()) {
+                log.info("Weekly report shard {} is held by another node, skipping", shard);
+                continue;
+            }
+
+            try (DistributedLock.LockHandle ignored = lock.get()) {
+                task.accept(shard);
+            } catch (Exception e) {
+                log.error("Weekly report shard {} failed: {}", shard, e.getMessage(), e);
+            }
+        }
     }
 }
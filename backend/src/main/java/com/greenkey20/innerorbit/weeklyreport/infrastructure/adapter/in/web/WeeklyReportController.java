@@ -1,5 +1,7 @@
 package com.greenkey20.innerorbit.weeklyreport.infrastructure.adapter.in.web;
 
+import com.greenkey20.innerorbit.common.deadline.DeadlineBudget;
+import com.greenkey20.innerorbit.common.idempotency.Idempotent;
 import com.greenkey20.innerorbit.security.UserPrincipal;
 import com.greenkey20.innerorbit.weeklyreport.application.port.in.WeeklyReportUseCase;
 import com.greenkey20.innerorbit.weeklyreport.domain.model.WeeklyReport;
@@ -45,6 +47,11 @@ public class WeeklyReportController {
         return ResponseEntity.ok(WeeklyReportResponse.from(report));
     }
 
+    /**
+     * 일별 요약 + 주간 리포트 LLM 호출(gpt-4o 단계 55s, 실패 시 대체 모델)을 요청 스레드에서 처리 — 기본 마감(30s)으로는 부족
+     */
+    @Idempotent
+    @DeadlineBudget(seconds = 150)
     @PostMapping("/generate")
     public ResponseEntity<WeeklyReportResponse> generateForCurrentWeek(Authentication authentication) {
         Long userId = ((UserPrincipal) authentication.getPrincipal()).userId();
@@ -1,6 +1,11 @@
 package com.greenkey20.innerorbit.weeklyreport.infrastructure.adapter.out.ai;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.greenkey20.innerorbit.common.ai.AiAdmissionController;
+import com.greenkey20.innerorbit.common.ai.AiPriority;
+import com.greenkey20.innerorbit.common.ai.ChatClientPurpose;
+import com.greenkey20.innerorbit.common.ai.ChatClientRegistry;
+import com.greenkey20.innerorbit.common.exception.BusinessException;
 import com.greenkey20.innerorbit.weeklyreport.application.port.out.WeeklyReportAiPort;
 import com.greenkey20.innerorbit.weeklyreport.domain.model.WeeklyReportContent;
 import lombok.RequiredArgsConstructor;
@@ -9,14 +14,14 @@ import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.stereotype.Component;
 
 /**
- * WeeklyReportAiPort 구현체 — ChatClient.Builder 직접 사용 (ai 도메인 의존 없음)
+ * WeeklyReportAiPort 구현체 — 공용 ChatClientRegistry 사용 (ai 도메인 의존 없음)
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class WeeklyReportAiAdapter implements WeeklyReportAiPort {
 
-    private final ChatClient.Builder chatClientBuilder;
+    private final ChatClientRegistry chatClientRegistry;
     private final ObjectMapper objectMapper;
 
     private static final String SYSTEM_PROMPT = """
@@ -36,13 +41,27 @@ public class WeeklyReportAiAdapter implements WeeklyReportAiPort {
             Return ONLY the JSON object, no additional text or markdown.
             """;
 
+    private static final String DAILY_SUMMARY_PROMPT = """
+            You are summarizing ONE day of journal logs for "Inner Orbit" app.
+            The summary will later be combined with other days into a weekly insight report.
+
+            Write 3-5 sentences in Korean covering:
+            - 하루의 감정 흐름 (안정성/중력 수치의 변화 포함)
+            - 주요 사건, 장소, 감각 경험
+            - 기록된 인사이트나 반복되는 생각
+
+            Keep concrete details that matter for weekly patterns. Do not give advice.
+            Return ONLY the summary text, no headings or markdown.
+            """;
+
     @Override
-    public WeeklyReportContent generateWeeklyReport(String formattedLogs) {
+    public WeeklyReportContent generateWeeklyReport(String formattedLogs, AiPriority priority) {
         log.info("Generating weekly report via AI");
         try {
-            ChatClient chatClient = chatClientBuilder.build();
+            ChatClient chatClient = chatClientRegistry.get(ChatClientPurpose.WEEKLY_REPORT);
 
             String response = chatClient.prompt()
+                    .advisors(advisor -> advisor.param(AiAdmissionController.PRIORITY, priority))
                     .system(SYSTEM_PROMPT)
                     .user(formattedLogs)
                     .call()
@@ -51,9 +70,35 @@ public class WeeklyReportAiAdapter implements WeeklyReportAiPort {
             log.debug("Weekly report AI raw response: {}", response);
             return objectMapper.readValue(response, WeeklyReportContent.class);
 
+        } catch (BusinessException e) {
+            // 입장 제어 과부하(429), 브레이커 open/벌크헤드 초과(503), 마감(504) — 상태 코드가 유지되도록 그대로 전달
+            log.warn("Weekly report generation rejected: {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("Failed to generate weekly report: {}", e.getMessage(), e);
             throw new RuntimeException("주간 리포트 생성 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
+
+    @Override
+    public String summarizeDay(String formattedLogs, AiPriority priority) {
+        log.info("Summarizing daily logs via AI");
+        try {
+            ChatClient chatClient = chatClientRegistry.get(ChatClientPurpose.WEEKLY_REPORT);
+
+            return chatClient.prompt()
+                    .advisors(advisor -> advisor.param(AiAdmissionController.PRIORITY, priority))
+                    .system(DAILY_SUMMARY_PROMPT)
+                    .user(formattedLogs)
+                    .call()
+                    .content();
+
+        } catch (BusinessException e) {
+            log.warn("Daily log summary rejected: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to summarize daily logs: {}", e.getMessage(), e);
+            throw new RuntimeException("일별 로그 요약 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
 }
@@ -5,11 +5,21 @@ import com.greenkey20.innerorbit.log.domain.model.LogType;
 import com.greenkey20.innerorbit.log.infrastructure.adapter.out.persistence.LogJpaRepository;
 import com.greenkey20.innerorbit.log.infrastructure.adapter.out.persistence.entity.LogEntryJpaEntity;
 import com.greenkey20.innerorbit.weeklyreport.application.port.out.LogQueryPort;
+import com.greenkey20.innerorbit.weeklyreport.infrastructure.adapter.out.logquery.WeeklyLogQueryJpaRepository.UserLogCount;
+import com.greenkey20.innerorbit.weeklyreport.infrastructure.adapter.out.logquery.WeeklyLogQueryJpaRepository.WeeklyLogRow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * LogQueryPort 구현체 — weeklyreport 도메인이 log JPA 레포지토리를 직접 사용
@@ -19,13 +29,71 @@ import java.util.List;
 public class LogQueryAdapter implements LogQueryPort {
 
     private final LogJpaRepository logJpaRepository;
+    private final WeeklyLogQueryJpaRepository weeklyLogQueryJpaRepository;
 
     @Override
+    @Transactional(readOnly = true)
     public List<LogEntry> findByUserIdAndCreatedAtBetween(Long userId, LocalDateTime from, LocalDateTime to) {
         return logJpaRepository.findByUserIdAndCreatedAtBetween(userId, from, to)
                 .stream().map(this::toDomainModel).toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> countByUserIdsAndCreatedAtBetween(Collection<Long> userIds,
+                                                                LocalDateTime from, LocalDateTime to) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return weeklyLogQueryJpaRepository.countByUserIds(userIds, from, to).stream()
+                .collect(Collectors.toMap(UserLogCount::getUserId, count -> count.getLogCount().intValue()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamGroupedByUserIdsAndCreatedAtBetween(Collection<Long> userIds, LocalDateTime from, LocalDateTime to,
+                                                          BiConsumer<Long, List<LogEntry>> userLogsConsumer) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try (Stream<WeeklyLogRow> rows = weeklyLogQueryJpaRepository.streamByUserIds(userIds, from, to)) {
+            Long currentUserId = null;
+            List<LogEntry> currentLogs = new ArrayList<>();
+
+            Iterator<WeeklyLogRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                WeeklyLogRow row = iterator.next();
+                // userId 순 정렬이므로 userId가 바뀌면 이전 사용자의 로그는 모두 읽은 것
+                if (currentUserId != null && !currentUserId.equals(row.getUserId())) {
+                    userLogsConsumer.accept(currentUserId, currentLogs);
+                    currentLogs = new ArrayList<>();
+                }
+                currentUserId = row.getUserId();
+                currentLogs.add(toDomainModel(row));
+            }
+            if (currentUserId != null) {
+                userLogsConsumer.accept(currentUserId, currentLogs);
+            }
+        }
+    }
+
+    private LogEntry toDomainModel(WeeklyLogRow row) {
+        return LogEntry.builder()
+                .userId(row.getUserId())
+                .createdAt(row.getCreatedAt())
+                .logType(row.getLogType() != null ? row.getLogType() : LogType.DAILY)
+                .content(row.getContent())
+                .stability(row.getStability())
+                .gravity(row.getGravity())
+                .location(row.getLocation())
+                .sensoryVisual(row.getSensoryVisual())
+                .sensoryAuditory(row.getSensoryAuditory())
+                .sensoryTactile(row.getSensoryTactile())
+                .insightAbstraction(row.getInsightAbstraction())
+                .insightApplication(row.getInsightApplication())
+                .build();
+    }
+
     private LogEntry toDomainModel(LogEntryJpaEntity entity) {
         return LogEntry.builder()
                 .id(entity.getId())
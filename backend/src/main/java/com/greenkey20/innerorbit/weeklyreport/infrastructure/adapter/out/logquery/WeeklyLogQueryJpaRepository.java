@@ -0,0 +1,69 @@
+package com.greenkey20.innerorbit.weeklyreport.infrastructure.adapter.out.logquery;
+
+import com.greenkey20.innerorbit.log.domain.model.LogType;
+import com.greenkey20.innerorbit.log.infrastructure.adapter.out.persistence.entity.LogEntryJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 주간 리포트 일괄 생성 전용 log_entries 조회 — 필요한 컬럼만 projection으로 조회
+ */
+@Repository
+public interface WeeklyLogQueryJpaRepository extends JpaRepository<LogEntryJpaEntity, Long> {
+
+    @Query("SELECT l.userId AS userId, COUNT(l) AS logCount FROM LogEntryJpaEntity l " +
+           "WHERE l.userId IN :userIds AND l.createdAt BETWEEN :from AND :to " +
+           "GROUP BY l.userId")
+    List<UserLogCount> countByUserIds(@Param("userIds") Collection<Long> userIds,
+                                      @Param("from") LocalDateTime from,
+                                      @Param("to") LocalDateTime to);
+
+    /**
+     * 사용자 순으로 정렬해 스트리밍 — 호출 측에서 사용자 경계마다 묶음 처리 (읽기 트랜잭션 안에서만 사용)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    @Query("SELECT l.userId AS userId, l.createdAt AS createdAt, l.logType AS logType, " +
+           "l.content AS content, l.stability AS stability, l.gravity AS gravity, " +
+           "l.location AS location, l.sensoryVisual AS sensoryVisual, " +
+           "l.sensoryAuditory AS sensoryAuditory, l.sensoryTactile AS sensoryTactile, " +
+           "l.insightAbstraction AS insightAbstraction, l.insightApplication AS insightApplication " +
+           "FROM LogEntryJpaEntity l " +
+           "WHERE l.userId IN :userIds AND l.createdAt BETWEEN :from AND :to " +
+           "ORDER BY l.userId, l.createdAt")
+    Stream<WeeklyLogRow> streamByUserIds(@Param("userIds") Collection<Long> userIds,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
+
+    interface UserLogCount {
+        Long getUserId();
+        Long getLogCount();
+    }
+
+    /**
+     * 리포트 프롬프트에 쓰는 컬럼만 — analysis_result, ai_feedback 등은 조회하지 않음
+     */
+    interface WeeklyLogRow {
+        Long getUserId();
+        LocalDateTime getCreatedAt();
+        LogType getLogType();
+        String getContent();
+        Integer getStability();
+        Integer getGravity();
+        String getLocation();
+        String getSensoryVisual();
+        String getSensoryAuditory();
+        String getSensoryTactile();
+        String getInsightAbstraction();
+        String getInsightApplication();
+    }
+}
@@ -0,0 +1,58 @@
+package com.greenkey20.innerorbit.weeklyreport.infrastructure.adapter.out.persistence;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DailyLogSummary JPA 엔티티 — 영속성 레이어 전용
+ */
+@Entity
+@Table(name = "daily_log_summaries", uniqueConstraints = {
+    @UniqueConstraint(name = "uq_user_summary_date", columnNames = {"user_id", "summary_date"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyLogSummaryJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "summary_date", nullable = false)
+    private LocalDate summaryDate;
+
+    @Column(name = "log_count", nullable = false)
+    private Integer logCount;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String summary;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,20 @@
+package com.greenkey20.innerorbit.weeklyreport.infrastructure.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * DailyLogSummary Spring Data JPA 레포지토리
+ */
+@Repository
+public interface DailyLogSummaryJpaRepository extends JpaRepository<DailyLogSummaryJpaEntity, Long> {
+
+    Optional<DailyLogSummaryJpaEntity> findByUserIdAndSummaryDate(Long userId, LocalDate summaryDate);
+
+    List<DailyLogSummaryJpaEntity> findByUserIdInAndSummaryDateBetween(Collection<Long> userIds, LocalDate from, LocalDate to);
+}
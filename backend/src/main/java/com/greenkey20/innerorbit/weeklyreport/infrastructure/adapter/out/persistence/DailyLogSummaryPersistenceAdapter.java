@@ -0,0 +1,58 @@
+package com.greenkey20.innerorbit.weeklyreport.infrastructure.adapter.out.persistence;
+
+import com.greenkey20.innerorbit.weeklyreport.application.port.out.DailyLogSummaryRepository;
+import com.greenkey20.innerorbit.weeklyreport.domain.model.DailyLogSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * DailyLogSummaryRepository out port 구현체 — JPA 영속성 어댑터
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyLogSummaryPersistenceAdapter implements DailyLogSummaryRepository {
+
+    private final DailyLogSummaryJpaRepository jpaRepository;
+
+    @Override
+    @Transactional
+    public DailyLogSummary save(DailyLogSummary summary) {
+        DailyLogSummaryJpaEntity entity = jpaRepository
+                .findByUserIdAndSummaryDate(summary.getUserId(), summary.getSummaryDate())
+                .orElseGet(() -> DailyLogSummaryJpaEntity.builder()
+                        .userId(summary.getUserId())
+                        .summaryDate(summary.getSummaryDate())
+                        .build());
+        entity.setLogCount(summary.getLogCount());
+        entity.setContentHash(summary.getContentHash());
+        entity.setSummary(summary.getSummary());
+        return toDomainModel(jpaRepository.save(entity));
+    }
+
+    @Override
+    public List<DailyLogSummary> findByUserIdsAndSummaryDateBetween(Collection<Long> userIds,
+                                                                     LocalDate from, LocalDate to) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByUserIdInAndSummaryDateBetween(userIds, from, to)
+                .stream().map(this::toDomainModel).toList();
+    }
+
+    private DailyLogSummary toDomainModel(DailyLogSummaryJpaEntity entity) {
+        return DailyLogSummary.builder()
+                .id(entity.getId())
+                .userId(entity.getUserId())
+                .summaryDate(entity.getSummaryDate())
+                .logCount(entity.getLogCount())
+                .contentHash(entity.getContentHash())
+                .summary(entity.getSummary())
+                .updatedAt(entity.getUpdatedAt())
+                .build();
+    }
+}
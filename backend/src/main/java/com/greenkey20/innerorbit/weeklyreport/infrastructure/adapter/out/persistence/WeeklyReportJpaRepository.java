@@ -1,9 +1,12 @@
 package com.greenkey20.innerorbit.weeklyreport.infrastructure.adapter.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,7 +20,9 @@ public interface WeeklyReportJpaRepository extends JpaRepository<WeeklyReportJpa
 
     Optional<WeeklyReportJpaEntity> findByIdAndUserId(Long id, Long userId);
 
-    boolean existsByUserIdAndWeekStart(Long userId, LocalDate weekStart);
-
     Optional<WeeklyReportJpaEntity> findByUserIdAndWeekStart(Long userId, LocalDate weekStart);
+
+    @Query("SELECT r.userId FROM WeeklyReportJpaEntity r WHERE r.weekStart = :weekStart AND r.userId IN :userIds")
+    List<Long> findUserIdsWithReport(@Param("weekStart") LocalDate weekStart,
+                                     @Param("userIds") Collection<Long> userIds);
 }
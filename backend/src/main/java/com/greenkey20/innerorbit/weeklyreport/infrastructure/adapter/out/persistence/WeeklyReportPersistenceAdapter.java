@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +26,12 @@ public class WeeklyReportPersistenceAdapter implements WeeklyReportRepository {
         return toDomainModel(saved);
     }
 
+    @Override
+    public List<WeeklyReport> saveAll(List<WeeklyReport> weeklyReports) {
+        List<WeeklyReportJpaEntity> entities = weeklyReports.stream().map(this::toJpaEntity).toList();
+        return jpaRepository.saveAll(entities).stream().map(this::toDomainModel).toList();
+    }
+
     @Override
     public List<WeeklyReport> findAllByUserIdOrderByWeekStartDesc(Long userId) {
         return jpaRepository.findAllByUserIdOrderByWeekStartDesc(userId)
@@ -37,13 +44,16 @@ public class WeeklyReportPersistenceAdapter implements WeeklyReportRepository {
     }
 
     @Override
-    public boolean existsByUserIdAndWeekStart(Long userId, LocalDate weekStart) {
-        return jpaRepository.existsByUserIdAndWeekStart(userId, weekStart);
+    public Optional<WeeklyReport> findByUserIdAndWeekStart(Long userId, LocalDate weekStart) {
+        return jpaRepository.findByUserIdAndWeekStart(userId, weekStart).map(this::toDomainModel);
     }
 
     @Override
-    public Optional<WeeklyReport> findByUserIdAndWeekStart(Long userId, LocalDate weekStart) {
-        return jpaRepository.findByUserIdAndWeekStart(userId, weekStart).map(this::toDomainModel);
+    public List<Long> findUserIdsWithReport(LocalDate weekStart, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findUserIdsWithReport(weekStart, userIds);
     }
 
     private WeeklyReportJpaEntity toJpaEntity(WeeklyReport model) {
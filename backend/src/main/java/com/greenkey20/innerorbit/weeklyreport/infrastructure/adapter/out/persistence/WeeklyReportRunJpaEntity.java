@@ -0,0 +1,61 @@
+package com.greenkey20.innerorbit.weeklyreport.infrastructure.adapter.out.persistence;
+
+import com.greenkey20.innerorbit.weeklyreport.domain.model.WeeklyReportRunStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * WeeklyReportRun JPA 엔티티 — 영속성 레이어 전용
+ */
+@Entity
+@Table(name = "weekly_report_runs", uniqueConstraints = {
+    @UniqueConstraint(name = "uq_weekly_report_runs_week_shard", columnNames = {"week_start", "shard_count", "shard_index"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WeeklyReportRunJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Column(name = "shard_index", nullable = false)
+    private Integer shardIndex;
+
+    @Column(name = "shard_count", nullable = false)
+    private Integer shardCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WeeklyReportRunStatus status;
+
+    @Column(name = "last_user_id", nullable = false)
+    private Long lastUserId;
+
+    @Column(name = "processed_count", nullable = false)
+    private Integer processedCount;
+
+    @Column(name = "started_at", nullable = false, updatable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,17 @@
+package com.greenkey20.innerorbit.weeklyreport.infrastructure.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * WeeklyReportRun Spring Data JPA 레포지토리
+ */
+@Repository
+public interface WeeklyReportRunJpaRepository extends JpaRepository<WeeklyReportRunJpaEntity, Long> {
+
+    Optional<WeeklyReportRunJpaEntity> findByWeekStartAndShardIndexAndShardCount(
+            LocalDate weekStart, Integer shardIndex, Integer shardCount);
+}
@@ -0,0 +1,60 @@
+package com.greenkey20.innerorbit.weeklyreport.infrastructure.adapter.out.persistence;
+
+import com.greenkey20.innerorbit.weeklyreport.application.port.out.WeeklyReportRunRepository;
+import com.greenkey20.innerorbit.weeklyreport.domain.model.UserShard;
+import com.greenkey20.innerorbit.weeklyreport.domain.model.WeeklyReportRun;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * WeeklyReportRunRepository out port 구현체 — JPA 영속성 어댑터
+ */
+@Repository
+@RequiredArgsConstructor
+public class WeeklyReportRunPersistenceAdapter implements WeeklyReportRunRepository {
+
+    private final WeeklyReportRunJpaRepository jpaRepository;
+
+    @Override
+    public WeeklyReportRun save(WeeklyReportRun run) {
+        WeeklyReportRunJpaEntity saved = jpaRepository.save(toJpaEntity(run));
+        return toDomainModel(saved);
+    }
+
+    @Override
+    public Optional<WeeklyReportRun> findByWeekStartAndShard(LocalDate weekStart, UserShard shard) {
+        return jpaRepository.findByWeekStartAndShardIndexAndShardCount(weekStart, shard.index(), shard.count())
+                .map(this::toDomainModel);
+    }
+
+    private WeeklyReportRunJpaEntity toJpaEntity(WeeklyReportRun model) {
+        return WeeklyReportRunJpaEntity.builder()
+                .id(model.getId())
+                .weekStart(model.getWeekStart())
+                .shardIndex(model.getShardIndex())
+                .shardCount(model.getShardCount())
+                .status(model.getStatus())
+                .lastUserId(model.getLastUserId())
+                .processedCount(model.getProcessedCount())
+                .startedAt(model.getStartedAt())
+                .completedAt(model.getCompletedAt())
+                .build();
+    }
+
+    private WeeklyReportRun toDomainModel(WeeklyReportRunJpaEntity entity) {
+        return WeeklyReportRun.builder()
+                .id(entity.getId())
+                .weekStart(entity.getWeekStart())
+                .shardIndex(entity.getShardIndex())
+                .shardCount(entity.getShardCount())
+                .status(entity.getStatus())
+                .lastUserId(entity.getLastUserId())
+                .processedCount(entity.getProcessedCount())
+                .startedAt(entity.getStartedAt())
+                .completedAt(entity.getCompletedAt())
+                .build();
+    }
+}
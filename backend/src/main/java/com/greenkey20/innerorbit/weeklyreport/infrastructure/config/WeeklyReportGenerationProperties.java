@@ -0,0 +1,54 @@
+package com.greenkey20.innerorbit.weeklyreport.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 주간 리포트 일괄 생성 설정 (weekly-report.generation.*)
+ */
+@Component
+@ConfigurationProperties(prefix = "weekly-report.generation")
+@Getter
+@Setter
+public class WeeklyReportGenerationProperties {
+
+    /** true면 사용자별 생성을 virtual thread로 병렬 실행, false면 기존처럼 순차 실행 */
+    private boolean parallel = true;
+
+    /** 동시에 진행 가능한 LLM 호출 수 — OpenAI rate limit(RPM/TPM)에 맞춰 조정 */
+    private int aiConcurrency = 8;
+
+    /** 동시에 진행 가능한 DB 작업 수 — 웹 요청 몫을 남기도록 Hikari 풀 크기보다 작게 */
+    private int dbConcurrency = 4;
+
+    /** 사용자 id keyset 페이지 크기 — 페이지 단위로 체크포인트 기록 */
+    private int pageSize = 200;
+
+    /**
+     * 사용자 id 샤드 수 — 1이면 락을 잡은 한 노드가 전체 처리(리더 모드),
+     * 2 이상이면 각 노드가 샤드 락을 하나씩 잡아 나눠 처리
+     */
+    private int shardCount = 1;
+
+    /**
+     * 주간 로그 수가 이 값을 넘으면 계층형 생성 — 일별 요약(map)을 만든 뒤 요약들로 주간 리포트(reduce)
+     * 0이면 항상 전체 로그를 한 프롬프트로 전달
+     */
+    private int hierarchicalThreshold = 20;
+
+    /** 수동 생성 락 TTL — 보유 중 자동 갱신되므로 생성 시간보다 짧아도 됨, 노드가 죽었을 때 풀리는 시간 */
+    private Duration manualLockTtl = Duration.ofSeconds(60);
+
+    /**
+     * 같은 (사용자, 주) 생성이 진행 중일 때 결과를 기다리는 최대 시간 — 계층형 생성까지 끝날 수 있도록
+     * 생성 엔드포인트 마감(@DeadlineBudget 150초)과 맞춤, 넘기면 WEEKLY_REPORT_GENERATION_IN_PROGRESS 409
+     */
+    private Duration manualMaxWait = Duration.ofSeconds(150);
+
+    /** 진행 중인 생성 결과 확인 주기 */
+    private Duration manualPollInterval = Duration.ofMillis(500);
+}
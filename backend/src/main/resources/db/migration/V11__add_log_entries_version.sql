@@ -0,0 +1,6 @@
+-- V11: log_entries 낙관적 락 버전 컬럼 추가
+-- AI 분석/피드백 결과를 트랜잭션 밖에서 계산한 뒤 저장할 때 동시 수정을 감지하기 위함
+ALTER TABLE log_entries
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN log_entries.version IS 'Optimistic lock version (JPA @Version)';
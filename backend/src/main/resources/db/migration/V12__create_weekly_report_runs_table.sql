@@ -0,0 +1,13 @@
+-- V12: weekly_report_runs 테이블 생성
+-- 주간 리포트 일괄 생성 진행 상황 체크포인트 — 중단된 실행은 last_user_id 이후부터 재개
+CREATE TABLE weekly_report_runs (
+    id              BIGSERIAL   PRIMARY KEY,
+    week_start      DATE        NOT NULL,
+    status          VARCHAR(20) NOT NULL,   -- RUNNING | COMPLETED
+    last_user_id    BIGINT      NOT NULL DEFAULT 0,
+    processed_count INTEGER     NOT NULL DEFAULT 0,
+    started_at      TIMESTAMP   NOT NULL DEFAULT now(),
+    updated_at      TIMESTAMP   NOT NULL DEFAULT now(),
+    completed_at    TIMESTAMP,
+    CONSTRAINT uq_weekly_report_runs_week UNIQUE (week_start)
+);
@@ -0,0 +1,9 @@
+-- V13: weekly_report_runs 샤드 컬럼 추가
+-- 여러 노드가 사용자 id 공간을 나눠 처리할 때 샤드별로 체크포인트를 기록 (기존 행 = 전체 1개 샤드)
+ALTER TABLE weekly_report_runs
+    ADD COLUMN shard_index INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN shard_count INTEGER NOT NULL DEFAULT 1;
+
+ALTER TABLE weekly_report_runs DROP CONSTRAINT uq_weekly_report_runs_week;
+ALTER TABLE weekly_report_runs
+    ADD CONSTRAINT uq_weekly_report_runs_week_shard UNIQUE (week_start, shard_count, shard_index);
@@ -0,0 +1,12 @@
+-- V14: daily_log_summaries 테이블 생성
+-- 로그가 많은 사용자의 하루 단위 AI 요약 — 일요일 주간 리포트는 원본 로그 대신 이 요약들을 종합
+CREATE TABLE daily_log_summaries (
+    id           BIGSERIAL PRIMARY KEY,
+    user_id      BIGINT    NOT NULL REFERENCES users(id),
+    summary_date DATE      NOT NULL,
+    log_count    INTEGER   NOT NULL,   -- 요약 시점의 해당 날짜 로그 수 (달라지면 재요약)
+    summary      TEXT      NOT NULL,
+    created_at   TIMESTAMP NOT NULL DEFAULT now(),
+    updated_at   TIMESTAMP NOT NULL DEFAULT now(),
+    CONSTRAINT uq_user_summary_date UNIQUE (user_id, summary_date)
+);
@@ -0,0 +1,7 @@
+-- V15: log_entries 분석 입력 지문 컬럼 추가
+-- analysis_result를 계산한 입력(프롬프트 버전 + gravity/stability + 정규화 본문 SHA-256)을 기록해
+-- 내용이 바뀌지 않은 로그의 재분석 요청은 LLM 호출 없이 저장된 결과로 응답
+ALTER TABLE log_entries
+    ADD COLUMN analysis_content_hash VARCHAR(100);
+
+COMMENT ON COLUMN log_entries.analysis_content_hash IS 'Fingerprint of the input analysis_result was computed from';
@@ -0,0 +1,7 @@
+-- V16: daily_log_summaries 입력 지문 컬럼 추가
+-- 요약한 그날 로그(프롬프트 형식) SHA-256 — 로그 수가 같아도 내용/수치가 수정되면 재요약
+-- 기존 행은 NULL이므로 다음 생성 때 한 번 재요약됨
+ALTER TABLE daily_log_summaries
+    ADD COLUMN content_hash VARCHAR(64);
+
+COMMENT ON COLUMN daily_log_summaries.content_hash IS 'SHA-256 of the formatted day logs the summary was computed from';
@@ -0,0 +1,185 @@
+package com.greenkey20.innerorbit.feature;
+
+import com.greenkey20.innerorbit.common.ai.AiAdmissionController;
+import com.greenkey20.innerorbit.common.ai.AiModelRouter;
+import com.greenkey20.innerorbit.common.ai.AiResilienceRegistry;
+import com.greenkey20.innerorbit.common.ai.ChatClientPurpose;
+import com.greenkey20.innerorbit.common.ai.ChatClientRegistry;
+import com.greenkey20.innerorbit.common.config.AiAdmissionProperties;
+import com.greenkey20.innerorbit.common.config.AiModelRoutingProperties;
+import com.greenkey20.innerorbit.common.config.AiModelRoutingProperties.PurposeRoutes;
+import com.greenkey20.innerorbit.common.config.AiModelRoutingProperties.Route;
+import com.greenkey20.innerorbit.common.config.AiResilienceProperties;
+import com.greenkey20.innerorbit.common.exception.BusinessException;
+import com.greenkey20.innerorbit.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.ai.openai.api.OpenAiApi;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 모델 라우팅 테스트 — 실제 OpenAiChatModel을 OpenAI 호환 로컬 스텁에 연결해 요청 본문의 model/max_tokens 확인
+ */
+@DisplayName("AI 모델 라우팅 테스트 (로컬 스텁)")
+class AiModelRoutingTest {
+
+    private static final String DEFAULT_MODEL = "default-model";
+
+    private OpenAiStubServer stub;
+    private AiModelRoutingProperties properties;
+    private AiModelRouter router;
+    private ChatClientRegistry registry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new OpenAiStubServer();
+
+        properties = new AiModelRoutingProperties();
+        properties.setMinSamples(3);
+
+        PurposeRoutes analysis = new PurposeRoutes();
+        analysis.setTiers(List.of(
+                route(20, "small-model", 100, Duration.ofSeconds(5)),
+                route(null, "large-input-model", 400, Duration.ofSeconds(5))));
+        Route highStakes = route(null, "strong-model", 200, Duration.ofSeconds(5));
+        highStakes.setLatencyBudget(Duration.ofMillis(100));
+        highStakes.setFallbackModel("small-model");
+        analysis.setHighStakes(highStakes);
+        properties.getPurposes().put(ChatClientPurpose.ANALYSIS, analysis);
+
+        PurposeRoutes navPrompt = new PurposeRoutes();
+        navPrompt.setTiers(List.of(route(null, "slow-model", 50, Duration.ofMillis(200))));
+        properties.getPurposes().put(ChatClientPurpose.NAV_PROMPT, navPrompt);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        router = new AiModelRouter(properties, meterRegistry);
+        OpenAiChatModel chatModel = OpenAiChatModel.builder()
+                .openAiApi(OpenAiApi.builder().baseUrl(stub.baseUrl()).apiKey("test-key").build())
+                .defaultOptions(OpenAiChatOptions.builder().model(DEFAULT_MODEL).build())
+                .build();
+        AiResilienceProperties resilienceProperties = new AiResilienceProperties();
+        resilienceProperties.setEnabled(false);
+        registry = new ChatClientRegistry(ChatClient.builder(chatModel), meterRegistry, router,
+                new AiResilienceRegistry(resilienceProperties, properties, meterRegistry),
+                new AiAdmissionController(new AiAdmissionProperties(), meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("입력 크기에 따라 tier 선택 — 짧은 입력은 첫 경로, 긴 입력은 상한 없는 경로")
+    void route_ByInputSize() {
+        call(ChatClientPurpose.ANALYSIS, "짧은 기록", false);
+        assertThat(stub.lastRequest().model()).isEqualTo("small-model");
+        assertThat(stub.lastRequest().maxTokens()).isEqualTo(100);
+
+        call(ChatClientPurpose.ANALYSIS, "오늘은 하루 종일 회의가 이어졌고 저녁에는 밀린 일을 정리했다", false);
+        assertThat(stub.lastRequest().model()).isEqualTo("large-input-model");
+        assertThat(stub.lastRequest().maxTokens()).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("고위험 요청 → highStakes 경로")
+    void route_HighStakes() {
+        call(ChatClientPurpose.ANALYSIS, "짧은 기록", true);
+
+        assertThat(stub.lastRequest().model()).isEqualTo("strong-model");
+        assertThat(stub.lastRequest().maxTokens()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("관측 p95가 지연 예산 초과 → 대체 모델로 전환")
+    void route_P95OverBudget_FallsBack() {
+        stub.delay("strong-model", Duration.ofMillis(150));
+
+        for (int i = 0; i < properties.getMinSamples(); i++) {
+            call(ChatClientPurpose.ANALYSIS, "짧은 기록", true);
+        }
+        assertThat(router.percentile95(ChatClientPurpose.ANALYSIS, "strong-model")).isGreaterThan(Duration.ofMillis(100));
+
+        call(ChatClientPurpose.ANALYSIS, "짧은 기록", true);
+
+        assertThat(stub.requests()).hasSize(properties.getMinSamples() + 1);
+        assertThat(stub.lastRequest().model()).isEqualTo("small-model");
+        assertThat(stub.lastRequest().maxTokens()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("다른 용도에서 같은 모델이 느려도 → 이 용도의 예산 판단에는 영향 없음")
+    void route_OtherPurposeSlow_KeepsModel() {
+        for (int i = 0; i < properties.getMinSamples(); i++) {
+            router.recordLatency(ChatClientPurpose.WEEKLY_REPORT, "strong-model", Duration.ofSeconds(30));
+        }
+
+        call(ChatClientPurpose.ANALYSIS, "짧은 기록", true);
+
+        assertThat(router.percentile95(ChatClientPurpose.ANALYSIS, "strong-model")).isNull();
+        assertThat(stub.lastRequest().model()).isEqualTo("strong-model");
+    }
+
+    @Test
+    @DisplayName("타임아웃 초과 → AI_TIMEOUT, 지연 기록에 타임아웃 값 반영")
+    void call_Timeout_ThrowsAiTimeout() {
+        stub.delay("slow-model", Duration.ofSeconds(2));
+
+        assertThatThrownBy(() -> call(ChatClientPurpose.NAV_PROMPT, "질문 하나", false))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.AI_TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("라우팅 설정이 없는 용도 → 기본 모델, 용도별 temperature 유지")
+    void route_Unconfigured_UsesDefaults() {
+        call(ChatClientPurpose.KEYWORDS, "관찰: 신호등 앞 오토바이", false);
+
+        assertThat(stub.lastRequest().model()).isEqualTo(DEFAULT_MODEL);
+        assertThat(stub.lastRequest().temperature()).isEqualTo(0.8);
+    }
+
+    @Test
+    @DisplayName("라우팅 경로에서도 용도별 temperature 유지")
+    void route_KeepsPurposeTemperature() {
+        PurposeRoutes keywords = new PurposeRoutes();
+        keywords.setTiers(List.of(route(null, "small-model", 50, null)));
+        properties.getPurposes().put(ChatClientPurpose.KEYWORDS, keywords);
+
+        call(ChatClientPurpose.KEYWORDS, "관찰: 신호등 앞 오토바이", false);
+
+        assertThat(stub.lastRequest().model()).isEqualTo("small-model");
+        assertThat(stub.lastRequest().temperature()).isEqualTo(0.8);
+    }
+
+    private String call(ChatClientPurpose purpose, String userMessage, boolean highStakes) {
+        return registry.get(purpose).prompt()
+                .advisors(advisor -> advisor.param(AiModelRouter.HIGH_STAKES, highStakes))
+                .system("system")
+                .user(userMessage)
+                .call()
+                .content();
+    }
+
+    private static Route route(Integer maxInputChars, String model, Integer maxTokens, Duration timeout) {
+        Route route = new Route();
+        route.setMaxInputChars(maxInputChars);
+        route.setModel(model);
+        route.setMaxTokens(maxTokens);
+        route.setTimeout(timeout);
+        return route;
+    }
+}
@@ -0,0 +1,171 @@
+package com.greenkey20.innerorbit.feature;
+
+import com.greenkey20.innerorbit.common.ai.AiAdmissionController;
+import com.greenkey20.innerorbit.common.ai.AiModelRouter;
+import com.greenkey20.innerorbit.common.ai.AiResilienceRegistry;
+import com.greenkey20.innerorbit.common.ai.ChatClientPurpose;
+import com.greenkey20.innerorbit.common.ai.ChatClientRegistry;
+import com.greenkey20.innerorbit.common.config.AiAdmissionProperties;
+import com.greenkey20.innerorbit.common.config.AiModelRoutingProperties;
+import com.greenkey20.innerorbit.common.config.AiResilienceProperties;
+import com.greenkey20.innerorbit.common.exception.BusinessException;
+import com.greenkey20.innerorbit.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.retry.support.RetryTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * OpenAI 호출 보호 테스트 — 서킷 브레이커(실패율/느린 호출), 벌크헤드, 헤지 요청
+ * 실제 OpenAiChatModel을 OpenAI 호환 로컬 스텁에 연결 (재시도 없음)
+ */
+@DisplayName("AI 호출 보호 테스트 (로컬 스텁)")
+class AiResilienceTest {
+
+    private static final String MODEL = "stub-model";
+
+    private OpenAiStubServer stub;
+    private AiResilienceProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private OpenAiChatModel chatModel;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new OpenAiStubServer();
+        meterRegistry = new SimpleMeterRegistry();
+        chatModel = OpenAiChatModel.builder()
+                .openAiApi(OpenAiApi.builder().baseUrl(stub.baseUrl()).apiKey("test-key").build())
+                .defaultOptions(OpenAiChatOptions.builder().model(MODEL).build())
+                .retryTemplate(RetryTemplate.builder().maxAttempts(1).build())
+                .build();
+
+        properties = new AiResilienceProperties();
+        properties.getCircuitBreaker().setSlidingWindowSize(4);
+        properties.getCircuitBreaker().setMinimumNumberOfCalls(4);
+        properties.getCircuitBreaker().setFailureRateThreshold(50);
+        properties.getCircuitBreaker().setSlowCallRateThreshold(50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("실패율 초과 → 브레이커 open, 이후 호출은 OpenAI에 보내지 않고 AI_UNAVAILABLE")
+    void failureRate_OpensCircuit() {
+        stub.failWith(MODEL, 500);
+        ChatClientRegistry registry = registry();
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> call(registry, ChatClientPurpose.ANALYSIS));
+        }
+
+        assertUnavailable(() -> call(registry, ChatClientPurpose.ANALYSIS));
+        assertThat(stub.requests()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("느린 호출 비율 초과 → 브레이커 open, 다른 용도 브레이커는 닫힌 상태 유지")
+    void slowCallRate_OpensCircuitPerPurpose() {
+        AiResilienceProperties.Purpose analysis = new AiResilienceProperties.Purpose();
+        analysis.setSlowCallDuration(Duration.ofMillis(50));
+        properties.getPurposes().put(ChatClientPurpose.ANALYSIS, analysis);
+        stub.delay(MODEL, Duration.ofMillis(150));
+        ChatClientRegistry registry = registry();
+
+        for (int i = 0; i < 4; i++) {
+            call(registry, ChatClientPurpose.ANALYSIS);
+        }
+
+        assertUnavailable(() -> call(registry, ChatClientPurpose.ANALYSIS));
+        assertThat(call(registry, ChatClientPurpose.INSIGHT_FEEDBACK)).contains(MODEL);
+    }
+
+    @Test
+    @DisplayName("용도별 동시 호출 상한 초과 → 대기 없이 AI_UNAVAILABLE")
+    void bulkheadFull_RejectsImmediately() throws Exception {
+        AiResilienceProperties.Purpose keywords = new AiResilienceProperties.Purpose();
+        keywords.setMaxConcurrentCalls(1);
+        properties.getPurposes().put(ChatClientPurpose.KEYWORDS, keywords);
+        stub.delay(MODEL, Duration.ofMillis(500));
+        ChatClientRegistry registry = registry();
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> call(registry, ChatClientPurpose.KEYWORDS));
+        await().atMost(2, TimeUnit.SECONDS).until(() -> stub.requests().size() == 1);
+
+        assertUnavailable(() -> call(registry, ChatClientPurpose.KEYWORDS));
+        assertThat(first.get(2, TimeUnit.SECONDS)).contains(MODEL);
+        assertThat(stub.requests()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("헤지 대상 용도 — 첫 요청이 헤지 지연을 넘기면 두 번째 요청의 응답을 먼저 사용")
+    void hedge_SecondRequestWins() {
+        AiResilienceProperties.Purpose keywords = new AiResilienceProperties.Purpose();
+        keywords.setHedge(true);
+        keywords.setHedgeMinDelay(Duration.ofMillis(50));
+        keywords.setHedgeMaxDelay(Duration.ofMillis(200));
+        properties.getPurposes().put(ChatClientPurpose.KEYWORDS, keywords);
+        stub.delayNext(Duration.ofSeconds(3));
+        ChatClientRegistry registry = registry();
+
+        long start = System.nanoTime();
+        String response = call(registry, ChatClientPurpose.KEYWORDS);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(response).contains(MODEL);
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(2));
+        assertThat(stub.requests()).hasSize(2);
+        assertThat(meterRegistry.get("ai.hedge.wins").tag("purpose", "keywords").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("헤지 대상이 아닌 용도 — 느려도 요청 한 번")
+    void noHedge_SingleRequest() {
+        stub.delayNext(Duration.ofMillis(300));
+        ChatClientRegistry registry = registry();
+
+        call(registry, ChatClientPurpose.ANALYSIS);
+
+        assertThat(stub.requests()).hasSize(1);
+    }
+
+    private ChatClientRegistry registry() {
+        AiModelRoutingProperties routingProperties = new AiModelRoutingProperties();
+        return new ChatClientRegistry(ChatClient.builder(chatModel), meterRegistry,
+                new AiModelRouter(routingProperties, meterRegistry),
+                new AiResilienceRegistry(properties, routingProperties, meterRegistry),
+                new AiAdmissionController(new AiAdmissionProperties(), meterRegistry));
+    }
+
+    private String call(ChatClientRegistry registry, ChatClientPurpose purpose) {
+        return registry.get(purpose).prompt()
+                .system("system")
+                .user("user")
+                .call()
+                .content();
+    }
+
+    private void assertUnavailable(Runnable call) {
+        assertThatThrownBy(call::run)
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.AI_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,83 @@
+package com.greenkey20.innerorbit.feature;
+
+import com.greenkey20.innerorbit.common.ai.AiAdmissionController;
+import com.greenkey20.innerorbit.common.ai.AiModelRouter;
+import com.greenkey20.innerorbit.common.ai.AiResilienceRegistry;
+import com.greenkey20.innerorbit.common.ai.ChatClientPurpose;
+import com.greenkey20.innerorbit.common.ai.ChatClientRegistry;
+import com.greenkey20.innerorbit.common.config.AiAdmissionProperties;
+import com.greenkey20.innerorbit.common.config.AiModelRoutingProperties;
+import com.greenkey20.innerorbit.common.config.AiResilienceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.openai.OpenAiChatOptions;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ChatClient 획득 비용 마이크로벤치마크 — 요청마다 빌드 vs 레지스트리 재사용
+ * LLM 호출 경로(prompt → call)는 두 방식이 같으므로 ChatClient를 얻는 비용만 비교
+ *
+ * 기본 test 태스크에서는 제외 — ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@DisplayName("ChatClientRegistry 벤치마크")
+class ChatClientRegistryBenchmarkTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private final ChatClient.Builder chatClientBuilder = ChatClient.builder(mock(ChatModel.class));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ChatClientRegistry chatClientRegistry = new ChatClientRegistry(chatClientBuilder, meterRegistry,
+            new AiModelRouter(new AiModelRoutingProperties(), meterRegistry),
+            new AiResilienceRegistry(new AiResilienceProperties(), new AiModelRoutingProperties(), meterRegistry),
+            new AiAdmissionController(new AiAdmissionProperties(), meterRegistry));
+
+    @Test
+    @DisplayName("레지스트리 재사용 → 요청당 시간/할당량이 요청마다 빌드보다 작음")
+    void registryLookup_CheaperThanPerCallBuild() {
+        Measurement perCallBuild = measure(() -> chatClientBuilder.clone()
+                .defaultOptions(OpenAiChatOptions.builder().temperature(0.9).build())
+                .build());
+        Measurement registry = measure(() -> chatClientRegistry.get(ChatClientPurpose.NAV_PROMPT));
+
+        System.out.printf("per-call build : %,8d ns/op, %,8d B/op%n", perCallBuild.nanosPerOp(), perCallBuild.bytesPerOp());
+        System.out.printf("registry lookup: %,8d ns/op, %,8d B/op%n", registry.nanosPerOp(), registry.bytesPerOp());
+
+        assertThat(registry.bytesPerOp()).isLessThan(perCallBuild.bytesPerOp());
+        assertThat(registry.nanosPerOp()).isLessThan(perCallBuild.nanosPerOp());
+    }
+
+    private Measurement measure(Supplier<ChatClient> acquire) {
+        Object sink = null;
+        for (int i = 0; i < WARMUP; i++) {
+            sink = acquire.get();
+        }
+
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long bytesBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = acquire.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        assertThat(sink).isNotNull();
+        return new Measurement(elapsed / ITERATIONS, allocated / ITERATIONS);
+    }
+
+    private record Measurement(long nanosPerOp, long bytesPerOp) {
+    }
+}
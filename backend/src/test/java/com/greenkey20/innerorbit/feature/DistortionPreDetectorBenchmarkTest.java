@@ -0,0 +1,94 @@
+package com.greenkey20.innerorbit.feature;
+
+import com.greenkey20.innerorbit.ai.application.service.DistortionPreDetector;
+import com.greenkey20.innerorbit.ai.infrastructure.config.DistortionDetectorProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인지왜곡 사전 탐지 처리량 마이크로벤치마크 — Aho-Corasick 1회 스캔 vs 구절마다 indexOf 반복
+ * 긴 글(약 10,000자, 분석 요청 최대 길이)을 기준으로 측정
+ *
+ * 기본 test 태스크에서는 제외 — ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@DisplayName("DistortionPreDetector 벤치마크")
+class DistortionPreDetectorBenchmarkTest {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 5_000;
+
+    private final DistortionPreDetector detector = new DistortionPreDetector(new DistortionDetectorProperties());
+
+    @Test
+    @DisplayName("긴 글 매칭 — Aho-Corasick이 구절별 indexOf보다 빠름")
+    void ahoCorasick_FasterThanPerPhraseScan() throws IOException {
+        String text = longEntry();
+        List<String> phrases = lexiconPhrases();
+
+        long ahoCorasick = measure(text, t -> detector.detect(t).size());
+        long naive = measure(text, t -> naiveCount(t, phrases));
+
+        double mbPerSec = text.length() * 2 / (ahoCorasick / 1_000.0);
+        System.out.printf("text: %,d chars, lexicon: %d phrases%n", text.length(), phrases.size());
+        System.out.printf("aho-corasick    : %,8d ns/op (%.1f MB/s of UTF-16)%n", ahoCorasick, mbPerSec);
+        System.out.printf("indexOf x phrase: %,8d ns/op%n", naive);
+
+        assertThat(ahoCorasick).isLessThan(naive);
+    }
+
+    private long measure(String text, ToIntFunction<String> matcher) {
+        int sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += matcher.applyAsInt(text);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += matcher.applyAsInt(text);
+        }
+        long elapsed = System.nanoTime() - start;
+        assertThat(sink).isPositive();
+        return elapsed / ITERATIONS;
+    }
+
+    private static int naiveCount(String text, List<String> phrases) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        int count = 0;
+        for (String phrase : phrases) {
+            for (int i = lower.indexOf(phrase); i >= 0; i = lower.indexOf(phrase, i + 1)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static List<String> lexiconPhrases() throws IOException {
+        return new ClassPathResource("lexicon/cognitive-distortions.tsv").getContentAsString(StandardCharsets.UTF_8)
+                .lines()
+                .filter(line -> !line.isBlank() && !line.startsWith("#"))
+                .map(line -> line.split("\t", 2)[1].strip().toLowerCase(Locale.ROOT))
+                .toList();
+    }
+
+    private static String longEntry() {
+        String paragraph = "오늘은 아침부터 회의가 길어져서 점심도 제대로 먹지 못했다. 발표 자료를 준비하면서 "
+                + "매번 이렇게 시간에 쫓기는 내가 한심해 보였다. 다들 나를 이상하게 볼 것 같았지만 "
+                + "막상 발표가 끝나고 나니 생각보다 괜찮았다. 저녁에는 산책을 하며 하루를 정리했다. "
+                + "I felt like everything was ruined, but it was not the worst day after all. ";
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 10_000) {
+            sb.append(paragraph);
+        }
+        return sb.substring(0, 10_000);
+    }
+}
@@ -0,0 +1,95 @@
+package com.greenkey20.innerorbit.feature;
+
+import com.greenkey20.innerorbit.log.application.port.in.LogUseCase;
+import com.greenkey20.innerorbit.log.application.port.out.AiAnalysisPort;
+import com.greenkey20.innerorbit.log.infrastructure.adapter.in.web.dto.request.LogEntryCreateRequest;
+import com.greenkey20.innerorbit.log.infrastructure.adapter.in.web.dto.response.LogEntryResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * AI 분석 동시 요청 부하 테스트
+ * LLM 호출이 트랜잭션 밖에서 실행되어 풀 크기(기본 10)를 넘는 동시 분석에도 커넥션 점유가 0으로 유지되는지 검증
+ * (LLM 호출 중 커넥션을 잡고 있다면 11번째 요청부터 커넥션 대기로 LLM 단계에 도달하지 못함)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("AI 분석 커넥션 풀 부하 테스트")
+class LogAnalysisConnectionPoolLoadTest {
+
+    private static final int CONCURRENT_ANALYSES = 30;
+
+    @Autowired
+    private LogUseCase logUseCase;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockitoBean
+    private AiAnalysisPort aiAnalysisPort;
+
+    @Test
+    @DisplayName("동시 분석 30건이 모두 LLM 대기 중일 때 활성 커넥션 0, 커넥션 대기 스레드 0")
+    void concurrentAnalyses_DoNotHoldConnectionsDuringLlmCall() throws Exception {
+        // Given: 분석 대상 로그 30건
+        List<Long> logIds = IntStream.range(0, CONCURRENT_ANALYSES)
+                .mapToObj(i -> logUseCase.createLogEntry(LogEntryCreateRequest.builder()
+                        .content("부하 테스트 로그 " + i)
+                        .stability(50)
+                        .gravity(50)
+                        .build(), 1L).getId())
+                .toList();
+
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+
+        // LLM 호출을 모든 요청이 도달할 때까지 붙잡아 두는 mock
+        CountDownLatch allInLlmCall = new CountDownLatch(CONCURRENT_ANALYSES);
+        CountDownLatch releaseLlmCall = new CountDownLatch(1);
+        given(aiAnalysisPort.analyzeCognitiveDistortions(any(), any(), any())).willAnswer(invocation -> {
+            allInLlmCall.countDown();
+            releaseLlmCall.await(30, TimeUnit.SECONDS);
+            return Map.of("distortions", List.of(), "reframed", "리프레이밍", "alternative", "대안");
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_ANALYSES);
+        try {
+            // When
+            List<Future<LogEntryResponse>> futures = logIds.stream()
+                    .map(id -> executor.submit(() -> logUseCase.updateLogAnalysis(id)))
+                    .toList();
+
+            // Then: 풀 크기를 넘는 요청 전부가 LLM 단계에 도달하고, 그동안 커넥션 점유 없음
+            assertThat(allInLlmCall.await(20, TimeUnit.SECONDS)).isTrue();
+            assertThat(pool.getActiveConnections()).isZero();
+            assertThat(pool.getThreadsAwaitingConnection()).isZero();
+
+            releaseLlmCall.countDown();
+            for (Future<LogEntryResponse> future : futures) {
+                assertThat(future.get(30, TimeUnit.SECONDS).getAnalysisResult()).containsKey("reframed");
+            }
+        } finally {
+            releaseLlmCall.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
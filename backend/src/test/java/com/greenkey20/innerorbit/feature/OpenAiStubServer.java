@@ -0,0 +1,119 @@
+package com.greenkey20.innerorbit.feature;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+/**
+ * OpenAI 호환 로컬 스텁 — POST /v1/chat/completions (비스트리밍)
+ * 받은 요청(model, max_tokens, temperature)을 기록하고 모델별로 설정한 지연 후 고정 응답 (또는 오류 상태 코드)
+ * spring.ai.openai.base-url을 이 주소로 두면 실제 API 없이 라우팅/타임아웃 동작 확인 가능
+ */
+class OpenAiStubServer implements AutoCloseable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final List<ReceivedRequest> requests = new CopyOnWriteArrayList<>();
+    private final Map<String, Duration> delays = new ConcurrentHashMap<>();
+    private final Queue<Duration> nextDelays = new ConcurrentLinkedQueue<>();
+    private final Map<String, Integer> errorStatuses = new ConcurrentHashMap<>();
+
+    OpenAiStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v1/chat/completions", this::handleCompletion);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    void delay(String model, Duration delay) {
+        delays.put(model, delay);
+    }
+
+    /**
+     * 다음 요청들에 순서대로 적용할 지연 — 모델별 지연보다 우선
+     */
+    void delayNext(Duration delay) {
+        nextDelays.add(delay);
+    }
+
+    void failWith(String model, int status) {
+        errorStatuses.put(model, status);
+    }
+
+    List<ReceivedRequest> requests() {
+        return requests;
+    }
+
+    ReceivedRequest lastRequest() {
+        return requests.get(requests.size() - 1);
+    }
+
+    private void handleCompletion(HttpExchange exchange) throws IOException {
+        JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+        String model = body.path("model").asText();
+        requests.add(new ReceivedRequest(model,
+                body.hasNonNull("max_tokens") ? body.get("max_tokens").asInt() : null,
+                body.hasNonNull("temperature") ? body.get("temperature").asDouble() : null));
+
+        Duration delay = nextDelays.poll();
+        try {
+            Thread.sleep((delay != null ? delay : delays.getOrDefault(model, Duration.ZERO)).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Integer errorStatus = errorStatuses.get(model);
+        if (errorStatus != null) {
+            byte[] error = objectMapper.writeValueAsBytes(Map.of("error", Map.of(
+                    "message", "stub error", "type", "server_error")));
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(errorStatus, error.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(error);
+            }
+            return;
+        }
+
+        byte[] response = objectMapper.writeValueAsBytes(Map.of(
+                "id", "chatcmpl-stub",
+                "object", "chat.completion",
+                "created", 0,
+                "model", model,
+                "choices", List.of(Map.of(
+                        "index", 0,
+                        "message", Map.of("role", "assistant", "content", "stub response from " + model),
+                        "finish_reason", "stop")),
+                "usage", Map.of("prompt_tokens", 10, "completion_tokens", 5, "total_tokens", 15)));
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    record ReceivedRequest(String model, Integer maxTokens, Double temperature) {
+    }
+}
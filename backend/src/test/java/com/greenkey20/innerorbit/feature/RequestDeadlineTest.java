@@ -0,0 +1,182 @@
+package com.greenkey20.innerorbit.feature;
+
+import com.greenkey20.innerorbit.common.ai.AiAdmissionController;
+import com.greenkey20.innerorbit.common.ai.AiModelRouter;
+import com.greenkey20.innerorbit.common.ai.AiResilienceRegistry;
+import com.greenkey20.innerorbit.common.ai.ChatClientPurpose;
+import com.greenkey20.innerorbit.common.ai.ChatClientRegistry;
+import com.greenkey20.innerorbit.common.config.AiAdmissionProperties;
+import com.greenkey20.innerorbit.common.config.AiModelRoutingProperties;
+import com.greenkey20.innerorbit.common.config.AiResilienceProperties;
+import com.greenkey20.innerorbit.common.config.RequestDeadlineProperties;
+import com.greenkey20.innerorbit.common.deadline.RequestDeadline;
+import com.greenkey20.innerorbit.common.deadline.RequestDeadlineInterceptor;
+import com.greenkey20.innerorbit.common.exception.BusinessException;
+import com.greenkey20.innerorbit.common.exception.ErrorCode;
+import com.greenkey20.innerorbit.weeklyreport.infrastructure.adapter.in.web.WeeklyReportController;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.method.HandlerMethod;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 요청 마감 테스트 — 마감이 지나면 LLM 호출 취소 후 AI_TIMEOUT, 취소/절약 토큰 지표, 엔드포인트별 마감 예산
+ * 실제 OpenAiChatModel을 OpenAI 호환 로컬 스텁에 연결 (재시도 없음)
+ */
+@DisplayName("요청 마감 테스트 (로컬 스텁)")
+class RequestDeadlineTest {
+
+    private static final String MODEL = "stub-model";
+
+    private OpenAiStubServer stub;
+    private SimpleMeterRegistry meterRegistry;
+    private AiResilienceRegistry resilienceRegistry;
+    private ChatClientRegistry registry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new OpenAiStubServer();
+        meterRegistry = new SimpleMeterRegistry();
+        OpenAiChatModel chatModel = OpenAiChatModel.builder()
+                .openAiApi(OpenAiApi.builder().baseUrl(stub.baseUrl()).apiKey("test-key").build())
+                .defaultOptions(OpenAiChatOptions.builder().model(MODEL).build())
+                .retryTemplate(RetryTemplate.builder().maxAttempts(1).build())
+                .build();
+        resilienceRegistry = new AiResilienceRegistry(new AiResilienceProperties(), new AiModelRoutingProperties(), meterRegistry);
+        registry = new ChatClientRegistry(ChatClient.builder(chatModel), meterRegistry,
+                new AiModelRouter(new AiModelRoutingProperties(), meterRegistry), resilienceRegistry,
+                new AiAdmissionController(new AiAdmissionProperties(), meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("마감 없음 (스케줄러/비동기 작업) → 응답까지 기다림")
+    void noDeadline_WaitsForResponse() {
+        stub.delayNext(Duration.ofMillis(300));
+
+        assertThat(call()).contains(MODEL);
+    }
+
+    @Test
+    @DisplayName("응답 전에 마감 도달 → 호출 취소 후 AI_TIMEOUT, 모델 장애로 집계하지 않음")
+    void deadlineExceeded_CancelsCall() {
+        call();
+        stub.delayNext(Duration.ofSeconds(3));
+        RequestDeadline.bind(RequestDeadline.after(Duration.ofMillis(200)));
+
+        long start = System.nanoTime();
+        assertTimeout(this::call);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(1));
+        assertThat(meterRegistry.get("ai.deadline.cancelled")
+                .tag("purpose", "analysis").tag("reason", "deadline").counter().count()).isEqualTo(1);
+        // 이전 완료 호출의 평균 출력 토큰(스텁 5개)만큼 절약한 것으로 추정
+        assertThat(meterRegistry.get("ai.deadline.tokens.saved")
+                .tag("purpose", "analysis").counter().count()).isEqualTo(5);
+        assertThat(resilienceRegistry.circuitBreaker(ChatClientPurpose.ANALYSIS)
+                .getMetrics().getNumberOfFailedCalls()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 마감이 지난 요청 → OpenAI에 보내지 않음")
+    void deadlinePassed_SkipsCall() throws InterruptedException {
+        RequestDeadline.bind(RequestDeadline.after(Duration.ofMillis(1)));
+        Thread.sleep(5);
+
+        assertTimeout(this::call);
+
+        assertThat(stub.requests()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("마감 안에 응답 → 그대로 반환")
+    void withinDeadline_ReturnsResponse() {
+        stub.delayNext(Duration.ofMillis(50));
+        RequestDeadline.bind(RequestDeadline.after(Duration.ofSeconds(5)));
+
+        assertThat(call()).contains(MODEL);
+        assertThat(meterRegistry.get("ai.deadline.cancelled")
+                .tag("purpose", "analysis").tag("reason", "deadline").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("수동 주간 리포트 생성 → 인터셉터가 기본 마감(30s) 대신 라우팅 타임아웃(gpt-4o 55s)보다 긴 마감을 걸고 생성 완료")
+    void weeklyGenerate_ThroughInterceptor_BudgetExceedsRoutingTimeout() throws Exception {
+        RequestDeadlineInterceptor interceptor = new RequestDeadlineInterceptor(new RequestDeadlineProperties());
+        HandlerMethod generate = handler("generateForCurrentWeek");
+        stub.delayNext(Duration.ofMillis(200));
+
+        interceptor.preHandle(new MockHttpServletRequest("POST", "/api/weekly-reports/generate"),
+                new MockHttpServletResponse(), generate);
+        Duration remaining = RequestDeadline.current().orElseThrow().remaining();
+        String content = registry.get(ChatClientPurpose.WEEKLY_REPORT).prompt()
+                .system("system")
+                .user("user")
+                .call()
+                .content();
+
+        assertThat(remaining).isGreaterThan(Duration.ofSeconds(55));
+        assertThat(content).contains(MODEL);
+        assertThat(meterRegistry.get("ai.deadline.cancelled")
+                .tag("purpose", "weekly_report").tag("reason", "deadline").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("마감 예산이 있는 엔드포인트는 헤더 상한도 예산까지, 나머지는 기본값/maxTimeout 유지")
+    void deadlineBudget_OverridesDefaultAndMax() throws Exception {
+        RequestDeadlineInterceptor interceptor = new RequestDeadlineInterceptor(new RequestDeadlineProperties());
+        MockHttpServletRequest longRequest = new MockHttpServletRequest("POST", "/api/weekly-reports/generate");
+        longRequest.addHeader("X-Request-Timeout", "120000");
+
+        interceptor.preHandle(longRequest, new MockHttpServletResponse(), handler("generateForCurrentWeek"));
+        Duration generateRemaining = RequestDeadline.current().orElseThrow().remaining();
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/api/weekly-reports"),
+                new MockHttpServletResponse(), handler("getMyReports"));
+        Duration listRemaining = RequestDeadline.current().orElseThrow().remaining();
+
+        assertThat(generateRemaining).isGreaterThan(Duration.ofSeconds(110)).isLessThanOrEqualTo(Duration.ofSeconds(120));
+        assertThat(listRemaining).isGreaterThan(Duration.ofSeconds(25)).isLessThanOrEqualTo(Duration.ofSeconds(30));
+    }
+
+    private HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new WeeklyReportController(null),
+                WeeklyReportController.class.getMethod(name, Authentication.class));
+    }
+
+    private String call() {
+        return registry.get(ChatClientPurpose.ANALYSIS).prompt()
+                .system("system")
+                .user("user")
+                .call()
+                .content();
+    }
+
+    private void assertTimeout(Runnable call) {
+        assertThatThrownBy(call::run)
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.AI_TIMEOUT);
+    }
+}
@@ -0,0 +1,150 @@
+package com.greenkey20.innerorbit.service;
+
+import com.greenkey20.innerorbit.common.ai.AiAdmissionController;
+import com.greenkey20.innerorbit.common.ai.AiPriority;
+import com.greenkey20.innerorbit.common.config.AiAdmissionProperties;
+import com.greenkey20.innerorbit.common.exception.ErrorCode;
+import com.greenkey20.innerorbit.common.ratelimit.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AiAdmissionController 단위 테스트 — 동시 호출 상한, 우선순위 순 입장, 대기열 상한, 대기 포기
+ */
+@DisplayName("AiAdmissionController 테스트")
+class AiAdmissionControllerTest {
+
+    private AiAdmissionProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private AiAdmissionController controller;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AiAdmissionProperties();
+        properties.setMaxInFlight(1);
+        meterRegistry = new SimpleMeterRegistry();
+        controller = new AiAdmissionController(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("자리가 있음 → 바로 입장, 끝나면 자리 반환")
+    void admit_UnderLimit_Immediate() {
+        // When
+        CompletableFuture<AiAdmissionController.Permit> first = controller.admit(AiPriority.INTERACTIVE);
+
+        // Then
+        assertThat(first).isCompleted();
+        assertThat(inFlight()).isEqualTo(1);
+
+        first.join().close();
+        assertThat(inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("자리가 나면 도착 순서와 관계없이 CRISIS → INTERACTIVE → BATCH 순으로 입장")
+    void release_GrantsByPriority() {
+        // Given
+        AiAdmissionController.Permit running = controller.admit(AiPriority.BATCH).join();
+        CompletableFuture<AiAdmissionController.Permit> batch = controller.admit(AiPriority.BATCH);
+        CompletableFuture<AiAdmissionController.Permit> interactive = controller.admit(AiPriority.INTERACTIVE);
+        CompletableFuture<AiAdmissionController.Permit> crisis = controller.admit(AiPriority.CRISIS);
+        assertThat(queueDepth("batch")).isEqualTo(1);
+
+        // When & Then
+        running.close();
+        assertThat(crisis).isCompleted();
+        assertThat(interactive).isNotDone();
+
+        crisis.join().close();
+        assertThat(interactive).isCompleted();
+        assertThat(batch).isNotDone();
+
+        interactive.join().close();
+        assertThat(batch).isCompleted();
+        assertThat(inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 참 → 기다리지 않고 AI_OVERLOADED (429 + Retry-After)")
+    void admit_QueueFull_RejectsImmediately() {
+        // Given
+        AiAdmissionProperties.Queue queue = new AiAdmissionProperties.Queue();
+        queue.setMaxQueued(1);
+        properties.getQueues().put(AiPriority.BATCH, queue);
+        controller.admit(AiPriority.BATCH);
+        controller.admit(AiPriority.BATCH);
+
+        // When
+        CompletableFuture<AiAdmissionController.Permit> rejected = controller.admit(AiPriority.BATCH);
+
+        // Then
+        assertThatThrownBy(rejected::join)
+                .hasCauseInstanceOf(RateLimitExceededException.class)
+                .satisfies(e -> {
+                    RateLimitExceededException cause = (RateLimitExceededException) e.getCause();
+                    assertThat(cause.getErrorCode()).isEqualTo(ErrorCode.AI_OVERLOADED);
+                    assertThat(cause.getRetryAfter()).isEqualTo(Duration.ofSeconds(2));
+                });
+        assertThat(meterRegistry.get("ai.admission.rejected")
+                .tag("priority", "batch").tag("reason", "queue_full").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 포기 → 대기열에서 빠지고, 이후 반환된 자리는 다른 호출이 사용")
+    void abandon_RemovesWaiter() {
+        // Given
+        AiAdmissionController.Permit running = controller.admit(AiPriority.INTERACTIVE).join();
+        CompletableFuture<AiAdmissionController.Permit> gaveUp = controller.admit(AiPriority.INTERACTIVE);
+
+        // When
+        controller.abandon(AiPriority.INTERACTIVE, gaveUp);
+        running.close();
+
+        // Then
+        assertThat(gaveUp).isCancelled();
+        assertThat(queueDepth("interactive")).isZero();
+        assertThat(inFlight()).isZero();
+        assertThat(controller.admit(AiPriority.BATCH)).isCompleted();
+    }
+
+    @Test
+    @DisplayName("입장 직후 포기 → 받은 자리를 바로 반환")
+    void release_AfterGrant_ReturnsSlot() {
+        // Given
+        AiAdmissionController.Permit running = controller.admit(AiPriority.INTERACTIVE).join();
+        CompletableFuture<AiAdmissionController.Permit> waiting = controller.admit(AiPriority.INTERACTIVE);
+        running.close();
+        assertThat(waiting).isCompleted();
+
+        // When
+        controller.release(AiPriority.INTERACTIVE, waiting);
+
+        // Then
+        assertThat(inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("비활성화 → 상한 없이 입장")
+    void admit_Disabled_NoLimit() {
+        properties.setEnabled(false);
+
+        assertThat(controller.admit(AiPriority.BATCH)).isCompleted();
+        assertThat(controller.admit(AiPriority.BATCH)).isCompleted();
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("ai.admission.in_flight").gauge().value();
+    }
+
+    private double queueDepth(String priority) {
+        return meterRegistry.get("ai.admission.queue.depth").tag("priority", priority).gauge().value();
+    }
+}
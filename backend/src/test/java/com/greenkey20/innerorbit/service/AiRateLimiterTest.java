@@ -0,0 +1,153 @@
+package com.greenkey20.innerorbit.service;
+
+import com.greenkey20.innerorbit.common.config.AiRateLimitProperties;
+import com.greenkey20.innerorbit.common.exception.ErrorCode;
+import com.greenkey20.innerorbit.common.ratelimit.AiRateLimiter;
+import com.greenkey20.innerorbit.common.ratelimit.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * AiRateLimiter 단위 테스트 — Redis 판정 결과 해석, 로컬 사전 확인, Redis 장애 시 허용
+ * (Lua 스크립트 자체의 보충/차감은 Redis에서만 검증 가능)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AiRateLimiter 테스트")
+class AiRateLimiterTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private AiRateLimitProperties properties;
+    private AiRateLimiter aiRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AiRateLimitProperties();
+        aiRateLimiter = new AiRateLimiter(redisTemplate, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Redis 확인 결과 버킷/예산이 넉넉함 → 다음 요청은 Redis 없이 로컬에서 허용")
+    void acquire_PlentyLeft_SecondCallLocal() {
+        // Given
+        givenRedisDecision(1L, 19L, 0L, 1_000L);
+
+        // When
+        aiRateLimiter.acquire(USER_ID, 1);
+        aiRateLimiter.acquire(USER_ID, 1);
+
+        // Then
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("로컬 허용 한도(maxLocalDebt)를 넘기면 다시 Redis 확인")
+    void acquire_LocalDebtLimit_ChecksRedis() {
+        // Given
+        givenRedisDecision(1L, 19L, 0L, 0L);
+
+        // When — 첫 요청 Redis, 다음 3번 로컬, 5번째는 미반영 비용이 한도를 넘어 Redis
+        for (int i = 0; i < 5; i++) {
+            aiRateLimiter.acquire(USER_ID, 1);
+        }
+
+        // Then
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("버킷이 절반 미만으로 남음 → 로컬 허용 없이 매번 Redis 확인")
+    void acquire_LowTokens_AlwaysRedis() {
+        // Given
+        givenRedisDecision(1L, 5L, 0L, 0L);
+
+        // When
+        aiRateLimiter.acquire(USER_ID, 1);
+        aiRateLimiter.acquire(USER_ID, 1);
+
+        // Then
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("버킷 부족 → AI_RATE_LIMITED, Retry-After는 Redis가 계산한 보충 대기 시간")
+    void acquire_BucketEmpty_RateLimited() {
+        // Given
+        givenRedisDecision(0L, 0L, 3_000L, 0L);
+
+        // When & Then
+        assertThatThrownBy(() -> aiRateLimiter.acquire(USER_ID, 1))
+                .isInstanceOfSatisfying(RateLimitExceededException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.AI_RATE_LIMITED);
+                    assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(3));
+                });
+    }
+
+    @Test
+    @DisplayName("일일 토큰 예산 소진 → AI_TOKEN_BUDGET_EXCEEDED, Retry-After는 자정까지")
+    void acquire_BudgetExhausted_BudgetExceeded() {
+        // Given
+        givenRedisDecision(-1L, 10L, 0L, properties.getDailyTokenBudget());
+
+        // When & Then
+        assertThatThrownBy(() -> aiRateLimiter.acquire(USER_ID, 1))
+                .isInstanceOfSatisfying(RateLimitExceededException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.AI_TOKEN_BUDGET_EXCEEDED);
+                    assertThat(e.getRetryAfter()).isPositive().isLessThanOrEqualTo(Duration.ofDays(1));
+                });
+    }
+
+    @Test
+    @DisplayName("Redis 장애 → AI 기능을 막지 않고 허용")
+    void acquire_RedisDown_Allows() {
+        // Given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // When & Then
+        assertThatCode(() -> aiRateLimiter.acquire(USER_ID, 1)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("비활성화 → Redis 확인 없음")
+    void acquire_Disabled_NoRedis() {
+        // Given
+        properties.setEnabled(false);
+
+        // When
+        aiRateLimiter.acquire(USER_ID, 1);
+
+        // Then
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRedisDecision(long allowed, long tokens, long retryAfterMillis, long used) {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(List.of(allowed, tokens, retryAfterMillis, used));
+    }
+}
@@ -0,0 +1,199 @@
+package com.greenkey20.innerorbit.service;
+
+import com.greenkey20.innerorbit.common.exception.BusinessException;
+import com.greenkey20.innerorbit.common.exception.ErrorCode;
+import com.greenkey20.innerorbit.common.ratelimit.AiUsageContext;
+import com.greenkey20.innerorbit.log.application.port.in.LogUseCase;
+import com.greenkey20.innerorbit.log.application.port.out.AnalysisJobQueue;
+import com.greenkey20.innerorbit.log.application.port.out.LogRepository;
+import com.greenkey20.innerorbit.log.application.service.AnalysisJobService;
+import com.greenkey20.innerorbit.log.domain.model.AnalysisJob;
+import com.greenkey20.innerorbit.log.domain.model.AnalysisJobStatus;
+import com.greenkey20.innerorbit.log.domain.model.LogEntry;
+import com.greenkey20.innerorbit.log.infrastructure.config.AnalysisJobProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * AnalysisJobService 단위 테스트 — 작업 등록/실행/조회
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnalysisJobService 테스트")
+class AnalysisJobServiceTest {
+
+    @Mock
+    private AnalysisJobQueue analysisJobQueue;
+
+    @Mock
+    private LogRepository logRepository;
+
+    @Mock
+    private LogUseCase logUseCase;
+
+    @Spy
+    private AnalysisJobProperties analysisJobProperties = new AnalysisJobProperties();
+
+    @InjectMocks
+    private AnalysisJobService analysisJobService;
+
+    @Test
+    @DisplayName("작업 등록 - 상태(QUEUED) 저장 후 큐에 추가, LLM 호출 없음")
+    void requestAnalysis_SavesAndEnqueues() {
+        given(logRepository.findById(1L)).willReturn(Optional.of(LogEntry.builder().id(1L).build()));
+
+        AnalysisJob job = analysisJobService.requestAnalysis(1L, 10L);
+
+        assertThat(job.getStatus()).isEqualTo(AnalysisJobStatus.QUEUED);
+        assertThat(job.getJobId()).isNotBlank();
+        verify(analysisJobQueue).save(job);
+        verify(analysisJobQueue).enqueue(job);
+        verifyNoInteractions(logUseCase);
+    }
+
+    @Test
+    @DisplayName("작업 등록 - 없는 로그면 404")
+    void requestAnalysis_LogNotFound_Fail() {
+        given(logRepository.findById(1L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> analysisJobService.requestAnalysis(1L, 10L))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.LOG_ENTRY_NOT_FOUND);
+        verify(analysisJobQueue, never()).enqueue(any());
+    }
+
+    @Test
+    @DisplayName("작업 실행 - 분석하는 동안 작업 사용자를 토큰 예산 집계 대상으로 바인딩, 끝나면 해제")
+    void process_BindsJobUserForTokenBudget() {
+        AnalysisJob job = AnalysisJob.queued(1L, 10L);
+        given(analysisJobQueue.findById(job.getJobId())).willReturn(Optional.of(job));
+        List<Optional<Long>> boundUsers = new ArrayList<>();
+        given(logUseCase.updateLogAnalysis(1L)).willAnswer(invocation -> {
+            boundUsers.add(AiUsageContext.currentUserId());
+            return null;
+        });
+
+        analysisJobService.process(job.getJobId());
+
+        assertThat(boundUsers).containsExactly(Optional.of(10L));
+        assertThat(AiUsageContext.currentUserId()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("작업 실행 - RUNNING 기록 후 분석, 성공하면 COMPLETED 저장")
+    void process_RunsAnalysisAndCompletes() {
+        AnalysisJob job = AnalysisJob.queued(1L, 10L);
+        given(analysisJobQueue.findById(job.getJobId())).willReturn(Optional.of(job));
+        List<AnalysisJobStatus> savedStatuses = new ArrayList<>();
+        doAnswer(invocation -> savedStatuses.add(invocation.<AnalysisJob>getArgument(0).getStatus()))
+                .when(analysisJobQueue).save(any(AnalysisJob.class));
+
+        analysisJobService.process(job.getJobId());
+
+        verify(logUseCase).updateLogAnalysis(1L);
+        assertThat(savedStatuses).containsExactly(AnalysisJobStatus.RUNNING, AnalysisJobStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("작업 실행 - 분석 실패는 FAILED로 기록하고 예외를 던지지 않음 (워커가 ack)")
+    void process_AnalysisFails_MarksFailed() {
+        AnalysisJob job = AnalysisJob.queued(1L, 10L);
+        given(analysisJobQueue.findById(job.getJobId())).willReturn(Optional.of(job));
+        given(logUseCase.updateLogAnalysis(1L)).willThrow(new RuntimeException("timeout"));
+
+        analysisJobService.process(job.getJobId());
+
+        ArgumentCaptor<AnalysisJob> captor = ArgumentCaptor.forClass(AnalysisJob.class);
+        verify(analysisJobQueue, times(2)).save(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(AnalysisJob::getStatus, AnalysisJob::getErrorMessage)
+                .containsExactly(AnalysisJobStatus.FAILED, "AI 분석에 실패했습니다.");
+    }
+
+    @Test
+    @DisplayName("작업 실행 - 일시적 AI 장애는 QUEUED로 되돌리고 예외를 던짐 (워커가 ack하지 않아 다시 처리)")
+    void process_TransientAiError_LeavesForRetry() {
+        AnalysisJob job = AnalysisJob.queued(1L, 10L);
+        given(analysisJobQueue.findById(job.getJobId())).willReturn(Optional.of(job));
+        given(logUseCase.updateLogAnalysis(1L)).willThrow(new BusinessException(ErrorCode.AI_UNAVAILABLE));
+        List<AnalysisJobStatus> savedStatuses = new ArrayList<>();
+        doAnswer(invocation -> savedStatuses.add(invocation.<AnalysisJob>getArgument(0).getStatus()))
+                .when(analysisJobQueue).save(any(AnalysisJob.class));
+
+        assertThatThrownBy(() -> analysisJobService.process(job.getJobId()))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.AI_UNAVAILABLE);
+        assertThat(savedStatuses).containsExactly(AnalysisJobStatus.RUNNING, AnalysisJobStatus.QUEUED);
+        assertThat(job.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("작업 실행 - 일시적 AI 장애라도 maxAttempts를 다 쓰면 FAILED로 기록하고 정상 반환")
+    void process_TransientAiErrorExhausted_MarksFailed() {
+        analysisJobProperties.setMaxAttempts(2);
+        AnalysisJob job = AnalysisJob.queued(1L, 10L);
+        job.markRunning();  // 이전 실행 1회
+        job.markRetrying("AI 서비스를 일시적으로 사용할 수 없습니다.");
+        given(analysisJobQueue.findById(job.getJobId())).willReturn(Optional.of(job));
+        given(logUseCase.updateLogAnalysis(1L)).willThrow(new BusinessException(ErrorCode.AI_TIMEOUT));
+
+        analysisJobService.process(job.getJobId());
+
+        assertThat(job.getStatus()).isEqualTo(AnalysisJobStatus.FAILED);
+        assertThat(job.getAttempts()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("작업 실행 - 로그 없음 등 재시도해도 같은 오류는 바로 FAILED")
+    void process_NonTransientBusinessError_MarksFailed() {
+        AnalysisJob job = AnalysisJob.queued(1L, 10L);
+        given(analysisJobQueue.findById(job.getJobId())).willReturn(Optional.of(job));
+        given(logUseCase.updateLogAnalysis(1L)).willThrow(new BusinessException(ErrorCode.LOG_ENTRY_NOT_FOUND));
+
+        analysisJobService.process(job.getJobId());
+
+        assertThat(job.getStatus()).isEqualTo(AnalysisJobStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("작업 실행 - 이미 끝난 작업(재전달)은 다시 분석하지 않음")
+    void process_AlreadyFinished_Skips() {
+        AnalysisJob job = AnalysisJob.queued(1L, 10L);
+        job.markCompleted();
+        given(analysisJobQueue.findById(job.getJobId())).willReturn(Optional.of(job));
+
+        analysisJobService.process(job.getJobId());
+
+        verifyNoInteractions(logUseCase);
+        verify(analysisJobQueue, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("작업 조회 - 다른 사용자의 작업이면 404")
+    void getJob_OtherUser_NotFound() {
+        AnalysisJob job = AnalysisJob.queued(1L, 10L);
+        given(analysisJobQueue.findById(job.getJobId())).willReturn(Optional.of(job));
+
+        assertThatThrownBy(() -> analysisJobService.getJob(job.getJobId(), 99L))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.ANALYSIS_JOB_NOT_FOUND);
+    }
+}
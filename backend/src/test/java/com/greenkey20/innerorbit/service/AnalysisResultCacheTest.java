@@ -0,0 +1,112 @@
+package com.greenkey20.innerorbit.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.greenkey20.innerorbit.ai.application.service.AnalysisFingerprint;
+import com.greenkey20.innerorbit.ai.infrastructure.adapter.out.cache.AnalysisResultCache;
+import com.greenkey20.innerorbit.ai.infrastructure.config.AnalysisCacheProperties;
+import com.greenkey20.innerorbit.log.infrastructure.adapter.out.ai.dto.AnalysisResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+
+/**
+ * AnalysisResultCache 단위 테스트 — 로컬/Redis 2단 캐시와 입력 지문 정규화
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnalysisResultCache 테스트")
+class AnalysisResultCacheTest {
+
+    private static final String REVISION = "v2-1a2b3c4d";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private AnalysisResultCache analysisResultCache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        analysisResultCache = new AnalysisResultCache(redisTemplate, objectMapper, new AnalysisCacheProperties());
+    }
+
+    @Test
+    @DisplayName("같은 지문 두 번째 요청 → 로컬 캐시에서 반환, LLM(loader) 1회만 호출")
+    void getOrCompute_SameFingerprint_LoaderCalledOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        String fingerprint = AnalysisFingerprint.of(REVISION, "매번 이렇게 실패해", 70, 30);
+
+        AnalysisResult first = analysisResultCache.getOrCompute(fingerprint, () -> result(calls));
+        AnalysisResult second = analysisResultCache.getOrCompute(fingerprint, () -> result(calls));
+
+        assertThat(calls).hasValue(1);
+        assertThat(second).isSameAs(first);
+        verify(valueOperations).set(eq("ai:analysis:" + fingerprint), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 저장한 결과 → Redis에서 읽어 LLM 호출 없음")
+    void getOrCompute_RedisHit_NoLoaderCall() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        String fingerprint = AnalysisFingerprint.of(REVISION, "오늘은 괜찮았다", 40, 75);
+        given(valueOperations.get("ai:analysis:" + fingerprint))
+                .willReturn(objectMapper.writeValueAsString(new AnalysisResult(List.of(), "공유된 리프레이밍", "공유된 대안")));
+
+        AnalysisResult result = analysisResultCache.getOrCompute(fingerprint, () -> result(calls));
+
+        assertThat(calls).hasValue(0);
+        assertThat(result.getReframed()).isEqualTo("공유된 리프레이밍");
+    }
+
+    @Test
+    @DisplayName("Redis 장애 → 캐시만 건너뛰고 분석 결과 반환")
+    void getOrCompute_RedisDown_FallsBackToLoader() {
+        AtomicInteger calls = new AtomicInteger();
+        given(valueOperations.get(anyString())).willThrow(new RedisConnectionFailureException("down"));
+
+        AnalysisResult result = analysisResultCache.getOrCompute(
+                AnalysisFingerprint.of(REVISION, "내용", 50, 50), () -> result(calls));
+
+        assertThat(calls).hasValue(1);
+        assertThat(result.getReframed()).isEqualTo("리프레이밍");
+    }
+
+    @Test
+    @DisplayName("지문 — 공백/줄바꿈 차이는 같은 지문, gravity/stability나 프롬프트 리비전이 다르면 다른 지문")
+    void fingerprint_NormalizesWhitespace_IncludesInputs() {
+        assertThat(AnalysisFingerprint.of(REVISION, "  매번   이렇게\n실패해 ", 70, 30))
+                .isEqualTo(AnalysisFingerprint.of(REVISION, "매번 이렇게 실패해", 70, 30));
+        assertThat(AnalysisFingerprint.of(REVISION, "매번 이렇게 실패해", 70, 30))
+                .isNotEqualTo(AnalysisFingerprint.of(REVISION, "매번 이렇게 실패해", 60, 30))
+                .startsWith(REVISION + ":");
+        assertThat(AnalysisFingerprint.of("v2-ffffffff", "매번 이렇게 실패해", 70, 30))
+                .isNotEqualTo(AnalysisFingerprint.of(REVISION, "매번 이렇게 실패해", 70, 30));
+    }
+
+    private AnalysisResult result(AtomicInteger calls) {
+        calls.incrementAndGet();
+        return new AnalysisResult(List.of(), "리프레이밍", "대안");
+    }
+}
@@ -0,0 +1,126 @@
+package com.greenkey20.innerorbit.service;
+
+import com.greenkey20.innerorbit.ai.application.port.out.LabeledAnalysis;
+import com.greenkey20.innerorbit.ai.application.port.out.LabeledAnalysisQueryPort;
+import com.greenkey20.innerorbit.ai.application.service.AiService;
+import com.greenkey20.innerorbit.ai.application.service.DistortionClassifierService;
+import com.greenkey20.innerorbit.ai.application.service.DistortionClassifierService.Evaluation;
+import com.greenkey20.innerorbit.ai.infrastructure.config.DistortionClassifierProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DistortionClassifierService 단위 테스트 — 합성 라벨로 학습, held-out 평가, 모델 파일 저장/재로드
+ */
+@DisplayName("DistortionClassifierService 테스트")
+class DistortionClassifierServiceTest {
+
+    private static final String[] NEUTRAL = {
+            "오늘 점심에 동료와 산책을 했다", "퇴근길에 장을 봤다", "코드 리뷰를 받고 몇 군데 고쳤다",
+            "저녁으로 김치찌개를 먹었다", "주말에 읽을 책을 골랐다", "회의가 예정보다 일찍 끝났다",
+            "비가 와서 우산을 챙겼다", "운동을 30분 했다"
+    };
+    private static final String[] DISTORTED = {
+            "나는 항상 모든 걸 망쳐", "다들 나를 한심하게 볼 거야", "이번 일로 완전히 끝장났어",
+            "난 절대 제대로 하는 게 없어", "실패하면 다 끝이야", "나는 정말 쓸모없는 사람이야"
+    };
+
+    @TempDir
+    Path root;
+
+    private DistortionClassifierProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DistortionClassifierProperties();
+        properties.setEnabled(true);
+        properties.setModelPath(root.resolve("models/classifier.bin").toString());
+        properties.setConfidenceThreshold(0.9);
+        properties.setMinLocalPrecision(0.95);
+        properties.setMinTrainingSamples(100);
+    }
+
+    @Test
+    @DisplayName("학습 → held-out 기준 통과 시 모델 파일 저장, 평범한 글만 로컬 응답")
+    void train_PromotesModelAndAnswersCleanTextLocally() {
+        DistortionClassifierService service = serviceWith(syntheticLabels(800, null));
+
+        Optional<Evaluation> evaluation = service.train();
+
+        assertThat(evaluation).isPresent();
+        assertThat(evaluation.get().holdoutSize()).isPositive();
+        assertThat(evaluation.get().localPrecision()).isGreaterThanOrEqualTo(0.95);
+        assertThat(evaluation.get().coverage()).isPositive();
+        assertThat(Files.isRegularFile(Path.of(properties.getModelPath()))).isTrue();
+
+        assertThat(service.isConfidentlyClean("운동을 30분 했다. 저녁으로 김치찌개를 먹었다")).isTrue();
+        assertThat(service.isConfidentlyClean("회의가 예정보다 일찍 끝났다. 나는 정말 쓸모없는 사람이야")).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 저장한 모델 파일 → 재로드 후 같은 판단")
+    void reloadIfChanged_LoadsModelWrittenByAnotherInstance() {
+        serviceWith(syntheticLabels(800, null)).train();
+        DistortionClassifierService other = serviceWith(List.of());
+
+        assertThat(other.isConfidentlyClean("퇴근길에 장을 봤다. 비가 와서 우산을 챙겼다")).isFalse();
+        other.reloadIfChanged();
+
+        assertThat(other.isConfidentlyClean("퇴근길에 장을 봤다. 비가 와서 우산을 챙겼다")).isTrue();
+    }
+
+    @Test
+    @DisplayName("로컬 응답으로 저장된 결과는 라벨에서 제외 → 건수 부족이면 학습하지 않음")
+    void train_ExcludesLocalAnswers() {
+        properties.setMinTrainingSamples(300);
+        DistortionClassifierService service = serviceWith(syntheticLabels(800, AiService.NO_DISTORTION_REFRAMED));
+
+        assertThat(service.train()).isEmpty();
+        assertThat(Files.exists(Path.of(properties.getModelPath()))).isFalse();
+    }
+
+    @Test
+    @DisplayName("비활성 → 모델이 있어도 로컬 응답하지 않음")
+    void isConfidentlyClean_Disabled_AlwaysEscalates() {
+        DistortionClassifierService service = serviceWith(syntheticLabels(800, null));
+        service.train();
+
+        properties.setEnabled(false);
+
+        assertThat(service.isConfidentlyClean("운동을 30분 했다. 저녁으로 김치찌개를 먹었다")).isFalse();
+    }
+
+    private DistortionClassifierService serviceWith(List<LabeledAnalysis> labels) {
+        LabeledAnalysisQueryPort port = (limit, consumer) -> labels.stream().limit(limit).forEach(consumer);
+        return new DistortionClassifierService(properties, port, new SimpleMeterRegistry());
+    }
+
+    /**
+     * 평범한 문장 + (3건 중 1건) 왜곡 문장. cleanReframed가 있으면 "왜곡 없음" 결과를 그 reframed로 저장한 것처럼
+     */
+    private static List<LabeledAnalysis> syntheticLabels(int count, String cleanReframed) {
+        Random random = new Random(7);
+        List<LabeledAnalysis> labels = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            boolean distorted = id % 3 == 0;
+            String second = distorted ? DISTORTED[random.nextInt(DISTORTED.length)] : NEUTRAL[random.nextInt(NEUTRAL.length)];
+            String content = NEUTRAL[random.nextInt(NEUTRAL.length)] + ". " + second;
+            labels.add(distorted
+                    ? new LabeledAnalysis(id, content, List.of("자기 비하"), "다르게 볼 수도 있어요")
+                    : new LabeledAnalysis(id, content, List.of(), cleanReframed != null ? cleanReframed : "담담한 하루였네요"));
+        }
+        return labels;
+    }
+}
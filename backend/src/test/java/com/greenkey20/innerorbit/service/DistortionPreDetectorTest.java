@@ -0,0 +1,86 @@
+package com.greenkey20.innerorbit.service;
+
+import com.greenkey20.innerorbit.ai.application.port.in.DistortionCandidate;
+import com.greenkey20.innerorbit.ai.application.service.DistortionPreDetector;
+import com.greenkey20.innerorbit.ai.infrastructure.config.DistortionDetectorProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * DistortionPreDetector 단위 테스트 — 한/영 트리거 매칭, 하이라이트 위치, LLM 생략 판단
+ */
+@DisplayName("DistortionPreDetector 테스트")
+class DistortionPreDetectorTest {
+
+    private DistortionDetectorProperties properties;
+    private DistortionPreDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DistortionDetectorProperties();
+        detector = new DistortionPreDetector(properties);
+    }
+
+    @Test
+    @DisplayName("한글 트리거 — 조사/어미가 붙어도 매치, 원문 위치 반환")
+    void detect_KoreanTriggers() {
+        String text = "매번 이렇게 실패해. 완벽하지 않으면 다 망했어.";
+
+        List<DistortionCandidate> candidates = detector.detect(text);
+
+        assertThat(candidates)
+                .extracting(DistortionCandidate::type, DistortionCandidate::quote)
+                .containsExactly(
+                        tuple("과잉일반화", "매번"),
+                        tuple("흑백논리", "완벽"),
+                        tuple("파국화", "망했"));
+        DistortionCandidate first = candidates.getFirst();
+        assertThat(text.substring(first.start(), first.end())).isEqualTo("매번");
+    }
+
+    @Test
+    @DisplayName("영문 트리거 — 대소문자/굽은 따옴표 무시, 단어 중간은 매치하지 않음")
+    void detect_EnglishTriggers_WordBoundary() {
+        List<DistortionCandidate> candidates = detector.detect("I CAN’T do this. Nevertheless it's fine.");
+
+        assertThat(candidates)
+                .extracting(DistortionCandidate::type, DistortionCandidate::quote)
+                .containsExactly(tuple("자기 비하", "I CAN’T"));
+    }
+
+    @Test
+    @DisplayName("겹치는 구절 — 다른 유형은 각각, 같은 유형은 앞선 구절 하나만")
+    void detect_OverlappingMatches() {
+        List<DistortionCandidate> candidates = detector.detect("It always happens. 이제 인생 끝났어");
+
+        assertThat(candidates)
+                .extracting(DistortionCandidate::type, DistortionCandidate::quote)
+                .containsExactly(
+                        tuple("과잉일반화", "always happens"),
+                        tuple("흑백논리", "always"),
+                        tuple("파국화", "인생 끝"));
+    }
+
+    @Test
+    @DisplayName("\"오늘\"처럼 한 글자 어휘가 포함된 일상어는 후보 아님")
+    void detect_NoFalsePositiveOnDailyWords() {
+        assertThat(detector.detect("오늘은 산책을 하고 차를 마셨다.")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("LLM 생략 — 짧고 트리거 없음만 true, 트리거가 있거나 길거나 비활성화면 false")
+    void isTriviallyClean() {
+        assertThat(detector.isTriviallyClean("오늘은 산책을 하고 차를 마셨다.")).isTrue();
+        assertThat(detector.isTriviallyClean("오늘도 다 망했어.")).isFalse();
+        assertThat(detector.isTriviallyClean("산책".repeat(50))).isFalse();
+
+        properties.setSkipLlm(false);
+        assertThat(detector.isTriviallyClean("오늘은 산책을 하고 차를 마셨다.")).isFalse();
+    }
+}
@@ -0,0 +1,141 @@
+package com.greenkey20.innerorbit.service;
+
+import com.greenkey20.innerorbit.common.config.IdempotencyProperties;
+import com.greenkey20.innerorbit.common.idempotency.IdempotencyBodyCachingFilter;
+import com.greenkey20.innerorbit.common.idempotency.IdempotencyInterceptor;
+import com.greenkey20.innerorbit.common.idempotency.IdempotencyStore;
+import com.greenkey20.innerorbit.log.infrastructure.adapter.in.web.LogController;
+import com.greenkey20.innerorbit.security.UserPrincipal;
+import com.greenkey20.innerorbit.weeklyreport.infrastructure.adapter.in.web.WeeklyReportController;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * IdempotencyInterceptor 단위 테스트 — 요청 지문에 본문 해시 포함, 본문은 컨트롤러가 다시 읽을 수 있음, 마감에 맞춘 처리 중 표식 TTL
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyInterceptor 테스트")
+class IdempotencyInterceptorTest {
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    private final IdempotencyProperties properties = new IdempotencyProperties();
+    private IdempotencyInterceptor interceptor;
+    private IdempotencyBodyCachingFilter filter;
+    private HandlerMethod createLogEntry;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new IdempotencyInterceptor(idempotencyStore, properties);
+        filter = new IdempotencyBodyCachingFilter(properties);
+        Method method = Arrays.stream(LogController.class.getMethods())
+                .filter(m -> m.getName().equals("createLogEntry"))
+                .findFirst()
+                .orElseThrow();
+        createLogEntry = new HandlerMethod(mock(LogController.class), method);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new UserPrincipal(1L, "user"), null, List.of()));
+        given(idempotencyStore.claim(eq(1L), eq("retry-1"), anyString(), any(Duration.class)))
+                .willReturn(new IdempotencyStore.Claim("idem:1:retry-1", "marker", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("같은 키, 다른 본문 → 지문이 달라 재사용으로 판단")
+    void preHandle_DifferentBody_DifferentFingerprint() throws Exception {
+        handle("{\"content\":\"첫 번째\"}");
+        handle("{\"content\":\"두 번째\"}");
+
+        ArgumentCaptor<String> fingerprints = ArgumentCaptor.forClass(String.class);
+        verify(idempotencyStore, times(2)).claim(eq(1L), eq("retry-1"), fingerprints.capture(), any(Duration.class));
+        assertThat(fingerprints.getAllValues().get(0))
+                .startsWith("POST /api/logs ")
+                .isNotEqualTo(fingerprints.getAllValues().get(1));
+    }
+
+    @Test
+    @DisplayName("같은 키, 같은 본문 → 같은 지문, 컨트롤러는 본문을 그대로 다시 읽음")
+    void preHandle_SameBody_SameFingerprintAndBodyStillReadable() throws Exception {
+        HttpServletRequest first = handle("{\"content\":\"기록\"}");
+        handle("{\"content\":\"기록\"}");
+
+        ArgumentCaptor<String> fingerprints = ArgumentCaptor.forClass(String.class);
+        verify(idempotencyStore, times(2)).claim(eq(1L), eq("retry-1"), fingerprints.capture(), any(Duration.class));
+        assertThat(fingerprints.getAllValues().get(0)).isEqualTo(fingerprints.getAllValues().get(1));
+        assertThat(new String(first.getInputStream().readAllBytes(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"content\":\"기록\"}");
+    }
+
+    @Test
+    @DisplayName("@DeadlineBudget 엔드포인트 → 처리 중 표식 TTL은 마감 + 여유 (주간 리포트 150s + 30s)")
+    void preHandle_DeadlineBudget_ExtendsInProgressTtl() throws Exception {
+        properties.setInProgressTtl(Duration.ofMinutes(1));
+        Method generate = WeeklyReportController.class.getMethod("generateForCurrentWeek", Authentication.class);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/weekly-reports/generate");
+        request.addHeader(properties.getHeader(), "retry-1");
+
+        interceptor.preHandle(request, new MockHttpServletResponse(),
+                new HandlerMethod(mock(WeeklyReportController.class), generate));
+
+        verify(idempotencyStore).claim(eq(1L), eq("retry-1"), anyString(), eq(Duration.ofSeconds(180)));
+    }
+
+    @Test
+    @DisplayName("마감 지정이 없는 엔드포인트 → 기본 처리 중 표식 TTL")
+    void preHandle_NoDeadlineBudget_UsesDefaultInProgressTtl() throws Exception {
+        handle("{\"content\":\"기록\"}");
+
+        verify(idempotencyStore).claim(eq(1L), eq("retry-1"), anyString(), eq(properties.getInProgressTtl()));
+    }
+
+    /**
+     * 필터를 거친 요청으로 인터셉터 실행 — 컨트롤러에 전달될 요청을 반환
+     */
+    private HttpServletRequest handle(String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/logs");
+        request.addHeader(properties.getHeader(), "retry-1");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+        HttpServletRequest wrapped = (HttpServletRequest) chain.getRequest();
+        interceptor.preHandle(wrapped, response, createLogEntry);
+        return wrapped;
+    }
+}
@@ -0,0 +1,175 @@
+package com.greenkey20.innerorbit.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.greenkey20.innerorbit.common.config.IdempotencyProperties;
+import com.greenkey20.innerorbit.common.exception.BusinessException;
+import com.greenkey20.innerorbit.common.exception.ErrorCode;
+import com.greenkey20.innerorbit.common.idempotency.IdempotencyStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+/**
+ * IdempotencyStore 단위 테스트 — 선점, 저장된 응답 재생, 처리 중 대기, 키 재사용 거부, 실패 시 해제
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyStore 테스트")
+class IdempotencyStoreTest {
+
+    private static final String REDIS_KEY = "idem:1:retry-1";
+    private static final String FINGERPRINT = "POST /api/logs";
+    private static final String IN_PROGRESS = "{\"fingerprint\":\"POST /api/logs\",\"token\":\"t\"}";
+    private static final String COMPLETED = "{\"fingerprint\":\"POST /api/logs\",\"token\":\"t\","
+            + "\"status\":201,\"location\":null,\"body\":\"{\\\"id\\\":10}\"}";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private IdempotencyProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyStore idempotencyStore;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IdempotencyProperties();
+        properties.setPollInterval(Duration.ofMillis(10));
+        meterRegistry = new SimpleMeterRegistry();
+        idempotencyStore = new IdempotencyStore(redisTemplate, new ObjectMapper(), properties, meterRegistry);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("처음 보는 키 → 처리 중 표식을 남기고 선점")
+    void claim_NewKey_Acquired() {
+        // Given
+        given(valueOperations.setIfAbsent(eq(REDIS_KEY), anyString(), eq(properties.getInProgressTtl()))).willReturn(true);
+
+        // When
+        IdempotencyStore.Claim claim = idempotencyStore.claim(1L, "retry-1", FINGERPRINT);
+
+        // Then
+        assertThat(claim.isAcquired()).isTrue();
+        assertThat(claim.isReplay()).isFalse();
+        assertThat(claim.marker()).contains("\"fingerprint\":\"POST /api/logs\"");
+    }
+
+    @Test
+    @DisplayName("완료된 키로 재시도 → 저장된 응답 재생")
+    void claim_CompletedKey_Replays() {
+        // Given
+        given(valueOperations.setIfAbsent(eq(REDIS_KEY), anyString(), any(Duration.class))).willReturn(false);
+        given(valueOperations.get(REDIS_KEY)).willReturn(COMPLETED);
+
+        // When
+        IdempotencyStore.Claim claim = idempotencyStore.claim(1L, "retry-1", FINGERPRINT);
+
+        // Then
+        assertThat(claim.isReplay()).isTrue();
+        assertThat(claim.replay()).isEqualTo(new IdempotencyStore.StoredResponse(201, null, "{\"id\":10}"));
+        assertThat(meterRegistry.get("idempotency.requests").tag("result", "replayed").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("처리 중인 키 → 첫 요청이 끝날 때까지 기다렸다가 같은 응답 재생")
+    void claim_InProgressKey_WaitsForResponse() {
+        // Given
+        given(valueOperations.setIfAbsent(eq(REDIS_KEY), anyString(), any(Duration.class))).willReturn(false);
+        given(valueOperations.get(REDIS_KEY)).willReturn(IN_PROGRESS, IN_PROGRESS, COMPLETED);
+
+        // When
+        IdempotencyStore.Claim claim = idempotencyStore.claim(1L, "retry-1", FINGERPRINT);
+
+        // Then
+        assertThat(claim.replay().status()).isEqualTo(201);
+        assertThat(meterRegistry.get("idempotency.requests").tag("result", "waited").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("처리 중인 키가 maxWait 안에 끝나지 않음 → IDEMPOTENCY_IN_PROGRESS")
+    void claim_InProgressTooLong_Conflict() {
+        // Given
+        properties.setMaxWait(Duration.ofMillis(30));
+        given(valueOperations.setIfAbsent(eq(REDIS_KEY), anyString(), any(Duration.class))).willReturn(false);
+        given(valueOperations.get(REDIS_KEY)).willReturn(IN_PROGRESS);
+
+        // When & Then
+        assertThatThrownBy(() -> idempotencyStore.claim(1L, "retry-1", FINGERPRINT))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.IDEMPOTENCY_IN_PROGRESS));
+    }
+
+    @Test
+    @DisplayName("다른 엔드포인트에 쓰인 키 → IDEMPOTENCY_KEY_REUSED")
+    void claim_KeyUsedForOtherRequest_Rejected() {
+        // Given
+        given(valueOperations.setIfAbsent(eq(REDIS_KEY), anyString(), any(Duration.class))).willReturn(false);
+        given(valueOperations.get(REDIS_KEY)).willReturn(COMPLETED);
+
+        // When & Then
+        assertThatThrownBy(() -> idempotencyStore.claim(1L, "retry-1", "POST /api/weekly-reports/generate"))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 → 멱등 처리 없이 진행")
+    void claim_RedisDown_Bypassed() {
+        // Given
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // When
+        IdempotencyStore.Claim claim = idempotencyStore.claim(1L, "retry-1", FINGERPRINT);
+
+        // Then
+        assertThat(claim.isAcquired()).isFalse();
+        assertThat(claim.isReplay()).isFalse();
+    }
+
+    @Test
+    @DisplayName("완료 → 응답을 ttl로 저장, 종료 시 해제는 자기 표식일 때만 삭제")
+    @SuppressWarnings("unchecked")
+    void completeAndRelease_StoresResponseAndReleasesOwnMarker() {
+        // Given
+        given(valueOperations.setIfAbsent(eq(REDIS_KEY), anyString(), any(Duration.class))).willReturn(true);
+        IdempotencyStore.Claim claim = idempotencyStore.claim(1L, "retry-1", FINGERPRINT);
+
+        // When
+        idempotencyStore.complete(claim, new IdempotencyStore.StoredResponse(201, "/api/logs/10", "{\"id\":10}"));
+        idempotencyStore.release(claim);
+
+        // Then
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq(REDIS_KEY), stored.capture(), eq(properties.getTtl()));
+        assertThat(stored.getValue())
+                .contains("\"status\":201")
+                .contains("\"location\":\"/api/logs/10\"")
+                .contains("\"fingerprint\":\"POST /api/logs\"");
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(REDIS_KEY)), eq(claim.marker()));
+    }
+}
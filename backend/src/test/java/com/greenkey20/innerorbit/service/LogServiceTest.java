@@ -1,6 +1,7 @@
 package com.greenkey20.innerorbit.service;
 
 import com.greenkey20.innerorbit.common.exception.BusinessException;
+import com.greenkey20.innerorbit.common.exception.ErrorCode;
 import com.greenkey20.innerorbit.log.application.port.out.AiAnalysisPort;
 import com.greenkey20.innerorbit.log.application.port.out.LogRepository;
 import com.greenkey20.innerorbit.log.application.service.LogService;
@@ -14,13 +15,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import reactor.core.publisher.Flux;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -167,4 +176,146 @@ class LogServiceTest {
         assertThatThrownBy(() -> logService.createLogEntry(null, 1L))
                 .isInstanceOf(BusinessException.class);
     }
+
+    @Test
+    @DisplayName("AI 분석 - 읽기 시점 version 그대로 분석 결과 저장")
+    void updateLogAnalysis_SavesWithReadVersion() {
+        // Given
+        LogEntry entry = analyzableEntry();
+        Map<String, Object> analysis = Map.of("distortions", List.of(), "reframed", "리프레이밍", "alternative", "대안");
+        given(logRepository.findById(1L)).willReturn(Optional.of(entry));
+        given(aiAnalysisPort.analyzeCognitiveDistortions(entry.getContent(), 70, 30)).willReturn(analysis);
+        given(logRepository.save(any(LogEntry.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        LogEntryResponse response = logService.updateLogAnalysis(1L);
+
+        // Then
+        assertThat(response.getAnalysisResult()).isEqualTo(analysis);
+        verify(logRepository).save(argThat(saved -> saved.getVersion() == 3L && analysis.equals(saved.getAnalysisResult())));
+    }
+
+    @Test
+    @DisplayName("AI 분석 - 분석 중 다른 요청이 수정한 경우 덮어쓰지 않고 실패 (409)")
+    void updateLogAnalysis_ConcurrentModification_Fail() {
+        // Given
+        given(logRepository.findById(1L)).willReturn(Optional.of(analyzableEntry()));
+        given(aiAnalysisPort.analyzeCognitiveDistortions(any(), any(), any()))
+                .willReturn(Map.of("distortions", List.of(), "reframed", "리프레이밍", "alternative", "대안"));
+        given(logRepository.save(any(LogEntry.class)))
+                .willThrow(new OptimisticLockingFailureException("stale version"));
+
+        // When & Then
+        assertThatThrownBy(() -> logService.updateLogAnalysis(1L))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.LOG_ENTRY_CONFLICT);
+    }
+
+    @Test
+    @DisplayName("AI 분석 - 마지막 분석 때와 입력이 같으면 LLM 호출/저장 없이 기존 결과 반환")
+    void updateLogAnalysis_UnchangedInput_SkipsLlm() {
+        // Given
+        Map<String, Object> stored = Map.of("distortions", List.of(), "reframed", "기존", "alternative", "기존 대안");
+        LogEntry entry = analyzableEntry();
+        entry.setAnalysisResult(stored);
+        entry.setAnalysisContentHash("v1:g70:s30:abc");
+        given(logRepository.findById(1L)).willReturn(Optional.of(entry));
+        given(aiAnalysisPort.analysisFingerprint(entry.getContent(), 70, 30)).willReturn("v1:g70:s30:abc");
+
+        // When
+        LogEntryResponse response = logService.updateLogAnalysis(1L);
+
+        // Then
+        assertThat(response.getAnalysisResult()).isEqualTo(stored);
+        verify(aiAnalysisPort, never()).analyzeCognitiveDistortions(any(), any(), any());
+        verify(logRepository, never()).save(any(LogEntry.class));
+    }
+
+    @Test
+    @DisplayName("AI 분석 - 본문이 바뀌어 지문이 다르면 재분석 후 새 지문과 함께 저장")
+    void updateLogAnalysis_ChangedInput_ReanalyzesAndStoresFingerprint() {
+        // Given
+        LogEntry entry = analyzableEntry();
+        entry.setAnalysisResult(Map.of("distortions", List.of(), "reframed", "이전", "alternative", "이전 대안"));
+        entry.setAnalysisContentHash("v1:g70:s30:old");
+        Map<String, Object> analysis = Map.of("distortions", List.of(), "reframed", "새 리프레이밍", "alternative", "새 대안");
+        given(logRepository.findById(1L)).willReturn(Optional.of(entry));
+        given(aiAnalysisPort.analysisFingerprint(entry.getContent(), 70, 30)).willReturn("v1:g70:s30:new");
+        given(aiAnalysisPort.analyzeCognitiveDistortions(entry.getContent(), 70, 30)).willReturn(analysis);
+        given(logRepository.save(any(LogEntry.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        LogEntryResponse response = logService.updateLogAnalysis(1L);
+
+        // Then
+        assertThat(response.getAnalysisResult()).isEqualTo(analysis);
+        verify(logRepository).save(argThat(saved -> "v1:g70:s30:new".equals(saved.getAnalysisContentHash())));
+    }
+
+    @Test
+    @DisplayName("Insight 피드백 스트리밍 - 토큰을 순서대로 내보내고 완료 후 전체 피드백 저장")
+    void streamInsightFeedback_EmitsTokensThenSavesFeedback() {
+        // Given
+        LogEntry entry = analyzableEntry();
+        entry.setInsightAbstraction("Message Queue");
+        entry.setInsightApplication("요청 버퍼링");
+        given(logRepository.findById(1L)).willReturn(Optional.of(entry));
+        given(aiAnalysisPort.streamInsightFeedback(eq(entry.getContent()), eq("Message Queue"), eq("요청 버퍼링"), any()))
+                .willReturn(Flux.just("좋은 ", "연결", "입니다."));
+        given(logRepository.save(any(LogEntry.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<String> tokens = logService.streamInsightFeedback(1L).collectList().block();
+
+        // Then
+        assertThat(tokens).containsExactly("좋은 ", "연결", "입니다.");
+        verify(logRepository).save(argThat(saved -> "좋은 연결입니다.".equals(saved.getAiFeedback())));
+    }
+
+    @Test
+    @DisplayName("일괄 분석 - 입력이 그대로인 로그는 제외하고, 바뀐 로그만 묶어 분석 후 요청 순서대로 반환")
+    void updateLogAnalysisBatch_AnalyzesOnlyChangedEntries() {
+        // Given
+        Map<String, Object> stored = Map.of("distortions", List.of(), "reframed", "기존", "alternative", "기존 대안");
+        LogEntry unchanged = analyzableEntry();
+        unchanged.setAnalysisResult(stored);
+        unchanged.setAnalysisContentHash("v1:g70:s30:same");
+        LogEntry changed = LogEntry.builder()
+                .id(2L).content("다들 나를 한심하게 볼 거야").stability(40).gravity(60)
+                .userId(1L).version(1L).createdAt(LocalDateTime.now()).build();
+        LogEntry otherUsers = LogEntry.builder()
+                .id(3L).content("남의 로그").stability(50).gravity(50)
+                .userId(2L).createdAt(LocalDateTime.now()).build();
+        Map<String, Object> analysis = Map.of("distortions", List.of(), "reframed", "새 리프레이밍", "alternative", "새 대안");
+
+        given(logRepository.findAllByIds(any())).willReturn(List.of(unchanged, changed, otherUsers));
+        given(aiAnalysisPort.analysisFingerprint(unchanged.getContent(), 70, 30)).willReturn("v1:g70:s30:same");
+        given(aiAnalysisPort.analysisFingerprint(changed.getContent(), 60, 40)).willReturn("v1:g60:s40:new");
+        given(aiAnalysisPort.analyzeCognitiveDistortionsBatch(List.of(changed))).willReturn(Map.of(2L, analysis));
+        given(logRepository.save(any(LogEntry.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<LogEntryResponse> responses = logService.updateLogAnalysisBatch(List.of(2L, 1L, 3L), 1L);
+
+        // Then
+        assertThat(responses).extracting(LogEntryResponse::getId).containsExactly(2L, 1L);
+        assertThat(responses.get(0).getAnalysisResult()).isEqualTo(analysis);
+        assertThat(responses.get(1).getAnalysisResult()).isEqualTo(stored);
+        verify(logRepository).save(argThat(saved -> saved.getId().equals(2L)
+                && "v1:g60:s40:new".equals(saved.getAnalysisContentHash())));
+        verify(aiAnalysisPort, never()).analyzeCognitiveDistortions(any(), any(), any());
+    }
+
+    private LogEntry analyzableEntry() {
+        return LogEntry.builder()
+                .id(1L)
+                .content("매번 이렇게 실패해")
+                .stability(30)
+                .gravity(70)
+                .userId(1L)
+                .version(3L)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
 }
@@ -0,0 +1,97 @@
+package com.greenkey20.innerorbit.service;
+
+import com.greenkey20.innerorbit.ai.application.service.NavPromptDeduplicator;
+import com.greenkey20.innerorbit.ai.infrastructure.config.NavPromptDedupProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NavPromptDeduplicator 단위 테스트 — 한글 질문 유사도, 제외 목록 샘플링, 재생성
+ */
+@DisplayName("NavPromptDeduplicator 테스트")
+class NavPromptDeduplicatorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private NavPromptDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        deduplicator = new NavPromptDeduplicator(new NavPromptDedupProperties(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("띄어쓰기/문장부호/어미만 다른 질문 → 유사 중복")
+    void isNearDuplicate_MinorVariation_True() {
+        List<String> history = List.of("오늘 하루 중 가장 감사했던 순간은 언제였나요?");
+
+        assertThat(deduplicator.isNearDuplicate("오늘 하루 중 가장 감사했던 순간은 언제였나요", history)).isTrue();
+        assertThat(deduplicator.isNearDuplicate("오늘하루 중 가장 감사했던 순간은 언제였어요?", history)).isTrue();
+    }
+
+    @Test
+    @DisplayName("주제가 다른 질문 → 중복 아님")
+    void isNearDuplicate_DifferentQuestion_False() {
+        List<String> history = List.of("오늘 하루 중 가장 감사했던 순간은 언제였나요?");
+
+        assertThat(deduplicator.isNearDuplicate("지금 당신을 지탱해 주는 사람은 누구인가요?", history)).isFalse();
+    }
+
+    @Test
+    @DisplayName("제외 목록 샘플 — 서로 비슷한 이력은 하나만, 최대 10개, 절약 토큰 지표 기록")
+    void exclusionSample_CompactsHistory() {
+        List<String> distinct = List.of(
+                "지금 마음의 날씨는 어떤가요?", "요즘 나를 웃게 하는 작은 일은 무엇인가요?",
+                "내일의 나에게 어떤 말을 건네고 싶나요?", "최근에 스스로 칭찬하고 싶었던 일은?",
+                "지금 당신을 지탱해 주는 사람은 누구인가요?", "이번 주에 내려놓고 싶은 걱정이 있다면?",
+                "몸이 보내는 신호 중 요즘 가장 큰 것은?", "한 달 전의 나와 지금의 나는 무엇이 다른가요?",
+                "오늘 나를 버티게 한 것은 무엇이었나요?", "잠들기 전 떠오르는 생각은 주로 무엇인가요?",
+                "가장 편안했던 장소를 떠올려 본다면?", "누군가에게 전하지 못한 말이 있나요?");
+        List<String> history = IntStream.range(0, 100)
+                .mapToObj(i -> i % 2 == 0 ? "오늘 가장 감사했던 순간은?" : distinct.get(i / 2 % distinct.size()))
+                .toList();
+
+        List<String> sample = deduplicator.exclusionSample(history);
+
+        assertThat(sample).hasSize(10);
+        assertThat(sample).containsOnlyOnce("오늘 가장 감사했던 순간은?");
+        assertThat(meterRegistry.counter("nav_prompt.exclusion.tokens.saved").count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("생성 결과가 이력과 유사 → 재생성 후 다른 질문 반환")
+    void pickDistinct_RegeneratesOnNearDuplicate() {
+        List<String> history = List.of("오늘 하루 중 가장 감사했던 순간은 언제였나요?");
+        Iterator<String> generated = List.of(
+                "오늘 하루 중 가장 감사했던 순간은 언제였나요!",
+                "내일의 나에게 어떤 말을 건네고 싶나요?").iterator();
+
+        String prompt = deduplicator.pickDistinct(generated::next, history);
+
+        assertThat(prompt).isEqualTo("내일의 나에게 어떤 말을 건네고 싶나요?");
+        assertThat(meterRegistry.counter("nav_prompt.regenerations").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("일괄 생성 후보 — 이력 및 서로 간 유사한 후보 제거")
+    void filterDistinct_RemovesNearDuplicates() {
+        List<String> history = List.of("오늘 가장 감사했던 순간은 언제였나요?");
+        List<String> candidates = List.of(
+                "오늘 가장 감사했던 순간은 언제였나요",
+                "지금 마음의 날씨는 어떤가요?",
+                "지금 마음의 날씨는 어떤가요",
+                "요즘 나를 웃게 하는 작은 일은 무엇인가요?");
+
+        List<String> distinct = deduplicator.filterDistinct(candidates, history);
+
+        assertThat(distinct).containsExactly("지금 마음의 날씨는 어떤가요?", "요즘 나를 웃게 하는 작은 일은 무엇인가요?");
+    }
+}
@@ -0,0 +1,141 @@
+package com.greenkey20.innerorbit.service;
+
+import com.greenkey20.innerorbit.ai.application.service.NavPromptPoolService;
+import com.greenkey20.innerorbit.ai.infrastructure.adapter.out.redis.NavPromptPoolRepository;
+import com.greenkey20.innerorbit.ai.infrastructure.config.NavPromptPoolProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * NavPromptPoolService 단위 테스트 — 풀 소비, 백그라운드 보충, stale-while-revalidate
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NavPromptPoolService 테스트")
+class NavPromptPoolServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String SITUATION = "BALANCED";
+
+    @Mock
+    private NavPromptPoolRepository navPromptPoolRepository;
+
+    private NavPromptPoolProperties properties;
+    private NavPromptPoolService navPromptPoolService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new NavPromptPoolProperties();
+        navPromptPoolService = new NavPromptPoolService(navPromptPoolRepository, properties);
+        lenient().when(navPromptPoolRepository.tryStartRefill(eq(USER_ID), eq(SITUATION), any(Duration.class)))
+                .thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("신선한 풀에 충분히 남아 있음 → 꺼낸 질문 반환, 생성 호출 없음")
+    void take_FreshPool_NoRefill() {
+        // Given
+        given(navPromptPoolRepository.pop(USER_ID, SITUATION)).willReturn(Optional.of("오늘 나를 버티게 한 것은?"));
+        given(navPromptPoolRepository.isFresh(USER_ID, SITUATION)).willReturn(true);
+        given(navPromptPoolRepository.size(USER_ID, SITUATION)).willReturn(3L);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        Optional<String> prompt = navPromptPoolService.take(USER_ID, SITUATION, count -> {
+            calls.incrementAndGet();
+            return List.of();
+        });
+
+        // Then
+        assertThat(prompt).contains("오늘 나를 버티게 한 것은?");
+        assertThat(calls).hasValue(0);
+        verify(navPromptPoolRepository, never()).tryStartRefill(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("풀이 비어 있음 → empty 반환(실시간 생성 대상), 백그라운드에서 풀 크기만큼 보충")
+    void take_EmptyPool_RefillsInBackground() {
+        // Given
+        given(navPromptPoolRepository.pop(USER_ID, SITUATION)).willReturn(Optional.empty());
+        given(navPromptPoolRepository.isFresh(USER_ID, SITUATION)).willReturn(false);
+        List<String> generated = List.of("q1", "q2", "q3", "q4", "q5");
+
+        // When
+        Optional<String> prompt = navPromptPoolService.take(USER_ID, SITUATION, count -> generated.subList(0, count));
+
+        // Then
+        assertThat(prompt).isEmpty();
+        verify(navPromptPoolRepository, timeout(1_000)).append(USER_ID, SITUATION, generated, 5, properties.getMaxAge());
+        verify(navPromptPoolRepository, timeout(1_000)).markFresh(USER_ID, SITUATION, properties.getFreshFor());
+        verify(navPromptPoolRepository, timeout(1_000)).finishRefill(USER_ID, SITUATION);
+    }
+
+    @Test
+    @DisplayName("stale 풀 → 꺼낸 질문은 그대로 제공하고 남은 질문을 새 질문으로 교체")
+    void take_StalePool_ServesAndReplaces() {
+        // Given
+        given(navPromptPoolRepository.pop(USER_ID, SITUATION)).willReturn(Optional.of("어제 만든 질문"));
+        given(navPromptPoolRepository.isFresh(USER_ID, SITUATION)).willReturn(false);
+        List<String> generated = List.of("q1", "q2", "q3", "q4", "q5");
+
+        // When
+        Optional<String> prompt = navPromptPoolService.take(USER_ID, SITUATION, count -> generated);
+
+        // Then
+        assertThat(prompt).contains("어제 만든 질문");
+        verify(navPromptPoolRepository, timeout(1_000)).clear(USER_ID, SITUATION);
+        verify(navPromptPoolRepository, timeout(1_000)).append(USER_ID, SITUATION, generated, 5, properties.getMaxAge());
+    }
+
+    @Test
+    @DisplayName("다른 요청이 이미 보충 중 → 생성 호출 없음")
+    void take_RefillInProgress_SkipsProducer() {
+        // Given
+        given(navPromptPoolRepository.pop(USER_ID, SITUATION)).willReturn(Optional.empty());
+        given(navPromptPoolRepository.tryStartRefill(eq(USER_ID), eq(SITUATION), any(Duration.class))).willReturn(false);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        Optional<String> prompt = navPromptPoolService.take(USER_ID, SITUATION, count -> {
+            calls.incrementAndGet();
+            return List.of("q1");
+        });
+
+        // Then
+        assertThat(prompt).isEmpty();
+        assertThat(calls).hasValue(0);
+        verify(navPromptPoolRepository, never()).append(any(), any(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("비활성화 → Redis 조회 없이 empty")
+    void take_Disabled_ReturnsEmpty() {
+        // Given
+        properties.setEnabled(false);
+
+        // When
+        Optional<String> prompt = navPromptPoolService.take(USER_ID, SITUATION, count -> List.of("q1"));
+
+        // Then
+        assertThat(prompt).isEmpty();
+        verify(navPromptPoolRepository, never()).pop(any(), any());
+    }
+}
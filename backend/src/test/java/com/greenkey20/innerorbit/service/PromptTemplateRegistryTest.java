@@ -0,0 +1,89 @@
+package com.greenkey20.innerorbit.service;
+
+import com.greenkey20.innerorbit.common.ai.PromptTemplateRegistry;
+import com.greenkey20.innerorbit.common.config.PromptTemplateProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PromptTemplateRegistry 단위 테스트 — 고정 접두부 유지, 후미부 치환, 핫 리로드
+ */
+@DisplayName("PromptTemplateRegistry 테스트")
+class PromptTemplateRegistryTest {
+
+    @TempDir
+    Path root;
+
+    private PromptTemplateRegistry registry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.createDirectories(root.resolve("v9"));
+        write("analysis", "You are a CBT therapist.\nRules...\n--- dynamic ---\nGravity {{gravity}}%, Stability {{stability}}%\n");
+
+        PromptTemplateProperties properties = new PromptTemplateProperties();
+        properties.setLocation(root.toUri().toString());
+        properties.setVersion("v9");
+        registry = new PromptTemplateRegistry(properties);
+        registry.reload();
+    }
+
+    @Test
+    @DisplayName("다른 값으로 렌더링해도 고정 접두부는 동일, 값은 끝부분에만")
+    void render_StaticPrefixIdenticalAcrossValues() {
+        String first = registry.render("analysis", Map.of("gravity", 70, "stability", 30));
+        String second = registry.render("analysis", Map.of("gravity", 10, "stability", 90));
+
+        String prefix = registry.get("analysis").staticPrefix();
+        assertThat(first).startsWith(prefix).endsWith("Gravity 70%, Stability 30%\n");
+        assertThat(second).startsWith(prefix).endsWith("Gravity 10%, Stability 90%\n");
+        assertThat(prefix).isEqualTo("You are a CBT therapist.\nRules...\n\n");
+    }
+
+    @Test
+    @DisplayName("값이 빠진 자리표시자 → 예외")
+    void render_MissingVariable_Throws() {
+        assertThatThrownBy(() -> registry.render("analysis", Map.of("gravity", 70)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("stability");
+    }
+
+    @Test
+    @DisplayName("파일 수정 후 reload → 재기동 없이 새 템플릿 사용")
+    void reload_ChangedFile_SwapsTemplate() throws IOException {
+        String before = registry.get("analysis").revision();
+        write("analysis", "You are a kinder CBT therapist.\n--- dynamic ---\nG{{gravity}} S{{stability}}\n");
+
+        registry.reload();
+
+        assertThat(registry.render("analysis", Map.of("gravity", 1, "stability", 2)))
+                .isEqualTo("You are a kinder CBT therapist.\n\nG1 S2\n");
+        assertThat(registry.get("analysis").revision())
+                .startsWith("v9-")
+                .isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("고정 접두부에 자리표시자가 있는 잘못된 템플릿 → reload 실패, 기존 템플릿 유지")
+    void reload_InvalidTemplate_KeepsPrevious() throws IOException {
+        write("analysis", "Gravity {{gravity}}\n--- dynamic ---\nS{{stability}}\n");
+
+        assertThatThrownBy(() -> registry.reload()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(registry.render("analysis", Map.of("gravity", 70, "stability", 30)))
+                .startsWith("You are a CBT therapist.");
+    }
+
+    private void write(String name, String content) throws IOException {
+        Files.writeString(root.resolve("v9").resolve(name + ".st"), content);
+    }
+}
@@ -0,0 +1,209 @@
+package com.greenkey20.innerorbit.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.greenkey20.innerorbit.common.config.SingleFlightProperties;
+import com.greenkey20.innerorbit.common.lock.DistributedLock;
+import com.greenkey20.innerorbit.common.singleflight.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * SingleFlight 단위 테스트 — 인스턴스 안 합치기, 예외 공유, 다른 인스턴스 결과 대기
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SingleFlight 테스트")
+class SingleFlightTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private DistributedLock distributedLock;
+
+    private SingleFlightProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SingleFlightProperties();
+        properties.setPollInterval(Duration.ofMillis(10));
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(redisTemplate, distributedLock, new ObjectMapper(), properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 키 동시 호출 → 한 번만 실행하고 모두 같은 결과")
+    void execute_ConcurrentSameKey_LoaderOnce() throws Exception {
+        // Given
+        properties.setShared(false);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When
+        Future<String> leader = executor.submit(() -> singleFlight.execute("analysis", "fp", String.class, () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "result";
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        List<Future<String>> followers = List.of(
+                executor.submit(() -> singleFlight.execute("analysis", "fp", String.class, () -> {
+                    calls.incrementAndGet();
+                    return "other";
+                })),
+                executor.submit(() -> singleFlight.execute("analysis", "fp", String.class, () -> {
+                    calls.incrementAndGet();
+                    return "other";
+                })));
+        waitUntilCoalesced(2);
+        release.countDown();
+
+        // Then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        }
+        assertThat(calls).hasValue(1);
+        assertThat(meterRegistry.get("ai.singleflight.coalesced").tag("scope", "local").counter().count())
+                .isEqualTo(2.0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("leader 실패 → 기다리던 호출도 같은 예외, 다음 호출은 새로 실행")
+    void execute_LeaderFails_FollowersGetSameException() throws Exception {
+        // Given
+        properties.setShared(false);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<String> leader = executor.submit(() -> singleFlight.execute("keywords", "fp", String.class, () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("boom");
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        Future<String> follower = executor.submit(() -> singleFlight.execute("keywords", "fp", String.class, () -> "other"));
+        waitUntilCoalesced(1);
+
+        // When
+        release.countDown();
+
+        // Then
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.execute("keywords", "fp", String.class, () -> "fresh")).isEqualTo("fresh");
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 실행 중 → 직접 호출하지 않고 Redis에 올라온 결과 사용")
+    void execute_OtherInstanceLeader_UsesSharedResult() {
+        // Given
+        given(distributedLock.tryLock(eq("ai:sf:lock:keywords:fp"), any(Duration.class))).willReturn(Optional.empty());
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("ai:sf:result:keywords:fp")).willReturn(null, "[\"Cache (캐시)\"]");
+        given(redisTemplate.hasKey("ai:sf:lock:keywords:fp")).willReturn(true);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        List<String> result = singleFlight.execute("keywords", "fp", new TypeReference<>() {},
+                () -> {
+                    calls.incrementAndGet();
+                    return List.of("other");
+                });
+
+        // Then
+        assertThat(result).containsExactly("Cache (캐시)");
+        assertThat(calls).hasValue(0);
+        assertThat(meterRegistry.get("ai.singleflight.coalesced").tag("scope", "shared").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 결과 없이 락 해제(실패) → 직접 실행")
+    void execute_OtherInstanceFailed_ExecutesItself() {
+        // Given
+        given(distributedLock.tryLock(anyString(), any(Duration.class))).willReturn(Optional.empty());
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("ai:sf:result:analysis:fp")).willReturn(null);
+        given(redisTemplate.hasKey("ai:sf:lock:analysis:fp")).willReturn(false);
+
+        // When
+        String result = singleFlight.execute("analysis", "fp", String.class, () -> "mine");
+
+        // Then
+        assertThat(result).isEqualTo("mine");
+    }
+
+    @Test
+    @DisplayName("락 획득(leader) → 실행 후 결과를 Redis에 올리고 락 해제")
+    void execute_Leader_PublishesResult() {
+        // Given
+        DistributedLock.LockHandle handle = mock(DistributedLock.LockHandle.class);
+        given(distributedLock.tryLock(anyString(), any(Duration.class))).willReturn(Optional.of(handle));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+        // When
+        String result = singleFlight.execute("analysis", "fp", String.class, () -> "mine");
+
+        // Then
+        assertThat(result).isEqualTo("mine");
+        verify(valueOperations).set(eq("ai:sf:result:analysis:fp"), eq("\"mine\""), any(Duration.class));
+        verify(handle).close();
+    }
+
+    private void waitUntilCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            Counter counter = meterRegistry.find("ai.singleflight.coalesced").counter();
+            if (counter != null && counter.count() >= expected) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,14 +1,21 @@
 package com.greenkey20.innerorbit.weeklyreport;
 
+import com.greenkey20.innerorbit.common.ai.AiPriority;
 import com.greenkey20.innerorbit.log.domain.model.LogEntry;
 import com.greenkey20.innerorbit.log.domain.model.LogType;
+import com.greenkey20.innerorbit.weeklyreport.application.port.out.DailyLogSummaryRepository;
 import com.greenkey20.innerorbit.weeklyreport.application.port.out.LogQueryPort;
 import com.greenkey20.innerorbit.weeklyreport.application.port.out.WeeklyReportAiPort;
 import com.greenkey20.innerorbit.weeklyreport.application.port.out.WeeklyReportRepository;
+import com.greenkey20.innerorbit.weeklyreport.application.service.DailySummaryReducer;
+import com.greenkey20.innerorbit.weeklyreport.application.service.GenerationThrottle;
+import com.greenkey20.innerorbit.weeklyreport.application.service.PendingWeeklyReport;
 import com.greenkey20.innerorbit.weeklyreport.application.service.WeeklyReportGenerator;
+import com.greenkey20.innerorbit.weeklyreport.domain.model.DailyLogSummary;
 import com.greenkey20.innerorbit.weeklyreport.domain.model.WeeklyReport;
 import com.greenkey20.innerorbit.weeklyreport.domain.model.WeeklyReportContent;
 import com.greenkey20.innerorbit.weeklyreport.domain.model.WeeklyReportStatus;
+import com.greenkey20.innerorbit.weeklyreport.infrastructure.config.WeeklyReportGenerationProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,15 +24,21 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.*;
 
 /**
@@ -45,6 +58,12 @@ class WeeklyReportGeneratorTest {
     @Mock
     private WeeklyReportAiPort weeklyReportAiPort;
 
+    @Mock
+    private DailySummaryReducer dailySummaryReducer;  // 기본 stub 없음 → isHierarchical=false (일반 모드)
+
+    @Mock
+    private DailyLogSummaryRepository dailyLogSummaryRepository;
+
     @InjectMocks
     private WeeklyReportGenerator weeklyReportGenerator;
 
@@ -117,7 +136,7 @@ class WeeklyReportGeneratorTest {
 
         given(logQueryPort.findByUserIdAndCreatedAtBetween(eq(USER_ID), any(), any()))
                 .willReturn(logs);
-        given(weeklyReportAiPort.generateWeeklyReport(any(String.class)))
+        given(weeklyReportAiPort.generateWeeklyReport(any(String.class), eq(AiPriority.INTERACTIVE)))
                 .willReturn(aiContent);
 
         WeeklyReport result = weeklyReportGenerator.generateReportForUser(USER_ID, WEEK_START, WEEK_END);
@@ -130,7 +149,7 @@ class WeeklyReportGeneratorTest {
         assertThat(result.getReport().getResilience()).isEqualTo("회복력 평가");
         assertThat(result.getReport().getRecommendations()).isEqualTo("다음 주 제안");
 
-        verify(weeklyReportAiPort, times(1)).generateWeeklyReport(any());
+        verify(weeklyReportAiPort, times(1)).generateWeeklyReport(any(), any());
     }
 
     @Test
@@ -143,14 +162,14 @@ class WeeklyReportGeneratorTest {
         );
         given(logQueryPort.findByUserIdAndCreatedAtBetween(eq(USER_ID), any(), any()))
                 .willReturn(logs);
-        given(weeklyReportAiPort.generateWeeklyReport(any()))
+        given(weeklyReportAiPort.generateWeeklyReport(any(), any()))
                 .willReturn(new WeeklyReportContent("흐름", "패턴", "회복력", "제안"));
 
         WeeklyReport result = weeklyReportGenerator.generateReportForUser(USER_ID, WEEK_START, WEEK_END);
 
         assertThat(result.getLogCount()).isEqualTo(7);
         assertThat(result.getStatus()).isEqualTo(WeeklyReportStatus.GENERATED);
-        verify(weeklyReportAiPort, times(1)).generateWeeklyReport(any());
+        verify(weeklyReportAiPort, times(1)).generateWeeklyReport(any(), any());
     }
 
     // -----------------------------------------------------------------------
@@ -187,7 +206,7 @@ class WeeklyReportGeneratorTest {
                 .willReturn(logs);
 
         ArgumentCaptor<String> formattedCaptor = ArgumentCaptor.forClass(String.class);
-        given(weeklyReportAiPort.generateWeeklyReport(formattedCaptor.capture()))
+        given(weeklyReportAiPort.generateWeeklyReport(formattedCaptor.capture(), any()))
                 .willReturn(new WeeklyReportContent("흐름", "패턴", "회복력", "제안"));
 
         weeklyReportGenerator.generateReportForUser(USER_ID, WEEK_START, WEEK_END);
@@ -208,7 +227,7 @@ class WeeklyReportGeneratorTest {
                 .willReturn(List.of(log, log2));
 
         ArgumentCaptor<String> formattedCaptor = ArgumentCaptor.forClass(String.class);
-        given(weeklyReportAiPort.generateWeeklyReport(formattedCaptor.capture()))
+        given(weeklyReportAiPort.generateWeeklyReport(formattedCaptor.capture(), any()))
                 .willReturn(new WeeklyReportContent("흐름", "패턴", "회복력", "제안"));
 
         weeklyReportGenerator.generateReportForUser(USER_ID, WEEK_START, WEEK_END);
@@ -230,7 +249,7 @@ class WeeklyReportGeneratorTest {
                 .willReturn(List.of(log, log2));
 
         ArgumentCaptor<String> formattedCaptor = ArgumentCaptor.forClass(String.class);
-        given(weeklyReportAiPort.generateWeeklyReport(formattedCaptor.capture()))
+        given(weeklyReportAiPort.generateWeeklyReport(formattedCaptor.capture(), any()))
                 .willReturn(new WeeklyReportContent("흐름", "패턴", "회복력", "제안"));
 
         weeklyReportGenerator.generateReportForUser(USER_ID, WEEK_START, WEEK_END);
@@ -258,10 +277,162 @@ class WeeklyReportGeneratorTest {
         assertThat(saved.getWeekEnd()).isEqualTo(WEEK_END);
     }
 
+    // -----------------------------------------------------------------------
+    // 동시 저장 (uq_user_week)
+    // -----------------------------------------------------------------------
+
+    @Test
+    @DisplayName("LLM 호출 중 다른 요청이 먼저 저장 → 유니크 제약 위반 시 기존 리포트 반환")
+    void generateReportForUser_ConcurrentSave_ReturnsExisting() {
+        WeeklyReport existing = WeeklyReport.builder()
+                .id(10L).userId(USER_ID).weekStart(WEEK_START).weekEnd(WEEK_END)
+                .status(WeeklyReportStatus.GENERATED).logCount(2)
+                .build();
+        given(logQueryPort.findByUserIdAndCreatedAtBetween(any(), any(), any()))
+                .willReturn(List.of(dailyLog("첫째 날", 70, 40), dailyLog("둘째 날", 60, 50)));
+        given(weeklyReportAiPort.generateWeeklyReport(any(), any()))
+                .willReturn(new WeeklyReportContent("흐름", "패턴", "회복력", "제안"));
+        given(weeklyReportRepository.save(any(WeeklyReport.class)))
+                .willThrow(new DataIntegrityViolationException("uq_user_week"));
+        given(weeklyReportRepository.findByUserIdAndWeekStart(USER_ID, WEEK_START))
+                .willReturn(Optional.of(existing));
+
+        WeeklyReport result = weeklyReportGenerator.generateReportForUser(USER_ID, WEEK_START, WEEK_END);
+
+        assertThat(result.getId()).isEqualTo(10L);
+    }
+
+    // -----------------------------------------------------------------------
+    // 일괄 생성 (prepareBatch → completeReport)
+    // -----------------------------------------------------------------------
+
+    @Test
+    @DisplayName("prepareBatch — 집계 쿼리로 NA/INSUFFICIENT는 본문 조회 없이 일괄 저장, 2건 이상만 스트리밍 후 AI 대상 반환")
+    void prepareBatch_SplitsByLogCount_StreamsOnlyAiTargets() {
+        List<Long> userIds = List.of(1L, 2L, 3L);
+        given(logQueryPort.countByUserIdsAndCreatedAtBetween(eq(userIds), any(), any()))
+                .willReturn(Map.of(2L, 1, 3L, 2));  // 1번: 0건 (결과 없음)
+        willAnswer(invocation -> {
+            BiConsumer<Long, List<LogEntry>> consumer = invocation.getArgument(3);
+            consumer.accept(3L, List.of(dailyLog("첫째 날", 70, 40), dailyLog("둘째 날", 60, 50)));
+            return null;
+        }).given(logQueryPort).streamGroupedByUserIdsAndCreatedAtBetween(eq(List.of(3L)), any(), any(), any());
+        given(weeklyReportAiPort.generateWeeklyReport(any(), eq(AiPriority.BATCH)))
+                .willReturn(new WeeklyReportContent("흐름", "패턴", "회복력", "제안"));
+
+        List<PendingWeeklyReport> pending = weeklyReportGenerator.prepareBatch(userIds, WEEK_START, WEEK_END);
+
+        ArgumentCaptor<List<WeeklyReport>> savedCaptor = ArgumentCaptor.forClass(List.class);
+        verify(weeklyReportRepository).saveAll(savedCaptor.capture());
+        assertThat(savedCaptor.getValue())
+                .extracting(WeeklyReport::getUserId, WeeklyReport::getStatus, WeeklyReport::getLogCount)
+                .containsExactly(tuple(1L, WeeklyReportStatus.NA, 0), tuple(2L, WeeklyReportStatus.INSUFFICIENT, 1));
+        verify(logQueryPort, never()).findByUserIdAndCreatedAtBetween(any(), any(), any());
+        verifyNoInteractions(weeklyReportAiPort);
+
+        assertThat(pending).hasSize(1);
+        assertThat(pending.get(0).userId()).isEqualTo(3L);
+        assertThat(pending.get(0).logCount()).isEqualTo(2);
+        assertThat(pending.get(0).formattedLogs()).contains("첫째 날", "둘째 날");
+
+        // 2단계: LLM 호출 후 GENERATED로 저장
+        WeeklyReport result = weeklyReportGenerator.completeReport(
+                pending.get(0), WEEK_START, WEEK_END, GenerationThrottle.UNBOUNDED);
+
+        assertThat(result.getStatus()).isEqualTo(WeeklyReportStatus.GENERATED);
+        assertThat(result.getLogCount()).isEqualTo(2);
+        assertThat(result.getReport().getWeeklyFlow()).isEqualTo("흐름");
+    }
+
+    // -----------------------------------------------------------------------
+    // 계층형 (일별 요약 → 주간 리포트)
+    // -----------------------------------------------------------------------
+
+    @Test
+    @DisplayName("임계치 초과 → 저장된 일별 요약은 재사용, 없는 날만 요약 후 요약들로 주간 리포트 생성")
+    void generateReportForUser_OverThreshold_ReducesDailySummaries() {
+        WeeklyReportGenerationProperties properties = new WeeklyReportGenerationProperties();
+        properties.setHierarchicalThreshold(2);
+        WeeklyReportGenerator hierarchicalGenerator = new WeeklyReportGenerator(logQueryPort, weeklyReportRepository,
+                weeklyReportAiPort, new DailySummaryReducer(dailyLogSummaryRepository, weeklyReportAiPort, properties));
+
+        LocalDate secondDay = WEEK_START.plusDays(1);
+        List<LogEntry> monday = List.of(dailyLog("월요일 오전", 70, 30), dailyLog("월요일 오후", 60, 40));
+        given(logQueryPort.findByUserIdAndCreatedAtBetween(eq(USER_ID), any(), any()))
+                .willReturn(List.of(monday.get(0), monday.get(1), dailyLogOn(secondDay, "화요일 기록")));
+        given(dailyLogSummaryRepository.findByUserIdsAndSummaryDateBetween(List.of(USER_ID), WEEK_START, WEEK_END))
+                .willReturn(List.of(DailyLogSummary.builder()
+                        .userId(USER_ID).summaryDate(WEEK_START).logCount(2)
+                        .contentHash(storedContentHash(monday)).summary("월요일 저장된 요약").build()));
+        given(weeklyReportAiPort.summarizeDay(any(), any())).willReturn("화요일 새 요약");
+        given(weeklyReportAiPort.generateWeeklyReport(any(), any()))
+                .willReturn(new WeeklyReportContent("흐름", "패턴", "회복력", "제안"));
+
+        WeeklyReport result = hierarchicalGenerator.generateReportForUser(USER_ID, WEEK_START, WEEK_END);
+
+        assertThat(result.getStatus()).isEqualTo(WeeklyReportStatus.GENERATED);
+        assertThat(result.getLogCount()).isEqualTo(3);
+
+        ArgumentCaptor<String> dayCaptor = ArgumentCaptor.forClass(String.class);
+        verify(weeklyReportAiPort, times(1)).summarizeDay(dayCaptor.capture(), any());
+        assertThat(dayCaptor.getValue()).contains("화요일 기록").doesNotContain("월요일");
+        verify(dailyLogSummaryRepository).save(argThat(summary ->
+                summary.getSummaryDate().equals(secondDay) && summary.getLogCount() == 1
+                        && summary.getContentHash() != null));
+
+        ArgumentCaptor<String> reportCaptor = ArgumentCaptor.forClass(String.class);
+        verify(weeklyReportAiPort).generateWeeklyReport(reportCaptor.capture(), any());
+        assertThat(reportCaptor.getValue())
+                .contains("월요일 저장된 요약", "화요일 새 요약")
+                .doesNotContain("월요일 오전");
+    }
+
+    @Test
+    @DisplayName("임계치 초과 — 로그 수는 같아도 그날 로그가 수정됐으면 저장된 요약을 버리고 재요약")
+    void generateReportForUser_EditedDay_Resummarizes() {
+        WeeklyReportGenerationProperties properties = new WeeklyReportGenerationProperties();
+        properties.setHierarchicalThreshold(1);
+        WeeklyReportGenerator hierarchicalGenerator = new WeeklyReportGenerator(logQueryPort, weeklyReportRepository,
+                weeklyReportAiPort, new DailySummaryReducer(dailyLogSummaryRepository, weeklyReportAiPort, properties));
+
+        List<LogEntry> summarized = List.of(dailyLog("월요일 오전", 70, 30), dailyLog("월요일 오후", 60, 40));
+        List<LogEntry> edited = List.of(dailyLog("월요일 오전", 70, 30), dailyLog("월요일 오후 (수정)", 20, 80));
+        given(logQueryPort.findByUserIdAndCreatedAtBetween(eq(USER_ID), any(), any())).willReturn(edited);
+        given(dailyLogSummaryRepository.findByUserIdsAndSummaryDateBetween(List.of(USER_ID), WEEK_START, WEEK_END))
+                .willReturn(List.of(DailyLogSummary.builder()
+                        .userId(USER_ID).summaryDate(WEEK_START).logCount(2)
+                        .contentHash(storedContentHash(summarized)).summary("수정 전 요약").build()));
+        given(weeklyReportAiPort.summarizeDay(any(), any())).willReturn("수정 후 요약");
+        given(weeklyReportAiPort.generateWeeklyReport(any(), any()))
+                .willReturn(new WeeklyReportContent("흐름", "패턴", "회복력", "제안"));
+
+        hierarchicalGenerator.generateReportForUser(USER_ID, WEEK_START, WEEK_END);
+
+        ArgumentCaptor<String> dayCaptor = ArgumentCaptor.forClass(String.class);
+        verify(weeklyReportAiPort).summarizeDay(dayCaptor.capture(), any());
+        assertThat(dayCaptor.getValue()).contains("월요일 오후 (수정)");
+        verify(dailyLogSummaryRepository).save(argThat(summary ->
+                summary.getContentHash().equals(storedContentHash(edited))));
+
+        ArgumentCaptor<String> reportCaptor = ArgumentCaptor.forClass(String.class);
+        verify(weeklyReportAiPort).generateWeeklyReport(reportCaptor.capture(), any());
+        assertThat(reportCaptor.getValue()).contains("수정 후 요약").doesNotContain("수정 전 요약");
+    }
+
     // -----------------------------------------------------------------------
     // 헬퍼 메서드
     // -----------------------------------------------------------------------
 
+    /**
+     * 하루 로그에 대해 DailySummaryReducer가 content_hash로 저장하는 값 — 운영 경로(splitByDay) 그대로 계산
+     */
+    private String storedContentHash(List<LogEntry> dayLogs) {
+        return new DailySummaryReducer(dailyLogSummaryRepository, weeklyReportAiPort, new WeeklyReportGenerationProperties())
+                .splitByDay(dayLogs, Map.of())
+                .getFirst()
+                .contentHash();
+    }
+
     private LogEntry dailyLog(String content, int stability, int gravity) {
         return LogEntry.builder()
                 .id(System.nanoTime())
@@ -274,6 +445,18 @@ class WeeklyReportGeneratorTest {
                 .build();
     }
 
+    private LogEntry dailyLogOn(LocalDate date, String content) {
+        return LogEntry.builder()
+                .id(System.nanoTime())
+                .userId(USER_ID)
+                .logType(LogType.DAILY)
+                .content(content)
+                .stability(50)
+                .gravity(50)
+                .createdAt(date.atTime(21, 0))
+                .build();
+    }
+
     private LogEntry sensoryLog(String location, String visual, String auditory, String tactile) {
         return LogEntry.builder()
                 .id(System.nanoTime())
@@ -0,0 +1,114 @@
+package com.greenkey20.innerorbit.weeklyreport;
+
+import com.greenkey20.innerorbit.common.lock.DistributedLock;
+import com.greenkey20.innerorbit.weeklyreport.application.service.WeeklyReportService;
+import com.greenkey20.innerorbit.weeklyreport.domain.model.UserShard;
+import com.greenkey20.innerorbit.weeklyreport.infrastructure.adapter.in.scheduler.WeeklyReportScheduler;
+import com.greenkey20.innerorbit.weeklyreport.infrastructure.config.WeeklyReportGenerationProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * WeeklyReportScheduler 단위 테스트
+ * 핵심: (주, 샤드) 분산 락을 잡은 샤드만 실행
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WeeklyReportScheduler 테스트")
+class WeeklyReportSchedulerTest {
+
+    @Mock
+    private WeeklyReportService weeklyReportService;
+
+    @Mock
+    private DistributedLock distributedLock;
+
+    @Spy
+    private WeeklyReportGenerationProperties generationProperties = new WeeklyReportGenerationProperties();
+
+    @InjectMocks
+    private WeeklyReportScheduler weeklyReportScheduler;
+
+    @Test
+    @DisplayName("리더 모드(shard-count=1) — 락 획득 시 전체 사용자 샤드 실행 후 락 해제")
+    void generateWeeklyReports_LeaderMode_RunsAllUsersUnderLock() {
+        DistributedLock.LockHandle handle = mock(DistributedLock.LockHandle.class);
+        given(distributedLock.tryLock(endsWith(":0/1"), any())).willReturn(Optional.of(handle));
+
+        weeklyReportScheduler.generateWeeklyReports();
+
+        verify(weeklyReportService).generateForShard(any(), any(), eq(UserShard.ALL));
+        verify(handle).close();
+    }
+
+    @Test
+    @DisplayName("리더 모드 — 다른 노드가 락 보유 중이면 생성하지 않음")
+    void generateWeeklyReports_LockHeldElsewhere_Skips() {
+        given(distributedLock.tryLock(any(), any())).willReturn(Optional.empty());
+
+        weeklyReportScheduler.generateWeeklyReports();
+
+        verifyNoInteractions(weeklyReportService);
+    }
+
+    @Test
+    @DisplayName("샤드 모드 — 잡은 샤드만 처리하고, 한 샤드 실패가 다음 샤드에 영향 없음")
+    void generateWeeklyReports_ShardMode_RunsOnlyAcquiredShards() {
+        generationProperties.setShardCount(3);
+        DistributedLock.LockHandle handle1 = mock(DistributedLock.LockHandle.class);
+        DistributedLock.LockHandle handle2 = mock(DistributedLock.LockHandle.class);
+        given(distributedLock.tryLock(endsWith(":0/3"), any())).willReturn(Optional.empty());
+        given(distributedLock.tryLock(endsWith(":1/3"), any())).willReturn(Optional.of(handle1));
+        given(distributedLock.tryLock(endsWith(":2/3"), any())).willReturn(Optional.of(handle2));
+        // 샤드별로 다른 인자로 호출되므로 lenient (strict stubs의 인자 불일치 검사 회피)
+        lenient().doThrow(new RuntimeException("DB 장애"))
+                .when(weeklyReportService).generateForShard(any(), any(), eq(new UserShard(1, 3)));
+
+        weeklyReportScheduler.generateWeeklyReports();
+
+        verify(weeklyReportService, never()).generateForShard(any(), any(), eq(new UserShard(0, 3)));
+        verify(weeklyReportService).generateForShard(any(), any(), eq(new UserShard(2, 3)));
+        verify(handle1).close();
+        verify(handle2).close();
+    }
+
+    @Test
+    @DisplayName("락 저장소 장애 — 중복 실행 대신 건너뜀")
+    void generateWeeklyReports_LockStoreDown_Skips() {
+        given(distributedLock.tryLock(any(), any())).willThrow(new IllegalStateException("Redis 연결 실패"));
+
+        weeklyReportScheduler.generateWeeklyReports();
+
+        verifyNoInteractions(weeklyReportService);
+    }
+
+    @Test
+    @DisplayName("생성 트리거가 락 저장소 장애로 건너뛴 샤드 → 재개 스케줄이 같은 락을 잡고 해당 주를 진행")
+    void resumeInterruptedWeeklyReports_AfterSkippedTrigger_RunsShard() {
+        DistributedLock.LockHandle handle = mock(DistributedLock.LockHandle.class);
+        given(distributedLock.tryLock(endsWith(":0/1"), any()))
+                .willThrow(new IllegalStateException("Redis 연결 실패"))
+                .willReturn(Optional.of(handle));
+
+        weeklyReportScheduler.generateWeeklyReports();
+        weeklyReportScheduler.resumeInterruptedWeeklyReports();
+
+        verify(weeklyReportService, never()).generateForShard(any(), any(), any());
+        verify(weeklyReportService).resumeIncompleteRun(any(), any(), eq(UserShard.ALL));
+        verify(distributedLock, times(2)).tryLock(startsWith("weekly-report:lock:"), any());
+        verify(handle).close();
+    }
+}
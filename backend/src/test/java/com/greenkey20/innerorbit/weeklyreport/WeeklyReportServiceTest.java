@@ -1,30 +1,44 @@
 package com.greenkey20.innerorbit.weeklyreport;
 
 import com.greenkey20.innerorbit.auth.application.port.out.UserRepository;
-import com.greenkey20.innerorbit.auth.domain.model.User;
 import com.greenkey20.innerorbit.common.exception.BusinessException;
+import com.greenkey20.innerorbit.common.exception.ErrorCode;
+import com.greenkey20.innerorbit.common.lock.DistributedLock;
 import com.greenkey20.innerorbit.weeklyreport.application.port.out.WeeklyReportRepository;
+import com.greenkey20.innerorbit.weeklyreport.application.port.out.WeeklyReportRunRepository;
+import com.greenkey20.innerorbit.weeklyreport.application.service.GenerationThrottle;
+import com.greenkey20.innerorbit.weeklyreport.application.service.PendingWeeklyReport;
 import com.greenkey20.innerorbit.weeklyreport.application.service.WeeklyReportGenerator;
 import com.greenkey20.innerorbit.weeklyreport.application.service.WeeklyReportService;
+import com.greenkey20.innerorbit.weeklyreport.domain.model.UserShard;
 import com.greenkey20.innerorbit.weeklyreport.domain.model.WeeklyReport;
+import com.greenkey20.innerorbit.weeklyreport.domain.model.WeeklyReportRun;
+import com.greenkey20.innerorbit.weeklyreport.domain.model.WeeklyReportRunStatus;
 import com.greenkey20.innerorbit.weeklyreport.domain.model.WeeklyReportStatus;
+import com.greenkey20.innerorbit.weeklyreport.infrastructure.config.WeeklyReportGenerationProperties;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.temporal.TemporalAdjusters;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -45,10 +59,24 @@ class WeeklyReportServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private WeeklyReportRunRepository weeklyReportRunRepository;
+
+    @Spy
+    private WeeklyReportGenerationProperties generationProperties = new WeeklyReportGenerationProperties();
+
+    @Mock
+    private DistributedLock distributedLock;
+
+    @Mock
+    private DistributedLock.LockHandle lockHandle;
+
     @InjectMocks
     private WeeklyReportService weeklyReportService;
 
     private static final Long USER_ID = 1L;
+    private static final LocalDate WEEK_START = LocalDate.of(2026, 3, 8);   // 일요일
+    private static final LocalDate WEEK_END   = LocalDate.of(2026, 3, 14);  // 토요일
 
     // -----------------------------------------------------------------------
     // getMyReports
@@ -129,14 +157,14 @@ class WeeklyReportServiceTest {
         LocalDate weekStart = weekEnd.minusDays(6);
         WeeklyReport existing = report(5L, WeeklyReportStatus.GENERATED);
 
-        given(weeklyReportRepository.existsByUserIdAndWeekStart(USER_ID, weekStart)).willReturn(true);
         given(weeklyReportRepository.findByUserIdAndWeekStart(USER_ID, weekStart))
                 .willReturn(Optional.of(existing));
 
         WeeklyReport result = weeklyReportService.generateForCurrentWeek(USER_ID);
 
         assertThat(result.getId()).isEqualTo(5L);
-        verifyNoInteractions(weeklyReportGenerator);
+        verify(weeklyReportRepository, times(1)).findByUserIdAndWeekStart(USER_ID, weekStart);
+        verifyNoInteractions(weeklyReportGenerator, distributedLock);
     }
 
     @Test
@@ -146,14 +174,86 @@ class WeeklyReportServiceTest {
         LocalDate weekStart = weekEnd.minusDays(6);
         WeeklyReport generated = report(6L, WeeklyReportStatus.GENERATED);
 
-        given(weeklyReportRepository.existsByUserIdAndWeekStart(USER_ID, weekStart)).willReturn(false);
+        given(weeklyReportRepository.findByUserIdAndWeekStart(USER_ID, weekStart)).willReturn(Optional.empty());
         given(weeklyReportGenerator.generateReportForUser(eq(USER_ID), eq(weekStart), eq(weekEnd)))
                 .willReturn(generated);
+        given(distributedLock.tryLock("weekly-report:generate:" + USER_ID + ":" + weekStart,
+                generationProperties.getManualLockTtl())).willReturn(Optional.of(lockHandle));
 
         WeeklyReport result = weeklyReportService.generateForCurrentWeek(USER_ID);
 
         assertThat(result.getId()).isEqualTo(6L);
         verify(weeklyReportGenerator).generateReportForUser(USER_ID, weekStart, weekEnd);
+        verify(lockHandle).close();
+    }
+
+    @Test
+    @DisplayName("generateForCurrentWeek — 같은 주 생성이 진행 중이면 generator 호출 없이 먼저 요청이 만든 리포트 반환")
+    void generateForCurrentWeek_InFlight_ReturnsWinnersReport() {
+        LocalDate weekEnd   = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.SATURDAY));
+        LocalDate weekStart = weekEnd.minusDays(6);
+        WeeklyReport winners = report(7L, WeeklyReportStatus.GENERATED);
+
+        generationProperties.setManualPollInterval(Duration.ofMillis(10));
+        given(weeklyReportRepository.findByUserIdAndWeekStart(USER_ID, weekStart))
+                .willReturn(Optional.empty(), Optional.empty(), Optional.of(winners));
+        given(distributedLock.tryLock(anyString(), any(Duration.class))).willReturn(Optional.empty());
+
+        WeeklyReport result = weeklyReportService.generateForCurrentWeek(USER_ID);
+
+        assertThat(result).isSameAs(winners);
+        verify(distributedLock, times(2)).tryLock(anyString(), any(Duration.class));
+        verifyNoInteractions(weeklyReportGenerator);
+    }
+
+    @Test
+    @DisplayName("generateForCurrentWeek — 먼저 요청이 실패해 락이 풀리면 직접 락을 잡고 생성")
+    void generateForCurrentWeek_LeaderFailed_TakesOver() {
+        LocalDate weekEnd   = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.SATURDAY));
+        LocalDate weekStart = weekEnd.minusDays(6);
+        WeeklyReport generated = report(9L, WeeklyReportStatus.GENERATED);
+
+        generationProperties.setManualPollInterval(Duration.ofMillis(10));
+        given(weeklyReportRepository.findByUserIdAndWeekStart(USER_ID, weekStart)).willReturn(Optional.empty());
+        given(distributedLock.tryLock(anyString(), any(Duration.class)))
+                .willReturn(Optional.empty(), Optional.of(lockHandle));
+        given(weeklyReportGenerator.generateReportForUser(USER_ID, weekStart, weekEnd)).willReturn(generated);
+
+        WeeklyReport result = weeklyReportService.generateForCurrentWeek(USER_ID);
+
+        assertThat(result).isSameAs(generated);
+        verify(lockHandle).close();
+    }
+
+    @Test
+    @DisplayName("generateForCurrentWeek — 대기 한도 안에 생성이 끝나지 않으면 WEEKLY_REPORT_GENERATION_IN_PROGRESS")
+    void generateForCurrentWeek_InFlightTooLong_Conflict() {
+        generationProperties.setManualMaxWait(Duration.ofMillis(30));
+        generationProperties.setManualPollInterval(Duration.ofMillis(10));
+        given(weeklyReportRepository.findByUserIdAndWeekStart(eq(USER_ID), any())).willReturn(Optional.empty());
+        given(distributedLock.tryLock(anyString(), any(Duration.class))).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> weeklyReportService.generateForCurrentWeek(USER_ID))
+                .isInstanceOfSatisfying(BusinessException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.WEEKLY_REPORT_GENERATION_IN_PROGRESS));
+        verifyNoInteractions(weeklyReportGenerator);
+    }
+
+    @Test
+    @DisplayName("generateForCurrentWeek — 락을 잡기 직전에 다른 요청이 저장했으면 generator 호출 없이 그 리포트 반환")
+    void generateForCurrentWeek_SavedBeforeLeader_ReturnsExisting() {
+        LocalDate weekEnd   = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.SATURDAY));
+        LocalDate weekStart = weekEnd.minusDays(6);
+        WeeklyReport saved = report(8L, WeeklyReportStatus.GENERATED);
+
+        given(weeklyReportRepository.findByUserIdAndWeekStart(USER_ID, weekStart))
+                .willReturn(Optional.empty(), Optional.of(saved));
+        given(distributedLock.tryLock(anyString(), any(Duration.class))).willReturn(Optional.of(lockHandle));
+
+        WeeklyReport result = weeklyReportService.generateForCurrentWeek(USER_ID);
+
+        assertThat(result).isSameAs(saved);
+        verifyNoInteractions(weeklyReportGenerator);
     }
 
     // -----------------------------------------------------------------------
@@ -161,51 +261,205 @@ class WeeklyReportServiceTest {
     // -----------------------------------------------------------------------
 
     @Test
-    @DisplayName("generateForAllUsers — 전체 사용자 수만큼 generator 호출")
+    @DisplayName("generateForAllUsers — 페이지 단위로 prepareBatch 1회, AI 대상마다 completeReport 호출")
     void generateForAllUsers_CallsGeneratorForEachUser() {
-        User u1 = User.builder().id(1L).username("alice").build();
-        User u2 = User.builder().id(2L).username("bob").build();
-        User u3 = User.builder().id(3L).username("carol").build();
-        given(userRepository.findAll()).willReturn(List.of(u1, u2, u3));
-
-        LocalDate weekStart = LocalDate.of(2026, 3, 9);
-        LocalDate weekEnd   = LocalDate.of(2026, 3, 15);
-        given(weeklyReportGenerator.generateReportForUser(any(), any(), any()))
-                .willReturn(report(null, WeeklyReportStatus.GENERATED));
-
-        weeklyReportService.generateForAllUsers(weekStart, weekEnd);
-
-        verify(weeklyReportGenerator).generateReportForUser(1L, weekStart, weekEnd);
-        verify(weeklyReportGenerator).generateReportForUser(2L, weekStart, weekEnd);
-        verify(weeklyReportGenerator).generateReportForUser(3L, weekStart, weekEnd);
+        givenNewRun();
+        givenUserIdPages(List.of(1L, 2L, 3L));
+        PendingWeeklyReport p1 = pending(1L);
+        PendingWeeklyReport p3 = pending(3L);
+        given(weeklyReportGenerator.prepareBatch(List.of(1L, 2L, 3L), WEEK_START, WEEK_END))
+                .willReturn(List.of(p1, p3));
+
+        weeklyReportService.generateForAllUsers(WEEK_START, WEEK_END);
+
+        verify(weeklyReportGenerator, times(1)).prepareBatch(any(), any(), any());
+        verify(weeklyReportGenerator).completeReport(eq(p1), eq(WEEK_START), eq(WEEK_END), any());
+        verify(weeklyReportGenerator).completeReport(eq(p3), eq(WEEK_START), eq(WEEK_END), any());
+        verify(weeklyReportGenerator, never()).generateReportForUser(any(), any(), any(), any());
     }
 
     @Test
     @DisplayName("generateForAllUsers — 한 사용자 AI 실패 시 나머지 사용자 계속 진행")
     void generateForAllUsers_OneUserFails_ContinuesForOthers() {
-        User u1 = User.builder().id(1L).username("alice").build();
-        User u2 = User.builder().id(2L).username("bob").build();
-        given(userRepository.findAll()).willReturn(List.of(u1, u2));
-
-        given(weeklyReportGenerator.generateReportForUser(eq(1L), any(), any()))
+        givenNewRun();
+        givenUserIdPages(List.of(1L, 2L));
+        PendingWeeklyReport p1 = pending(1L);
+        PendingWeeklyReport p2 = pending(2L);
+        given(weeklyReportGenerator.prepareBatch(any(), any(), any())).willReturn(List.of(p1, p2));
+        given(weeklyReportGenerator.completeReport(eq(p1), any(), any(), any()))
                 .willThrow(new RuntimeException("AI 타임아웃"));
-        given(weeklyReportGenerator.generateReportForUser(eq(2L), any(), any()))
+        given(weeklyReportGenerator.completeReport(eq(p2), any(), any(), any()))
                 .willReturn(report(7L, WeeklyReportStatus.GENERATED));
 
-        LocalDate weekStart = LocalDate.of(2026, 3, 9);
-        LocalDate weekEnd   = LocalDate.of(2026, 3, 15);
-
         // 예외가 전파되지 않고 정상 완료
-        weeklyReportService.generateForAllUsers(weekStart, weekEnd);
+        weeklyReportService.generateForAllUsers(WEEK_START, WEEK_END);
+
+        verify(weeklyReportGenerator).completeReport(eq(p1), eq(WEEK_START), eq(WEEK_END), any());
+        verify(weeklyReportGenerator).completeReport(eq(p2), eq(WEEK_START), eq(WEEK_END), any());
+    }
+
+    @Test
+    @DisplayName("generateForAllUsers — 병렬 모드: 모든 사용자가 같은 throttle 공유, 전원 완료 후 반환")
+    void generateForAllUsers_Parallel_SharesThrottleAndWaitsForAll() {
+        givenNewRun();
+        List<Long> userIds = LongStream.rangeClosed(1, 50).boxed().toList();
+        givenUserIdPages(userIds);
+        given(weeklyReportGenerator.prepareBatch(any(), any(), any()))
+                .willReturn(userIds.stream().map(this::pending).toList());
+
+        weeklyReportService.generateForAllUsers(WEEK_START, WEEK_END);
+
+        ArgumentCaptor<GenerationThrottle> throttleCaptor = ArgumentCaptor.forClass(GenerationThrottle.class);
+        verify(weeklyReportGenerator, times(50))
+                .completeReport(any(), eq(WEEK_START), eq(WEEK_END), throttleCaptor.capture());
+        assertThat(throttleCaptor.getAllValues()).allMatch(t -> t == throttleCaptor.getValue());
+        assertThat(throttleCaptor.getValue()).isNotSameAs(GenerationThrottle.UNBOUNDED);
+    }
+
+    @Test
+    @DisplayName("generateForAllUsers — parallel=false면 제한 없는 throttle로 순차 실행")
+    void generateForAllUsers_Sequential_UsesUnboundedThrottle() {
+        generationProperties.setParallel(false);
+        givenNewRun();
+        givenUserIdPages(List.of(1L));
+        PendingWeeklyReport p1 = pending(1L);
+        given(weeklyReportGenerator.prepareBatch(any(), any(), any())).willReturn(List.of(p1));
+
+        weeklyReportService.generateForAllUsers(WEEK_START, WEEK_END);
 
-        verify(weeklyReportGenerator).generateReportForUser(1L, weekStart, weekEnd);
-        verify(weeklyReportGenerator).generateReportForUser(2L, weekStart, weekEnd);
+        verify(weeklyReportGenerator).completeReport(p1, WEEK_START, WEEK_END, GenerationThrottle.UNBOUNDED);
+    }
+
+    @Test
+    @DisplayName("generateForAllUsers — 일괄 조회 실패 시 해당 페이지는 사용자별 개별 생성으로 대체")
+    void generateForAllUsers_PrepareBatchFails_FallsBackToPerUser() {
+        givenNewRun();
+        givenUserIdPages(List.of(1L, 2L));
+        given(weeklyReportGenerator.prepareBatch(any(), any(), any()))
+                .willThrow(new RuntimeException("쿼리 타임아웃"));
+
+        weeklyReportService.generateForAllUsers(WEEK_START, WEEK_END);
+
+        verify(weeklyReportGenerator).generateReportForUser(eq(1L), eq(WEEK_START), eq(WEEK_END), any());
+        verify(weeklyReportGenerator).generateReportForUser(eq(2L), eq(WEEK_START), eq(WEEK_END), any());
+    }
+
+    @Test
+    @DisplayName("generateForAllUsers — 페이지마다 체크포인트 전진, 마지막에 COMPLETED 기록")
+    void generateForAllUsers_CheckpointsEachPage() {
+        generationProperties.setPageSize(2);
+        givenNewRun();
+        givenUserIdPages(List.of(1L, 2L), List.of(5L));
+
+        weeklyReportService.generateForAllUsers(WEEK_START, WEEK_END);
+
+        ArgumentCaptor<WeeklyReportRun> runCaptor = ArgumentCaptor.forClass(WeeklyReportRun.class);
+        verify(weeklyReportRunRepository, times(4)).save(runCaptor.capture());
+        WeeklyReportRun last = runCaptor.getValue();
+        assertThat(last.getLastUserId()).isEqualTo(5L);
+        assertThat(last.getProcessedCount()).isEqualTo(3);
+        assertThat(last.getStatus()).isEqualTo(WeeklyReportRunStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("generateForAllUsers — 중단된 실행은 체크포인트 이후 사용자부터 재개")
+    void generateForAllUsers_InterruptedRun_ResumesAfterCheckpoint() {
+        WeeklyReportRun interrupted = WeeklyReportRun.builder()
+                .id(1L).weekStart(WEEK_START).status(WeeklyReportRunStatus.RUNNING)
+                .lastUserId(200L).processedCount(200)
+                .build();
+        given(weeklyReportRunRepository.findByWeekStartAndShard(WEEK_START, UserShard.ALL)).willReturn(Optional.of(interrupted));
+        given(weeklyReportRunRepository.save(any(WeeklyReportRun.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(userRepository.findIdsAfter(eq(200L), anyInt(), eq(0), eq(1))).willReturn(List.of(201L));
+        given(userRepository.findIdsAfter(eq(201L), anyInt(), eq(0), eq(1))).willReturn(List.of());
+
+        weeklyReportService.generateForAllUsers(WEEK_START, WEEK_END);
+
+        verify(weeklyReportGenerator).prepareBatch(List.of(201L), WEEK_START, WEEK_END);
+        verify(weeklyReportGenerator, times(1)).prepareBatch(any(), any(), any());
+        assertThat(interrupted.getProcessedCount()).isEqualTo(201);
+    }
+
+    @Test
+    @DisplayName("resumeIncompleteRun — 실행 기록이 없으면(생성 트리거 누락) 새 실행을 시작해 주간 리포트 생성")
+    void resumeIncompleteRun_NoRun_StartsGeneration() {
+        given(weeklyReportRunRepository.findByWeekStartAndShard(WEEK_START, UserShard.ALL)).willReturn(Optional.empty());
+        givenNewRun();
+        givenUserIdPages(List.of(1L));
+
+        weeklyReportService.resumeIncompleteRun(WEEK_START, WEEK_END, UserShard.ALL);
+
+        verify(weeklyReportGenerator).prepareBatch(List.of(1L), WEEK_START, WEEK_END);
+        verify(weeklyReportRunRepository, atLeastOnce()).save(argThat(WeeklyReportRun::isCompleted));
+    }
+
+    @Test
+    @DisplayName("resumeIncompleteRun — 이미 완료된 실행이면 아무것도 하지 않음")
+    void resumeIncompleteRun_Completed_DoesNothing() {
+        WeeklyReportRun completed = WeeklyReportRun.builder()
+                .id(1L).weekStart(WEEK_START).status(WeeklyReportRunStatus.COMPLETED)
+                .lastUserId(300L).processedCount(300)
+                .build();
+        given(weeklyReportRunRepository.findByWeekStartAndShard(WEEK_START, UserShard.ALL)).willReturn(Optional.of(completed));
+
+        weeklyReportService.resumeIncompleteRun(WEEK_START, WEEK_END, UserShard.ALL);
+
+        verifyNoInteractions(userRepository, weeklyReportGenerator);
+        verify(weeklyReportRunRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("generateForAllUsers — 이미 리포트가 있는 사용자는 generator 호출 없이 건너뜀")
+    void generateForAllUsers_SkipsUsersWithExistingReport() {
+        givenNewRun();
+        givenUserIdPages(List.of(1L, 2L, 3L));
+        given(weeklyReportRepository.findUserIdsWithReport(WEEK_START, List.of(1L, 2L, 3L)))
+                .willReturn(List.of(1L, 3L));
+
+        weeklyReportService.generateForAllUsers(WEEK_START, WEEK_END);
+
+        verify(weeklyReportGenerator).prepareBatch(List.of(2L), WEEK_START, WEEK_END);
+    }
+
+    @Test
+    @DisplayName("generateForAllUsers — 이미 완료된 주는 사용자 조회 없이 종료")
+    void generateForAllUsers_CompletedRun_DoesNothing() {
+        WeeklyReportRun completed = WeeklyReportRun.builder()
+                .id(1L).weekStart(WEEK_START).status(WeeklyReportRunStatus.COMPLETED)
+                .lastUserId(300L).processedCount(300)
+                .build();
+        given(weeklyReportRunRepository.findByWeekStartAndShard(WEEK_START, UserShard.ALL)).willReturn(Optional.of(completed));
+
+        weeklyReportService.generateForAllUsers(WEEK_START, WEEK_END);
+
+        verifyNoInteractions(userRepository, weeklyReportGenerator);
     }
 
     // -----------------------------------------------------------------------
     // 헬퍼
     // -----------------------------------------------------------------------
 
+    private void givenNewRun() {
+        given(weeklyReportRunRepository.save(any(WeeklyReportRun.class))).willAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    /**
+     * keyset 페이지 순서대로 사용자 id 반환 — 마지막 페이지 다음 조회는 빈 리스트
+     */
+    @SafeVarargs
+    private void givenUserIdPages(List<Long>... pages) {
+        long lastId = 0L;
+        for (List<Long> page : pages) {
+            given(userRepository.findIdsAfter(eq(lastId), anyInt(), eq(0), eq(1))).willReturn(page);
+            lastId = page.getLast();
+        }
+        given(userRepository.findIdsAfter(eq(lastId), anyInt(), eq(0), eq(1))).willReturn(List.of());
+    }
+
+    private PendingWeeklyReport pending(Long userId) {
+        return new PendingWeeklyReport(userId, 3, "[2026-03-09] 안정성:70, 중력:30 / 기록\n");
+    }
+
     private WeeklyReport report(Long id, WeeklyReportStatus status) {
         return WeeklyReport.builder()
                 .id(id)